@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+/**
+ * Creates an in-memory HSQLDB database with the tables used by the benchmarks.
+ */
+public final class BenchmarkDatabase {
+    public static final int ITEM_COUNT = 10_000;
+    public static final int CATEGORY_COUNT = 20;
+
+    private BenchmarkDatabase() {}
+
+    public static DataSource create(String databaseName) throws SQLException {
+        PooledDataSource dataSource = new PooledDataSource("org.hsqldb.jdbcDriver",
+                "jdbc:hsqldb:mem:" + databaseName, "sa", "");
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop table Item if exists");
+                statement.execute("drop table Category if exists");
+                statement.execute("create table Category (id int not null, name varchar(30) not null, "
+                        + "active boolean not null, primary key (id))");
+                statement.execute("create table Item (id int not null, name varchar(30) not null, "
+                        + "category_id int not null, price int not null, primary key (id))");
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement("insert into Category values (?, ?, ?)")) {
+                for (int i = 0; i < CATEGORY_COUNT; i++) {
+                    ps.setInt(1, i);
+                    ps.setString(2, "category" + i);
+                    ps.setBoolean(3, i % 2 == 0);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement("insert into Item values (?, ?, ?, ?)")) {
+                for (int i = 0; i < ITEM_COUNT; i++) {
+                    ps.setInt(1, i);
+                    ps.setString(2, "item" + i);
+                    ps.setInt(3, i % CATEGORY_COUNT);
+                    ps.setInt(4, i % 1000);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.ItemDynamicSqlSupport.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Measures building, rendering and executing select statements against an in-memory HSQLDB database, through both
+ * the MyBatis {@link CommonSelectMapper} and {@link NamedParameterJdbcTemplateExtensions}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionBenchmark {
+
+    @Param({"SIMPLE_WHERE", "LARGE_IN_LIST", "JOIN_WITH_SUBQUERY"})
+    private QueryShape shape;
+
+    private SqlSession sqlSession;
+    private CommonSelectMapper mapper;
+    private NamedParameterJdbcTemplateExtensions extensions;
+
+    @Setup
+    public void setup() throws SQLException {
+        DataSource dataSource = BenchmarkDatabase.create("benchmark");
+
+        Environment environment = new Environment("benchmark", new JdbcTransactionFactory(), dataSource);
+        Configuration config = new Configuration(environment);
+        // the local cache would return the same result for every invocation
+        config.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        config.addMapper(CommonSelectMapper.class);
+        SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+        sqlSession = sqlSessionFactory.openSession();
+        mapper = sqlSession.getMapper(CommonSelectMapper.class);
+
+        extensions = new NamedParameterJdbcTemplateExtensions(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sqlSession.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> myBatisSelect() {
+        SelectModel selectModel = (SelectModel) shape.build();
+        return mapper.selectManyMappedRows(selectModel.render(RenderingStrategies.MYBATIS3));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> springSelect() {
+        SelectModel selectModel = (SelectModel) shape.build();
+        return extensions.selectList(selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                new ColumnMapRowMapper());
+    }
+
+    @Benchmark
+    public @Nullable Long myBatisCount() {
+        return mapper.selectOneLong(select(count())
+                .from(item)
+                .where(categoryId, isEqualTo(3))
+                .and(price, isGreaterThan(500))
+                .build()
+                .render(RenderingStrategies.MYBATIS3));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.sql.JDBCType;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class ItemDynamicSqlSupport {
+    public static final Item item = new Item();
+    public static final SqlColumn<Integer> id = item.id;
+    public static final SqlColumn<String> name = item.name;
+    public static final SqlColumn<Integer> categoryId = item.categoryId;
+    public static final SqlColumn<Integer> price = item.price;
+
+    public static final Category category = new Category();
+
+    private ItemDynamicSqlSupport() {}
+
+    public static final class Item extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER).withJavaProperty("id");
+        public final SqlColumn<String> name = column("name", JDBCType.VARCHAR).withJavaProperty("name");
+        public final SqlColumn<Integer> categoryId = column("category_id", JDBCType.INTEGER)
+                .withJavaProperty("categoryId");
+        public final SqlColumn<Integer> price = column("price", JDBCType.INTEGER).withJavaProperty("price");
+
+        public Item() {
+            super("Item");
+        }
+    }
+
+    public static final class Category extends SqlTable {
+        public final SqlColumn<Integer> id = column("id", JDBCType.INTEGER);
+        public final SqlColumn<String> name = column("name", JDBCType.VARCHAR);
+        public final SqlColumn<Boolean> active = column("active", JDBCType.BOOLEAN);
+
+        public Category() {
+            super("Category");
+        }
+    }
+}
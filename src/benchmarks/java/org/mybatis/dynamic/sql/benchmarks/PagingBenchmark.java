@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.ItemDynamicSqlSupport.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.KeysetCursor;
+import org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a single page of the item table with offset paging and with keyset (seek) paging. The cost of
+ * offset paging grows with the page number, the cost of keyset paging should not.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagingBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "50", "250", "495"})
+    private int page;
+
+    private SqlSession sqlSession;
+    private CommonSelectMapper mapper;
+
+    @Setup
+    public void setup() throws SQLException {
+        DataSource dataSource = BenchmarkDatabase.create("paging");
+
+        Environment environment = new Environment("paging", new JdbcTransactionFactory(), dataSource);
+        Configuration config = new Configuration(environment);
+        // the local cache would return the same result for every invocation
+        config.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        config.addMapper(CommonSelectMapper.class);
+        SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(config);
+        sqlSession = sqlSessionFactory.openSession();
+        mapper = sqlSession.getMapper(CommonSelectMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sqlSession.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> offsetPage() {
+        return mapper.selectManyMappedRows(select(id, name, categoryId, price)
+                .from(item)
+                .orderBy(id)
+                .limit(PAGE_SIZE)
+                .offset((long) page * PAGE_SIZE)
+                .build()
+                .render(RenderingStrategies.MYBATIS3));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> keysetPage() {
+        // item ids are sequential from zero, so the last id of the previous page is known
+        @Nullable KeysetCursor cursor = page == 0 ? null : KeysetCursor.of(page * PAGE_SIZE - 1);
+        return mapper.selectManyMappedRows(select(id, name, categoryId, price)
+                .from(item)
+                .orderBy(id)
+                .seekAfterWhenPresent(cursor)
+                .limit(PAGE_SIZE)
+                .build()
+                .render(RenderingStrategies.MYBATIS3));
+    }
+}
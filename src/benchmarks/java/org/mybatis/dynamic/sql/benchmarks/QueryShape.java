@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.ItemDynamicSqlSupport.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * The statements measured by the benchmarks. Each shape builds a new model every time it is called, so the shapes
+ * can be used to measure both the DSL and the renderers.
+ */
+public enum QueryShape {
+    SIMPLE_WHERE {
+        @Override
+        SelectModel build() {
+            return select(id, name, price)
+                    .from(item)
+                    .where(id, isEqualTo(5))
+                    .and(price, isGreaterThan(100))
+                    .build();
+        }
+    },
+    NESTED_GROUPS {
+        @Override
+        SelectModel build() {
+            return select(id, name, price)
+                    .from(item)
+                    .where(id, isGreaterThan(2),
+                            or(group(price, isLessThan(100),
+                                    and(name, isLike("a%")),
+                                    or(group(categoryId, isEqualTo(1),
+                                            and(price, isBetween(10).and(20)),
+                                            or(group(name, isNotNull(),
+                                                    and(id, isNotIn(7, 8, 9)))))))))
+                    .and(not(price, isEqualTo(0), or(categoryId, isNull())))
+                    .orderBy(id)
+                    .build();
+        }
+    },
+    LARGE_IN_LIST {
+        @Override
+        SelectModel build() {
+            return select(id, name)
+                    .from(item)
+                    .where(id, isIn(IDS))
+                    .build();
+        }
+    },
+    JOIN_WITH_SUBQUERY {
+        @Override
+        SelectModel build() {
+            return select(id.qualifiedWith("i"), name.qualifiedWith("i"), category.name.qualifiedWith("c"))
+                    .from(item, "i")
+                    .join(select(category.id, category.name)
+                            .from(category)
+                            .where(category.active, isEqualTo(true)), "c")
+                    .on(categoryId.qualifiedWith("i"), isEqualTo(category.id.qualifiedWith("c")))
+                    .where(price.qualifiedWith("i"), isGreaterThan(50))
+                    .and(id.qualifiedWith("i"), isIn(select(id).from(item).where(price, isLessThan(500))))
+                    .orderBy(id.qualifiedWith("i"))
+                    .limit(20)
+                    .build();
+        }
+    },
+    UNION {
+        @Override
+        SelectModel build() {
+            return select(id, name)
+                    .from(item)
+                    .where(categoryId, isEqualTo(1))
+                    .union()
+                    .select(id, name)
+                    .from(item)
+                    .where(price, isGreaterThan(100))
+                    .unionAll()
+                    .select(id, name)
+                    .from(item)
+                    .where(name, isLike("z%"))
+                    .orderBy(id)
+                    .build();
+        }
+    },
+    MULTI_ROW_INSERT {
+        @Override
+        MultiRowInsertModel<ItemRecord> build() {
+            return insertMultiple(RECORDS)
+                    .into(item)
+                    .map(id).toProperty("id")
+                    .map(name).toProperty("name")
+                    .map(categoryId).toProperty("categoryId")
+                    .map(price).toProperty("price")
+                    .build();
+        }
+
+        @Override
+        Object render(Object model, RenderingStrategy renderingStrategy) {
+            return ((MultiRowInsertModel<?>) model).render(renderingStrategy);
+        }
+    };
+
+    static final List<Integer> IDS = IntStream.range(0, 1000).boxed().toList();
+
+    static final List<ItemRecord> RECORDS = IntStream.range(0, 100)
+            .mapToObj(i -> new ItemRecord(i, "item" + i, i % 5, i * 10))
+            .toList();
+
+    abstract Object build();
+
+    Object render(Object model, RenderingStrategy renderingStrategy) {
+        return ((SelectModel) model).render(renderingStrategy);
+    }
+}
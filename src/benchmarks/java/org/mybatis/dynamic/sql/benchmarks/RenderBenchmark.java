@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building statement models with the DSL, rendering a model that has already been built, and both
+ * together. Run with "-prof gc" to see the allocation rate of each operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param
+    private QueryShape shape;
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    private String strategy;
+
+    private RenderingStrategy renderingStrategy;
+    private Object model;
+
+    @Setup
+    public void setup() {
+        renderingStrategy = switch (strategy) {
+            case "MYBATIS3" -> RenderingStrategies.MYBATIS3;
+            case "SPRING_NAMED_PARAMETER" -> RenderingStrategies.SPRING_NAMED_PARAMETER;
+            default -> throw new IllegalArgumentException(strategy);
+        };
+        model = shape.build();
+    }
+
+    @Benchmark
+    public Object build() {
+        return shape.build();
+    }
+
+    @Benchmark
+    public Object render() {
+        return shape.render(model, renderingStrategy);
+    }
+
+    @Benchmark
+    public Object buildAndRender() {
+        return shape.render(shape.build(), renderingStrategy);
+    }
+}
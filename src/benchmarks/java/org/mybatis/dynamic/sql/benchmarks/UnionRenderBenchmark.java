@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.ItemDynamicSqlSupport.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.MultiSelectDSL;
+import org.mybatis.dynamic.sql.select.MultiSelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering a multi-select statement with many large selects serially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnionRenderBenchmark {
+    @Param({"4", "40"})
+    private int selectCount;
+
+    @Param({"10", "300"})
+    private int valueCount;
+
+    private MultiSelectModel serialModel;
+    private MultiSelectModel parallelModel;
+
+    @Setup
+    public void setup() {
+        List<Integer> values = IntStream.range(0, valueCount).boxed().collect(Collectors.toList());
+        serialModel = multiSelectModel(values).build();
+        parallelModel = multiSelectModel(values)
+                .configureStatement(c -> c.setUnionRenderingExecutor(ForkJoinPool.commonPool()))
+                .build();
+    }
+
+    private MultiSelectDSL multiSelectModel(List<Integer> values) {
+        MultiSelectDSL dsl = multiSelect(select(id, name).from(item).where(categoryId, isEqualTo(0))
+                .and(id, isIn(values)));
+        for (int i = 1; i < selectCount; i++) {
+            dsl = dsl.unionAll(select(id, name).from(item).where(categoryId, isEqualTo(i)).and(id, isIn(values)));
+        }
+        return dsl.orderBy(id);
+    }
+
+    @Benchmark
+    public SelectStatementProvider serial() {
+        return serialModel.render(RenderingStrategies.MYBATIS3);
+    }
+
+    @Benchmark
+    public SelectStatementProvider parallel() {
+        return parallelModel.render(RenderingStrategies.MYBATIS3);
+    }
+}
@@ -30,9 +30,15 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public abstract class AbstractListValueCondition<T> implements RenderableCondition<T> {
     protected final Collection<T> values;
+    protected final InListStrategy inListStrategy;
 
     protected AbstractListValueCondition(Collection<T> values) {
+        this(values, InListStrategies.placeholderPerValue());
+    }
+
+    protected AbstractListValueCondition(Collection<T> values, InListStrategy inListStrategy) {
         this.values = Objects.requireNonNull(values);
+        this.inListStrategy = Objects.requireNonNull(inListStrategy);
     }
 
     public final Stream<T> values() {
@@ -75,9 +81,29 @@ public abstract class AbstractListValueCondition<T> implements RenderableConditi
 
     public abstract String operator();
 
+    /**
+     * Returns true if this is a "not in" condition. In list strategies use this to decide how to combine values when
+     * they render something other than the operator and a list of values (for example, "&lt;&gt; all(?)" instead of
+     * "= any(?)"). Negated conditions must override this method.
+     *
+     * @return true if this condition is negated
+     */
+    public boolean isNegated() {
+        return false;
+    }
+
+    public InListStrategy inListStrategy() {
+        return inListStrategy;
+    }
+
     @Override
     public FragmentAndParameters renderCondition(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
-        return values().map(v -> toFragmentAndParameters(v, renderingContext, leftColumn))
+        return inListStrategy.renderCondition(this, renderingContext, leftColumn);
+    }
+
+    FragmentAndParameters renderValues(Stream<T> values, RenderingContext renderingContext,
+                                       BindableColumn<T> leftColumn) {
+        return values.map(v -> toFragmentAndParameters(v, renderingContext, leftColumn))
                 .collect(FragmentCollector.collect())
                 .toFragmentAndParameters(Collectors.joining(",", //$NON-NLS-1$
                         operator() + " (", ")")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -91,6 +117,10 @@ public abstract class AbstractListValueCondition<T> implements RenderableConditi
                 .build();
     }
 
+    FragmentAndParameters renderDefaultLeftColumn(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
+        return RenderableCondition.super.renderLeftColumn(renderingContext, leftColumn);
+    }
+
     /**
      * Conditions may implement Filterable to add optionality to rendering.
      *
@@ -28,6 +28,10 @@ public abstract class AbstractSubselectCondition<T> implements RenderableConditi
         this.selectModel = selectModelBuilder.build();
     }
 
+    public SelectModel selectModel() {
+        return selectModel;
+    }
+
     public abstract String operator();
 
     @Override
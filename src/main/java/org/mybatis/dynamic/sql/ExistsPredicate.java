@@ -37,6 +37,17 @@ public class ExistsPredicate {
         return selectModelBuilder;
     }
 
+    /**
+     * Returns a predicate with the same operator that always renders the given select model, rather than building a
+     * new model each time the predicate is rendered.
+     *
+     * @param selectModel the select model
+     * @return a new predicate
+     */
+    public ExistsPredicate withSelectModel(SelectModel selectModel) {
+        return new ExistsPredicate(operator, () -> selectModel);
+    }
+
     public static ExistsPredicate exists(Buildable<SelectModel> selectModelBuilder) {
         return new ExistsPredicate("exists", selectModelBuilder); //$NON-NLS-1$
     }
@@ -0,0 +1,274 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.lang.reflect.Array;
+import java.sql.JDBCType;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Built-in strategies for rendering "in" and "not in" conditions.
+ *
+ * <p>Strategies are attached to a condition - for example
+ * <code>isIn(ids).withInListStrategy(InListStrategies.padToPowerOfTwo())</code>.
+ */
+public class InListStrategies {
+    private static final InListStrategy PLACEHOLDER_PER_VALUE = new PlaceholderPerValueStrategy();
+    private static final InListStrategy PAD_TO_POWER_OF_TWO = new PadToPowerOfTwoStrategy();
+    private static final InListStrategy ARRAY_PARAMETER = new ArrayParameterStrategy();
+
+    private InListStrategies() {}
+
+    /**
+     * The default strategy. Renders one placeholder for each value - <code>in (?,?,?)</code>.
+     *
+     * @return the strategy
+     */
+    public static InListStrategy placeholderPerValue() {
+        return PLACEHOLDER_PER_VALUE;
+    }
+
+    /**
+     * Renders one placeholder for each value, but pads the list to the next power of two by repeating the last
+     * value. Repeating a value does not change the result of "in" or "not in", and lists of different sizes will
+     * render to a small number of distinct statements. This helps databases reuse cached statement plans.
+     *
+     * @return the strategy
+     */
+    public static InListStrategy padToPowerOfTwo() {
+        return PAD_TO_POWER_OF_TWO;
+    }
+
+    /**
+     * Binds all values as a single array parameter - <code>= any(?)</code> for "in", and <code>&lt;&gt; all(?)</code>
+     * for "not in". This is supported by PostgreSQL, H2, and HSQLDB, and some other databases. The parameter is a Java
+     * array, and the array component type is the type of the (converted) values.
+     *
+     * <p>With the MyBatis3 rendering strategy, the parameter renders with <code>jdbcType=ARRAY</code>. MyBatis will
+     * bind the parameter with its <code>ArrayTypeHandler</code>, which creates a <code>java.sql.Array</code> from the
+     * Java array. Type handlers of the column are not used for the values in the array. With other rendering
+     * strategies, the Java array is bound as is, and the JDBC driver must accept a Java array as a parameter value.
+     *
+     * @return the strategy
+     */
+    public static InListStrategy arrayParameter() {
+        return ARRAY_PARAMETER;
+    }
+
+    /**
+     * Splits the values into chunks of at most maxValuesPerChunk values. Chunks are joined with "or" for "in"
+     * conditions, and with "and" for "not in" conditions - <code>(id in (?,?) or id in (?))</code>. This is useful
+     * for databases with a limit on the number of values in a list, like Oracle.
+     *
+     * <p>This strategy repeats the left column, so it is only suitable for conditions in a where clause (or similar
+     * clauses), not simple case expressions.
+     *
+     * @param maxValuesPerChunk the maximum number of values in each chunk
+     * @return the strategy
+     */
+    public static InListStrategy chunked(int maxValuesPerChunk) {
+        return new ChunkedStrategy(maxValuesPerChunk);
+    }
+
+    private static <T> Stream<@Nullable Object> convertedValues(AbstractListValueCondition<T> condition,
+                                                                BindableColumn<T> leftColumn) {
+        return condition.values().<@Nullable Object>map(leftColumn::convertParameterType);
+    }
+
+    private static class PlaceholderPerValueStrategy implements InListStrategy {
+        @Override
+        public <T> FragmentAndParameters renderCondition(AbstractListValueCondition<T> condition,
+                                                         RenderingContext renderingContext,
+                                                         BindableColumn<T> leftColumn) {
+            return condition.renderValues(condition.values(), renderingContext, leftColumn);
+        }
+
+        @Override
+        public <T> Stream<@Nullable Object> parameterValues(AbstractListValueCondition<T> condition,
+                                                            RenderingContext renderingContext,
+                                                            BindableColumn<T> leftColumn) {
+            return convertedValues(condition, leftColumn);
+        }
+    }
+
+    private static class PadToPowerOfTwoStrategy implements InListStrategy {
+        @Override
+        public <T> FragmentAndParameters renderCondition(AbstractListValueCondition<T> condition,
+                                                         RenderingContext renderingContext,
+                                                         BindableColumn<T> leftColumn) {
+            return condition.renderValues(paddedValues(condition.values().toList()), renderingContext, leftColumn);
+        }
+
+        @Override
+        public <T> Stream<@Nullable Object> parameterValues(AbstractListValueCondition<T> condition,
+                                                            RenderingContext renderingContext,
+                                                            BindableColumn<T> leftColumn) {
+            return paddedValues(condition.values().toList()).<@Nullable Object>map(leftColumn::convertParameterType);
+        }
+
+        private static <T> Stream<T> paddedValues(List<T> values) {
+            int padding = bucketSize(values.size()) - values.size();
+            T lastValue = values.get(values.size() - 1);
+            return Stream.concat(values.stream(), Stream.generate(() -> lastValue).limit(padding));
+        }
+
+        static int bucketSize(int size) {
+            return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        }
+    }
+
+    private static class ArrayParameterStrategy implements InListStrategy {
+        @Override
+        public <T> FragmentAndParameters renderCondition(AbstractListValueCondition<T> condition,
+                                                         RenderingContext renderingContext,
+                                                         BindableColumn<T> leftColumn) {
+            ArrayValue arrayValue = new ArrayValue(toArray(convertedValues(condition, leftColumn)),
+                    leftColumn.renderingStrategy());
+            String operator = condition.isNegated() ? "<> all(" : "= any("; //$NON-NLS-1$ //$NON-NLS-2$
+            return arrayValue.render(renderingContext).mapFragment(f -> operator + f + ")"); //$NON-NLS-1$
+        }
+
+        @Override
+        public <T> Stream<@Nullable Object> parameterValues(AbstractListValueCondition<T> condition,
+                                                            RenderingContext renderingContext,
+                                                            BindableColumn<T> leftColumn) {
+            return Stream.of(toArray(convertedValues(condition, leftColumn)));
+        }
+
+        private static Object toArray(Stream<@Nullable Object> valueStream) {
+            List<@Nullable Object> values = valueStream.toList();
+            Class<?> componentType = values.stream()
+                    .filter(Objects::nonNull)
+                    .<Class<?>>map(Object::getClass)
+                    .reduce((c1, c2) -> c1.equals(c2) ? c1 : Object.class)
+                    .orElse(Object.class);
+
+            Object array = Array.newInstance(componentType, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Array.set(array, i, values.get(i));
+            }
+            return array;
+        }
+    }
+
+    /**
+     * The array parameter of the array parameter strategy. It renders as a placeholder with the ARRAY JDBC type, and
+     * keeps the rendering strategy of the column in the condition.
+     */
+    private static class ArrayValue implements BindableColumn<Object> {
+        private final Object array;
+        private final Optional<RenderingStrategy> renderingStrategy;
+
+        private ArrayValue(Object array, Optional<RenderingStrategy> renderingStrategy) {
+            this.array = array;
+            this.renderingStrategy = renderingStrategy;
+        }
+
+        @Override
+        public FragmentAndParameters render(RenderingContext renderingContext) {
+            RenderedParameterInfo parameterInfo = renderingContext.calculateParameterInfo(this);
+            return FragmentAndParameters.withFragment(parameterInfo.renderedPlaceHolder())
+                    .withParameter(parameterInfo.parameterMapKey(), array)
+                    .build();
+        }
+
+        @Override
+        public Optional<JDBCType> jdbcType() {
+            return Optional.of(JDBCType.ARRAY);
+        }
+
+        @Override
+        public Optional<RenderingStrategy> renderingStrategy() {
+            return renderingStrategy;
+        }
+
+        @Override
+        public Optional<String> alias() {
+            return Optional.empty();
+        }
+
+        @Override
+        public ArrayValue as(String alias) {
+            throw new InvalidSqlException(Messages.getString("ERROR.38")); //$NON-NLS-1$
+        }
+    }
+
+    private record ChunkedStrategy(int maxValuesPerChunk) implements InListStrategy {
+        private ChunkedStrategy {
+            Validator.assertTrue(maxValuesPerChunk > 0, "ERROR.56"); //$NON-NLS-1$
+        }
+
+        @Override
+        public <T> FragmentAndParameters renderCondition(AbstractListValueCondition<T> condition,
+                                                         RenderingContext renderingContext,
+                                                         BindableColumn<T> leftColumn) {
+            List<T> values = condition.values().toList();
+            if (values.size() <= maxValuesPerChunk) {
+                return condition.renderValues(values.stream(), renderingContext, leftColumn);
+            }
+
+            String connector = condition.isNegated() ? " and " : " or "; //$NON-NLS-1$ //$NON-NLS-2$
+            FragmentWriter writer = new FragmentWriter();
+            Iterator<List<T>> chunks = chunks(values);
+            writer.append(condition.renderValues(chunks.next().stream(), renderingContext, leftColumn));
+            while (chunks.hasNext()) {
+                writer.append(connector)
+                        .append(condition.renderDefaultLeftColumn(renderingContext, leftColumn))
+                        .append(' ')
+                        .append(condition.renderValues(chunks.next().stream(), renderingContext, leftColumn));
+            }
+            writer.append(')');
+            return writer.toFragmentAndParameters();
+        }
+
+        @Override
+        public <T> FragmentAndParameters renderLeftColumn(AbstractListValueCondition<T> condition,
+                                                          FragmentAndParameters renderedLeftColumn) {
+            if (condition.values().count() <= maxValuesPerChunk) {
+                return renderedLeftColumn;
+            }
+            return renderedLeftColumn.mapFragment(f -> "(" + f); //$NON-NLS-1$
+        }
+
+        @Override
+        public <T> Stream<@Nullable Object> parameterValues(AbstractListValueCondition<T> condition,
+                                                            RenderingContext renderingContext,
+                                                            BindableColumn<T> leftColumn) {
+            // chunks render the values in order
+            return convertedValues(condition, leftColumn);
+        }
+
+        private <T> Iterator<List<T>> chunks(List<T> values) {
+            return Stream.iterate(0, i -> i < values.size(), i -> i + maxValuesPerChunk)
+                    .map(i -> values.subList(i, Math.min(i + maxValuesPerChunk, values.size())))
+                    .iterator();
+        }
+    }
+}
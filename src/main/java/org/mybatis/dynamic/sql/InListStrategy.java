@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Determines how the values of an "in" or "not in" condition are rendered.
+ *
+ * <p>By default, list conditions render one placeholder and one parameter for each value. For very large lists this
+ * produces very long SQL, and every list size is a different statement. Alternate strategies are available in
+ * {@link InListStrategies}.
+ *
+ * <p>Strategies are stateless and may be shared. Strategies should implement equals and hashCode because they are
+ * part of the shape of a statement (see {@link org.mybatis.dynamic.sql.render.StatementShape}).
+ */
+public interface InListStrategy {
+    /**
+     * Render the condition - without the left column.
+     *
+     * @param condition the list condition to render
+     * @param renderingContext the current rendering context
+     * @param leftColumn the column related to the condition
+     * @param <T> the Java type related to the database column type
+     * @return the rendered condition
+     */
+    <T> FragmentAndParameters renderCondition(AbstractListValueCondition<T> condition,
+                                              RenderingContext renderingContext, BindableColumn<T> leftColumn);
+
+    /**
+     * Adjust the rendered left column if necessary. Strategies that render more than one phrase can use this to open
+     * a group. The default implementation returns the column unchanged.
+     *
+     * @param condition the list condition to render
+     * @param renderedLeftColumn the left column as it would normally be rendered
+     * @param <T> the Java type related to the database column type
+     * @return the rendered left column
+     */
+    default <T> FragmentAndParameters renderLeftColumn(AbstractListValueCondition<T> condition,
+                                                       FragmentAndParameters renderedLeftColumn) {
+        return renderedLeftColumn;
+    }
+
+    /**
+     * Calculate the parameter values that {@link #renderCondition(AbstractListValueCondition, RenderingContext,
+     * BindableColumn)} would add, in the same order. This is used by the render cache to bind a new set of values to
+     * a statement that has already been rendered.
+     *
+     * <p>The default implementation renders the condition and returns the rendered parameter values. Strategies
+     * should override this method if the values can be calculated without rendering.
+     *
+     * @param condition the list condition
+     * @param renderingContext the current rendering context
+     * @param leftColumn the column related to the condition
+     * @param <T> the Java type related to the database column type
+     * @return the parameter values
+     */
+    default <T> Stream<@Nullable Object> parameterValues(AbstractListValueCondition<T> condition,
+                                                         RenderingContext renderingContext,
+                                                         BindableColumn<T> leftColumn) {
+        return renderCondition(condition, renderingContext, leftColumn).parameters().values().stream();
+    }
+}
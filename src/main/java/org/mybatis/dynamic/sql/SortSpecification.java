@@ -41,4 +41,14 @@ public interface SortSpecification {
      * @since 2.0.0
      */
     FragmentAndParameters renderForOrderBy(RenderingContext renderingContext);
+
+    /**
+     * Returns true if this sort specification will render as descending. This is used by keyset paging to determine
+     * the direction of the seek predicate.
+     *
+     * @return true if this sort specification is descending
+     */
+    default boolean isDescending() {
+        return false;
+    }
 }
@@ -20,17 +20,24 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.dsl.HavingDSL;
 import org.mybatis.dynamic.sql.dsl.WhereDSL;
 import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.BatchUpsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertSelectDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowUpsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.UpsertDSL;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.select.ColumnSortSpecification;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.MultiSelectDSL;
@@ -58,6 +65,7 @@ import org.mybatis.dynamic.sql.select.function.OperatorFunction;
 import org.mybatis.dynamic.sql.select.function.Substring;
 import org.mybatis.dynamic.sql.select.function.Subtract;
 import org.mybatis.dynamic.sql.select.function.Upper;
+import org.mybatis.dynamic.sql.update.BatchUpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
@@ -162,6 +170,37 @@ public interface SqlBuilder {
         return DeleteDSL.deleteFrom(table, tableAlias);
     }
 
+    /**
+     * Delete rows by key. The statement can be executed as a JDBC batch with one key in each statement, or in chunks
+     * with a fixed number of keys in an "in" condition.
+     *
+     * @param keys
+     *            keys of the rows to delete
+     * @param <K>
+     *            the type of key
+     *
+     * @return the next step in the DSL
+     */
+    static <K> BatchDeleteDSL.TableGatherer<K> deleteBatch(Collection<K> keys) {
+        return BatchDeleteDSL.delete(keys);
+    }
+
+    /**
+     * Delete rows by key, with keys supplied by a stream. The keys are not collected into a list - they are read
+     * as the statements are executed, so any number of keys can be deleted in constant memory. The stream can only
+     * be read once, so the statement can only be rendered and executed once.
+     *
+     * @param keys
+     *            keys of the rows to delete
+     * @param <K>
+     *            the type of key
+     *
+     * @return the next step in the DSL
+     */
+    static <K> BatchDeleteDSL.TableGatherer<K> deleteBatch(Stream<K> keys) {
+        return BatchDeleteDSL.delete(keys);
+    }
+
     static <T> InsertDSL.IntoGatherer<T> insert(T row) {
         return InsertDSL.insert(row);
     }
@@ -195,6 +234,21 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records supplied by a stream. The records are not collected into a list - they are read
+     * one at a time when the batch is executed. This is appropriate for very large batches.
+     *
+     * @param records
+     *            records to insert
+     * @param <T>
+     *            the type of record to insert
+     *
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return StreamingBatchInsertDSL.insert(records);
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -262,6 +316,60 @@ public interface SqlBuilder {
         return UpdateDSL.update(table, tableAlias);
     }
 
+    /**
+     * Insert a row, or update the row if it already exists. Upserts are rendered with an
+     * {@link org.mybatis.dynamic.sql.insert.render.UpsertDialect} because the SQL is different for every database.
+     *
+     * @param insertStatement
+     *            the insert statement
+     * @param <T>
+     *            the type of row
+     *
+     * @return the next step in the DSL
+     */
+    static <T> UpsertDSL<UpsertModel<T>> upsert(InsertDSL<T> insertStatement) {
+        return UpsertDSL.upsert(insertStatement);
+    }
+
+    static <T> UpsertDSL<MultiRowUpsertModel<T>> upsert(MultiRowInsertDSL<T> insertStatement) {
+        return UpsertDSL.upsert(insertStatement);
+    }
+
+    static <T> UpsertDSL<BatchUpsertModel<T>> upsert(BatchInsertDSL<T> insertStatement) {
+        return UpsertDSL.upsert(insertStatement);
+    }
+
+    /**
+     * Update a batch of rows. The set and where clauses are bound to properties of the rows, so the statement is
+     * rendered once and executed for every row with JDBC batch support.
+     *
+     * @param records
+     *            rows to update
+     * @param <T>
+     *            the type of row to update
+     *
+     * @return the next step in the DSL
+     */
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(Collection<T> records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update a batch of rows supplied by a stream. The rows are not collected into a list - they are read one at a
+     * time when the batch is executed. The stream can only be read once, so the statement can only be rendered and
+     * executed once.
+     *
+     * @param records
+     *            rows to update
+     * @param <T>
+     *            the type of row to update
+     *
+     * @return the next step in the DSL
+     */
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(Stream<T> records) {
+        return BatchUpdateDSL.update(records);
+    }
+
     static WhereDSL where() {
         return new WhereDSL();
     }
@@ -171,6 +171,11 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
         return copyBuilder().withDescendingPhrase(" DESC").build(); //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isDescending() {
+        return !descendingPhrase.isEmpty();
+    }
+
     /**
      * Create a new column instance with the specified alias that will render as "as alias" in a column list.
      *
@@ -32,6 +32,10 @@ public class SubQueryColumn implements BasicColumn {
         this.selectModel = Objects.requireNonNull(selectModel);
     }
 
+    public SelectModel selectModel() {
+        return selectModel;
+    }
+
     @Override
     public Optional<String> alias() {
         return Optional.ofNullable(alias);
@@ -19,59 +19,69 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
-import org.mybatis.dynamic.sql.where.render.CriterionRenderer;
-import org.mybatis.dynamic.sql.where.render.RenderedCriterion;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+import org.mybatis.dynamic.sql.where.render.CriterionWriter;
 
 public abstract class AbstractBooleanExpressionRenderer {
     protected final AbstractBooleanExpressionModel model;
     private final String prefix;
-    private final CriterionRenderer criterionRenderer;
     protected final RenderingContext renderingContext;
 
     protected AbstractBooleanExpressionRenderer(String prefix, AbstractBuilder<?> builder) {
         model = Objects.requireNonNull(builder.model);
         this.prefix = Objects.requireNonNull(prefix);
         renderingContext = Objects.requireNonNull(builder.renderingContext);
-        criterionRenderer = new CriterionRenderer(renderingContext);
     }
 
     public Optional<FragmentAndParameters> render() {
-        return criterionRenderer.render(model.initialCriterion(), model.subCriteria(), this::calculateClause)
-                .map(RenderedCriterion::fragmentAndParameters);
+        FragmentWriter writer = new FragmentWriter();
+        if (render(writer)) {
+            return Optional.of(writer.toFragmentAndParameters());
+        } else {
+            return Optional.empty();
+        }
     }
 
-    private String calculateClause(FragmentCollector collector) {
-        if (collector.hasMultipleFragments()) {
-            return collector.collectFragments(
-                    Collectors.joining(" ", spaceAfter(prefix), "")); //$NON-NLS-1$ //$NON-NLS-2$
-        } else {
-            return collector.firstFragment()
-                    .map(this::stripEnclosingParenthesesIfPresent)
-                    .map(this::addPrefix)
-                    .orElse(""); //$NON-NLS-1$
+    /**
+     * Write the clause (including the prefix) to the writer.
+     *
+     * @param writer the writer for the statement that contains this clause
+     * @return true if the clause was written. If false, nothing was written.
+     */
+    public boolean render(FragmentWriter writer) {
+        int mark = writer.length();
+        writer.append(spaceAfter(prefix));
+
+        int start = writer.length();
+        int fragmentCount = new CriterionWriter(renderingContext, writer)
+                .write(model.initialCriterion(), model.subCriteria());
+
+        if (fragmentCount == 0) {
+            writer.setLength(mark);
+            return false;
         }
+
+        if (fragmentCount == 1) {
+            stripEnclosingParenthesesIfPresent(writer, start);
+        }
+
+        return true;
     }
 
-    private String stripEnclosingParenthesesIfPresent(String fragment) {
+    private void stripEnclosingParenthesesIfPresent(FragmentWriter writer, int start) {
         // The fragment will have surrounding open/close parentheses if there is more than one rendered condition.
         // Since there is only a single fragment, we don't need these in the final rendered clause
-        if (fragment.startsWith("(") && fragment.endsWith(")")) { //$NON-NLS-1$ //$NON-NLS-2$
-            return fragment.substring(1, fragment.length() - 1);
-        } else {
-            return fragment;
+        int end = writer.length() - 1;
+        if (end > start && writer.charAt(start) == '(' && writer.charAt(end) == ')') {
+            writer.deleteCharAt(end);
+            writer.deleteCharAt(start);
         }
     }
 
-    private String addPrefix(String fragment) {
-        return spaceAfter(prefix) + fragment;
-    }
-
     public abstract static class AbstractBuilder<B extends AbstractBuilder<B>> {
         private final AbstractBooleanExpressionModel model;
         private @Nullable RenderingContext renderingContext;
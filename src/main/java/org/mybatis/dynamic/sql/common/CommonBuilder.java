@@ -31,6 +31,7 @@ public abstract class CommonBuilder<T extends CommonBuilder<T>> {
     private @Nullable WhereModel whereModel;
     private @Nullable Long limit;
     private @Nullable OrderByModel orderByModel;
+    private @Nullable ReturningModel returningModel;
     private @Nullable StatementConfiguration statementConfiguration;
 
     public @Nullable SqlTable table() {
@@ -53,6 +54,10 @@ public abstract class CommonBuilder<T extends CommonBuilder<T>> {
         return orderByModel;
     }
 
+    public @Nullable ReturningModel returningModel() {
+        return returningModel;
+    }
+
     public @Nullable StatementConfiguration statementConfiguration() {
         return statementConfiguration;
     }
@@ -82,6 +87,11 @@ public abstract class CommonBuilder<T extends CommonBuilder<T>> {
         return getThis();
     }
 
+    public T withReturningModel(@Nullable ReturningModel returningModel) {
+        this.returningModel = returningModel;
+        return getThis();
+    }
+
     public T withStatementConfiguration(StatementConfiguration statementConfiguration) {
         this.statementConfiguration = statementConfiguration;
         return getThis();
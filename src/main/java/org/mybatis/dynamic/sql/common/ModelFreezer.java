@@ -0,0 +1,402 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.ExistsPredicate;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.SubQueryColumn;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.TableExpressionVisitor;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.HavingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SubQuery;
+import org.mybatis.dynamic.sql.select.caseexpression.BasicWhenCondition;
+import org.mybatis.dynamic.sql.select.caseexpression.ConditionBasedWhenCondition;
+import org.mybatis.dynamic.sql.select.caseexpression.SearchedCaseModel;
+import org.mybatis.dynamic.sql.select.caseexpression.SearchedCaseWhenCondition;
+import org.mybatis.dynamic.sql.select.caseexpression.SimpleCaseModel;
+import org.mybatis.dynamic.sql.select.caseexpression.SimpleCaseWhenCondition;
+import org.mybatis.dynamic.sql.select.caseexpression.SimpleCaseWhenConditionVisitor;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Support for freezing statement models. A frozen model has a frozen
+ * {@link org.mybatis.dynamic.sql.configuration.StatementConfiguration}, column mappings with fixed values, and only
+ * contains elements that cannot change after the model is built. Frozen models can be cached and rendered
+ * concurrently without locks.
+ *
+ * <p>The library elements that make up a model are immutable once built, except for the values of list conditions,
+ * which may be backed by a collection owned by the caller, and exists predicates, which build their sub query each
+ * time they are rendered. The criteria, select lists, and sort orders of a frozen model are rebuilt:
+ *
+ * <ul>
+ *     <li>List conditions are replaced with copies that hold their own list of values</li>
+ *     <li>Conditions must extend one of the abstract condition classes in the library. Other implementations
+ *         of {@link RenderableCondition} cause an {@link InvalidSqlException}</li>
+ *     <li>Sub queries (in conditions, exists predicates, column mappings, select lists, and table expressions) are
+ *         built once and frozen with the same rules. Sub query conditions are replaced with conditions that render
+ *         the frozen sub query with the same operator</li>
+ *     <li>Case expressions are rebuilt with frozen conditions and values</li>
+ *     <li>Value mappings that use a supplier are replaced with mappings that hold the current value of the
+ *         supplier</li>
+ * </ul>
+ *
+ * <p>Parameter values themselves (for example, a {@link java.util.Date}) are not copied. They should not be changed
+ * after the model is frozen. The arguments of functions are not rebuilt - functions should not be given case
+ * expressions or sub queries that are changed after the model is built. Table names should not be changed after a
+ * table is created - the library only sets the name of new table instances (see
+ * {@link org.mybatis.dynamic.sql.AliasableSqlTable#withName(String)}).
+ */
+public class ModelFreezer {
+    private ModelFreezer() {}
+
+    public static QueryExpressionModel freeze(QueryExpressionModel queryExpression) {
+        return new QueryExpressionModel.Builder()
+                .withConnector(queryExpression.connector().orElse(null))
+                .isDistinct(queryExpression.isDistinct())
+                .withSelectList(queryExpression.columns().map(ModelFreezer::freeze).toList())
+                .withTable(freeze(queryExpression.table()))
+                .withTableAliases(queryExpression.tableAliases())
+                .withJoinModel(queryExpression.joinModel().map(ModelFreezer::freeze).orElse(null))
+                .withWhereModel(queryExpression.whereModel().map(ModelFreezer::freeze).orElse(null))
+                .withGroupByModel(queryExpression.groupByModel().map(ModelFreezer::freeze).orElse(null))
+                .withHavingModel(queryExpression.havingModel().map(ModelFreezer::freeze).orElse(null))
+                .build();
+    }
+
+    public static WhereModel freeze(WhereModel whereModel) {
+        return new WhereModel.Builder()
+                .withInitialCriterion(freeze(whereModel.initialCriterion()))
+                .withSubCriteria(freeze(whereModel.subCriteria()))
+                .build();
+    }
+
+    public static OrderByModel freeze(OrderByModel orderByModel) {
+        return OrderByModel.of(orderByModel.columns().map(ModelFreezer::freeze).toList());
+    }
+
+    public static ReturningModel freeze(ReturningModel returningModel) {
+        return ReturningModel.of(returningModel.dialect(),
+                returningModel.columns().map(ModelFreezer::freeze).toList());
+    }
+
+    /**
+     * Validate a column mapping and return a frozen copy.
+     *
+     * @param columnMapping the column mapping
+     * @return a mapping that will not change. This may be the same mapping
+     */
+    public static AbstractColumnMapping freeze(AbstractColumnMapping columnMapping) {
+        return columnMapping.accept(MappingFreezer.INSTANCE);
+    }
+
+    private static GroupByModel freeze(GroupByModel groupByModel) {
+        return GroupByModel.of(groupByModel.columns().map(ModelFreezer::freeze).toList());
+    }
+
+    private static HavingModel freeze(HavingModel havingModel) {
+        return new HavingModel.Builder()
+                .withInitialCriterion(freeze(havingModel.initialCriterion()))
+                .withSubCriteria(freeze(havingModel.subCriteria()))
+                .build();
+    }
+
+    private static JoinModel freeze(JoinModel joinModel) {
+        return JoinModel.of(joinModel.joinSpecifications().map(ModelFreezer::freeze).toList());
+    }
+
+    private static JoinSpecification freeze(JoinSpecification joinSpecification) {
+        return JoinSpecification.withJoinTable(freeze(joinSpecification.table()))
+                .withJoinType(joinSpecification.joinType())
+                .withInitialCriterion(freeze(joinSpecification.initialCriterion()))
+                .withSubCriteria(freeze(joinSpecification.subCriteria()))
+                .build();
+    }
+
+    private static TableExpression freeze(TableExpression tableExpression) {
+        return tableExpression.accept(TableExpressionFreezer.INSTANCE);
+    }
+
+    private static BasicColumn freeze(BasicColumn column) {
+        if (column instanceof SubQueryColumn subQueryColumn) {
+            return freeze(subQueryColumn);
+        } else if (column instanceof SearchedCaseModel searchedCaseModel) {
+            return freeze(searchedCaseModel);
+        } else if (column instanceof SimpleCaseModel<?> simpleCaseModel) {
+            return freeze(simpleCaseModel);
+        }
+        return column;
+    }
+
+    private static SortSpecification freeze(SortSpecification sortSpecification) {
+        if (sortSpecification instanceof SearchedCaseModel searchedCaseModel) {
+            return freeze(searchedCaseModel);
+        } else if (sortSpecification instanceof SimpleCaseModel<?> simpleCaseModel) {
+            return freeze(simpleCaseModel);
+        }
+        return sortSpecification;
+    }
+
+    private static SubQueryColumn freeze(SubQueryColumn column) {
+        SubQueryColumn frozen = SubQueryColumn.of(column.selectModel().freeze());
+        return column.alias().map(frozen::as).orElse(frozen);
+    }
+
+    private static SearchedCaseModel freeze(SearchedCaseModel caseModel) {
+        SearchedCaseModel frozen = new SearchedCaseModel.Builder()
+                .withWhenConditions(caseModel.whenConditions().map(ModelFreezer::freeze).toList())
+                .withElseValue(caseModel.elseValue().map(ModelFreezer::freeze).orElse(null))
+                .withAlias(caseModel.alias().orElse(null))
+                .build();
+        return caseModel.isDescending() ? frozen.descending() : frozen;
+    }
+
+    private static SearchedCaseWhenCondition freeze(SearchedCaseWhenCondition whenCondition) {
+        return new SearchedCaseWhenCondition.Builder()
+                .withInitialCriterion(freeze(whenCondition.initialCriterion()))
+                .withSubCriteria(freeze(whenCondition.subCriteria()))
+                .withThenValue(freeze(whenCondition.thenValue()))
+                .build();
+    }
+
+    private static <T> SimpleCaseModel<T> freeze(SimpleCaseModel<T> caseModel) {
+        SimpleCaseModel<T> frozen = new SimpleCaseModel.Builder<T>()
+                .withColumn(caseModel.column())
+                .withWhenConditions(caseModel.whenConditions()
+                        .map(wc -> wc.accept(new WhenConditionFreezer<T>()))
+                        .toList())
+                .withElseValue(caseModel.elseValue().map(ModelFreezer::freeze).orElse(null))
+                .withAlias(caseModel.alias().orElse(null))
+                .build();
+        return caseModel.isDescending() ? frozen.descending() : frozen;
+    }
+
+    private static SqlCriterion freeze(SqlCriterion criterion) {
+        return criterion.accept(CriterionFreezer.INSTANCE);
+    }
+
+    private static List<AndOrCriteriaGroup> freeze(List<AndOrCriteriaGroup> subCriteria) {
+        return subCriteria.stream().map(ModelFreezer::freeze).toList();
+    }
+
+    private static AndOrCriteriaGroup freeze(AndOrCriteriaGroup criteriaGroup) {
+        return new AndOrCriteriaGroup.Builder()
+                .withConnector(criteriaGroup.connector())
+                .withInitialCriterion(freeze(criteriaGroup.initialCriterion()))
+                .withSubCriteria(freeze(criteriaGroup.subCriteria()))
+                .build();
+    }
+
+    private static <T> RenderableCondition<T> freeze(RenderableCondition<T> condition) {
+        if (condition instanceof AbstractSubselectCondition<T> subselectCondition) {
+            return new FrozenSubselectCondition<>(subselectCondition.operator(),
+                    subselectCondition.selectModel().freeze());
+        }
+
+        validate(condition);
+        if (condition instanceof AbstractListValueCondition.Mappable<?>) {
+            // mapping with the identity function copies the values into a new condition of the same type
+            @SuppressWarnings("unchecked")
+            AbstractListValueCondition.Mappable<T> mappable = (AbstractListValueCondition.Mappable<T>) condition;
+            return mappable.map(Function.identity());
+        }
+        return condition;
+    }
+
+    private static void validate(RenderableCondition<?> condition) {
+        if (!(condition instanceof AbstractNoValueCondition<?>
+                || condition instanceof AbstractSingleValueCondition<?>
+                || condition instanceof AbstractTwoValueCondition<?>
+                || condition instanceof AbstractListValueCondition<?>
+                || condition instanceof AbstractColumnComparisonCondition<?>)) {
+            throw new InvalidSqlException(Messages.getString("ERROR.71", //$NON-NLS-1$
+                    condition.getClass().getName()));
+        }
+    }
+
+    private static class CriterionFreezer implements SqlCriterionVisitor<SqlCriterion> {
+        private static final CriterionFreezer INSTANCE = new CriterionFreezer();
+
+        @Override
+        public <T> SqlCriterion visit(ColumnAndConditionCriterion<T> criterion) {
+            return ColumnAndConditionCriterion.withColumn(criterion.column())
+                    .withCondition(freeze(criterion.condition()))
+                    .withSubCriteria(freeze(criterion.subCriteria()))
+                    .build();
+        }
+
+        @Override
+        public SqlCriterion visit(ExistsCriterion criterion) {
+            // exists predicates build their sub query when rendered - build it once and keep the frozen model
+            ExistsPredicate existsPredicate = criterion.existsPredicate();
+            SelectModel selectModel = existsPredicate.selectModelBuilder().build().freeze();
+            return new ExistsCriterion.Builder()
+                    .withExistsPredicate(existsPredicate.withSelectModel(selectModel))
+                    .withSubCriteria(freeze(criterion.subCriteria()))
+                    .build();
+        }
+
+        @Override
+        public SqlCriterion visit(CriteriaGroup criterion) {
+            return new CriteriaGroup.Builder()
+                    .withInitialCriterion(freeze(criterion.initialCriterion()))
+                    .withSubCriteria(freeze(criterion.subCriteria()))
+                    .build();
+        }
+
+        @Override
+        public SqlCriterion visit(NotCriterion criterion) {
+            return new NotCriterion.Builder()
+                    .withInitialCriterion(freeze(criterion.initialCriterion()))
+                    .withSubCriteria(freeze(criterion.subCriteria()))
+                    .build();
+        }
+
+        @Override
+        public SqlCriterion visit(NullCriterion criterion) {
+            return criterion;
+        }
+    }
+
+    private static class WhenConditionFreezer<T>
+            implements SimpleCaseWhenConditionVisitor<T, SimpleCaseWhenCondition<T>> {
+        @Override
+        public SimpleCaseWhenCondition<T> visit(ConditionBasedWhenCondition<T> whenCondition) {
+            return new ConditionBasedWhenCondition<>(whenCondition.conditions().map(ModelFreezer::freeze).toList(),
+                    freeze(whenCondition.thenValue()));
+        }
+
+        @Override
+        public SimpleCaseWhenCondition<T> visit(BasicWhenCondition<T> whenCondition) {
+            return new BasicWhenCondition<>(whenCondition.conditions().toList(), freeze(whenCondition.thenValue()));
+        }
+    }
+
+    private static class TableExpressionFreezer implements TableExpressionVisitor<TableExpression> {
+        private static final TableExpressionFreezer INSTANCE = new TableExpressionFreezer();
+
+        @Override
+        public TableExpression visit(SqlTable table) {
+            return table;
+        }
+
+        @Override
+        public TableExpression visit(SubQuery subQuery) {
+            return new SubQuery.Builder()
+                    .withSelectModel(subQuery.selectModel().freeze())
+                    .withAlias(subQuery.alias().orElse(null))
+                    .build();
+        }
+    }
+
+    private static class MappingFreezer extends UpdateMappingVisitor<AbstractColumnMapping> {
+        private static final MappingFreezer INSTANCE = new MappingFreezer();
+
+        @Override
+        public AbstractColumnMapping visit(NullMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ConstantMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(StringConstantMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueOrNullMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueWhenPresentMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public AbstractColumnMapping visit(SelectMapping mapping) {
+            SelectModel selectModel = mapping.selectModel().freeze();
+            return SelectMapping.of(mapping.column(), () -> selectModel);
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ColumnToColumnMapping mapping) {
+            return mapping;
+        }
+    }
+
+    /**
+     * A sub query condition that renders a frozen sub query with the operator of the condition it replaces.
+     */
+    private static class FrozenSubselectCondition<T> extends AbstractSubselectCondition<T> {
+        private final String operator;
+
+        private FrozenSubselectCondition(String operator, SelectModel selectModel) {
+            super(() -> selectModel);
+            this.operator = operator;
+        }
+
+        @Override
+        public String operator() {
+            return operator;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+/**
+ * Renders a statement that returns values from the rows it changes. Implementations receive the rendered insert,
+ * update, or delete statement and the rendered list of returned columns, and combine them into a complete statement.
+ *
+ * @see ReturningDialects
+ */
+@FunctionalInterface
+public interface ReturningDialect {
+    String render(ReturningStatementParts parts);
+}
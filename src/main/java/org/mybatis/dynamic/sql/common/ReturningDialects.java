@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+/**
+ * Built-in returning dialects.
+ *
+ * <p>For example, with the statement <code>delete from foo where id = ?</code> and a returned column "description",
+ * the dialects render statements like these:
+ *
+ * <ul>
+ *     <li>{@link #returningClause()}: <code>delete from foo where id = ? returning description</code></li>
+ *     <li>{@link #dataChangeDeltaTable()}: <code>select description from old table (delete from foo where
+ *         id = ?)</code></li>
+ * </ul>
+ */
+public class ReturningDialects {
+    private static final ReturningDialect RETURNING_CLAUSE = new ReturningClauseDialect();
+    private static final ReturningDialect DATA_CHANGE_DELTA_TABLE = new DataChangeDeltaTableDialect();
+
+    private ReturningDialects() {}
+
+    /**
+     * A "returning" clause at the end of the statement. This dialect works with PostgreSQL and SQLite, and with
+     * insert and delete statements in MariaDB.
+     *
+     * @return the dialect
+     */
+    public static ReturningDialect returningClause() {
+        return RETURNING_CLAUSE;
+    }
+
+    /**
+     * A standard SQL select from a data change delta table - "final table" for insert and update statements, and
+     * "old table" for delete statements. This dialect works with DB2 and H2.
+     *
+     * @return the dialect
+     */
+    public static ReturningDialect dataChangeDeltaTable() {
+        return DATA_CHANGE_DELTA_TABLE;
+    }
+
+    private static class ReturningClauseDialect implements ReturningDialect {
+        @Override
+        public String render(ReturningStatementParts parts) {
+            return parts.statement() + " returning " + parts.columnsPhrase(); //$NON-NLS-1$
+        }
+    }
+
+    private static class DataChangeDeltaTableDialect implements ReturningDialect {
+        @Override
+        public String render(ReturningStatementParts parts) {
+            String deltaTable = parts.deletesRows() ? "old table" : "final table"; //$NON-NLS-1$ //$NON-NLS-2$
+            return "select " + parts.columnsPhrase() //$NON-NLS-1$
+                    + " from " + deltaTable //$NON-NLS-1$
+                    + " (" + parts.statement() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.util.Validator;
+
+public class ReturningModel {
+    private final ReturningDialect dialect;
+    private final List<BasicColumn> columns;
+
+    private ReturningModel(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        this.dialect = Objects.requireNonNull(dialect);
+        Validator.assertNotEmpty(columns, "ERROR.81"); //$NON-NLS-1$
+        this.columns = List.copyOf(columns);
+    }
+
+    public ReturningDialect dialect() {
+        return dialect;
+    }
+
+    public Stream<BasicColumn> columns() {
+        return columns.stream();
+    }
+
+    public static ReturningModel of(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        return new ReturningModel(dialect, columns);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Adds a returning clause to a rendered statement. The returned columns are rendered, and then the statement and the
+ * columns are combined by the {@link ReturningDialect} of the model.
+ */
+public class ReturningRenderer {
+    private final RenderingContext renderingContext;
+
+    public ReturningRenderer(RenderingContext renderingContext) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+    }
+
+    /**
+     * Replace the statement in a writer with the statement including the returning clause.
+     *
+     * @param returningModel the returning model
+     * @param writer a writer containing the complete statement
+     * @param deletesRows true if the statement is a delete statement
+     */
+    public void write(ReturningModel returningModel, FragmentWriter writer, boolean deletesRows) {
+        FragmentAndParameters columns = renderColumns(returningModel);
+        String statement = returningModel.dialect()
+                .render(new ReturningStatementParts(writer.fragment(), columns.fragment(), deletesRows));
+        writer.setLength(0);
+        writer.append(FragmentAndParameters.withFragment(statement)
+                .withParameters(columns.parameters())
+                .build());
+    }
+
+    public FragmentAndParameters render(ReturningModel returningModel, FragmentAndParameters statement) {
+        FragmentAndParameters columns = renderColumns(returningModel);
+        return FragmentAndParameters.withFragment(returningModel.dialect()
+                        .render(new ReturningStatementParts(statement.fragment(), columns.fragment(), false)))
+                .withParameters(statement.parameters())
+                .withParameters(columns.parameters())
+                .build();
+    }
+
+    /**
+     * Render a returning clause for a statement that is bound to a record. Parameters cannot be added to these
+     * statements, so the returned columns must not render any parameters.
+     *
+     * @param returningModel the returning model
+     * @param statement the complete insert statement
+     * @return the statement including the returning clause
+     */
+    public String render(ReturningModel returningModel, String statement) {
+        FragmentAndParameters columns = renderColumns(returningModel);
+        Validator.assertTrue(columns.parameters().isEmpty(), "ERROR.82"); //$NON-NLS-1$
+        return returningModel.dialect().render(new ReturningStatementParts(statement, columns.fragment(), false));
+    }
+
+    private FragmentAndParameters renderColumns(ReturningModel returningModel) {
+        return returningModel.columns()
+                .map(this::renderColumnAndAlias)
+                .collect(FragmentCollector.collect())
+                .toFragmentAndParameters(Collectors.joining(", ")); //$NON-NLS-1$
+    }
+
+    private FragmentAndParameters renderColumnAndAlias(BasicColumn column) {
+        FragmentAndParameters fragmentAndParameters = column.render(renderingContext);
+        return column.alias()
+                .map(a -> fragmentAndParameters.mapFragment(f -> f + " as " + a)) //$NON-NLS-1$
+                .orElse(fragmentAndParameters);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.common;
+
+/**
+ * The rendered parts of a statement with a returning clause.
+ *
+ * @param statement the complete insert, update, or delete statement without the returning clause
+ * @param columnsPhrase the returned columns, for example <code>id, description</code>
+ * @param deletesRows true if the statement is a delete statement. The returned values are the values of the rows
+ *     before they were deleted. For other statements, the returned values are the values after the change
+ */
+public record ReturningStatementParts(String statement, String columnsPhrase, boolean deletesRows) { }
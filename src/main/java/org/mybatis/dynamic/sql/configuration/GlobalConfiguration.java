@@ -18,15 +18,20 @@ package org.mybatis.dynamic.sql.configuration;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.render.RenderListener;
 import org.mybatis.dynamic.sql.util.Messages;
 
 public class GlobalConfiguration {
     public static final String CONFIGURATION_FILE_PROPERTY = "mybatis-dynamic-sql.configurationFile"; //$NON-NLS-1$
     private static final String DEFAULT_PROPERTY_FILE = "mybatis-dynamic-sql.properties"; //$NON-NLS-1$
     private boolean isNonRenderingWhereClauseAllowed = false;
+    private int renderCacheSize = 0;
+    private @Nullable RenderListener renderListener;
     private final Properties properties = new Properties();
 
     public GlobalConfiguration() {
@@ -62,9 +67,36 @@ public class GlobalConfiguration {
     private void initializeKnownProperties() {
         String value = properties.getProperty("nonRenderingWhereClauseAllowed", "false"); //$NON-NLS-1$ //$NON-NLS-2$
         isNonRenderingWhereClauseAllowed = Boolean.parseBoolean(value);
+
+        value = properties.getProperty("renderCacheSize", "0"); //$NON-NLS-1$ //$NON-NLS-2$
+        renderCacheSize = Integer.parseInt(value.trim());
+
+        value = properties.getProperty("renderListener"); //$NON-NLS-1$
+        if (value != null && !value.isBlank()) {
+            renderListener = createRenderListener(value.trim());
+        }
+    }
+
+    private RenderListener createRenderListener(String className) {
+        try {
+            return Class.forName(className, true, this.getClass().getClassLoader())
+                    .asSubclass(RenderListener.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new DynamicSqlException(Messages.getString("ERROR.67", className), e); //$NON-NLS-1$
+        }
     }
 
     public boolean isIsNonRenderingWhereClauseAllowed() {
         return isNonRenderingWhereClauseAllowed;
     }
+
+    public int getRenderCacheSize() {
+        return renderCacheSize;
+    }
+
+    public Optional<RenderListener> getRenderListener() {
+        return Optional.ofNullable(renderListener);
+    }
 }
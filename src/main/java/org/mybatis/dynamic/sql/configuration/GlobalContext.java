@@ -15,15 +15,61 @@
  */
 package org.mybatis.dynamic.sql.configuration;
 
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.render.RenderCache;
+import org.mybatis.dynamic.sql.render.RenderLimits;
+import org.mybatis.dynamic.sql.render.RenderListener;
+
 public class GlobalContext {
 
     private static final GlobalContext instance = new GlobalContext();
 
     private final GlobalConfiguration globalConfiguration = new GlobalConfiguration();
 
+    private final RenderCache renderCache = new RenderCache(globalConfiguration.getRenderCacheSize());
+
+    private volatile @Nullable RenderListener renderListener = globalConfiguration.getRenderListener().orElse(null);
+
+    private volatile @Nullable RenderLimits renderLimits;
+
     private GlobalContext() {}
 
     public static GlobalConfiguration getConfiguration() {
         return instance.globalConfiguration;
     }
+
+    public static RenderCache getRenderCache() {
+        return instance.renderCache;
+    }
+
+    public static Optional<RenderListener> getRenderListener() {
+        return Optional.ofNullable(instance.renderListener);
+    }
+
+    /**
+     * Set the render listener for all statements. The initial value can be set with the "renderListener" property
+     * in the global configuration file. The listener is copied into the configuration of each statement when the
+     * statement is created, so changing the listener does not affect statements that already exist.
+     *
+     * @param renderListener the new listener, or null to remove the current listener
+     */
+    public static void setRenderListener(@Nullable RenderListener renderListener) {
+        instance.renderListener = renderListener;
+    }
+
+    public static Optional<RenderLimits> getRenderLimits() {
+        return Optional.ofNullable(instance.renderLimits);
+    }
+
+    /**
+     * Set the render limits for all statements. The limits are copied into the configuration of each statement when
+     * the statement is created, so changing the limits does not affect statements that already exist.
+     *
+     * @param renderLimits the new limits, or null to remove the current limits
+     */
+    public static void setRenderLimits(@Nullable RenderLimits renderLimits) {
+        instance.renderLimits = renderLimits;
+    }
 }
@@ -15,7 +15,15 @@
  */
 package org.mybatis.dynamic.sql.configuration;
 
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
+import org.mybatis.dynamic.sql.render.RenderLimits;
+import org.mybatis.dynamic.sql.render.RenderListener;
+import org.mybatis.dynamic.sql.select.render.StatementHints;
+import org.mybatis.dynamic.sql.util.Validator;
 
 /**
  * This class can be used to change some behaviors of the framework. Every configurable statement
@@ -32,8 +40,36 @@ import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
  *         empty list of values. If no criteria are specified in a where clause, the framework
  *         assumes that no where clause was intended and will not throw an exception.
  *     </dd>
+ *     <dt>renderCacheEnabled</dt>
+ *     <dd>If true (default), the statement may use the global render cache when it is enabled. The global
+ *         render cache is enabled by setting the "renderCacheSize" property in the {@link GlobalConfiguration}
+ *         to a positive number. Set this to false to always render the statement from scratch.
+ *     </dd>
+ *     <dt>statementHints</dt>
+ *     <dd>JDBC settings (fetch size, max rows, and query timeout) for a select statement. The hints are carried with
+ *         the rendered {@link org.mybatis.dynamic.sql.select.render.SelectStatementProvider} and are applied by
+ *         execution support that understands them. No hints are set by default.
+ *     </dd>
+ *     <dt>renderListener</dt>
+ *     <dd>A {@link RenderListener} that is notified when the statement is rendered. The initial value is the
+ *         global render listener (see {@link GlobalContext#setRenderListener(RenderListener)}), if any. Setting a
+ *         listener here replaces the global listener for this statement only.
+ *     </dd>
+ *     <dt>renderLimits</dt>
+ *     <dd>{@link RenderLimits} for the parameter count, SQL length, criteria depth, and render time of the statement.
+ *         The initial value is the global render limits (see {@link GlobalContext#setRenderLimits(RenderLimits)}),
+ *         if any. Setting limits here replaces the global limits for this statement only.
+ *     </dd>
+ *     <dt>unionRenderingExecutor</dt>
+ *     <dd>An {@link Executor} used to render the selects of a multi-select statement in parallel. The rendered
+ *         statement is the same as a statement rendered serially. This is only worthwhile for statements with many
+ *         large selects. Not set by default - selects are rendered one after another on the calling thread.
+ *     </dd>
  * </dl>
  *
+ * <p>A configuration can be frozen (see {@link #freeze()}). A frozen configuration cannot be changed, and can be shared
+ * by statements that are rendered concurrently.
+ *
  * @see GlobalConfiguration
  *
  * @since 1.4.1
@@ -43,13 +79,106 @@ import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
 public class StatementConfiguration {
     private boolean isNonRenderingWhereClauseAllowed =
             GlobalContext.getConfiguration().isIsNonRenderingWhereClauseAllowed();
+    private boolean isRenderCacheEnabled = true;
+    private StatementHints statementHints = StatementHints.empty();
+    private @Nullable RenderListener renderListener = GlobalContext.getRenderListener().orElse(null);
+    private @Nullable RenderLimits renderLimits = GlobalContext.getRenderLimits().orElse(null);
+    private @Nullable Executor unionRenderingExecutor;
+    private final boolean isFrozen;
+
+    public StatementConfiguration() {
+        this(false);
+    }
+
+    private StatementConfiguration(boolean isFrozen) {
+        this.isFrozen = isFrozen;
+    }
 
     public boolean isNonRenderingWhereClauseAllowed() {
         return isNonRenderingWhereClauseAllowed;
     }
 
     public StatementConfiguration setNonRenderingWhereClauseAllowed(boolean nonRenderingWhereClauseAllowed) {
+        assertNotFrozen();
         isNonRenderingWhereClauseAllowed = nonRenderingWhereClauseAllowed;
         return this;
     }
+
+    public boolean isRenderCacheEnabled() {
+        return isRenderCacheEnabled;
+    }
+
+    public StatementConfiguration setRenderCacheEnabled(boolean renderCacheEnabled) {
+        assertNotFrozen();
+        isRenderCacheEnabled = renderCacheEnabled;
+        return this;
+    }
+
+    public StatementHints getStatementHints() {
+        return statementHints;
+    }
+
+    public StatementConfiguration setStatementHints(StatementHints statementHints) {
+        assertNotFrozen();
+        this.statementHints = statementHints;
+        return this;
+    }
+
+    public Optional<RenderListener> getRenderListener() {
+        return Optional.ofNullable(renderListener);
+    }
+
+    public StatementConfiguration setRenderListener(@Nullable RenderListener renderListener) {
+        assertNotFrozen();
+        this.renderListener = renderListener;
+        return this;
+    }
+
+    public Optional<RenderLimits> getRenderLimits() {
+        return Optional.ofNullable(renderLimits);
+    }
+
+    public StatementConfiguration setRenderLimits(@Nullable RenderLimits renderLimits) {
+        assertNotFrozen();
+        this.renderLimits = renderLimits;
+        return this;
+    }
+
+    public Optional<Executor> getUnionRenderingExecutor() {
+        return Optional.ofNullable(unionRenderingExecutor);
+    }
+
+    public StatementConfiguration setUnionRenderingExecutor(@Nullable Executor unionRenderingExecutor) {
+        assertNotFrozen();
+        this.unionRenderingExecutor = unionRenderingExecutor;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * Return a frozen copy of this configuration. Any attempt to change the copy will fail.
+     *
+     * @return a frozen copy of this configuration, or this configuration if it is already frozen
+     */
+    public StatementConfiguration freeze() {
+        if (isFrozen) {
+            return this;
+        }
+
+        StatementConfiguration frozen = new StatementConfiguration(true);
+        frozen.isNonRenderingWhereClauseAllowed = isNonRenderingWhereClauseAllowed;
+        frozen.isRenderCacheEnabled = isRenderCacheEnabled;
+        frozen.statementHints = statementHints;
+        frozen.renderListener = renderListener;
+        frozen.renderLimits = renderLimits;
+        frozen.unionRenderingExecutor = unionRenderingExecutor;
+        return frozen;
+    }
+
+    private void assertNotFrozen() {
+        Validator.assertFalse(isFrozen, "ERROR.72"); //$NON-NLS-1$
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * DSL for deleting rows by key. The statement deletes rows where a key column matches each key in a collection
+ * or stream of keys.
+ *
+ * <p>Keys may be supplied by a {@link Collection}, an {@link Iterable}, or a {@link Stream}. Keys are never copied
+ * into a list - they are read one at a time when the delete is executed. A model built from a collection or an
+ * iterable reads the keys again every time it is rendered and executed. A stream can only be read once, so a model
+ * built from a stream can only be rendered and executed once.
+ *
+ * @param <K> the type of key
+ */
+public class BatchDeleteDSL<K> implements Buildable<BatchDeleteModel<K>> {
+
+    private final Supplier<Stream<K>> keys;
+    private final SqlTable table;
+    private final SqlColumn<K> keyColumn;
+
+    private BatchDeleteDSL(Builder<K> builder) {
+        keys = Objects.requireNonNull(builder.keys);
+        table = Objects.requireNonNull(builder.table);
+        keyColumn = Objects.requireNonNull(builder.keyColumn);
+    }
+
+    @Override
+    public BatchDeleteModel<K> build() {
+        return BatchDeleteModel.withKeys(keys)
+                .withTable(table)
+                .withKeyColumn(keyColumn)
+                .build();
+    }
+
+    public static <K> TableGatherer<K> delete(Collection<K> keys) {
+        return new TableGatherer<>(keys::stream);
+    }
+
+    public static <K> TableGatherer<K> delete(Iterable<K> keys) {
+        return new TableGatherer<>(() -> StreamSupport.stream(keys.spliterator(), false));
+    }
+
+    /**
+     * Delete rows with keys supplied by a stream. The stream can only be read once, so the model built from this DSL
+     * can only be rendered and executed once.
+     *
+     * @param keys the keys of the rows to delete
+     * @param <K> the type of key
+     * @return the next step in the DSL
+     */
+    public static <K> TableGatherer<K> delete(Stream<K> keys) {
+        return new TableGatherer<>(() -> keys);
+    }
+
+    public static class TableGatherer<K> {
+        private final Supplier<Stream<K>> keys;
+
+        private TableGatherer(Supplier<Stream<K>> keys) {
+            this.keys = keys;
+        }
+
+        public KeyColumnGatherer<K> from(SqlTable table) {
+            return new KeyColumnGatherer<>(keys, table);
+        }
+    }
+
+    public static class KeyColumnGatherer<K> {
+        private final Supplier<Stream<K>> keys;
+        private final SqlTable table;
+
+        private KeyColumnGatherer(Supplier<Stream<K>> keys, SqlTable table) {
+            this.keys = keys;
+            this.table = table;
+        }
+
+        public BatchDeleteDSL<K> where(SqlColumn<K> keyColumn) {
+            return new Builder<K>().withKeys(keys).withTable(table).withKeyColumn(keyColumn).build();
+        }
+    }
+
+    public static class Builder<K> {
+        private @Nullable Supplier<Stream<K>> keys;
+        private @Nullable SqlTable table;
+        private @Nullable SqlColumn<K> keyColumn;
+
+        public Builder<K> withKeys(Supplier<Stream<K>> keys) {
+            this.keys = keys;
+            return this;
+        }
+
+        public Builder<K> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<K> withKeyColumn(SqlColumn<K> keyColumn) {
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
+        public BatchDeleteDSL<K> build() {
+            return new BatchDeleteDSL<>(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.BatchDeleteRenderer;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * A delete of rows by key. The model can be rendered in two ways:
+ *
+ * <ul>
+ *     <li>As a batch - a single statement of the form <code>delete from table where key = ?</code> that is
+ *     executed once for every key with JDBC batch support (see {@link #render(RenderingStrategy)})</li>
+ *     <li>As chunks - statements of the form <code>delete from table where key in (?, ?, ...)</code> with a fixed
+ *     number of keys in each statement (see {@link #renderChunks(RenderingStrategy, int)})</li>
+ * </ul>
+ *
+ * <p>In both cases the keys are read from the stream as the statements are executed, so any number of keys can be
+ * deleted in constant memory. The keys are supplied by a function that returns a new stream of keys every time the
+ * model is rendered, unless the keys were supplied by a single stream - in that case the model can only be rendered
+ * and executed once.
+ *
+ * @param <K> the type of key
+ */
+public class BatchDeleteModel<K> {
+    private final SqlTable table;
+    private final SqlColumn<K> keyColumn;
+    private final Supplier<Stream<K>> keys;
+
+    private BatchDeleteModel(Builder<K> builder) {
+        table = Objects.requireNonNull(builder.table);
+        keyColumn = Objects.requireNonNull(builder.keyColumn);
+        keys = Objects.requireNonNull(builder.keys);
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public SqlColumn<K> keyColumn() {
+        return keyColumn;
+    }
+
+    public Stream<K> keys() {
+        return keys.get();
+    }
+
+    /**
+     * Render a statement that deletes a single key. The statement is executed once for every key.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the rendered batch
+     */
+    public BatchDelete<K> render(RenderingStrategy renderingStrategy) {
+        return BatchDeleteRenderer.withBatchDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    /**
+     * Render statements that delete chunks of keys with an "in" condition. Every chunk except possibly the last
+     * contains chunkSize keys, so the SQL for a full chunk is rendered once and reused for every full chunk.
+     *
+     * <p>The returned stream is lazy - keys are read and a chunk's statement provider is created when the stream
+     * reaches it. Closing the returned stream closes the stream of keys.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param chunkSize the maximum number of keys in each statement
+     * @return a stream of statement providers, one for each chunk
+     */
+    public Stream<DeleteStatementProvider> renderChunks(RenderingStrategy renderingStrategy, int chunkSize) {
+        return BatchDeleteRenderer.withBatchDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderChunks(chunkSize);
+    }
+
+    public static <K> Builder<K> withKeys(Supplier<Stream<K>> keys) {
+        return new Builder<K>().withKeys(keys);
+    }
+
+    public static class Builder<K> {
+        private @Nullable SqlTable table;
+        private @Nullable SqlColumn<K> keyColumn;
+        private @Nullable Supplier<Stream<K>> keys;
+
+        public Builder<K> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<K> withKeyColumn(SqlColumn<K> keyColumn) {
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
+        public Builder<K> withKeys(Supplier<Stream<K>> keys) {
+            this.keys = keys;
+            return this;
+        }
+
+        public BatchDeleteModel<K> build() {
+            return new BatchDeleteModel<>(this);
+        }
+    }
+}
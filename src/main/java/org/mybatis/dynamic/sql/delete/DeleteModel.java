@@ -22,10 +22,13 @@ import java.util.function.Function;
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.CommonBuilder;
+import org.mybatis.dynamic.sql.common.ModelFreezer;
 import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.where.WhereModel;
 
@@ -35,7 +38,9 @@ public class DeleteModel {
     private final @Nullable WhereModel whereModel;
     private final @Nullable Long limit;
     private final @Nullable OrderByModel orderByModel;
+    private final @Nullable ReturningModel returningModel;
     private final StatementConfiguration statementConfiguration;
+    private final boolean isFrozen;
 
     private DeleteModel(Builder builder) {
         table = Objects.requireNonNull(builder.table());
@@ -43,7 +48,9 @@ public class DeleteModel {
         tableAlias = builder.tableAlias();
         limit = builder.limit();
         orderByModel = builder.orderByModel();
+        returningModel = builder.returningModel();
         statementConfiguration = Objects.requireNonNull(builder.statementConfiguration());
+        isFrozen = builder.isFrozen;
     }
 
     public SqlTable table() {
@@ -66,10 +73,24 @@ public class DeleteModel {
         return Optional.ofNullable(orderByModel);
     }
 
+    public Optional<ReturningModel> returningModel() {
+        return Optional.ofNullable(returningModel);
+    }
+
     public StatementConfiguration statementConfiguration() {
         return statementConfiguration;
     }
 
+    /**
+     * Returns true if this model was returned by {@link #freeze()}. Models derived from a frozen model (for example,
+     * by adding criteria) are not frozen.
+     *
+     * @return true if this model is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
     public DeleteStatementProvider render(RenderingStrategy renderingStrategy) {
         return DeleteRenderer.withDeleteModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -77,6 +98,45 @@ public class DeleteModel {
                 .render();
     }
 
+    /**
+     * Render this model once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the compiled statement
+     */
+    public CompiledStatement<DeleteStatementProvider> compile(RenderingStrategy renderingStrategy) {
+        return DeleteRenderer.withDeleteModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .compile();
+    }
+
+    /**
+     * Returns a frozen copy of this model that can be cached and rendered concurrently. The statement configuration
+     * is frozen, and the model is checked for elements that are not known to be immutable.
+     *
+     * @return a frozen copy of this model, or this model if it is already frozen
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the model contains custom conditions
+     * @see ModelFreezer
+     */
+    public DeleteModel freeze() {
+        if (isFrozen) {
+            return this;
+        }
+
+        return new Builder()
+                .withTable(table)
+                .withTableAlias(tableAlias)
+                .withWhereModel(whereModel().map(ModelFreezer::freeze).orElse(null))
+                .withLimit(limit)
+                .withOrderByModel(orderByModel().map(ModelFreezer::freeze).orElse(null))
+                .withReturningModel(returningModel().map(ModelFreezer::freeze).orElse(null))
+                .withStatementConfiguration(statementConfiguration.freeze())
+                .frozen()
+                .build();
+    }
+
     public <R> R map(Function<DeleteModel, R> adapterFunction) {
         return adapterFunction.apply(this);
     }
@@ -86,11 +146,18 @@ public class DeleteModel {
     }
 
     public static class Builder extends CommonBuilder<Builder> {
+        private boolean isFrozen;
+
         @Override
         protected Builder getThis() {
             return this;
         }
 
+        private Builder frozen() {
+            isFrozen = true;
+            return this;
+        }
+
         public DeleteModel build() {
             return new DeleteModel(this);
         }
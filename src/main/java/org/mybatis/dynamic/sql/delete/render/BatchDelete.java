@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A rendered batch delete. The SQL is rendered once, and keys are handed out lazily as the stream is consumed.
+ *
+ * <p>Every call to {@link #getKeys()} or {@link #deleteStatements()} reads the keys again. If the keys were
+ * supplied by a single stream, only one of the methods may be called, and only once.
+ *
+ * @param <K> the type of key
+ */
+public class BatchDelete<K> {
+    private final String deleteStatement;
+    private final Supplier<Stream<K>> keys;
+
+    BatchDelete(String deleteStatement, Supplier<Stream<K>> keys) {
+        this.deleteStatement = Objects.requireNonNull(deleteStatement);
+        this.keys = Objects.requireNonNull(keys);
+    }
+
+    /**
+     * Returns a stream of delete statements, one for each key. This is useful for MyBatis batch support.
+     *
+     * @return a stream of delete statements
+     */
+    public Stream<RowDeleteStatementProvider<K>> deleteStatements() {
+        return keys.get().map(key -> new RowDeleteStatementProvider<>(deleteStatement, key));
+    }
+
+    /**
+     * Returns the generated SQL for this batch. This is useful for Spring JDBC batch support.
+     *
+     * @return the generated DELETE statement
+     */
+    public String getDeleteStatementSQL() {
+        return deleteStatement;
+    }
+
+    public Stream<K> getKeys() {
+        return keys.get();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.dsl.DeleteDSL;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
+import org.mybatis.dynamic.sql.util.Validator;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+
+public class BatchDeleteRenderer<K> {
+    private static final String ROW_PARAMETER = "row"; //$NON-NLS-1$
+
+    private final BatchDeleteModel<K> model;
+    private final RenderingStrategy renderingStrategy;
+
+    private BatchDeleteRenderer(Builder<K> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public BatchDelete<K> render() {
+        SqlColumn<K> keyColumn = model.keyColumn();
+        String deleteStatement = "delete from " + model.table().tableName() //$NON-NLS-1$
+                + " where " + keyColumn.name() + " = " //$NON-NLS-1$ //$NON-NLS-2$
+                + keyColumn.renderingStrategy().orElse(renderingStrategy)
+                        .getRecordBasedInsertBinding(keyColumn, ROW_PARAMETER);
+
+        return new BatchDelete<>(deleteStatement, model::keys);
+    }
+
+    public Stream<DeleteStatementProvider> renderChunks(int chunkSize) {
+        Validator.assertTrue(chunkSize > 0, "ERROR.75"); //$NON-NLS-1$
+
+        Stream<K> keys = model.keys();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                        new ChunkIterator(keys.iterator(), chunkSize), Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(keys::close);
+    }
+
+    private DeleteStatementProvider renderChunk(List<K> keys) {
+        return DeleteDSL.deleteFrom(model.table())
+                .where(model.keyColumn(), IsIn.of(keys))
+                .build()
+                .render(renderingStrategy);
+    }
+
+    public static <K> Builder<K> withBatchDeleteModel(BatchDeleteModel<K> model) {
+        return new Builder<K>().withBatchDeleteModel(model);
+    }
+
+    /**
+     * Reads chunks of keys from the stream. The first full chunk is rendered normally. Later full chunks reuse the
+     * SQL of the first full chunk - only the parameter values change, and they are bound in the same order as the
+     * keys in the "in" condition. Keys are converted with the key column's parameter type converter, if any.
+     */
+    private class ChunkIterator implements Iterator<DeleteStatementProvider> {
+        private final Iterator<K> keys;
+        private final int chunkSize;
+        private @Nullable String fullChunkStatement;
+        private @Nullable OrderedParameterMap fullChunkParameters;
+
+        private ChunkIterator(Iterator<K> keys, int chunkSize) {
+            this.keys = keys;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return keys.hasNext();
+        }
+
+        @Override
+        public DeleteStatementProvider next() {
+            if (!keys.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            List<K> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && keys.hasNext()) {
+                chunk.add(keys.next());
+            }
+
+            if (chunk.size() < chunkSize) {
+                return renderChunk(chunk);
+            }
+
+            if (fullChunkStatement == null || fullChunkParameters == null) {
+                DeleteStatementProvider deleteStatement = renderChunk(chunk);
+                fullChunkStatement = deleteStatement.getDeleteStatement();
+                fullChunkParameters = OrderedParameterMap.copyOf(deleteStatement.getParameters());
+                return deleteStatement;
+            }
+
+            return DefaultDeleteStatementProvider.withDeleteStatement(fullChunkStatement)
+                    .withParameters(fullChunkParameters.withValues(convertedKeys(chunk)))
+                    .build();
+        }
+    }
+
+    /**
+     * Convert the keys the same way the "in" condition converts them when the first full chunk is rendered.
+     */
+    private @Nullable Object[] convertedKeys(List<K> keys) {
+        SqlColumn<K> keyColumn = model.keyColumn();
+        return keys.stream().map(keyColumn::convertParameterType).toArray();
+    }
+
+    public static class Builder<K> {
+        private @Nullable BatchDeleteModel<K> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<K> withBatchDeleteModel(BatchDeleteModel<K> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<K> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchDeleteRenderer<K> build() {
+            return new BatchDeleteRenderer<>(this);
+        }
+    }
+}
@@ -15,11 +15,12 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.CopyOnWriteParameterMap;
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
 
 public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     private final String deleteStatement;
@@ -27,7 +28,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
 
     private DefaultDeleteStatementProvider(Builder builder) {
         deleteStatement = Objects.requireNonNull(builder.deleteStatement);
-        parameters = builder.parameters;
+        parameters = new CopyOnWriteParameterMap(builder.parameters.build());
     }
 
     @Override
@@ -46,7 +47,7 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
 
     public static class Builder {
         private @Nullable String deleteStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
 
         public Builder withDeleteStatement(String deleteStatement) {
             this.deleteStatement = deleteStatement;
@@ -16,87 +16,122 @@
 package org.mybatis.dynamic.sql.delete.render;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
-import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.common.ReturningRenderer;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
-import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 
 public class DeleteRenderer {
     private final DeleteModel deleteModel;
+    private final RenderingStrategy renderingStrategy;
     private final RenderingContext renderingContext;
+    private final @Nullable RenderTracker renderTracker;
 
     private DeleteRenderer(Builder builder) {
         deleteModel = Objects.requireNonNull(builder.deleteModel);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         TableAliasCalculator tableAliasCalculator = builder.deleteModel.tableAlias()
                 .map(a -> ExplicitTableAliasCalculator.of(deleteModel.table(), a))
                 .orElseGet(TableAliasCalculator::empty);
+        renderTracker = RenderTracker.start(deleteModel.statementConfiguration(), RenderEvent.StatementType.DELETE,
+                () -> deleteModel.table().tableName());
         renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withStatementConfiguration(deleteModel.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
     }
 
     public DeleteStatementProvider render() {
-        FragmentCollector fragmentCollector = new FragmentCollector();
+        DeleteStatementProvider statementProvider;
+        if (deleteModel.statementConfiguration().isRenderCacheEnabled()) {
+            statementProvider = GlobalContext.getRenderCache().render(
+                    () -> StatementShape.of(deleteModel, renderingStrategy), this::renderStatement,
+                    DeleteRenderer::toCompiledStatement, renderTracker);
+        } else {
+            statementProvider = renderStatement();
+        }
 
-        fragmentCollector.add(calculateDeleteStatementStart());
-        calculateWhereClause().ifPresent(fragmentCollector::add);
-        calculateOrderByClause().ifPresent(fragmentCollector::add);
-        calculateLimitClause().ifPresent(fragmentCollector::add);
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getDeleteStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
+    }
 
-        return toDeleteStatementProvider(fragmentCollector);
+    /**
+     * Render the statement once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering. The render cache is not used.
+     *
+     * @return the compiled statement
+     */
+    public CompiledStatement<DeleteStatementProvider> compile() {
+        return toCompiledStatement(renderStatement());
     }
 
-    private DeleteStatementProvider toDeleteStatementProvider(FragmentCollector fragmentCollector) {
-        return DefaultDeleteStatementProvider
-                .withDeleteStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fragmentCollector.parameters())
+    private static CompiledStatement<DeleteStatementProvider> toCompiledStatement(
+            DeleteStatementProvider statementProvider) {
+        return CompiledStatement.<DeleteStatementProvider>withStatement(statementProvider.getDeleteStatement())
+                .withParameterKeys(statementProvider.getParameters().keySet())
+                .withStatementProviderFactory((s, p) -> DefaultDeleteStatementProvider.withDeleteStatement(s)
+                        .withParameters(p)
+                        .build())
                 .build();
     }
 
-    private FragmentAndParameters calculateDeleteStatementStart() {
-        String aliasedTableName = renderingContext.aliasedTableName(deleteModel.table());
-        return FragmentAndParameters.fromFragment("delete from " + aliasedTableName); //$NON-NLS-1$
-    }
+    private DeleteStatementProvider renderStatement() {
+        FragmentWriter writer = new FragmentWriter();
 
-    private Optional<FragmentAndParameters> calculateWhereClause() {
-        return deleteModel.whereModel().flatMap(this::renderWhereClause);
-    }
+        writeDeleteStatementStart(writer);
+        writeWhereClause(writer);
+        writeOrderByClause(writer);
+        writeLimitClause(writer);
+        writeReturningClause(writer);
 
-    private Optional<FragmentAndParameters> renderWhereClause(WhereModel whereModel) {
-        return whereModel.render(renderingContext);
+        return DefaultDeleteStatementProvider.withDeleteStatement(writer.fragment())
+                .withParameters(writer.parameters())
+                .build();
     }
 
-    private Optional<FragmentAndParameters> calculateLimitClause() {
-        return deleteModel.limit().map(this::renderLimitClause);
+    private void writeDeleteStatementStart(FragmentWriter writer) {
+        writer.append("delete from ") //$NON-NLS-1$
+                .append(renderingContext.aliasedTableName(deleteModel.table()));
     }
 
-    private FragmentAndParameters renderLimitClause(Long limit) {
-        RenderedParameterInfo parameterInfo = renderingContext.calculateLimitParameterInfo();
+    private void writeWhereClause(FragmentWriter writer) {
+        deleteModel.whereModel().ifPresent(whereModel ->
+                writer.appendOptional(" ", w -> whereModel.render(renderingContext, w))); //$NON-NLS-1$
+    }
 
-        return FragmentAndParameters.withFragment("limit " + parameterInfo.renderedPlaceHolder()) //$NON-NLS-1$
-                .withParameter(parameterInfo.parameterMapKey(), limit)
-                .build();
+    private void writeLimitClause(FragmentWriter writer) {
+        deleteModel.limit().ifPresent(limit -> {
+            RenderedParameterInfo parameterInfo = renderingContext.calculateLimitParameterInfo();
+            writer.append(" limit ") //$NON-NLS-1$
+                    .append(parameterInfo.renderedPlaceHolder())
+                    .appendParameter(parameterInfo.parameterMapKey(), limit);
+        });
     }
 
-    private Optional<FragmentAndParameters> calculateOrderByClause() {
-        return deleteModel.orderByModel().map(this::renderOrderByClause);
+    private void writeOrderByClause(FragmentWriter writer) {
+        deleteModel.orderByModel().ifPresent(orderByModel ->
+                writer.append(' ').append(new OrderByRenderer(renderingContext).render(orderByModel)));
     }
 
-    private FragmentAndParameters renderOrderByClause(OrderByModel orderByModel) {
-        return new OrderByRenderer(renderingContext).render(orderByModel);
+    private void writeReturningClause(FragmentWriter writer) {
+        deleteModel.returningModel().ifPresent(returningModel ->
+                new ReturningRenderer(renderingContext).write(returningModel, writer, true));
     }
 
     public static Builder withDeleteModel(DeleteModel deleteModel) {
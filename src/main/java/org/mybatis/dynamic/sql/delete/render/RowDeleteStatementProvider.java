@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
+
+/**
+ * A delete statement whose only parameter is a key. The placeholder in the statement is <code>row</code>, so the
+ * parameter map is empty.
+ *
+ * @param <K> the type of key
+ */
+public class RowDeleteStatementProvider<K> implements DeleteStatementProvider {
+    private final String deleteStatement;
+    private final K row;
+
+    public RowDeleteStatementProvider(String deleteStatement, K row) {
+        this.deleteStatement = Objects.requireNonNull(deleteStatement);
+        this.row = Objects.requireNonNull(row);
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        return OrderedParameterMap.empty();
+    }
+
+    @Override
+    public String getDeleteStatement() {
+        return deleteStatement;
+    }
+
+    public K getRow() {
+        return row;
+    }
+}
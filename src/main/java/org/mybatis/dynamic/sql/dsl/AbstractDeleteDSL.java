@@ -24,11 +24,14 @@ import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.NullCriterion;
 import org.mybatis.dynamic.sql.SortSpecification;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.util.Buildable;
@@ -41,6 +44,7 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
         implements WhereOperations<AbstractDeleteDSL<M, D>.DeleteWhereBuilder>,
         ConfigurableStatement<D>,
         OrderByOperations<D>,
+        ReturningOperations<D>,
         Buildable<M> {
     private final SqlTable table;
     private final @Nullable String tableAlias;
@@ -48,6 +52,7 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
     private final StatementConfiguration statementConfiguration = new StatementConfiguration();
     private @Nullable Long limit;
     private @Nullable OrderByModel orderByModel;
+    private @Nullable ReturningModel returningModel;
 
     protected AbstractDeleteDSL(SqlTable table, @Nullable String tableAlias) {
         this.table = Objects.requireNonNull(table);
@@ -89,6 +94,12 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
         return getThis();
     }
 
+    @Override
+    public D returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        returningModel = ReturningModel.of(dialect, columns);
+        return getThis();
+    }
+
     protected abstract D getThis();
 
     /**
@@ -102,6 +113,7 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
                 .withTableAlias(tableAlias)
                 .withLimit(limit)
                 .withOrderByModel(orderByModel)
+                .withReturningModel(returningModel)
                 .withWhereModel(whereBuilder == null ? null : whereBuilder.buildWhereModel())
                 .withStatementConfiguration(statementConfiguration)
                 .build();
@@ -114,7 +126,8 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
     }
 
     public class DeleteWhereBuilder
-            implements BooleanOperations<DeleteWhereBuilder>, ConfigurableStatement<DeleteWhereBuilder>, Buildable<M> {
+            implements BooleanOperations<DeleteWhereBuilder>, ConfigurableStatement<DeleteWhereBuilder>,
+            ReturningOperations<D>, Buildable<M> {
         private final SqlCriterion initialCriterion;
         private final List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
 
@@ -150,6 +163,11 @@ public abstract class AbstractDeleteDSL<M, D extends AbstractDeleteDSL<M, D>>
             return AbstractDeleteDSL.this.getThis();
         }
 
+        @Override
+        public D returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+            return AbstractDeleteDSL.this.returning(dialect, columns);
+        }
+
         @Override
         public DeleteWhereBuilder configureStatement(Consumer<StatementConfiguration> consumer) {
             AbstractDeleteDSL.this.configureStatement(consumer);
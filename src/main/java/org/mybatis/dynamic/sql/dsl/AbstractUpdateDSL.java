@@ -32,6 +32,8 @@ import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
@@ -53,6 +55,7 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
         implements WhereOperations<AbstractUpdateDSL<M, D>.UpdateWhereBuilder>,
         OrderByOperations<D>,
+        ReturningOperations<D>,
         ConfigurableStatement<D>,
         Buildable<M> {
 
@@ -63,6 +66,7 @@ public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
     private final StatementConfiguration statementConfiguration = new StatementConfiguration();
     private @Nullable Long limit;
     private @Nullable OrderByModel orderByModel;
+    private @Nullable ReturningModel returningModel;
 
     protected AbstractUpdateDSL(SqlTable table, @Nullable String tableAlias) {
         this.table = Objects.requireNonNull(table);
@@ -108,6 +112,12 @@ public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
         return getThis();
     }
 
+    @Override
+    public D returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        returningModel = ReturningModel.of(dialect, columns);
+        return getThis();
+    }
+
     /**
      * WARNING! Calling this method could result in an update statement that updates
      * all rows in a table.
@@ -120,6 +130,7 @@ public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
                 .withColumnMappings(columnMappings)
                 .withLimit(limit)
                 .withOrderByModel(orderByModel)
+                .withReturningModel(returningModel)
                 .withWhereModel(whereBuilder == null ? null : whereBuilder.buildWhereModel())
                 .withStatementConfiguration(statementConfiguration)
                 .build();
@@ -195,7 +206,8 @@ public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
     }
 
     public class UpdateWhereBuilder
-            implements BooleanOperations<UpdateWhereBuilder>, ConfigurableStatement<UpdateWhereBuilder>, Buildable<M> {
+            implements BooleanOperations<UpdateWhereBuilder>, ConfigurableStatement<UpdateWhereBuilder>,
+            ReturningOperations<D>, Buildable<M> {
         private final SqlCriterion initialCriterion;
         private final List<AndOrCriteriaGroup> subCriteria = new ArrayList<>();
 
@@ -231,6 +243,11 @@ public abstract class AbstractUpdateDSL<M, D extends AbstractUpdateDSL<M, D>>
             return AbstractUpdateDSL.this.getThis();
         }
 
+        @Override
+        public D returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+            return AbstractUpdateDSL.this.returning(dialect, columns);
+        }
+
         @Override
         public UpdateWhereBuilder configureStatement(Consumer<StatementConfiguration> consumer) {
             AbstractUpdateDSL.this.configureStatement(consumer);
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.dsl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningDialects;
+
+/**
+ * Operations for statements that can return values from the rows they change. Statements with a returning clause
+ * produce a result set, so they should be executed as queries - for example, with the returning methods in
+ * {@link org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper}.
+ *
+ * @param <T> the type returned from the operations
+ */
+public interface ReturningOperations<T> {
+    /**
+     * Return the specified columns from the changed rows, rendered with
+     * {@link ReturningDialects#returningClause()}.
+     *
+     * @param columns the returned columns
+     * @return the next step in the DSL
+     */
+    default T returning(BasicColumn... columns) {
+        return returning(Arrays.asList(columns));
+    }
+
+    default T returning(Collection<? extends BasicColumn> columns) {
+        return returning(ReturningDialects.returningClause(), columns);
+    }
+
+    default T returning(ReturningDialect dialect, BasicColumn... columns) {
+        return returning(dialect, Arrays.asList(columns));
+    }
+
+    T returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns);
+}
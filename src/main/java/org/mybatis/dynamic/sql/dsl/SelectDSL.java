@@ -35,6 +35,8 @@ import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.select.GroupByModel;
 import org.mybatis.dynamic.sql.select.HavingApplier;
 import org.mybatis.dynamic.sql.select.HavingModel;
+import org.mybatis.dynamic.sql.select.KeysetCursor;
+import org.mybatis.dynamic.sql.select.KeysetPaging;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
@@ -62,6 +64,7 @@ public class SelectDSL implements
     private final LimitAndOffsetSupport limitAndOffsetSupport = new LimitAndOffsetSupport();
     private @Nullable String forClause;
     private @Nullable String waitClause;
+    private @Nullable KeysetCursor seekCursor;
 
     private static class CurrentQueryValues extends AbstractQueryingDSL {
         QueryExpressionModel.Builder builder = new QueryExpressionModel.Builder();
@@ -163,6 +166,29 @@ public class SelectDSL implements
         return this;
     }
 
+    /**
+     * Select the page of rows after the cursor - keyset (seek) paging. This requires an order by clause, and the
+     * cursor must contain one value for each order by column. See {@link KeysetPaging}.
+     *
+     * @param values the values of the order by columns for the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL seekAfter(Object... values) {
+        return seekAfterWhenPresent(KeysetCursor.of(values));
+    }
+
+    /**
+     * Select the page of rows after the cursor - keyset (seek) paging. If the cursor is null (typically the first page)
+     * then the query is not changed.
+     *
+     * @param cursor the values of the order by columns for the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL seekAfterWhenPresent(@Nullable KeysetCursor cursor) {
+        this.seekCursor = cursor;
+        return this;
+    }
+
     @Override
     public SelectDSL groupBy(Collection<? extends BasicColumn> columns) {
         currentQueryValues.builder.withGroupByModel(GroupByModel.of(columns));
@@ -229,7 +255,7 @@ public class SelectDSL implements
 
     @Override
     public SelectModel build() {
-        return new SelectModel.Builder()
+        SelectModel selectModel = new SelectModel.Builder()
                 .withStatementConfiguration(statementConfiguration)
                 .withQueryExpressions(unionQueries)
                 .withQueryExpression(currentQueryValues.toQueryExpressionModel())
@@ -238,6 +264,7 @@ public class SelectDSL implements
                 .withForClause(forClause)
                 .withWaitClause(waitClause)
                 .build();
+        return seekCursor == null ? selectModel : KeysetPaging.seekAfter(selectModel, seekCursor);
     }
 
     public class QueryExpressionWhereBuilder implements BooleanOperations<QueryExpressionWhereBuilder>,
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.exception;
+
+import java.io.Serial;
+
+import org.mybatis.dynamic.sql.render.RenderLimitViolation;
+
+/**
+ * This exception is thrown when a statement exceeds a render limit that is configured with the
+ * {@link org.mybatis.dynamic.sql.render.RenderLimits.Action#THROW} action.
+ *
+ * @see org.mybatis.dynamic.sql.render.RenderLimits
+ */
+public class RenderLimitExceededException extends DynamicSqlException {
+    @Serial
+    private static final long serialVersionUID = -2203818370385317497L;
+
+    private final transient RenderLimitViolation violation;
+
+    public RenderLimitExceededException(String message, RenderLimitViolation violation) {
+        super(message);
+        this.violation = violation;
+    }
+
+    public RenderLimitViolation violation() {
+        return violation;
+    }
+}
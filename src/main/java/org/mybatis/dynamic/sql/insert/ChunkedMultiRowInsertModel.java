@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.DefaultMultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MappedColumnMapping;
+import org.mybatis.dynamic.sql.util.MultiRowInsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.RowMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A multi-row insert that is split into several statements so that no statement has more than a maximum number of
+ * parameters.
+ *
+ * <p>Most databases limit the number of parameters that can be bound to a single statement. For example, PostgreSQL
+ * allows 65,535 parameters, and SQL Server allows 2,100. Other databases limit the size of a statement rather than
+ * the number of parameters - for MySQL, the maximum parameter count should be chosen so that a statement fits within
+ * max_allowed_packet.
+ *
+ * <p>The number of parameters in each row is calculated from the column mappings (constant and null mappings do not
+ * use parameters). Every chunk except possibly the last contains the same number of rows, so the SQL for a full
+ * chunk is rendered once and reused for every full chunk.
+ *
+ * @param <T> the type of record
+ */
+public class ChunkedMultiRowInsertModel<T> {
+    private final MultiRowInsertModel<T> model;
+    private final int chunkSize;
+
+    private ChunkedMultiRowInsertModel(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        Validator.assertTrue(builder.maxParameters > 0, "ERROR.52"); //$NON-NLS-1$
+        int parametersPerRow = model.columnMappings().mapToInt(m -> m.accept(ParameterCounter.INSTANCE)).sum();
+        Validator.assertFalse(parametersPerRow > builder.maxParameters, "ERROR.53", //$NON-NLS-1$
+                Integer.toString(parametersPerRow));
+        chunkSize = parametersPerRow == 0 ? model.recordCount() : builder.maxParameters / parametersPerRow;
+    }
+
+    public MultiRowInsertModel<T> model() {
+        return model;
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    public int chunkCount() {
+        return (model.recordCount() + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Render the chunks. The returned stream is lazy - a chunk's statement provider is created when the stream
+     * reaches it.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return a stream of statement providers, one for each chunk
+     */
+    public Stream<MultiRowInsertStatementProvider<T>> render(RenderingStrategy renderingStrategy) {
+        List<T> records = model.records();
+        int fullChunks = records.size() / chunkSize;
+        FullChunkRenderer fullChunkRenderer = new FullChunkRenderer(renderingStrategy);
+
+        return IntStream.range(0, chunkCount()).mapToObj(chunk -> {
+            int start = chunk * chunkSize;
+            List<T> chunkRecords = records.subList(start, Math.min(start + chunkSize, records.size()));
+            if (chunk < fullChunks) {
+                return new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                        .withRecords(chunkRecords)
+                        .withInsertStatement(fullChunkRenderer.insertStatement(chunkRecords))
+                        .build();
+            } else {
+                return renderChunk(chunkRecords, renderingStrategy);
+            }
+        });
+    }
+
+    private MultiRowInsertStatementProvider<T> renderChunk(List<T> records, RenderingStrategy renderingStrategy) {
+        return MultiRowInsertModel.withRecords(records)
+                .withTable(model.table())
+                .withColumnMappings(model.columnMappings)
+                .withReturningModel(model.returningModel().orElse(null))
+                .build()
+                .render(renderingStrategy);
+    }
+
+    public static <T> Builder<T> withModel(MultiRowInsertModel<T> model) {
+        return new Builder<T>().withModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable MultiRowInsertModel<T> model;
+        private int maxParameters;
+
+        public Builder<T> withModel(MultiRowInsertModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withMaxParameters(int maxParameters) {
+            this.maxParameters = maxParameters;
+            return this;
+        }
+
+        public ChunkedMultiRowInsertModel<T> build() {
+            return new ChunkedMultiRowInsertModel<>(this);
+        }
+    }
+
+    /**
+     * Renders the SQL for a full chunk the first time it is needed. The SQL depends only on the number of rows,
+     * so it is the same for every full chunk.
+     */
+    private class FullChunkRenderer {
+        private final RenderingStrategy renderingStrategy;
+        private @Nullable String insertStatement;
+
+        private FullChunkRenderer(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+        }
+
+        private String insertStatement(List<T> records) {
+            if (insertStatement == null) {
+                insertStatement = renderChunk(records, renderingStrategy).getInsertStatement();
+            }
+            return insertStatement;
+        }
+    }
+
+    private static class ParameterCounter extends MultiRowInsertMappingVisitor<Integer> {
+        private static final ParameterCounter INSTANCE = new ParameterCounter();
+
+        @Override
+        public Integer visit(NullMapping mapping) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(ConstantMapping mapping) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(StringConstantMapping mapping) {
+            return 0;
+        }
+
+        @Override
+        public Integer visit(PropertyMapping mapping) {
+            return 1;
+        }
+
+        @Override
+        public Integer visit(RowMapping mapping) {
+            return 1;
+        }
+
+        @Override
+        public Integer visit(MappedColumnMapping mapping) {
+            return 1;
+        }
+    }
+}
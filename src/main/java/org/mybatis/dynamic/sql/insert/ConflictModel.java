@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * The conflict clause of an upsert statement - the columns that identify an existing row, and the columns that
+ * should be updated when a row already exists.
+ *
+ * <p>If {@link #isUpdateAll()} is true, every inserted column except the conflict columns is updated. If there are
+ * no update columns, existing rows are left unchanged.
+ */
+public class ConflictModel {
+    private final List<SqlColumn<?>> conflictColumns;
+    private final List<SqlColumn<?>> updateColumns;
+    private final boolean updateAll;
+
+    private ConflictModel(Builder builder) {
+        conflictColumns = builder.conflictColumns;
+        updateColumns = builder.updateColumns;
+        updateAll = builder.updateAll;
+        Validator.assertNotEmpty(conflictColumns, "ERROR.79"); //$NON-NLS-1$
+    }
+
+    public Stream<SqlColumn<?>> conflictColumns() {
+        return conflictColumns.stream();
+    }
+
+    public Stream<SqlColumn<?>> updateColumns() {
+        return updateColumns.stream();
+    }
+
+    public boolean isUpdateAll() {
+        return updateAll;
+    }
+
+    public static Builder withConflictColumns(Collection<? extends SqlColumn<?>> conflictColumns) {
+        return new Builder().withConflictColumns(conflictColumns);
+    }
+
+    public static class Builder {
+        private final List<SqlColumn<?>> conflictColumns = new ArrayList<>();
+        private final List<SqlColumn<?>> updateColumns = new ArrayList<>();
+        private boolean updateAll;
+
+        public Builder withConflictColumns(Collection<? extends SqlColumn<?>> conflictColumns) {
+            this.conflictColumns.addAll(conflictColumns);
+            return this;
+        }
+
+        public Builder withUpdateColumns(Collection<? extends SqlColumn<?>> updateColumns) {
+            this.updateColumns.addAll(updateColumns);
+            return this;
+        }
+
+        public Builder withUpdateAll(boolean updateAll) {
+            this.updateAll = updateAll;
+            return this;
+        }
+
+        public ConflictModel build() {
+            return new ConflictModel(this);
+        }
+    }
+}
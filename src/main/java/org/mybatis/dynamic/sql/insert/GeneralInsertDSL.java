@@ -22,9 +22,13 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.dsl.ReturningOperations;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -34,9 +38,10 @@ import org.mybatis.dynamic.sql.util.ValueMapping;
 import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
 import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
 
-public class GeneralInsertDSL implements Buildable<GeneralInsertModel> {
+public class GeneralInsertDSL implements ReturningOperations<GeneralInsertDSL>, Buildable<GeneralInsertModel> {
     private final List<AbstractColumnMapping> columnMappings;
     private final SqlTable table;
+    private @Nullable ReturningModel returningModel;
 
     private GeneralInsertDSL(Builder builder) {
         table = Objects.requireNonNull(builder.table);
@@ -47,11 +52,18 @@ public class GeneralInsertDSL implements Buildable<GeneralInsertModel> {
         return new SetClauseFinisher<>(column);
     }
 
+    @Override
+    public GeneralInsertDSL returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        returningModel = ReturningModel.of(dialect, columns);
+        return this;
+    }
+
     @Override
     public GeneralInsertModel build() {
         return new GeneralInsertModel.Builder()
                 .withTable(table)
                 .withInsertMappings(columnMappings)
+                .withReturningModel(returningModel)
                 .withStatementConfiguration(new StatementConfiguration()) // nothing configurable in this statement yet
                 .build();
     }
@@ -18,13 +18,18 @@ package org.mybatis.dynamic.sql.insert;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ModelFreezer;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.insert.render.DefaultGeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Validator;
@@ -33,13 +38,17 @@ public class GeneralInsertModel {
 
     private final SqlTable table;
     private final List<AbstractColumnMapping> insertMappings;
+    private final @Nullable ReturningModel returningModel;
     private final StatementConfiguration statementConfiguration;
+    private final boolean isFrozen;
 
     private GeneralInsertModel(Builder builder) {
         table = Objects.requireNonNull(builder.table);
         Validator.assertNotEmpty(builder.insertMappings, "ERROR.6"); //$NON-NLS-1$
         insertMappings = builder.insertMappings;
+        returningModel = builder.returningModel;
         statementConfiguration = Objects.requireNonNull(builder.statementConfiguration);
+        isFrozen = builder.isFrozen;
     }
 
     public Stream<AbstractColumnMapping> columnMappings() {
@@ -50,10 +59,23 @@ public class GeneralInsertModel {
         return table;
     }
 
+    public Optional<ReturningModel> returningModel() {
+        return Optional.ofNullable(returningModel);
+    }
+
     public StatementConfiguration statementConfiguration() {
         return statementConfiguration;
     }
 
+    /**
+     * Returns true if this model was returned by {@link #freeze()}.
+     *
+     * @return true if this model is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
     public GeneralInsertStatementProvider render(RenderingStrategy renderingStrategy) {
         return GeneralInsertRenderer.withInsertModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -61,10 +83,52 @@ public class GeneralInsertModel {
                 .render();
     }
 
+    /**
+     * Render this model once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the compiled statement
+     */
+    public CompiledStatement<GeneralInsertStatementProvider> compile(RenderingStrategy renderingStrategy) {
+        GeneralInsertStatementProvider insertStatement = render(renderingStrategy);
+        return CompiledStatement.<GeneralInsertStatementProvider>withStatement(insertStatement.getInsertStatement())
+                .withParameterKeys(insertStatement.getParameters().keySet())
+                .withStatementProviderFactory((s, p) -> DefaultGeneralInsertStatementProvider.withInsertStatement(s)
+                        .withParameters(p)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns a frozen copy of this model that can be cached and rendered concurrently. The statement configuration
+     * is frozen, the current values of column mappings are captured, and the model is checked for elements that are
+     * not known to be immutable.
+     *
+     * @return a frozen copy of this model, or this model if it is already frozen
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the model contains custom conditions
+     * @see ModelFreezer
+     */
+    public GeneralInsertModel freeze() {
+        if (isFrozen) {
+            return this;
+        }
+
+        return new Builder()
+                .withTable(table)
+                .withInsertMappings(insertMappings.stream().map(ModelFreezer::freeze).toList())
+                .withReturningModel(returningModel().map(ModelFreezer::freeze).orElse(null))
+                .withStatementConfiguration(statementConfiguration.freeze())
+                .frozen()
+                .build();
+    }
+
     public static class Builder {
         private @Nullable SqlTable table;
         private final List<AbstractColumnMapping> insertMappings = new ArrayList<>();
+        private @Nullable ReturningModel returningModel;
         private @Nullable StatementConfiguration statementConfiguration;
+        private boolean isFrozen;
 
         public Builder withTable(SqlTable table) {
             this.table = table;
@@ -76,11 +140,21 @@ public class GeneralInsertModel {
             return this;
         }
 
+        public Builder withReturningModel(@Nullable ReturningModel returningModel) {
+            this.returningModel = returningModel;
+            return this;
+        }
+
         public Builder withStatementConfiguration(StatementConfiguration statementConfiguration) {
             this.statementConfiguration = statementConfiguration;
             return this;
         }
 
+        private Builder frozen() {
+            isFrozen = true;
+            return this;
+        }
+
         public GeneralInsertModel build() {
             return new GeneralInsertModel(this);
         }
@@ -22,8 +22,12 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.dsl.ReturningOperations;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -35,11 +39,12 @@ import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
 import org.mybatis.dynamic.sql.util.RowMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
-public class InsertDSL<T> implements Buildable<InsertModel<T>> {
+public class InsertDSL<T> implements ReturningOperations<InsertDSL<T>>, Buildable<InsertModel<T>> {
 
     private final T row;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
+    private @Nullable ReturningModel returningModel;
 
     private InsertDSL(Builder<T> builder) {
         this.row = Objects.requireNonNull(builder.row);
@@ -61,11 +66,18 @@ public class InsertDSL<T> implements Buildable<InsertModel<T>> {
         return this;
     }
 
+    @Override
+    public InsertDSL<T> returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        returningModel = ReturningModel.of(dialect, columns);
+        return this;
+    }
+
     @Override
     public InsertModel<T> build() {
         return InsertModel.withRow(row)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withReturningModel(returningModel)
                 .build();
     }
 
@@ -18,10 +18,12 @@ package org.mybatis.dynamic.sql.insert;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.insert.render.InsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
@@ -32,11 +34,13 @@ public class InsertModel<T> {
     private final SqlTable table;
     private final T row;
     private final List<AbstractColumnMapping> columnMappings;
+    private final @Nullable ReturningModel returningModel;
 
     private InsertModel(Builder<T> builder) {
         table = Objects.requireNonNull(builder.table);
         row = Objects.requireNonNull(builder.row);
         columnMappings = Objects.requireNonNull(builder.columnMappings);
+        returningModel = builder.returningModel;
         Validator.assertNotEmpty(columnMappings, "ERROR.7"); //$NON-NLS-1$
     }
 
@@ -52,6 +56,10 @@ public class InsertModel<T> {
         return table;
     }
 
+    public Optional<ReturningModel> returningModel() {
+        return Optional.ofNullable(returningModel);
+    }
+
     public InsertStatementProvider<T> render(RenderingStrategy renderingStrategy) {
         return InsertRenderer.withInsertModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -67,6 +75,7 @@ public class InsertModel<T> {
         private @Nullable SqlTable table;
         private @Nullable T row;
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private @Nullable ReturningModel returningModel;
 
         public Builder<T> withTable(SqlTable table) {
             this.table = table;
@@ -83,6 +92,11 @@ public class InsertModel<T> {
             return this;
         }
 
+        public Builder<T> withReturningModel(@Nullable ReturningModel returningModel) {
+            this.returningModel = returningModel;
+            return this;
+        }
+
         public InsertModel<T> build() {
             return new InsertModel<>(this);
         }
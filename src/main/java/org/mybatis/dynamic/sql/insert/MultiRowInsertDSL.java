@@ -20,8 +20,13 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningDialect;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.dsl.ReturningOperations;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -31,11 +36,13 @@ import org.mybatis.dynamic.sql.util.PropertyMapping;
 import org.mybatis.dynamic.sql.util.RowMapping;
 import org.mybatis.dynamic.sql.util.StringConstantMapping;
 
-public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
+public class MultiRowInsertDSL<T>
+        implements ReturningOperations<MultiRowInsertDSL<T>>, Buildable<MultiRowInsertModel<T>> {
 
     private final Collection<T> records;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings;
+    private @Nullable ReturningModel returningModel;
 
     private MultiRowInsertDSL(BatchInsertDSL.AbstractBuilder<T, ?> builder) {
         this.records = builder.records;
@@ -52,11 +59,32 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
         return this;
     }
 
+    @Override
+    public MultiRowInsertDSL<T> returning(ReturningDialect dialect, Collection<? extends BasicColumn> columns) {
+        returningModel = ReturningModel.of(dialect, columns);
+        return this;
+    }
+
     @Override
     public MultiRowInsertModel<T> build() {
         return MultiRowInsertModel.withRecords(records)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withReturningModel(returningModel)
+                .build();
+    }
+
+    /**
+     * Build a model that will split this insert into several statements, none of which will have more than
+     * the specified number of parameters.
+     *
+     * @param maxParameters the maximum number of parameters in any single statement
+     * @return the chunked model
+     * @see ChunkedMultiRowInsertModel
+     */
+    public ChunkedMultiRowInsertModel<T> chunkedBy(int maxParameters) {
+        return ChunkedMultiRowInsertModel.withModel(build())
+                .withMaxParameters(maxParameters)
                 .build();
     }
 
@@ -16,18 +16,27 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
+    private final @Nullable ReturningModel returningModel;
 
     private MultiRowInsertModel(Builder<T> builder) {
         super(builder);
         Validator.assertNotEmpty(records(), "ERROR.20"); //$NON-NLS-1$
         Validator.assertNotEmpty(columnMappings, "ERROR.8"); //$NON-NLS-1$
+        returningModel = builder.returningModel;
+    }
+
+    public Optional<ReturningModel> returningModel() {
+        return Optional.ofNullable(returningModel);
     }
 
     public MultiRowInsertStatementProvider<T> render(RenderingStrategy renderingStrategy) {
@@ -42,6 +51,13 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
     }
 
     public static class Builder<T> extends AbstractBuilder<T, Builder<T>> {
+        private @Nullable ReturningModel returningModel;
+
+        public Builder<T> withReturningModel(@Nullable ReturningModel returningModel) {
+            this.returningModel = returningModel;
+            return this;
+        }
+
         @Override
         protected Builder<T> getThis() {
             return this;
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialect;
+import org.mybatis.dynamic.sql.insert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+/**
+ * An upsert of many rows in a single statement. The upsert is rendered to a multi-row insert statement
+ * provider, so it can be executed with the same mapper methods as a multi-row insert statement.
+ *
+ * @param <T> the type of record
+ */
+public class MultiRowUpsertModel<T> {
+    private final MultiRowInsertModel<T> insertModel;
+    private final ConflictModel conflictModel;
+
+    private MultiRowUpsertModel(Builder<T> builder) {
+        insertModel = Objects.requireNonNull(builder.insertModel);
+        conflictModel = Objects.requireNonNull(builder.conflictModel);
+    }
+
+    public MultiRowInsertModel<T> insertModel() {
+        return insertModel;
+    }
+
+    public ConflictModel conflictModel() {
+        return conflictModel;
+    }
+
+    public MultiRowInsertStatementProvider<T> render(UpsertDialect dialect, RenderingStrategy renderingStrategy) {
+        return UpsertRenderer.withConflictModel(conflictModel)
+                .withDialect(dialect)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(insertModel);
+    }
+
+    public static <T> Builder<T> withInsertModel(MultiRowInsertModel<T> insertModel) {
+        return new Builder<T>().withInsertModel(insertModel);
+    }
+
+    public static class Builder<T> {
+        private @Nullable MultiRowInsertModel<T> insertModel;
+        private @Nullable ConflictModel conflictModel;
+
+        public Builder<T> withInsertModel(MultiRowInsertModel<T> insertModel) {
+            this.insertModel = insertModel;
+            return this;
+        }
+
+        public Builder<T> withConflictModel(ConflictModel conflictModel) {
+            this.conflictModel = conflictModel;
+            return this;
+        }
+
+        public MultiRowUpsertModel<T> build() {
+            return new MultiRowUpsertModel<>(this);
+        }
+    }
+}
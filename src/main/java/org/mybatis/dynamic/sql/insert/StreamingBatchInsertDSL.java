@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MappedColumnMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.RowMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a batch insert whose records are supplied by a {@link Stream} or an {@link Iterable}. Unlike
+ * {@link BatchInsertDSL}, the records are never collected into a list - they are read one at a time
+ * when the batch is executed.
+ *
+ * @param <T> the type of record
+ */
+public class StreamingBatchInsertDSL<T> implements Buildable<StreamingBatchInsertModel<T>> {
+
+    private final Stream<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+
+    private StreamingBatchInsertDSL(Builder<T> builder) {
+        this.records = Objects.requireNonNull(builder.records);
+        this.table = Objects.requireNonNull(builder.table);
+    }
+
+    public <F> ColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column);
+    }
+
+    public <F> StreamingBatchInsertDSL<T> withMappedColumn(SqlColumn<F> column) {
+        columnMappings.add(MappedColumnMapping.of(column));
+        return this;
+    }
+
+    @Override
+    public StreamingBatchInsertModel<T> build() {
+        return StreamingBatchInsertModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .build();
+    }
+
+    public static <T> StreamingBatchInsertDSL.IntoGatherer<T> insert(Stream<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static <T> StreamingBatchInsertDSL.IntoGatherer<T> insert(Iterable<T> records) {
+        return insert(StreamSupport.stream(records.spliterator(), false));
+    }
+
+    public static class IntoGatherer<T> {
+        private final Stream<T> records;
+
+        private IntoGatherer(Stream<T> records) {
+            this.records = records;
+        }
+
+        public StreamingBatchInsertDSL<T> into(SqlTable table) {
+            return new Builder<T>().withRecords(records).withTable(table).build();
+        }
+    }
+
+    public class ColumnMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public ColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public StreamingBatchInsertDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toRow() {
+            columnMappings.add(RowMapping.of(column));
+            return StreamingBatchInsertDSL.this;
+        }
+    }
+
+    public static class Builder<T> {
+        private @Nullable Stream<T> records;
+        private @Nullable SqlTable table;
+
+        public Builder<T> withRecords(Stream<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public StreamingBatchInsertDSL<T> build() {
+            return new StreamingBatchInsertDSL<>(this);
+        }
+    }
+}
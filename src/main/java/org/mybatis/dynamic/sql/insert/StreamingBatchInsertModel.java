@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Model for a batch insert whose records are supplied by a stream. The stream is not consumed until the batch
+ * is executed, and it can only be consumed once.
+ *
+ * @param <T> the type of record
+ */
+public class StreamingBatchInsertModel<T> {
+    private final SqlTable table;
+    private final Stream<T> records;
+    private final List<AbstractColumnMapping> columnMappings;
+
+    private StreamingBatchInsertModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Objects.requireNonNull(builder.records);
+        columnMappings = builder.columnMappings;
+        Validator.assertNotEmpty(columnMappings, "ERROR.5"); //$NON-NLS-1$
+    }
+
+    public Stream<AbstractColumnMapping> columnMappings() {
+        return columnMappings.stream();
+    }
+
+    public Stream<T> records() {
+        return records;
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public StreamingBatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        return StreamingBatchInsertRenderer.withStreamingBatchInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Stream<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SqlTable table;
+        private @Nullable Stream<T> records;
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Stream<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(Collection<? extends AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public StreamingBatchInsertModel<T> build() {
+            return new StreamingBatchInsertModel<>(this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * DSL for upsert statements - statements that insert a row, or update the row if it already exists. An upsert is
+ * built from an insert statement (a single row insert, a multi-row insert, or a batch insert) and a conflict clause.
+ *
+ * <p>The SQL for an upsert is different for every database, so upserts are rendered with an
+ * {@link org.mybatis.dynamic.sql.insert.render.UpsertDialect}. Upserts are rendered to the same statement providers
+ * as the insert statements they are built from, so they are executed with the same mapper methods.
+ *
+ * @param <M> the type of model built by this DSL
+ * @see org.mybatis.dynamic.sql.insert.render.UpsertDialects
+ */
+public class UpsertDSL<M> {
+    private final Function<ConflictModel, M> modelBuilder;
+
+    private UpsertDSL(Function<ConflictModel, M> modelBuilder) {
+        this.modelBuilder = Objects.requireNonNull(modelBuilder);
+    }
+
+    public ConflictActionGatherer onConflict(SqlColumn<?>... conflictColumns) {
+        return onConflict(Arrays.asList(conflictColumns));
+    }
+
+    public ConflictActionGatherer onConflict(Collection<? extends SqlColumn<?>> conflictColumns) {
+        return new ConflictActionGatherer(conflictColumns);
+    }
+
+    public static <T> UpsertDSL<UpsertModel<T>> upsert(InsertDSL<T> insertStatement) {
+        return new UpsertDSL<>(conflictModel -> UpsertModel.withInsertModel(insertStatement.build())
+                .withConflictModel(conflictModel)
+                .build());
+    }
+
+    public static <T> UpsertDSL<MultiRowUpsertModel<T>> upsert(MultiRowInsertDSL<T> insertStatement) {
+        return new UpsertDSL<>(conflictModel -> MultiRowUpsertModel.withInsertModel(insertStatement.build())
+                .withConflictModel(conflictModel)
+                .build());
+    }
+
+    public static <T> UpsertDSL<BatchUpsertModel<T>> upsert(BatchInsertDSL<T> insertStatement) {
+        return new UpsertDSL<>(conflictModel -> BatchUpsertModel.withInsertModel(insertStatement.build())
+                .withConflictModel(conflictModel)
+                .build());
+    }
+
+    public class ConflictActionGatherer {
+        private final Collection<? extends SqlColumn<?>> conflictColumns;
+
+        private ConflictActionGatherer(Collection<? extends SqlColumn<?>> conflictColumns) {
+            this.conflictColumns = conflictColumns;
+        }
+
+        /**
+         * Update the specified columns with the inserted values when a row already exists.
+         *
+         * @param updateColumns the columns to update. Every column must have a value in the insert statement
+         * @return the completed upsert
+         */
+        public Buildable<M> doUpdate(SqlColumn<?>... updateColumns) {
+            return doUpdate(Arrays.asList(updateColumns));
+        }
+
+        public Buildable<M> doUpdate(Collection<? extends SqlColumn<?>> updateColumns) {
+            return build(updateColumns, false);
+        }
+
+        /**
+         * Update every inserted column, except the conflict columns, when a row already exists.
+         *
+         * @return the completed upsert
+         */
+        public Buildable<M> doUpdateAll() {
+            return build(Collections.emptyList(), true);
+        }
+
+        /**
+         * Leave existing rows unchanged.
+         *
+         * @return the completed upsert
+         */
+        public Buildable<M> doNothing() {
+            return build(Collections.emptyList(), false);
+        }
+
+        private Buildable<M> build(Collection<? extends SqlColumn<?>> updateColumns, boolean updateAll) {
+            List<SqlColumn<?>> columns = List.copyOf(updateColumns);
+            return () -> modelBuilder.apply(ConflictModel.withConflictColumns(conflictColumns)
+                    .withUpdateColumns(columns)
+                    .withUpdateAll(updateAll)
+                    .build());
+        }
+    }
+}
@@ -15,7 +15,7 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -47,7 +47,7 @@ public class DefaultGeneralInsertStatementProvider
 
     public static class Builder {
         private @Nullable String insertStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
 
         public Builder withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -25,7 +25,7 @@ import org.jspecify.annotations.Nullable;
 public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsertStatementProvider<T> {
 
     private final List<T> records;
-    private final String insertStatement;
+    private final CharSequence insertStatement;
 
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
@@ -34,6 +34,11 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
 
     @Override
     public String getInsertStatement() {
+        return insertStatement.toString();
+    }
+
+    @Override
+    public CharSequence getInsertStatementSequence() {
         return insertStatement;
     }
 
@@ -44,7 +49,7 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
 
     public static class Builder<T> {
         private final List<T> records = new ArrayList<>();
-        private @Nullable String insertStatement;
+        private @Nullable CharSequence insertStatement;
 
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
@@ -56,6 +61,11 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
             return this;
         }
 
+        public Builder<T> withInsertStatement(MultiRowInsertStatementSequence insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
         public DefaultMultiRowInsertStatementProvider<T> build() {
             return new DefaultMultiRowInsertStatementProvider<>(this);
         }
@@ -15,7 +15,7 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,11 +26,13 @@ public class FieldAndValueAndParameters {
     private final String fieldName;
     private final String valuePhrase;
     private final Map<String, Object> parameters;
+    private final boolean isRowBinding;
 
     private FieldAndValueAndParameters(Builder builder) {
         fieldName = Objects.requireNonNull(builder.fieldName);
         valuePhrase = Objects.requireNonNull(builder.valuePhrase);
         parameters = builder.parameters;
+        isRowBinding = builder.isRowBinding;
     }
 
     public String fieldName() {
@@ -45,6 +47,17 @@ public class FieldAndValueAndParameters {
         return parameters;
     }
 
+    /**
+     * Returns true if the value phrase binds to the row being inserted. In multi-row inserts, the row index token in
+     * these value phrases is replaced with the index of each row. Other value phrases (constants, for example) are
+     * rendered as is.
+     *
+     * @return true if the value phrase binds to the row being inserted
+     */
+    public boolean isRowBinding() {
+        return isRowBinding;
+    }
+
     public static Builder withFieldName(String fieldName) {
         return new Builder().withFieldName(fieldName);
     }
@@ -52,7 +65,8 @@ public class FieldAndValueAndParameters {
     public static class Builder {
         private @Nullable String fieldName;
         private @Nullable String valuePhrase;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+        private boolean isRowBinding;
 
         public Builder withFieldName(String fieldName) {
             this.fieldName = fieldName;
@@ -72,6 +86,11 @@ public class FieldAndValueAndParameters {
             return this;
         }
 
+        public Builder withRowBinding(boolean isRowBinding) {
+            this.isRowBinding = isRowBinding;
+            return this;
+        }
+
         public FieldAndValueAndParameters build() {
             return new FieldAndValueAndParameters(this);
         }
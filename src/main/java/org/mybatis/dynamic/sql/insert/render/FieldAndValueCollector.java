@@ -16,12 +16,11 @@
 package org.mybatis.dynamic.sql.insert.render;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class FieldAndValueCollector {
     final List<FieldAndValueAndParameters> fieldsAndValues = new ArrayList<>();
@@ -56,22 +55,25 @@ public class FieldAndValueCollector {
     }
 
     public String multiRowInsertValuesPhrase(int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(this::toSingleRowOfValues)
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return multiRowInsertStatement("values ", rowCount).toString(); //$NON-NLS-1$
     }
 
-    private String toSingleRowOfValues(int row) {
-        return fieldsAndValues.stream()
-                .map(FieldAndValueAndParameters::valuePhrase)
-                .map(s -> String.format(s, row))
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    /**
+     * Create a lazily rendered multi-row insert statement. The row template is calculated once from the value
+     * phrases, then rows are rendered from the template as needed.
+     *
+     * @param statementStart the part of the statement before the first row of values
+     * @param rowCount the number of rows
+     * @return the statement
+     */
+    public MultiRowInsertStatementSequence multiRowInsertStatement(String statementStart, int rowCount) {
+        return new MultiRowInsertStatementSequence(statementStart, RowTemplate.of(fieldsAndValues), rowCount);
     }
 
     public Map<String, Object> parameters() {
         return fieldsAndValues.stream()
                 .map(FieldAndValueAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
+                .collect(LinkedHashMap::new, LinkedHashMap::putAll, LinkedHashMap::putAll);
     }
 
     public static Collector<FieldAndValueAndParameters, FieldAndValueCollector, FieldAndValueCollector> collect() {
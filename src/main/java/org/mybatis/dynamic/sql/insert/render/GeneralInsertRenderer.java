@@ -19,21 +19,31 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.common.ReturningRenderer;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class GeneralInsertRenderer {
 
     private final GeneralInsertModel model;
+    private final RenderingContext renderingContext;
     private final GeneralInsertValuePhraseVisitor visitor;
+    private final @Nullable RenderTracker renderTracker;
 
     private GeneralInsertRenderer(Builder builder) {
         model = Objects.requireNonNull(builder.model);
-        RenderingContext renderingContext = RenderingContext
+        renderTracker = RenderTracker.start(model.statementConfiguration(), RenderEvent.StatementType.GENERAL_INSERT,
+                () -> model.table().tableName());
+        renderingContext = RenderingContext
                 .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
                 .withStatementConfiguration(model.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
         visitor = new GeneralInsertValuePhraseVisitor(renderingContext);
     }
@@ -48,8 +58,28 @@ public class GeneralInsertRenderer {
 
         String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
 
-        return DefaultGeneralInsertStatementProvider.withInsertStatement(insertStatement)
-                .withParameters(collector.parameters())
+        GeneralInsertStatementProvider statementProvider = model.returningModel()
+                .map(m -> renderReturningStatement(m, insertStatement, collector))
+                .orElseGet(() -> DefaultGeneralInsertStatementProvider.withInsertStatement(insertStatement)
+                        .withParameters(collector.parameters())
+                        .build());
+
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getInsertStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
+    }
+
+    private GeneralInsertStatementProvider renderReturningStatement(ReturningModel returningModel,
+                                                                    String insertStatement,
+                                                                    FieldAndValueCollector collector) {
+        FragmentAndParameters statement = new ReturningRenderer(renderingContext).render(returningModel,
+                FragmentAndParameters.withFragment(insertStatement)
+                        .withParameters(collector.parameters())
+                        .build());
+
+        return DefaultGeneralInsertStatementProvider.withInsertStatement(statement.fragment())
+                .withParameters(statement.parameters())
                 .build();
     }
 
@@ -26,11 +26,13 @@ import org.mybatis.dynamic.sql.util.Validator;
 public class InsertRenderer<T> {
 
     private final InsertModel<T> model;
+    private final RenderingStrategy renderingStrategy;
     private final ValuePhraseVisitor visitor;
 
     private InsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
-        visitor = new ValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy));
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        visitor = new ValuePhraseVisitor(renderingStrategy);
     }
 
     public InsertStatementProvider<T> render() {
@@ -42,9 +44,12 @@ public class InsertRenderer<T> {
         Validator.assertFalse(collector.isEmpty(), "ERROR.10"); //$NON-NLS-1$
 
         String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
+        String statement = model.returningModel()
+                .map(m -> InsertRenderingUtilities.calculateReturningStatement(m, renderingStrategy, insertStatement))
+                .orElse(insertStatement);
 
         return DefaultInsertStatementProvider.withRow(model.row())
-                .withInsertStatement(insertStatement)
+                .withInsertStatement(statement)
                 .build();
     }
 
@@ -19,7 +19,12 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.common.ReturningRenderer;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
 import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.util.Messages;
 
 public class InsertRenderingUtilities {
@@ -37,6 +42,14 @@ public class InsertRenderingUtilities {
         return "insert into " + table.tableName(); //$NON-NLS-1$
     }
 
+    public static String calculateReturningStatement(ReturningModel returningModel,
+                                                     RenderingStrategy renderingStrategy, String insertStatement) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(new StatementConfiguration()) // nothing configurable in these statements
+                .build();
+        return new ReturningRenderer(renderingContext).render(returningModel, insertStatement);
+    }
+
     public static String getMappedPropertyName(SqlColumn<?> column) {
         return column.javaProperty().orElseThrow(() ->
                 new InvalidSqlException(Messages
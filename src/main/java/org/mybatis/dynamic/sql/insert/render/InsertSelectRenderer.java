@@ -24,6 +24,8 @@ import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.insert.InsertColumnListModel;
 import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.SubQueryRenderer;
@@ -33,11 +35,15 @@ public class InsertSelectRenderer {
 
     private final InsertSelectModel model;
     private final RenderingContext renderingContext;
+    private final @Nullable RenderTracker renderTracker;
 
     private InsertSelectRenderer(Builder builder) {
         model = Objects.requireNonNull(builder.model);
+        renderTracker = RenderTracker.start(model.statementConfiguration(), RenderEvent.StatementType.INSERT_SELECT,
+                () -> model.table().tableName());
         renderingContext = RenderingContext.withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
                 .withStatementConfiguration(model.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
     }
 
@@ -52,9 +58,15 @@ public class InsertSelectRenderer {
                 .build()
                 .render();
 
-        return DefaultGeneralInsertStatementProvider.withInsertStatement(fragmentAndParameters.fragment())
-                .withParameters(fragmentAndParameters.parameters())
-                .build();
+        InsertSelectStatementProvider statementProvider =
+                DefaultGeneralInsertStatementProvider.withInsertStatement(fragmentAndParameters.fragment())
+                        .withParameters(fragmentAndParameters.parameters())
+                        .build();
+
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getInsertStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
     }
 
     private String calculateColumnsPhrase() {
@@ -18,21 +18,27 @@ package org.mybatis.dynamic.sql.insert.render;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class MultiRowInsertRenderer<T> {
 
     private final MultiRowInsertModel<T> model;
+    private final RenderingStrategy renderingStrategy;
     private final MultiRowValuePhraseVisitor visitor;
+    private final boolean lazyRendering;
 
     private MultiRowInsertRenderer(Builder<T> builder) {
         model = Objects.requireNonNull(builder.model);
-        // the prefix is a generic format that will be resolved below with String.format(...)
-        visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
-                "records[%s]"); //$NON-NLS-1$
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        // the prefix is a template - the row index will be substituted for the token when each row is rendered
+        visitor = new MultiRowValuePhraseVisitor(renderingStrategy,
+                "records[" + RowTemplate.ROW_INDEX_TOKEN + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+        lazyRendering = builder.lazyRendering;
     }
 
     public MultiRowInsertStatementProvider<T> render() {
@@ -40,19 +46,31 @@ public class MultiRowInsertRenderer<T> {
                 .map(m -> m.accept(visitor))
                 .collect(FieldAndValueCollector.collect());
 
-        String insertStatement = calculateInsertStatement(collector);
+        MultiRowInsertStatementSequence insertStatement = calculateInsertStatement(collector);
 
-        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
-                .withInsertStatement(insertStatement)
-                .build();
+        DefaultMultiRowInsertStatementProvider.Builder<T> builder =
+                new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records());
+
+        Optional<ReturningModel> returningModel = model.returningModel();
+        if (returningModel.isPresent()) {
+            // a returning clause can enclose the statement, so the statement is always rendered eagerly
+            builder.withInsertStatement(InsertRenderingUtilities.calculateReturningStatement(returningModel.get(),
+                    renderingStrategy, insertStatement.toString()));
+        } else if (lazyRendering) {
+            builder.withInsertStatement(insertStatement);
+        } else {
+            builder.withInsertStatement(insertStatement.toString());
+        }
+
+        return builder.build();
     }
 
-    private String calculateInsertStatement(FieldAndValueCollector collector) {
-        String statementStart = InsertRenderingUtilities.calculateInsertStatementStart(model.table());
-        String columnsPhrase = collector.columnsPhrase();
-        String valuesPhrase = collector.multiRowInsertValuesPhrase(model.recordCount());
+    private MultiRowInsertStatementSequence calculateInsertStatement(FieldAndValueCollector collector) {
+        String statementStart = InsertRenderingUtilities.calculateInsertStatementStart(model.table())
+                + spaceBefore(collector.columnsPhrase())
+                + " values "; //$NON-NLS-1$
 
-        return statementStart + spaceBefore(columnsPhrase) + spaceBefore(valuesPhrase);
+        return collector.multiRowInsertStatement(statementStart, model.recordCount());
     }
 
     public static <T> Builder<T> withMultiRowInsertModel(MultiRowInsertModel<T> model) {
@@ -62,6 +80,7 @@ public class MultiRowInsertRenderer<T> {
     public static class Builder<T> {
         private @Nullable MultiRowInsertModel<T> model;
         private @Nullable RenderingStrategy renderingStrategy;
+        private boolean lazyRendering;
 
         public Builder<T> withMultiRowInsertModel(MultiRowInsertModel<T> model) {
             this.model = model;
@@ -73,6 +92,21 @@ public class MultiRowInsertRenderer<T> {
             return this;
         }
 
+        /**
+         * If true, the VALUES phrase of the statement will not be rendered until it is needed. The statement will be
+         * available from {@link MultiRowInsertStatementProvider#getInsertStatementSequence()} as a
+         * {@link MultiRowInsertStatementSequence}. This can reduce memory usage for very large inserts when the
+         * statement is written to a stream rather than used as a string.
+         *
+         * @param lazyRendering whether the VALUES phrase should be rendered lazily. Default is false
+         * @return this builder
+         * @since 2.1.0
+         */
+        public Builder<T> withLazyRendering(boolean lazyRendering) {
+            this.lazyRendering = lazyRendering;
+            return this;
+        }
+
         public MultiRowInsertRenderer<T> build() {
             return new MultiRowInsertRenderer<>(this);
         }
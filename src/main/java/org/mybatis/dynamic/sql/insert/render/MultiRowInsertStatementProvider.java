@@ -21,5 +21,16 @@ public interface MultiRowInsertStatementProvider<T> {
 
     String getInsertStatement();
 
+    /**
+     * Returns the insert statement as a character sequence. If the statement was rendered lazily, this will
+     * be a {@link MultiRowInsertStatementSequence} that has not been fully materialized.
+     *
+     * @return the insert statement
+     * @since 2.1.0
+     */
+    default CharSequence getInsertStatementSequence() {
+        return getInsertStatement();
+    }
+
     List<T> getRecords();
 }
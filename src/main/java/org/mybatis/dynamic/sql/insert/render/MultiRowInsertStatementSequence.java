@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A multi-row insert statement that is rendered on demand.
+ *
+ * <p>The rows of the VALUES phrase are not rendered until they are needed. The full statement can be written to
+ * an {@link Appendable} one row at a time with {@link #appendTo(Appendable)}, so very large statements do not need
+ * to be materialized as a single string. If a string is needed, {@link #toString()} renders the statement once into a
+ * buffer of the exact size and then caches the result.
+ *
+ * <p>Random access through {@link #charAt(int)} is supported, but is intended for occasional use - each call
+ * may render a single row.
+ */
+public class MultiRowInsertStatementSequence implements CharSequence {
+    private static final String ROW_SEPARATOR = ", "; //$NON-NLS-1$
+
+    private final String statementStart;
+    private final RowTemplate rowTemplate;
+    private final int rowCount;
+    private final int length;
+    private @Nullable String renderedStatement;
+    private final StringBuilder renderedRow = new StringBuilder();
+    private int renderedRowIndex = -1;
+
+    MultiRowInsertStatementSequence(String statementStart, RowTemplate rowTemplate, int rowCount) {
+        this.statementStart = Objects.requireNonNull(statementStart);
+        this.rowTemplate = Objects.requireNonNull(rowTemplate);
+        this.rowCount = rowCount;
+        length = Math.toIntExact(statementStart.length() + rowOffset(rowCount)
+                - (rowCount > 0 ? ROW_SEPARATOR.length() : 0));
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        if (renderedStatement != null) {
+            return renderedStatement.charAt(index);
+        }
+
+        if (index < statementStart.length()) {
+            return statementStart.charAt(index);
+        }
+
+        long offset = index - statementStart.length();
+        int row = findRow(offset);
+        int positionInRow = (int) (offset - rowOffset(row));
+        int rowLength = rowTemplate.length(row);
+        if (positionInRow >= rowLength) {
+            return ROW_SEPARATOR.charAt(positionInRow - rowLength);
+        }
+
+        if (row != renderedRowIndex) {
+            renderedRow.setLength(0);
+            rowTemplate.appendTo(renderedRow, row);
+            renderedRowIndex = row;
+        }
+        return renderedRow.charAt(positionInRow);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return toString().substring(start, end);
+    }
+
+    /**
+     * Write the statement to an appendable, one row at a time.
+     *
+     * @param appendable the target
+     * @param <A> the type of the appendable
+     * @return the appendable
+     * @throws IOException if thrown by the appendable
+     */
+    public <A extends Appendable> A appendTo(A appendable) throws IOException {
+        if (renderedStatement != null) {
+            appendable.append(renderedStatement);
+            return appendable;
+        }
+
+        appendable.append(statementStart);
+        StringBuilder row = new StringBuilder(rowTemplate.length(rowCount - 1) + ROW_SEPARATOR.length());
+        for (int i = 0; i < rowCount; i++) {
+            row.setLength(0);
+            if (i > 0) {
+                row.append(ROW_SEPARATOR);
+            }
+            rowTemplate.appendTo(row, i);
+            appendable.append(row);
+        }
+        return appendable;
+    }
+
+    @Override
+    public String toString() {
+        if (renderedStatement == null) {
+            StringBuilder sb = new StringBuilder(length);
+            sb.append(statementStart);
+            for (int i = 0; i < rowCount; i++) {
+                if (i > 0) {
+                    sb.append(ROW_SEPARATOR);
+                }
+                rowTemplate.appendTo(sb, i);
+            }
+            renderedStatement = sb.toString();
+        }
+        return renderedStatement;
+    }
+
+    /**
+     * Calculate the offset of a row from the end of the statement start. The offset includes the separators of all
+     * prior rows.
+     */
+    private long rowOffset(int row) {
+        return rowTemplate.totalLength(row) + (long) row * ROW_SEPARATOR.length();
+    }
+
+    private int findRow(long offset) {
+        int low = 0;
+        int high = rowCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (rowOffset(mid) <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -30,7 +30,7 @@ public class MultiRowValuePhraseVisitor extends MultiRowInsertMappingVisitor<Fie
     protected final RenderingStrategy renderingStrategy;
     protected final String prefix;
 
-    protected MultiRowValuePhraseVisitor(RenderingStrategy renderingStrategy, String prefix) {
+    public MultiRowValuePhraseVisitor(RenderingStrategy renderingStrategy, String prefix) {
         this.renderingStrategy = renderingStrategy;
         this.prefix = prefix;
     }
@@ -60,6 +60,7 @@ public class MultiRowValuePhraseVisitor extends MultiRowInsertMappingVisitor<Fie
     public FieldAndValueAndParameters visit(PropertyMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
                 .withValuePhrase(calculateJdbcPlaceholder(mapping.column(), mapping.property()))
+                .withRowBinding(true)
                 .build();
     }
 
@@ -67,6 +68,7 @@ public class MultiRowValuePhraseVisitor extends MultiRowInsertMappingVisitor<Fie
     public FieldAndValueAndParameters visit(RowMapping mapping) {
         return FieldAndValueAndParameters.withFieldName(mapping.columnName())
                 .withValuePhrase(calculateJdbcPlaceholder(mapping.column()))
+                .withRowBinding(true)
                 .build();
     }
 
@@ -77,6 +79,7 @@ public class MultiRowValuePhraseVisitor extends MultiRowInsertMappingVisitor<Fie
                         mapping.column(),
                         InsertRenderingUtilities.getMappedPropertyName(mapping.column()))
                 )
+                .withRowBinding(true)
                 .build();
     }
 
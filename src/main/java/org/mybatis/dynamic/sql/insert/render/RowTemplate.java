@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template for a single row of values in a multi-row insert statement. The template is split once into literal
+ * segments and row index positions, so that rows can be rendered without parsing the template again.
+ *
+ * <p>Value phrases that bind to the row being inserted contain the token "%s" in place of the row index - for example,
+ * "#{records[%s].id,jdbcType=INTEGER}". The token is only replaced in those value phrases (see
+ * {@link FieldAndValueAndParameters#isRowBinding()}), so constants that contain "%s" are rendered as is.
+ */
+final class RowTemplate {
+    static final String ROW_INDEX_TOKEN = "%s"; //$NON-NLS-1$
+
+    private final String[] literals;
+    private final int literalLength;
+
+    private RowTemplate(String[] literals) {
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        literalLength = length;
+    }
+
+    int rowIndexCount() {
+        return literals.length - 1;
+    }
+
+    int length(int row) {
+        return literalLength + rowIndexCount() * digits(row);
+    }
+
+    /**
+     * Calculate the total length of the first rowCount rows, not including any separators.
+     *
+     * @param rowCount the number of rows
+     * @return the length of the rows
+     */
+    long totalLength(long rowCount) {
+        return rowCount * literalLength + rowIndexCount() * digitCount(rowCount);
+    }
+
+    void appendTo(StringBuilder sb, int row) {
+        sb.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            sb.append(row).append(literals[i]);
+        }
+    }
+
+    static int digits(int row) {
+        int digits = 1;
+        for (long limit = 10; row >= limit; limit *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Calculate the total number of digits in the row indexes 0 through rowCount - 1.
+     *
+     * @param rowCount the number of rows
+     * @return the number of digits
+     */
+    static long digitCount(long rowCount) {
+        long count = 0;
+        long low = 0;
+        long high = 10;
+        for (int digits = 1; low < rowCount; digits++) {
+            count += (Math.min(rowCount, high) - low) * digits;
+            low = high;
+            high *= 10;
+        }
+        return count;
+    }
+
+    static RowTemplate of(List<FieldAndValueAndParameters> fieldsAndValues) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder("("); //$NON-NLS-1$
+        for (int i = 0; i < fieldsAndValues.size(); i++) {
+            if (i > 0) {
+                literal.append(", "); //$NON-NLS-1$
+            }
+
+            FieldAndValueAndParameters fieldAndValue = fieldsAndValues.get(i);
+            String valuePhrase = fieldAndValue.valuePhrase();
+            int start = 0;
+            if (fieldAndValue.isRowBinding()) {
+                int index = valuePhrase.indexOf(ROW_INDEX_TOKEN);
+                while (index >= 0) {
+                    literals.add(literal.append(valuePhrase, start, index).toString());
+                    literal.setLength(0);
+                    start = index + ROW_INDEX_TOKEN.length();
+                    index = valuePhrase.indexOf(ROW_INDEX_TOKEN, start);
+                }
+            }
+            literal.append(valuePhrase, start, valuePhrase.length());
+        }
+        literals.add(literal.append(')').toString());
+        return new RowTemplate(literals.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A rendered batch insert whose records are supplied by a stream. The SQL is rendered once, and records are
+ * handed out lazily as the stream is consumed - no list of records or insert statement providers is ever created.
+ *
+ * <p>The records can only be consumed once. Either {@link #getRecords()} or {@link #insertStatements()} may be
+ * called, but not both.
+ *
+ * @param <T> the type of record
+ */
+public class StreamingBatchInsert<T> {
+    private final String insertStatement;
+    private final Stream<T> records;
+
+    StreamingBatchInsert(String insertStatement, Stream<T> records) {
+        this.insertStatement = Objects.requireNonNull(insertStatement);
+        this.records = Objects.requireNonNull(records);
+    }
+
+    /**
+     * Returns a stream of InsertStatement objects, one for each record. This is useful for MyBatis batch support.
+     *
+     * @return a stream of InsertStatements
+     */
+    public Stream<InsertStatementProvider<T>> insertStatements() {
+        return records.map(this::toInsertStatement);
+    }
+
+    private InsertStatementProvider<T> toInsertStatement(T row) {
+        return DefaultInsertStatementProvider.withRow(row)
+                .withInsertStatement(insertStatement)
+                .build();
+    }
+
+    /**
+     * Returns the generated SQL for this batch. This is useful for Spring JDBC batch support.
+     *
+     * @return the generated INSERT statement
+     */
+    public String getInsertStatementSQL() {
+        return insertStatement;
+    }
+
+    public Stream<T> getRecords() {
+        return records;
+    }
+}
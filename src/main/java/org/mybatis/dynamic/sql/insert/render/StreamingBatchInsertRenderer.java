@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+public class StreamingBatchInsertRenderer<T> {
+
+    private final StreamingBatchInsertModel<T> model;
+    private final MultiRowValuePhraseVisitor visitor;
+
+    private StreamingBatchInsertRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        visitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(builder.renderingStrategy),
+                "row"); //$NON-NLS-1$
+    }
+
+    public StreamingBatchInsert<T> render() {
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .collect(FieldAndValueCollector.collect());
+
+        String insertStatement = InsertRenderingUtilities.calculateInsertStatement(model.table(), collector);
+
+        return new StreamingBatchInsert<>(insertStatement, model.records());
+    }
+
+    public static <T> Builder<T> withStreamingBatchInsertModel(StreamingBatchInsertModel<T> model) {
+        return new Builder<T>().withStreamingBatchInsertModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable StreamingBatchInsertModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withStreamingBatchInsertModel(StreamingBatchInsertModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public StreamingBatchInsertRenderer<T> build() {
+            return new StreamingBatchInsertRenderer<>(this);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Renders an upsert statement for a database. Implementations receive the rendered parts of the statement - table
+ * name, column names, the values phrase with placeholders, conflict columns, and update columns - and combine them
+ * into a complete statement.
+ *
+ * <p>The values phrase contains every placeholder in the statement, and should be rendered exactly once so that
+ * parameters are bound in the same way as an insert statement.
+ *
+ * @see UpsertDialects
+ */
+@FunctionalInterface
+public interface UpsertDialect {
+    String render(UpsertStatementParts parts);
+
+    /**
+     * Render a value of an inserted row. The default implementation returns the value unchanged. Dialects that place
+     * the values in a table constructor can override this method to cast the values, because some databases cannot
+     * infer the type of a parameter marker in a table constructor.
+     *
+     * @param column the column the value is inserted into
+     * @param valuePhrase the rendered value - usually a placeholder
+     * @return the value to render in the values phrase
+     */
+    default String renderValue(SqlColumn<?> column, String valuePhrase) {
+        return valuePhrase;
+    }
+}
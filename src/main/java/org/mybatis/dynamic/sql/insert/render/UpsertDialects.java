@@ -0,0 +1,175 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Built-in upsert dialects.
+ *
+ * <p>For example, with a table "foo", columns "id" and "description", and a conflict column "id", the dialects render
+ * statements like these:
+ *
+ * <ul>
+ *     <li>{@link #postgresql()}: <code>insert into foo (id, description) values (?, ?) on conflict (id) do update
+ *         set description = excluded.description</code></li>
+ *     <li>{@link #mysql()}: <code>insert into foo (id, description) values (?, ?) on duplicate key update
+ *         description = values(description)</code></li>
+ *     <li>{@link #merge()}: <code>merge into foo using (values (?, ?)) as s (id, description) on foo.id = s.id
+ *         when matched then update set description = s.description when not matched then insert (id, description)
+ *         values (s.id, s.description)</code></li>
+ * </ul>
+ */
+public class UpsertDialects {
+    private static final UpsertDialect POSTGRESQL = new PostgreSqlDialect();
+    private static final UpsertDialect MYSQL = new MySqlDialect();
+    private static final UpsertDialect MERGE = new MergeDialect(c -> null);
+
+    private UpsertDialects() {}
+
+    /**
+     * An "insert ... on conflict" statement. This dialect works with PostgreSQL and SQLite.
+     *
+     * @return the dialect
+     */
+    public static UpsertDialect postgresql() {
+        return POSTGRESQL;
+    }
+
+    /**
+     * An "insert ... on duplicate key update" statement. This dialect works with MySQL and MariaDB. These databases
+     * detect conflicts with any unique index, so the conflict columns are not rendered. When there are no update
+     * columns, the first conflict column is set to itself so that existing rows are left unchanged.
+     *
+     * @return the dialect
+     */
+    public static UpsertDialect mysql() {
+        return MYSQL;
+    }
+
+    /**
+     * A standard SQL "merge" statement with the inserted values in a "values" table constructor. The values are not
+     * cast, so this dialect only works with databases that can infer the type of a parameter marker in a table
+     * constructor, such as H2. Use {@link #merge(Function)} with HSQLDB and DB2.
+     *
+     * @return the dialect
+     */
+    public static UpsertDialect merge() {
+        return MERGE;
+    }
+
+    /**
+     * A standard SQL "merge" statement that casts the inserted values in the "values" table constructor. HSQLDB and DB2
+     * cannot infer the type of a parameter marker in a table constructor, so the values must be cast. For example,
+     * <code>values (cast(? as integer), cast(? as varchar(30)))</code>.
+     *
+     * @param sqlTypes a function that returns the SQL type of a column, for example "varchar(30)". Values are not cast
+     *     if the function returns null
+     * @return the dialect
+     */
+    public static UpsertDialect merge(Function<SqlColumn<?>, @Nullable String> sqlTypes) {
+        return new MergeDialect(sqlTypes);
+    }
+
+    private static String insertStatement(UpsertStatementParts parts) {
+        return "insert into " + parts.tableName() //$NON-NLS-1$
+                + " " + parts.columnsPhrase() //$NON-NLS-1$
+                + " " + parts.valuesPhrase(); //$NON-NLS-1$
+    }
+
+    private static class PostgreSqlDialect implements UpsertDialect {
+        @Override
+        public String render(UpsertStatementParts parts) {
+            String conflictTarget = String.join(", ", parts.conflictColumns()); //$NON-NLS-1$
+            String statement = insertStatement(parts)
+                    + " on conflict (" + conflictTarget + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+
+            if (parts.updateColumns().isEmpty()) {
+                return statement + " do nothing"; //$NON-NLS-1$
+            }
+
+            return statement + " do update set " //$NON-NLS-1$
+                    + parts.updateColumns().stream()
+                            .map(c -> c + " = excluded." + c) //$NON-NLS-1$
+                            .collect(Collectors.joining(", ")); //$NON-NLS-1$
+        }
+    }
+
+    private static class MySqlDialect implements UpsertDialect {
+        @Override
+        public String render(UpsertStatementParts parts) {
+            String statement = insertStatement(parts) + " on duplicate key update "; //$NON-NLS-1$
+
+            if (parts.updateColumns().isEmpty()) {
+                String column = parts.conflictColumns().get(0);
+                return statement + column + " = " + column; //$NON-NLS-1$
+            }
+
+            return statement + parts.updateColumns().stream()
+                    .map(c -> c + " = values(" + c + ")") //$NON-NLS-1$ //$NON-NLS-2$
+                    .collect(Collectors.joining(", ")); //$NON-NLS-1$
+        }
+    }
+
+    private static class MergeDialect implements UpsertDialect {
+        private static final String SOURCE_ALIAS = "s."; //$NON-NLS-1$
+        private final Function<SqlColumn<?>, @Nullable String> sqlTypes;
+
+        private MergeDialect(Function<SqlColumn<?>, @Nullable String> sqlTypes) {
+            this.sqlTypes = Objects.requireNonNull(sqlTypes);
+        }
+
+        @Override
+        public String renderValue(SqlColumn<?> column, String valuePhrase) {
+            String sqlType = sqlTypes.apply(column);
+            return sqlType == null ? valuePhrase
+                    : "cast(" + valuePhrase + " as " + sqlType + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+
+        @Override
+        public String render(UpsertStatementParts parts) {
+            String target = parts.tableName() + "."; //$NON-NLS-1$
+            String joinCondition = parts.conflictColumns().stream()
+                    .map(c -> target + c + " = " + SOURCE_ALIAS + c) //$NON-NLS-1$
+                    .collect(Collectors.joining(" and ")); //$NON-NLS-1$
+            String sourceValues = parts.columns().stream()
+                    .map(c -> SOURCE_ALIAS + c)
+                    .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+            StringBuilder sb = new StringBuilder("merge into ") //$NON-NLS-1$
+                    .append(parts.tableName())
+                    .append(" using (").append(parts.valuesPhrase()).append(")") //$NON-NLS-1$ //$NON-NLS-2$
+                    .append(" as s ").append(parts.columnsPhrase()) //$NON-NLS-1$
+                    .append(" on ").append(joinCondition); //$NON-NLS-1$
+
+            if (!parts.updateColumns().isEmpty()) {
+                sb.append(" when matched then update set ") //$NON-NLS-1$
+                        .append(parts.updateColumns().stream()
+                                .map(c -> c + " = " + SOURCE_ALIAS + c) //$NON-NLS-1$
+                                .collect(Collectors.joining(", "))); //$NON-NLS-1$
+            }
+
+            return sb.append(" when not matched then insert ").append(parts.columnsPhrase()) //$NON-NLS-1$
+                    .append(" values ").append(sourceValues) //$NON-NLS-1$
+                    .toString();
+        }
+    }
+}
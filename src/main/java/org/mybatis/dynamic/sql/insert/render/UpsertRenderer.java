@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ConflictModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Renders upsert statements. The values of an upsert are rendered in the same way as the insert statement the upsert
+ * is built from, so the rendered statement providers are the same types with the same parameter bindings.
+ */
+public class UpsertRenderer {
+    private final ConflictModel conflictModel;
+    private final UpsertDialect dialect;
+    private final RenderingStrategy renderingStrategy;
+
+    private UpsertRenderer(Builder builder) {
+        conflictModel = Objects.requireNonNull(builder.conflictModel);
+        dialect = Objects.requireNonNull(builder.dialect);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public <T> InsertStatementProvider<T> render(InsertModel<T> model) {
+        ValuePhraseVisitor visitor = new ValuePhraseVisitor(renderingStrategy);
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> m.accept(visitor).map(fv -> renderValue(m, fv)))
+                .flatMap(Optional::stream)
+                .collect(FieldAndValueCollector.collect());
+
+        Validator.assertFalse(collector.isEmpty(), "ERROR.10"); //$NON-NLS-1$
+
+        return DefaultInsertStatementProvider.withRow(model.row())
+                .withInsertStatement(calculateReturningStatement(model.returningModel(),
+                        calculateUpsertStatement(model.table(), collector, collector.valuesPhrase())))
+                .build();
+    }
+
+    public <T> MultiRowInsertStatementProvider<T> render(MultiRowInsertModel<T> model) {
+        // the prefix is a template - the row index will be substituted for the token when each row is rendered
+        MultiRowValuePhraseVisitor visitor = new MultiRowValuePhraseVisitor(renderingStrategy,
+                "records[" + RowTemplate.ROW_INDEX_TOKEN + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> renderValue(m, m.accept(visitor)))
+                .collect(FieldAndValueCollector.collect());
+
+        String valuesPhrase = collector.multiRowInsertValuesPhrase(model.recordCount());
+
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                .withRecords(model.records())
+                .withInsertStatement(calculateReturningStatement(model.returningModel(),
+                        calculateUpsertStatement(model.table(), collector, valuesPhrase)))
+                .build();
+    }
+
+    public <T> BatchInsert<T> render(BatchInsertModel<T> model) {
+        MultiRowValuePhraseVisitor visitor = new MultiRowValuePhraseVisitor(renderingStrategy,
+                "row"); //$NON-NLS-1$
+        FieldAndValueCollector collector = model.columnMappings()
+                .map(m -> renderValue(m, m.accept(visitor)))
+                .collect(FieldAndValueCollector.collect());
+
+        return BatchInsert.withRecords(model.records())
+                .withInsertStatement(calculateUpsertStatement(model.table(), collector, collector.valuesPhrase()))
+                .build();
+    }
+
+    private String calculateUpsertStatement(SqlTable table, FieldAndValueCollector collector, String valuesPhrase) {
+        List<String> columns = collector.fieldsAndValues.stream()
+                .map(FieldAndValueAndParameters::fieldName)
+                .toList();
+
+        List<String> conflictColumns = conflictModel.conflictColumns()
+                .map(c -> insertedColumnName(c, columns))
+                .toList();
+
+        List<String> updateColumns;
+        if (conflictModel.isUpdateAll()) {
+            updateColumns = columns.stream()
+                    .filter(c -> !conflictColumns.contains(c))
+                    .toList();
+        } else {
+            updateColumns = conflictModel.updateColumns()
+                    .map(c -> insertedColumnName(c, columns))
+                    .toList();
+        }
+
+        return dialect.render(new UpsertStatementParts(table.tableName(), columns, valuesPhrase, conflictColumns,
+                updateColumns));
+    }
+
+    private FieldAndValueAndParameters renderValue(AbstractColumnMapping mapping,
+                                                   FieldAndValueAndParameters fieldAndValue) {
+        FieldAndValueAndParameters.Builder builder = FieldAndValueAndParameters.withFieldName(fieldAndValue.fieldName())
+                .withValuePhrase(dialect.renderValue(mapping.column(), fieldAndValue.valuePhrase()))
+                .withRowBinding(fieldAndValue.isRowBinding());
+        fieldAndValue.parameters().forEach(builder::withParameter);
+        return builder.build();
+    }
+
+    private String calculateReturningStatement(Optional<ReturningModel> returningModel, String upsertStatement) {
+        return returningModel
+                .map(m -> InsertRenderingUtilities.calculateReturningStatement(m, renderingStrategy, upsertStatement))
+                .orElse(upsertStatement);
+    }
+
+    private static String insertedColumnName(SqlColumn<?> column, List<String> columns) {
+        String columnName = column.name();
+        Validator.assertTrue(columns.contains(columnName), "ERROR.80", columnName); //$NON-NLS-1$
+        return columnName;
+    }
+
+    public static Builder withConflictModel(ConflictModel conflictModel) {
+        return new Builder().withConflictModel(conflictModel);
+    }
+
+    public static class Builder {
+        private @Nullable ConflictModel conflictModel;
+        private @Nullable UpsertDialect dialect;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder withConflictModel(ConflictModel conflictModel) {
+            this.conflictModel = conflictModel;
+            return this;
+        }
+
+        public Builder withDialect(UpsertDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public UpsertRenderer build() {
+            return new UpsertRenderer(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The rendered parts of an upsert statement.
+ *
+ * @param tableName the name of the table
+ * @param columns the names of the inserted columns
+ * @param valuesPhrase the values phrase of the insert statement, for example
+ *     <code>values (#{row.id}, #{row.description})</code>. A multi-row upsert has a row for each record
+ * @param conflictColumns the names of the columns that identify an existing row
+ * @param updateColumns the names of the columns to update when a row exists. If empty, existing rows are
+ *     left unchanged
+ */
+public record UpsertStatementParts(String tableName, List<String> columns, String valuesPhrase,
+                                   List<String> conflictColumns, List<String> updateColumns) {
+
+    public UpsertStatementParts {
+        columns = List.copyOf(columns);
+        conflictColumns = List.copyOf(conflictColumns);
+        updateColumns = List.copyOf(updateColumns);
+    }
+
+    /**
+     * Returns the inserted column names in parentheses, for example <code>(id, description)</code>.
+     *
+     * @return the columns phrase
+     */
+    public String columnsPhrase() {
+        return columns.stream().collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
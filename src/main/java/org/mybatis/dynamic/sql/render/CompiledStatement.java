@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A statement that has been rendered once and can be bound to new parameter values many times without
+ * re-rendering.
+ *
+ * <p>The SQL text is fixed when the statement is compiled. This means that the shape of the statement is fixed as
+ * well - conditions that were dropped during rendering (for example, "when present" conditions with null values)
+ * stay dropped, and list conditions keep the number of placeholders they had when the statement was compiled.
+ *
+ * <p>Parameter values are bound positionally, in the order the placeholders were generated while rendering. That
+ * order is exposed by {@link #parameterKeys()}. Values are placed in the parameter map exactly as supplied - no
+ * parameter type conversion or value mapping is applied.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ *
+ * @param <T> the type of statement provider produced by this compiled statement
+ */
+public class CompiledStatement<T> {
+    private final String statement;
+    private final List<String> parameterKeys;
+    // the parameter keys with null values - the key index is shared with every bound parameter map
+    private final OrderedParameterMap parameterTemplate;
+    private final BiFunction<String, Map<String, Object>, T> statementProviderFactory;
+
+    private CompiledStatement(Builder<T> builder) {
+        statement = Objects.requireNonNull(builder.statement);
+        parameterKeys = Collections.unmodifiableList(builder.parameterKeys);
+        OrderedParameterMap.Builder templateBuilder = new OrderedParameterMap.Builder();
+        parameterKeys.forEach(k -> templateBuilder.put(k, null));
+        parameterTemplate = templateBuilder.build();
+        statementProviderFactory = Objects.requireNonNull(builder.statementProviderFactory);
+    }
+
+    public String statement() {
+        return statement;
+    }
+
+    public List<String> parameterKeys() {
+        return parameterKeys;
+    }
+
+    public int parameterCount() {
+        return parameterKeys.size();
+    }
+
+    /**
+     * Bind new parameter values to this statement.
+     *
+     * @param values the parameter values in the same order as {@link #parameterKeys()}
+     * @return a statement provider with the rendered SQL and the new parameter values
+     */
+    public T bind(@Nullable Object... values) {
+        Validator.assertTrue(values.length == parameterKeys.size(), "ERROR.51", //$NON-NLS-1$
+                String.valueOf(parameterKeys.size()));
+
+        return statementProviderFactory.apply(statement, parameterTemplate.withValues(values));
+    }
+
+    public static <T> Builder<T> withStatement(String statement) {
+        return new Builder<T>().withStatement(statement);
+    }
+
+    public static class Builder<T> {
+        private @Nullable String statement;
+        private final List<String> parameterKeys = new ArrayList<>();
+        private @Nullable BiFunction<String, Map<String, Object>, T> statementProviderFactory;
+
+        public Builder<T> withStatement(String statement) {
+            this.statement = statement;
+            return this;
+        }
+
+        public Builder<T> withParameterKeys(Iterable<String> parameterKeys) {
+            parameterKeys.forEach(this.parameterKeys::add);
+            return this;
+        }
+
+        public Builder<T> withStatementProviderFactory(
+                BiFunction<String, Map<String, Object>, T> statementProviderFactory) {
+            this.statementProviderFactory = statementProviderFactory;
+            return this;
+        }
+
+        public CompiledStatement<T> build() {
+            return new CompiledStatement<>(this);
+        }
+    }
+}
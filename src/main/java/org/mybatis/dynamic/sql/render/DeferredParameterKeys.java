@@ -0,0 +1,160 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+/**
+ * Parameter map keys for a part of a statement that is rendered separately from the rest of the statement - for
+ * example, a branch of a union rendered on another thread.
+ *
+ * <p>While the part is rendered, every parameter map key that would use a number from the sequence is replaced with
+ * a temporary key that records the branch local number. When all parts have been rendered, the parts are merged in
+ * statement order with {@link #renumber(FragmentAndParameters, AtomicInteger)}. The temporary keys are replaced with
+ * the keys the rendering strategy would have calculated if the whole statement had been rendered with one sequence,
+ * so the SQL and the parameter map are identical to a serial render.
+ *
+ * <p>Temporary keys are delimited with characters from the Unicode private use area. Statements that contain those
+ * characters in literal text should not be rendered in parts.
+ *
+ * <p>An instance should be used to render a single part on a single thread.
+ */
+public class DeferredParameterKeys {
+    private static final char KEY_START = '\uE000';
+    private static final char KEY_END = '\uE001';
+
+    private final RenderingStrategy renderingStrategy;
+    private final List<@Nullable KeyCalculator> keyCalculators = new ArrayList<>();
+    private final AtomicInteger sequence = new AtomicInteger(1);
+
+    public DeferredParameterKeys(RenderingStrategy renderingStrategy) {
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+    }
+
+    AtomicInteger sequence() {
+        return sequence;
+    }
+
+    String parameterMapKey() {
+        return deferredKey(RenderingStrategy::formatParameterMapKey);
+    }
+
+    String fetchFirstRowsParameterMapKey() {
+        return deferredKey(RenderingStrategy::formatParameterMapKeyForFetchFirstRows);
+    }
+
+    String limitParameterMapKey() {
+        return deferredKey(RenderingStrategy::formatParameterMapKeyForLimit);
+    }
+
+    String offsetParameterMapKey() {
+        return deferredKey(RenderingStrategy::formatParameterMapKeyForOffset);
+    }
+
+    /**
+     * Calculate a key with the local sequence. If the strategy used a number from the sequence (the usual case), a
+     * temporary key is returned. If not (for example, the constant paging keys used with Spring Batch), the key does
+     * not depend on the position of the part in the statement and is returned unchanged.
+     */
+    private String deferredKey(KeyCalculator keyCalculator) {
+        int localNumber = sequence.get();
+        String key = keyCalculator.calculate(renderingStrategy, sequence);
+        if (sequence.get() == localNumber) {
+            return key;
+        }
+
+        while (keyCalculators.size() < localNumber) {
+            keyCalculators.add(null);
+        }
+        keyCalculators.set(localNumber - 1, keyCalculator);
+        return KEY_START + Integer.toString(localNumber) + KEY_END;
+    }
+
+    /**
+     * Replace the temporary keys in a rendered part with final keys. The final keys are numbered from the current
+     * value of the statement sequence, and the statement sequence is advanced past every number used by the part.
+     *
+     * @param fragmentAndParameters the rendered part
+     * @param statementSequence the sequence for the whole statement
+     * @return the rendered part with final keys
+     */
+    public FragmentAndParameters renumber(FragmentAndParameters fragmentAndParameters,
+                                          AtomicInteger statementSequence) {
+        int firstNumber = statementSequence.getAndAdd(sequence.get() - 1);
+
+        FragmentAndParameters.Builder builder = FragmentAndParameters
+                .withFragment(replaceKeys(fragmentAndParameters.fragment(), firstNumber));
+        for (Map.Entry<String, Object> entry : fragmentAndParameters.parameters().entrySet()) {
+            builder.withParameter(replaceKeys(entry.getKey(), firstNumber), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    private String replaceKeys(String text, int firstNumber) {
+        int start = text.indexOf(KEY_START);
+        if (start == -1) {
+            return text;
+        }
+
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        int copied = 0;
+        while (start != -1) {
+            int end = text.indexOf(KEY_END, start);
+            if (end == -1) {
+                break;
+            }
+
+            int localNumber = localNumber(text, start + 1, end);
+            if (localNumber > 0) {
+                sb.append(text, copied, start).append(finalKey(localNumber, firstNumber));
+                copied = end + 1;
+            }
+            start = text.indexOf(KEY_START, end + 1);
+        }
+        return sb.append(text, copied, text.length()).toString();
+    }
+
+    private int localNumber(String text, int start, int end) {
+        if (start == end || end - start > 9) {
+            return 0;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+        }
+        int localNumber = Integer.parseInt(text, start, end, 10);
+        return localNumber <= keyCalculators.size() && keyCalculators.get(localNumber - 1) != null ? localNumber : 0;
+    }
+
+    private String finalKey(int localNumber, int firstNumber) {
+        return Objects.requireNonNull(keyCalculators.get(localNumber - 1))
+                .calculate(renderingStrategy, new AtomicInteger(firstNumber + localNumber - 1));
+    }
+
+    @FunctionalInterface
+    private interface KeyCalculator {
+        String calculate(RenderingStrategy renderingStrategy, AtomicInteger sequence);
+    }
+}
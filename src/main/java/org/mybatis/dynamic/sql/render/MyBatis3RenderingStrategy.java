@@ -15,9 +15,29 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.BindableColumn;
 
 public class MyBatis3RenderingStrategy extends RenderingStrategy {
+    // Type attributes are calculated once for each combination of JDBC type, Java type, and type handler. Most columns
+    // only specify a JDBC type, so those attributes are calculated in advance.
+    private static final Map<JDBCType, String> JDBC_TYPE_ATTRIBUTES = new EnumMap<>(JDBCType.class);
+    private static final int MAX_CACHED_TYPE_ATTRIBUTES = 256;
+
+    static {
+        Arrays.stream(JDBCType.values())
+                .forEach(jt -> JDBC_TYPE_ATTRIBUTES.put(jt, ",jdbcType=" + jt.getName())); //$NON-NLS-1$
+    }
+
+    private final Map<TypeAttributesKey, String> typeAttributes = new ConcurrentHashMap<>();
+
     @Override
     public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
         return "#{" //$NON-NLS-1$
@@ -33,9 +53,7 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 + prefix
                 + "." //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
-                + renderJavaType(column)
-                + renderTypeHandler(column)
+                + renderTypeAttributes(column)
                 + "}"; //$NON-NLS-1$
     }
 
@@ -43,12 +61,31 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
     public String getRecordBasedInsertBinding(BindableColumn<?> column, String parameterName) {
         return "#{" //$NON-NLS-1$
                 + parameterName
-                + renderJdbcType(column)
-                + renderJavaType(column)
-                + renderTypeHandler(column)
+                + renderTypeAttributes(column)
                 + "}"; //$NON-NLS-1$
     }
 
+    private String renderTypeAttributes(BindableColumn<?> column) {
+        Optional<JDBCType> jdbcType = column.jdbcType();
+        Optional<? extends Class<?>> javaType = column.javaType();
+        Optional<String> typeHandler = column.typeHandler();
+
+        if (javaType.isEmpty() && typeHandler.isEmpty()) {
+            return jdbcType.map(JDBC_TYPE_ATTRIBUTES::get).orElse(""); //$NON-NLS-1$
+        }
+
+        TypeAttributesKey key = new TypeAttributesKey(jdbcType.orElse(null), javaType.orElse(null),
+                typeHandler.orElse(null));
+        String attributes = typeAttributes.get(key);
+        if (attributes == null) {
+            attributes = renderJdbcType(column) + renderJavaType(column) + renderTypeHandler(column);
+            if (typeAttributes.size() < MAX_CACHED_TYPE_ATTRIBUTES) {
+                typeAttributes.put(key, attributes);
+            }
+        }
+        return attributes;
+    }
+
     private String renderTypeHandler(BindableColumn<?> column) {
         return column.typeHandler()
                 .map(th -> ",typeHandler=" + th) //$NON-NLS-1$
@@ -66,4 +103,7 @@ public class MyBatis3RenderingStrategy extends RenderingStrategy {
                 .map(jt -> ",javaType=" + jt.getName()) //$NON-NLS-1$
                 .orElse(""); //$NON-NLS-1$
     }
+
+    private record TypeAttributesKey(@Nullable JDBCType jdbcType, @Nullable Class<?> javaType,
+                                     @Nullable String typeHandler) { }
 }
@@ -0,0 +1,159 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded, least recently used cache of rendered statements keyed by {@link StatementShape}.
+ *
+ * <p>Statements with the same shape render to the same SQL text - only the parameter values differ. When a shape is
+ * found in the cache, the cached SQL is reused and only the parameter values collected while calculating the
+ * shape are bound. When a shape is not found, the statement is rendered normally and the result is added to the cache.
+ *
+ * <p>The global instance of this cache is available from
+ * {@link org.mybatis.dynamic.sql.configuration.GlobalContext#getRenderCache()}. It is disabled by default, and can be
+ * enabled by setting the "renderCacheSize" property in the global configuration file to a positive number.
+ */
+public class RenderCache {
+    private final int maximumSize;
+    private final Map<StatementShape, CompiledStatement<?>> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public RenderCache(int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementShape, CompiledStatement<?>> eldest) {
+                return size() > RenderCache.this.maximumSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    /**
+     * Return a statement provider for a statement, using a cached rendering if possible.
+     *
+     * @param shapeCalculator a function that calculates the shape of the statement. If the calculated shape is
+     *     empty, the statement cannot be cached and will be rendered normally
+     * @param renderer a function that renders the statement from scratch
+     * @param compiler a function that creates a compiled statement from a rendered statement
+     * @param <T> the type of statement provider
+     * @return a statement provider for the statement
+     */
+    public <T> T render(Supplier<Optional<StatementShape>> shapeCalculator, Supplier<T> renderer,
+                        Function<T, CompiledStatement<T>> compiler) {
+        return render(shapeCalculator, renderer, compiler, null);
+    }
+
+    /**
+     * Return a statement provider for a statement, using a cached rendering if possible. Cache hits and misses are
+     * recorded in the render tracker.
+     *
+     * @param shapeCalculator a function that calculates the shape of the statement. If the calculated shape is
+     *     empty, the statement cannot be cached and will be rendered normally
+     * @param renderer a function that renders the statement from scratch
+     * @param compiler a function that creates a compiled statement from a rendered statement
+     * @param renderTracker the tracker for the current render, if any
+     * @param <T> the type of statement provider
+     * @return a statement provider for the statement
+     */
+    public <T> T render(Supplier<Optional<StatementShape>> shapeCalculator, Supplier<T> renderer,
+                        Function<T, CompiledStatement<T>> compiler, @Nullable RenderTracker renderTracker) {
+        if (!isEnabled()) {
+            return renderer.get();
+        }
+
+        Optional<StatementShape> shape = shapeCalculator.get();
+        if (shape.isEmpty()) {
+            return renderer.get();
+        }
+
+        StatementShape statementShape = shape.get();
+        CompiledStatement<T> compiledStatement = get(statementShape);
+        if (compiledStatement != null) {
+            hitCount.increment();
+            statementShape.notifySkippedConditions();
+            if (renderTracker != null) {
+                renderTracker.cacheHit(statementShape.skippedConditionCount());
+            }
+            return compiledStatement.bind(statementShape.parameterValues());
+        }
+
+        missCount.increment();
+        if (renderTracker != null) {
+            renderTracker.cacheMiss();
+        }
+        T statementProvider = renderer.get();
+        compiledStatement = compiler.apply(statementProvider);
+        if (compiledStatement.parameterCount() == statementShape.parameterCount()) {
+            put(statementShape, compiledStatement);
+        }
+        return statementProvider;
+    }
+
+    private <T> @Nullable CompiledStatement<T> get(StatementShape shape) {
+        synchronized (cache) {
+            // the shape contains the statement type, so the type of the compiled statement will match
+            @SuppressWarnings("unchecked")
+            CompiledStatement<T> compiledStatement = (CompiledStatement<T>) cache.get(shape);
+            return compiledStatement;
+        }
+    }
+
+    private void put(StatementShape shape, CompiledStatement<?> compiledStatement) {
+        synchronized (cache) {
+            cache.put(shape, compiledStatement);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * Information about a single render of a statement. Events are sent to a {@link RenderListener} after the statement
+ * is rendered.
+ *
+ * @param statementType the type of statement
+ * @param tableName the name of the main table of the statement (for a select statement, the table in the first
+ *     from clause). This will be an empty string if the main table is a sub query
+ * @param renderNanos the elapsed time of the render in nanoseconds, including the render cache lookup if any
+ * @param parameterCount the number of parameters in the rendered statement
+ * @param sqlLength the length of the rendered SQL
+ * @param cacheStatus whether the statement was found in the render cache
+ * @param skippedConditionCount the number of conditions that were not rendered (typically optional conditions
+ *     with null values)
+ */
+public record RenderEvent(StatementType statementType, String tableName, long renderNanos, int parameterCount,
+                          int sqlLength, CacheStatus cacheStatus, int skippedConditionCount) {
+
+    public enum StatementType {
+        SELECT,
+        MULTI_SELECT,
+        UPDATE,
+        DELETE,
+        GENERAL_INSERT,
+        INSERT_SELECT
+    }
+
+    public enum CacheStatus {
+        /** The rendered SQL was found in the render cache. */
+        HIT,
+        /** The statement could be cached, but was not found in the render cache. */
+        MISS,
+        /** The render cache is disabled, or the statement cannot be cached. */
+        NOT_CACHED
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+/**
+ * Describes a render limit that was exceeded while rendering a statement.
+ *
+ * @param limit the limit that was exceeded
+ * @param maximum the configured maximum for the limit. For {@link RenderLimits.Limit#RENDER_TIME} this is in
+ *     nanoseconds
+ * @param actual the actual value. For {@link RenderLimits.Limit#RENDER_TIME} this is in nanoseconds
+ * @param statementType the type of statement
+ * @param tableName the name of the main table of the statement, or an empty string if the main table is a sub query
+ */
+public record RenderLimitViolation(RenderLimits.Limit limit, long maximum, long actual,
+                                   RenderEvent.StatementType statementType, String tableName) {
+}
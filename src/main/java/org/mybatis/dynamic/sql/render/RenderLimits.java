@@ -0,0 +1,221 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.RenderLimitExceededException;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Thresholds for the size and cost of rendered statements. Limits protect against statements that are unexpectedly
+ * large - for example, an "in" condition with many thousands of values, or a deeply nested tree of criteria.
+ *
+ * <p>Each limit has an action that is taken when the limit is exceeded:
+ *
+ * <ul>
+ *     <li>{@link Action#WARN} - a warning is written to the {@link System.Logger} named for this class</li>
+ *     <li>{@link Action#THROW} - a {@link RenderLimitExceededException} is thrown</li>
+ *     <li>{@link Action#SAMPLE} - the violation is sent to the sample handler. If a sample interval is set, only
+ *         one of every interval violations is sent to the handler</li>
+ * </ul>
+ *
+ * <p>Limits are checked while the statement is rendered - there is no separate pass over the statement model.
+ * Parameter count and criteria depth limits with the {@link Action#THROW} action stop rendering as soon as the limit
+ * is exceeded. All other limits are checked when rendering is complete. Criteria depth is the number of nested levels
+ * of criteria in a where, having, or join clause (a where clause with no parentheses has a depth of one). Criteria
+ * depth is not measured for statements that are found in the render cache.
+ *
+ * <p>Limits can be set for all statements with
+ * {@link org.mybatis.dynamic.sql.configuration.GlobalContext#setRenderLimits(RenderLimits)}, or for an individual
+ * statement with
+ * {@link org.mybatis.dynamic.sql.configuration.StatementConfiguration#setRenderLimits(RenderLimits)}. Instances are
+ * immutable and thread safe.
+ */
+public class RenderLimits {
+    private static final System.Logger LOGGER = System.getLogger(RenderLimits.class.getName());
+
+    private final long[] maximums;
+    private final Action[] actions;
+    private final @Nullable Consumer<RenderLimitViolation> sampleHandler;
+    private final int sampleInterval;
+    private final AtomicLong sampleCount = new AtomicLong();
+
+    private RenderLimits(Builder builder) {
+        maximums = builder.maximums.clone();
+        actions = builder.actions.clone();
+        sampleHandler = builder.sampleHandler;
+        sampleInterval = builder.sampleInterval;
+        Validator.assertFalse(sampleHandler == null && Arrays.asList(actions).contains(Action.SAMPLE),
+                "ERROR.70"); //$NON-NLS-1$
+    }
+
+    /**
+     * Return the maximum for a limit, or {@link Long#MAX_VALUE} if the limit is not set.
+     *
+     * @param limit the limit
+     * @return the maximum value
+     */
+    public long maximum(Limit limit) {
+        return maximums[limit.ordinal()];
+    }
+
+    public Action action(Limit limit) {
+        return actions[limit.ordinal()];
+    }
+
+    /**
+     * Check a limit while a statement is being rendered. Only limits with the {@link Action#THROW} action are
+     * enforced here so that rendering can stop early. Other actions are taken when rendering is complete.
+     */
+    void checkDuringRender(Limit limit, long actual, RenderEvent.StatementType statementType, String tableName) {
+        if (actual > maximum(limit) && action(limit) == Action.THROW) {
+            throw exception(new RenderLimitViolation(limit, maximum(limit), actual, statementType, tableName));
+        }
+    }
+
+    void check(Limit limit, long actual, RenderEvent.StatementType statementType, String tableName) {
+        if (actual > maximum(limit)) {
+            violated(new RenderLimitViolation(limit, maximum(limit), actual, statementType, tableName));
+        }
+    }
+
+    private void violated(RenderLimitViolation violation) {
+        Action action = action(violation.limit());
+        if (action == Action.THROW) {
+            throw exception(violation);
+        } else if (action == Action.WARN) {
+            LOGGER.log(System.Logger.Level.WARNING, () -> message(violation));
+        } else if (sampleHandler != null && sampleCount.getAndIncrement() % sampleInterval == 0) {
+            sampleHandler.accept(violation);
+        }
+    }
+
+    private static RenderLimitExceededException exception(RenderLimitViolation violation) {
+        return new RenderLimitExceededException(message(violation), violation);
+    }
+
+    private static String message(RenderLimitViolation violation) {
+        return Messages.getString("ERROR.68", violation.limit().description, //$NON-NLS-1$
+                violation.statementType().name(), Long.toString(violation.actual()),
+                Long.toString(violation.maximum()));
+    }
+
+    public static Builder withMaxParameterCount(int maxParameterCount, Action action) {
+        return new Builder().withMaxParameterCount(maxParameterCount, action);
+    }
+
+    public static Builder withMaxSqlLength(int maxSqlLength, Action action) {
+        return new Builder().withMaxSqlLength(maxSqlLength, action);
+    }
+
+    public static Builder withMaxCriteriaDepth(int maxCriteriaDepth, Action action) {
+        return new Builder().withMaxCriteriaDepth(maxCriteriaDepth, action);
+    }
+
+    public static Builder withMaxRenderTime(Duration maxRenderTime, Action action) {
+        return new Builder().withMaxRenderTime(maxRenderTime, action);
+    }
+
+    public enum Limit {
+        PARAMETER_COUNT("parameter count"), //$NON-NLS-1$
+        SQL_LENGTH("SQL length"), //$NON-NLS-1$
+        CRITERIA_DEPTH("criteria depth"), //$NON-NLS-1$
+        RENDER_TIME("render time in nanoseconds"); //$NON-NLS-1$
+
+        private final String description;
+
+        Limit(String description) {
+            this.description = description;
+        }
+    }
+
+    public enum Action {
+        WARN,
+        THROW,
+        SAMPLE
+    }
+
+    public static class Builder {
+        private final long[] maximums = new long[Limit.values().length];
+        private final Action[] actions = new Action[Limit.values().length];
+        private @Nullable Consumer<RenderLimitViolation> sampleHandler;
+        private int sampleInterval = 1;
+
+        public Builder() {
+            Arrays.fill(maximums, Long.MAX_VALUE);
+            Arrays.fill(actions, Action.WARN);
+        }
+
+        public Builder withMaxParameterCount(int maxParameterCount, Action action) {
+            return withLimit(Limit.PARAMETER_COUNT, maxParameterCount, action);
+        }
+
+        public Builder withMaxSqlLength(int maxSqlLength, Action action) {
+            return withLimit(Limit.SQL_LENGTH, maxSqlLength, action);
+        }
+
+        public Builder withMaxCriteriaDepth(int maxCriteriaDepth, Action action) {
+            return withLimit(Limit.CRITERIA_DEPTH, maxCriteriaDepth, action);
+        }
+
+        public Builder withMaxRenderTime(Duration maxRenderTime, Action action) {
+            return withLimit(Limit.RENDER_TIME, maxRenderTime.toNanos(), action);
+        }
+
+        /**
+         * Set the handler for limits with the {@link Action#SAMPLE} action.
+         *
+         * @param sampleHandler the handler. The handler is called on the rendering thread, so it should be fast
+         *     and thread safe
+         * @return this builder
+         */
+        public Builder withSampleHandler(Consumer<RenderLimitViolation> sampleHandler) {
+            this.sampleHandler = Objects.requireNonNull(sampleHandler);
+            return this;
+        }
+
+        /**
+         * Set the sample interval. If the interval is n, then the first of every n violations is sent to the
+         * sample handler. The default is 1 - every violation is sent to the handler.
+         *
+         * @param sampleInterval the sample interval
+         * @return this builder
+         */
+        public Builder withSampleInterval(int sampleInterval) {
+            Validator.assertTrue(sampleInterval > 0, "ERROR.69", "sample interval"); //$NON-NLS-1$ //$NON-NLS-2$
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        private Builder withLimit(Limit limit, long maximum, Action action) {
+            Validator.assertTrue(maximum > 0, "ERROR.69", limit.description); //$NON-NLS-1$
+            maximums[limit.ordinal()] = maximum;
+            actions[limit.ordinal()] = Objects.requireNonNull(action);
+            return this;
+        }
+
+        public RenderLimits build() {
+            return new RenderLimits(this);
+        }
+    }
+}
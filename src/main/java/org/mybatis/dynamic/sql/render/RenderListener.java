@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+
+/**
+ * A listener that is notified every time a statement is rendered. Listeners can be used to measure how much time is
+ * spent rendering statements, and which statements are rendered most often.
+ *
+ * <p>A listener can be registered for all statements in the global configuration, or for a single statement in the
+ * statement configuration. Listeners are called on the thread that renders the statement, so they should be fast
+ * and thread safe. {@link RenderMetrics} is a simple implementation that keeps statistics in memory.
+ *
+ * <p>Listeners are notified for select, multi-select, update, delete, general insert, and insert select
+ * statements. Inserts that are rendered once for many records (insert, batch insert, and multi-row insert)
+ * are not reported.
+ *
+ * @see org.mybatis.dynamic.sql.configuration.GlobalContext#setRenderListener(RenderListener)
+ * @see org.mybatis.dynamic.sql.configuration.StatementConfiguration#setRenderListener(RenderListener)
+ */
+@FunctionalInterface
+public interface RenderListener {
+    void statementRendered(RenderEvent event);
+
+    /**
+     * Returns a listener that notifies this listener, then the other listener.
+     *
+     * @param after the listener to notify after this listener
+     * @return a composed listener
+     */
+    default RenderListener andThen(RenderListener after) {
+        Objects.requireNonNull(after);
+        return event -> {
+            statementRendered(event);
+            after.statementRendered(event);
+        };
+    }
+}
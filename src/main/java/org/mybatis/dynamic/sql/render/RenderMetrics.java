@@ -0,0 +1,195 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RenderListener} that keeps statistics about rendered statements in memory, grouped by statement type and
+ * table name. All counters are {@link LongAdder}s or {@link LongAccumulator}s, so recording an event is lock free and
+ * cheap even when many threads render statements at the same time.
+ *
+ * <p>Render times are recorded in a histogram with power of two buckets. Bucket 0 counts renders faster than
+ * 1024 nanoseconds, and each following bucket covers twice the range of the bucket before it.
+ *
+ * <p>This class does not depend on any metrics library. To publish render metrics with a library like Micrometer,
+ * either read these statistics periodically (for example, from gauges), or write a {@link RenderListener} that
+ * records each event directly - for example, to a timer tagged with the statement type and table name. Listeners can
+ * be combined with {@link RenderListener#andThen(RenderListener)}.
+ */
+public class RenderMetrics implements RenderListener {
+    private final ConcurrentMap<Key, Statistics> statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public void statementRendered(RenderEvent event) {
+        Key key = new Key(event.statementType(), event.tableName());
+        Statistics s = statistics.get(key);
+        if (s == null) {
+            s = statistics.computeIfAbsent(key, k -> new Statistics());
+        }
+        s.record(event);
+    }
+
+    public Optional<Statistics> statistics(RenderEvent.StatementType statementType, String tableName) {
+        return Optional.ofNullable(statistics.get(new Key(statementType, tableName)));
+    }
+
+    public Map<Key, Statistics> statistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public record Key(RenderEvent.StatementType statementType, String tableName) {}
+
+    public static class Statistics {
+        public static final int BUCKET_COUNT = 24;
+        private static final int FIRST_BUCKET_SHIFT = 10;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder cacheHitCount = new LongAdder();
+        private final LongAdder cacheMissCount = new LongAdder();
+        private final LongAdder totalRenderNanos = new LongAdder();
+        private final LongAccumulator maxRenderNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder totalParameterCount = new LongAdder();
+        private final LongAdder totalSqlLength = new LongAdder();
+        private final LongAccumulator maxSqlLength = new LongAccumulator(Long::max, 0);
+        private final LongAdder skippedConditionCount = new LongAdder();
+        private final LongAdder[] renderNanosHistogram = new LongAdder[BUCKET_COUNT];
+
+        Statistics() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                renderNanosHistogram[i] = new LongAdder();
+            }
+        }
+
+        void record(RenderEvent event) {
+            count.increment();
+            if (event.cacheStatus() == RenderEvent.CacheStatus.HIT) {
+                cacheHitCount.increment();
+            } else if (event.cacheStatus() == RenderEvent.CacheStatus.MISS) {
+                cacheMissCount.increment();
+            }
+            totalRenderNanos.add(event.renderNanos());
+            maxRenderNanos.accumulate(event.renderNanos());
+            totalParameterCount.add(event.parameterCount());
+            totalSqlLength.add(event.sqlLength());
+            maxSqlLength.accumulate(event.sqlLength());
+            skippedConditionCount.add(event.skippedConditionCount());
+            renderNanosHistogram[bucket(event.renderNanos())].increment();
+        }
+
+        static int bucket(long nanos) {
+            int bucket = 64 - Long.numberOfLeadingZeros(nanos >>> FIRST_BUCKET_SHIFT);
+            return Math.min(bucket, BUCKET_COUNT - 1);
+        }
+
+        /**
+         * Returns the exclusive upper bound of a histogram bucket. The last bucket has no upper bound.
+         *
+         * @param bucket the bucket index
+         * @return the upper bound in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket
+         */
+        public static long bucketUpperBoundNanos(int bucket) {
+            return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << (bucket + FIRST_BUCKET_SHIFT);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long cacheHitCount() {
+            return cacheHitCount.sum();
+        }
+
+        public long cacheMissCount() {
+            return cacheMissCount.sum();
+        }
+
+        public long totalRenderNanos() {
+            return totalRenderNanos.sum();
+        }
+
+        public long maxRenderNanos() {
+            return maxRenderNanos.get();
+        }
+
+        public long averageRenderNanos() {
+            long c = count();
+            return c == 0 ? 0 : totalRenderNanos() / c;
+        }
+
+        public long totalParameterCount() {
+            return totalParameterCount.sum();
+        }
+
+        public long totalSqlLength() {
+            return totalSqlLength.sum();
+        }
+
+        public long maxSqlLength() {
+            return maxSqlLength.get();
+        }
+
+        public long skippedConditionCount() {
+            return skippedConditionCount.sum();
+        }
+
+        public long[] renderNanosHistogram() {
+            long[] histogram = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                histogram[i] = renderNanosHistogram[i].sum();
+            }
+            return histogram;
+        }
+
+        /**
+         * Calculate an approximate percentile of render times from the histogram. The result is the upper bound of
+         * the bucket that contains the percentile, so it may be up to twice the actual value.
+         *
+         * @param percentile the percentile to calculate, between 0.0 and 1.0 (for example, 0.99)
+         * @return the approximate percentile in nanoseconds, or 0 if no renders have been recorded
+         */
+        public long approximateRenderNanosPercentile(double percentile) {
+            long[] histogram = renderNanosHistogram();
+            long total = 0;
+            for (long c : histogram) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long target = (long) Math.ceil(total * percentile);
+            long running = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                running += histogram[i];
+                if (running >= target) {
+                    return bucketUpperBoundNanos(i);
+                }
+            }
+            return bucketUpperBoundNanos(BUCKET_COUNT - 1);
+        }
+    }
+}
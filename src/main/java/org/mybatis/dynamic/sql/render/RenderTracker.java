@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.TableExpression;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+
+/**
+ * Collects information about a single render of a statement, reports it to a {@link RenderListener}, and checks it
+ * against {@link RenderLimits}.
+ *
+ * <p>A tracker is only created when a listener or limits are configured for the statement, so rendering does not pay
+ * for timing or counting when they are not needed. The tracker is carried in the {@link RenderingContext} so renderers
+ * can record details (like skipped conditions) as they render, without a separate pass over the statement model.
+ */
+public class RenderTracker {
+    private final @Nullable RenderListener renderListener;
+    private final @Nullable RenderLimits renderLimits;
+    private final RenderEvent.StatementType statementType;
+    private final String tableName;
+    private final long startNanos;
+    private final AtomicInteger skippedConditionCount = new AtomicInteger();
+    private final AtomicInteger parameterCount = new AtomicInteger();
+    private final AtomicInteger criteriaDepth = new AtomicInteger();
+    private RenderEvent.CacheStatus cacheStatus = RenderEvent.CacheStatus.NOT_CACHED;
+
+    private RenderTracker(@Nullable RenderListener renderListener, @Nullable RenderLimits renderLimits,
+                          RenderEvent.StatementType statementType, String tableName) {
+        this.renderListener = renderListener;
+        this.renderLimits = renderLimits;
+        this.statementType = Objects.requireNonNull(statementType);
+        this.tableName = Objects.requireNonNull(tableName);
+        startNanos = System.nanoTime();
+    }
+
+    public void conditionSkipped() {
+        skippedConditionCount.incrementAndGet();
+    }
+
+    void parameterAdded() {
+        if (renderLimits != null) {
+            renderLimits.checkDuringRender(RenderLimits.Limit.PARAMETER_COUNT, parameterCount.incrementAndGet(),
+                    statementType, tableName);
+        }
+    }
+
+    void criteriaDepth(int depth) {
+        if (renderLimits != null) {
+            renderLimits.checkDuringRender(RenderLimits.Limit.CRITERIA_DEPTH, depth, statementType, tableName);
+            criteriaDepth.accumulateAndGet(depth, Math::max);
+        }
+    }
+
+    void cacheHit(int skippedConditionCount) {
+        cacheStatus = RenderEvent.CacheStatus.HIT;
+        this.skippedConditionCount.set(skippedConditionCount);
+    }
+
+    void cacheMiss() {
+        cacheStatus = RenderEvent.CacheStatus.MISS;
+    }
+
+    /**
+     * Notify the listener that rendering is complete, and check the completed statement against the limits.
+     *
+     * @param sql the rendered SQL
+     * @param parameterCount the number of parameters in the rendered statement
+     */
+    public void finish(String sql, int parameterCount) {
+        long renderNanos = System.nanoTime() - startNanos;
+        if (renderListener != null) {
+            renderListener.statementRendered(new RenderEvent(statementType, tableName, renderNanos, parameterCount,
+                    sql.length(), cacheStatus, skippedConditionCount.get()));
+        }
+
+        if (renderLimits != null) {
+            renderLimits.check(RenderLimits.Limit.PARAMETER_COUNT, parameterCount, statementType, tableName);
+            renderLimits.check(RenderLimits.Limit.SQL_LENGTH, sql.length(), statementType, tableName);
+            renderLimits.check(RenderLimits.Limit.CRITERIA_DEPTH, criteriaDepth.get(), statementType, tableName);
+            renderLimits.check(RenderLimits.Limit.RENDER_TIME, renderNanos, statementType, tableName);
+        }
+    }
+
+    /**
+     * Start tracking a render if a listener or limits are configured for the statement.
+     *
+     * @param statementConfiguration the configuration of the statement being rendered
+     * @param statementType the type of statement
+     * @param tableName a supplier for the name of the main table of the statement. It is only called if a
+     *     tracker is created
+     * @return a new tracker, or null if there is no listener and there are no limits for the statement
+     */
+    public static @Nullable RenderTracker start(StatementConfiguration statementConfiguration,
+                                                RenderEvent.StatementType statementType, Supplier<String> tableName) {
+        RenderListener renderListener = statementConfiguration.getRenderListener().orElse(null);
+        RenderLimits renderLimits = statementConfiguration.getRenderLimits().orElse(null);
+        if (renderListener == null && renderLimits == null) {
+            return null;
+        }
+        return new RenderTracker(renderListener, renderLimits, statementType, tableName.get());
+    }
+
+    /**
+     * Calculate the table name for a render event.
+     *
+     * @param tableExpression the main table of a statement
+     * @return the table name, or an empty string if the table expression is not a table
+     */
+    public static String tableName(TableExpression tableExpression) {
+        return tableExpression instanceof SqlTable sqlTable ? sqlTable.tableName() : ""; //$NON-NLS-1$
+    }
+}
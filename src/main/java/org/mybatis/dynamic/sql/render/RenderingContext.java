@@ -40,15 +40,29 @@ public class RenderingContext {
     private final TableAliasCalculator tableAliasCalculator;
     private static final String PARAMETER_NAME = RenderingStrategy.DEFAULT_PARAMETER_PREFIX;
     private final StatementConfiguration statementConfiguration;
+    private final @Nullable RenderTracker renderTracker;
+    private final @Nullable DeferredParameterKeys deferredParameterKeys;
 
     private RenderingContext(Builder builder) {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
         statementConfiguration = Objects.requireNonNull(builder.statementConfiguration);
-        sequence = Objects.requireNonNullElseGet(builder.sequence, () -> new AtomicInteger(1));
+        renderTracker = builder.renderTracker;
+        deferredParameterKeys = builder.deferredParameterKeys;
+        if (deferredParameterKeys == null) {
+            sequence = Objects.requireNonNullElseGet(builder.sequence, () -> new AtomicInteger(1));
+        } else {
+            sequence = deferredParameterKeys.sequence();
+        }
     }
 
     private String nextMapKey() {
+        if (renderTracker != null) {
+            renderTracker.parameterAdded();
+        }
+        if (deferredParameterKeys != null) {
+            return deferredParameterKeys.parameterMapKey();
+        }
         return renderingStrategy.formatParameterMapKey(sequence);
     }
 
@@ -58,19 +72,25 @@ public class RenderingContext {
     }
 
     public RenderedParameterInfo calculateFetchFirstRowsParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForFetchFirstRows(sequence);
+        String mapKey = deferredParameterKeys == null
+                ? renderingStrategy.formatParameterMapKeyForFetchFirstRows(sequence)
+                : deferredParameterKeys.fetchFirstRowsParameterMapKey();
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
 
     public RenderedParameterInfo calculateLimitParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForLimit(sequence);
+        String mapKey = deferredParameterKeys == null
+                ? renderingStrategy.formatParameterMapKeyForLimit(sequence)
+                : deferredParameterKeys.limitParameterMapKey();
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
 
     public RenderedParameterInfo calculateOffsetParameterInfo() {
-        String mapKey = renderingStrategy.formatParameterMapKeyForOffset(sequence);
+        String mapKey = deferredParameterKeys == null
+                ? renderingStrategy.formatParameterMapKeyForOffset(sequence)
+                : deferredParameterKeys.offsetParameterMapKey();
         return new RenderedParameterInfo(mapKey,
                 renderingStrategy.getFormattedJdbcPlaceholderForPagingParameters(PARAMETER_NAME, mapKey));
     }
@@ -80,6 +100,17 @@ public class RenderingContext {
         return new RenderedParameterInfo(mapKey, renderedPlaceHolder(mapKey, column));
     }
 
+    /**
+     * Calculate parameter information for a parameter that is not related to a column. The placeholder will not
+     * include any column specific attributes like a JDBC type or type handler.
+     *
+     * @return parameter information
+     */
+    public RenderedParameterInfo calculateParameterInfo() {
+        String mapKey = nextMapKey();
+        return new RenderedParameterInfo(mapKey, renderingStrategy.getFormattedJdbcPlaceholder(PARAMETER_NAME, mapKey));
+    }
+
     public <T> String aliasedColumnName(SqlColumn<T> column) {
         return tableAliasCalculator.aliasForColumn(column.table())
                 .map(alias -> aliasedColumnName(column, alias))
@@ -100,6 +131,27 @@ public class RenderingContext {
         return statementConfiguration.isNonRenderingWhereClauseAllowed();
     }
 
+    /**
+     * Record that a condition was not rendered. This is reported to the render listener, if any.
+     */
+    public void conditionSkipped() {
+        if (renderTracker != null) {
+            renderTracker.conditionSkipped();
+        }
+    }
+
+    /**
+     * Record the nesting level of criteria being rendered. This is checked against the render limits, if any.
+     *
+     * @param depth the number of nested levels of criteria, starting at one for the top level of a where, having,
+     *     or join clause
+     */
+    public void criteriaDepth(int depth) {
+        if (renderTracker != null) {
+            renderTracker.criteriaDepth(depth);
+        }
+    }
+
     /**
      * Create a new rendering context based on this, with the table alias calculator modified to include the
      * specified child table alias calculator. This is used by the query expression renderer when the alias calculator
@@ -120,6 +172,8 @@ public class RenderingContext {
                 .withSequence(this.sequence)
                 .withTableAliasCalculator(tac)
                 .withStatementConfiguration(statementConfiguration)
+                .withRenderTracker(renderTracker)
+                .withDeferredParameterKeys(deferredParameterKeys)
                 .build();
     }
 
@@ -132,6 +186,8 @@ public class RenderingContext {
         private @Nullable AtomicInteger sequence;
         private @Nullable TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
         private @Nullable StatementConfiguration statementConfiguration;
+        private @Nullable RenderTracker renderTracker;
+        private @Nullable DeferredParameterKeys deferredParameterKeys;
 
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
@@ -153,6 +209,23 @@ public class RenderingContext {
             return this;
         }
 
+        public Builder withRenderTracker(@Nullable RenderTracker renderTracker) {
+            this.renderTracker = renderTracker;
+            return this;
+        }
+
+        /**
+         * Render with deferred parameter map keys. If set, the sequence in this builder is ignored and the
+         * sequence of the deferred keys is used instead.
+         *
+         * @param deferredParameterKeys the deferred keys for a separately rendered part of a statement
+         * @return this builder
+         */
+        public Builder withDeferredParameterKeys(@Nullable DeferredParameterKeys deferredParameterKeys) {
+            this.deferredParameterKeys = deferredParameterKeys;
+            return this;
+        }
+
         public RenderingContext build() {
             return new RenderingContext(this);
         }
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.render;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.mybatis.dynamic.sql.BindableColumn;
 
@@ -36,6 +37,12 @@ import org.mybatis.dynamic.sql.BindableColumn;
 public abstract class RenderingStrategy {
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
 
+    // keys for the most common sequence values are calculated once so statements with many parameters
+    // do not create a new key string for every parameter
+    private static final String[] PARAMETER_MAP_KEYS = IntStream.range(0, 1024)
+            .mapToObj(RenderingStrategy::calculateParameterMapKey)
+            .toArray(String[]::new);
+
     /**
      * Generate a unique key that can be used to place a parameter value in the parameter map.
      *
@@ -43,7 +50,13 @@ public abstract class RenderingStrategy {
      * @return a key used to place the parameter value in the parameter map
      */
     public String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        int value = sequence.getAndIncrement();
+        return value >= 0 && value < PARAMETER_MAP_KEYS.length ? PARAMETER_MAP_KEYS[value]
+                : calculateParameterMapKey(value);
+    }
+
+    private static String calculateParameterMapKey(int value) {
+        return "p" + value; //$NON-NLS-1$
     }
 
     /**
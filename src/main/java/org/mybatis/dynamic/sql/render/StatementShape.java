@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+/**
+ * A structural fingerprint of a statement model, along with the parameter values of the model.
+ *
+ * <p>Two models with equal shapes will render to the same SQL text. The shape includes the statement type, the
+ * rendering strategy, tables, columns, condition types, which conditions were skipped during rendering, and the
+ * number of values in list conditions. The shape does not include parameter values - those are collected
+ * separately, in the same order as they would be placed in a rendered statement.
+ *
+ * <p>A shape can only be calculated for models made from a well known subset of library elements (simple columns,
+ * the built-in value and column comparison conditions, criteria groups, joins, order by, and paging). Models that
+ * contain anything else (sub queries, functions, case expressions, custom conditions, etc.) do not have a shape and
+ * are always rendered normally.
+ */
+public class StatementShape {
+    private final List<Object> elements;
+    private final int hashCode;
+    private final List<@Nullable Object> parameterValues;
+    private final List<RenderableCondition<?>> skippedConditions;
+
+    StatementShape(List<Object> elements, List<@Nullable Object> parameterValues,
+                   List<RenderableCondition<?>> skippedConditions) {
+        this.elements = Collections.unmodifiableList(elements);
+        hashCode = elements.hashCode();
+        this.parameterValues = Collections.unmodifiableList(parameterValues);
+        this.skippedConditions = Collections.unmodifiableList(skippedConditions);
+    }
+
+    public int parameterCount() {
+        return parameterValues.size();
+    }
+
+    public int skippedConditionCount() {
+        return skippedConditions.size();
+    }
+
+    public @Nullable Object[] parameterValues() {
+        return parameterValues.toArray();
+    }
+
+    /**
+     * Notify conditions that were skipped in this shape. This duplicates the callbacks that would be made during
+     * normal rendering, and is used when a rendered statement is found in the cache.
+     */
+    public void notifySkippedConditions() {
+        skippedConditions.forEach(RenderableCondition::renderingSkipped);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StatementShape other)) {
+            return false;
+        }
+        return hashCode == other.hashCode && elements.equals(other.elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    public static Optional<StatementShape> of(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        return new StatementShapeCollector(renderingStrategy, selectModel.statementConfiguration())
+                .collect(selectModel);
+    }
+
+    public static Optional<StatementShape> of(UpdateModel updateModel, RenderingStrategy renderingStrategy) {
+        return new StatementShapeCollector(renderingStrategy, updateModel.statementConfiguration())
+                .collect(updateModel);
+    }
+
+    public static Optional<StatementShape> of(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        return new StatementShapeCollector(renderingStrategy, deleteModel.statementConfiguration())
+                .collect(deleteModel);
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionModel;
+import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.common.ReturningModel;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+
+/**
+ * Walks a statement model and calculates its {@link StatementShape}.
+ *
+ * <p>The walk mirrors the order of the statement renderers so that parameter values are collected in the same order
+ * that parameters are added to a rendered statement. Tables are part of the shape by identity, columns by their
+ * attributes. The walk stops as soon as it finds an element it does not understand - in that case there is no shape,
+ * and the statement must be rendered normally.
+ *
+ * <p>Conditions that should not render are recorded in the shape, but {@link RenderableCondition#renderingSkipped()}
+ * is not called here. The renderer, or {@link StatementShape#notifySkippedConditions()}, is responsible for that.
+ */
+class StatementShapeCollector implements SqlCriterionVisitor<Boolean> {
+    private static final Package CONDITION_PACKAGE = IsEqualTo.class.getPackage();
+    private static final String SKIPPED = "skipped"; //$NON-NLS-1$
+    private static final String END = "end"; //$NON-NLS-1$
+
+    private final RenderingStrategy renderingStrategy;
+    private final StatementConfiguration statementConfiguration;
+    private final List<Object> elements = new ArrayList<>();
+    private final List<@Nullable Object> parameterValues = new ArrayList<>();
+    private final List<RenderableCondition<?>> skippedConditions = new ArrayList<>();
+    private final RenderingContext renderingContext;
+
+    StatementShapeCollector(RenderingStrategy renderingStrategy, StatementConfiguration statementConfiguration) {
+        this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+        this.statementConfiguration = Objects.requireNonNull(statementConfiguration);
+        renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    Optional<StatementShape> collect(SelectModel selectModel) {
+        start("select"); //$NON-NLS-1$
+        boolean supported = selectModel.queryExpressions().allMatch(this::collectQueryExpression)
+                && selectModel.orderByModel().map(m -> collectOrderBy(m, renderingContext)).orElseGet(this::absent)
+                && selectModel.pagingModel().map(this::collectPaging).orElseGet(this::absent);
+        elements.add(selectModel.forClause());
+        elements.add(selectModel.waitClause());
+        return toShape(supported);
+    }
+
+    Optional<StatementShape> collect(UpdateModel updateModel) {
+        start("update"); //$NON-NLS-1$
+        RenderingContext statementContext = collectTable(updateModel.table(), updateModel.tableAlias());
+        SetPhraseCollector setPhraseCollector = new SetPhraseCollector();
+        boolean supported = updateModel.columnMappings().allMatch(m -> m.accept(setPhraseCollector))
+                && collectWhere(updateModel.whereModel())
+                && updateModel.orderByModel().map(m -> collectOrderBy(m, statementContext)).orElseGet(this::absent);
+        collectLimit(updateModel.limit());
+        supported = supported
+                && updateModel.returningModel().map(this::collectReturning).orElseGet(this::absent);
+        return toShape(supported);
+    }
+
+    Optional<StatementShape> collect(DeleteModel deleteModel) {
+        start("delete"); //$NON-NLS-1$
+        RenderingContext statementContext = collectTable(deleteModel.table(), deleteModel.tableAlias());
+        boolean supported = collectWhere(deleteModel.whereModel())
+                && deleteModel.orderByModel().map(m -> collectOrderBy(m, statementContext)).orElseGet(this::absent);
+        collectLimit(deleteModel.limit());
+        supported = supported
+                && deleteModel.returningModel().map(this::collectReturning).orElseGet(this::absent);
+        return toShape(supported);
+    }
+
+    private void start(String statementType) {
+        elements.add(statementType);
+        elements.add(renderingStrategy);
+        elements.add(statementConfiguration.isNonRenderingWhereClauseAllowed());
+    }
+
+    private Optional<StatementShape> toShape(boolean supported) {
+        if (supported) {
+            return Optional.of(new StatementShape(elements, parameterValues, skippedConditions));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private boolean absent() {
+        elements.add(END);
+        return true;
+    }
+
+    private boolean collectQueryExpression(QueryExpressionModel queryExpression) {
+        if (!(queryExpression.table() instanceof SqlTable table)) {
+            return false;
+        }
+
+        elements.add(queryExpression.connector());
+        elements.add(queryExpression.isDistinct());
+        elements.add(table);
+        elements.add(queryExpression.tableAliases());
+
+        return queryExpression.columns().allMatch(this::collectColumn)
+                && absent()
+                && queryExpression.joinModel().map(this::collectJoins).orElseGet(this::absent)
+                && collectWhere(queryExpression.whereModel())
+                && queryExpression.groupByModel().map(this::collectGroupBy).orElseGet(this::absent)
+                && queryExpression.havingModel().isEmpty();
+    }
+
+    private boolean collectColumn(BasicColumn column) {
+        if (column instanceof SqlColumn<?> sqlColumn) {
+            elements.add(columnShape(sqlColumn));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Columns derived from a table column (for example, "column.as("x")" or "column.qualifiedWith("t")") are new
+     * instances for each statement, so columns are part of the shape by their attributes rather than by identity.
+     * The parameter type converter is not part of the shape - it only changes parameter values, and those are
+     * collected separately. Subclasses of {@code SqlColumn} can render differently, so they are part of the shape by
+     * identity.
+     */
+    private Object columnShape(SqlColumn<?> column) {
+        if (column.getClass() != SqlColumn.class) {
+            return column;
+        }
+
+        return new ColumnShape(column.table(), column.name(), column.alias(),
+                column.render(renderingContext).fragment(), column.isDescending(), column.jdbcType(),
+                column.typeHandler(), column.javaType(), column.renderingStrategy());
+    }
+
+    private boolean collectJoins(JoinModel joinModel) {
+        return joinModel.joinSpecifications().allMatch(this::collectJoin) && absent();
+    }
+
+    private boolean collectJoin(JoinSpecification joinSpecification) {
+        if (!(joinSpecification.table() instanceof SqlTable table)) {
+            return false;
+        }
+
+        elements.add(joinSpecification.joinType());
+        elements.add(table);
+        return collectBooleanExpression(joinSpecification);
+    }
+
+    private boolean collectGroupBy(GroupByModel groupByModel) {
+        return groupByModel.columns().allMatch(this::collectColumn) && absent();
+    }
+
+    private boolean collectWhere(Optional<? extends AbstractBooleanExpressionModel> whereModel) {
+        return whereModel.map(this::collectBooleanExpression).orElseGet(this::absent);
+    }
+
+    private boolean collectBooleanExpression(AbstractBooleanExpressionModel model) {
+        return collectCriteria(model.initialCriterion(), model.subCriteria());
+    }
+
+    private boolean collectCriteria(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return initialCriterion.accept(this) && collectSubCriteria(subCriteria);
+    }
+
+    private boolean collectSubCriteria(List<AndOrCriteriaGroup> subCriteria) {
+        for (AndOrCriteriaGroup subCriterion : subCriteria) {
+            elements.add(subCriterion.connector());
+            if (!collectCriteria(subCriterion.initialCriterion(), subCriterion.subCriteria())) {
+                return false;
+            }
+        }
+        return absent();
+    }
+
+    @Override
+    public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+        if (!(criterion.column() instanceof SqlColumn<T> column) || !isSupported(criterion.condition())) {
+            return false;
+        }
+
+        RenderableCondition<T> condition = criterion.condition();
+        elements.add(columnShape(column));
+        elements.add(condition.getClass());
+        if (condition.shouldRender(renderingContext)) {
+            int parameterCount = parameterValues.size();
+            collectConditionValues(condition, column);
+            elements.add(parameterValues.size() - parameterCount);
+        } else {
+            elements.add(SKIPPED);
+            skippedConditions.add(condition);
+        }
+
+        return collectSubCriteria(criterion.subCriteria());
+    }
+
+    /**
+     * Collect the parameter values of a condition in the same order, and with the same type conversion, as the
+     * condition would render them - but without rendering. Supported conditions that are not value conditions
+     * (no value and column comparison conditions) have no parameters.
+     */
+    private <T> void collectConditionValues(RenderableCondition<T> condition, SqlColumn<T> column) {
+        if (condition instanceof AbstractSingleValueCondition<T> singleValueCondition) {
+            parameterValues.add(column.convertParameterType(singleValueCondition.value()));
+        } else if (condition instanceof AbstractTwoValueCondition<T> twoValueCondition) {
+            parameterValues.add(column.convertParameterType(twoValueCondition.value1()));
+            parameterValues.add(column.convertParameterType(twoValueCondition.value2()));
+        } else if (condition instanceof AbstractListValueCondition<T> listValueCondition) {
+            listValueCondition.inListStrategy()
+                    .parameterValues(listValueCondition, renderingContext, column)
+                    .forEach(parameterValues::add);
+        }
+    }
+
+    private boolean isSupported(RenderableCondition<?> condition) {
+        if (condition.getClass().getPackage() != CONDITION_PACKAGE
+                || condition instanceof AbstractSubselectCondition) {
+            return false;
+        }
+
+        if (condition instanceof AbstractListValueCondition<?> listValueCondition) {
+            elements.add(listValueCondition.inListStrategy());
+        }
+
+        if (condition instanceof AbstractColumnComparisonCondition<?> columnComparisonCondition) {
+            if (columnComparisonCondition.rightColumn() instanceof SqlColumn<?> rightColumn) {
+                elements.add(columnShape(rightColumn));
+            } else {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public Boolean visit(ExistsCriterion criterion) {
+        return false;
+    }
+
+    @Override
+    public Boolean visit(CriteriaGroup criterion) {
+        elements.add("group"); //$NON-NLS-1$
+        return collectCriteria(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NotCriterion criterion) {
+        elements.add("not"); //$NON-NLS-1$
+        return collectCriteria(criterion.initialCriterion(), criterion.subCriteria());
+    }
+
+    @Override
+    public Boolean visit(NullCriterion criterion) {
+        elements.add(SKIPPED);
+        return true;
+    }
+
+    private boolean collectOrderBy(OrderByModel orderByModel, RenderingContext statementContext) {
+        // sort specifications are often created for each statement (for example, "column.descending()"), so they
+        // are part of the shape by their rendered form rather than by identity
+        FragmentAndParameters fragmentAndParameters = new OrderByRenderer(statementContext).render(orderByModel);
+        elements.add(fragmentAndParameters.fragment());
+        parameterValues.addAll(fragmentAndParameters.parameters().values());
+        return true;
+    }
+
+    private boolean collectPaging(PagingModel pagingModel) {
+        // same order as the paging model renderers
+        Optional<Long> limit = pagingModel.limit();
+        if (limit.isPresent()) {
+            collectPagingValue("limit", limit); //$NON-NLS-1$
+            collectPagingValue("offset", pagingModel.offset()); //$NON-NLS-1$
+        } else {
+            collectPagingValue("offset", pagingModel.offset()); //$NON-NLS-1$
+            collectPagingValue("fetchFirst", pagingModel.fetchFirstRows()); //$NON-NLS-1$
+        }
+        return true;
+    }
+
+    private void collectPagingValue(String name, Optional<Long> value) {
+        value.ifPresent(v -> {
+            elements.add(name);
+            parameterValues.add(v);
+        });
+    }
+
+    private void collectLimit(Optional<Long> limit) {
+        collectPagingValue("limit", limit); //$NON-NLS-1$
+    }
+
+    private boolean collectReturning(ReturningModel returningModel) {
+        elements.add(returningModel.dialect());
+        return returningModel.columns().allMatch(this::collectColumn) && absent();
+    }
+
+    private RenderingContext collectTable(SqlTable table, Optional<String> tableAlias) {
+        elements.add(table);
+        elements.add(tableAlias);
+
+        TableAliasCalculator tableAliasCalculator = tableAlias
+                .map(a -> ExplicitTableAliasCalculator.of(table, a))
+                .orElseGet(TableAliasCalculator::empty);
+        return RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withTableAliasCalculator(tableAliasCalculator)
+                .withStatementConfiguration(statementConfiguration)
+                .build();
+    }
+
+    private class SetPhraseCollector extends UpdateMappingVisitor<Boolean> {
+        @Override
+        public Boolean visit(NullMapping mapping) {
+            return collectMapping(mapping, "null"); //$NON-NLS-1$
+        }
+
+        @Override
+        public Boolean visit(ConstantMapping mapping) {
+            return collectMapping(mapping, mapping.constant());
+        }
+
+        @Override
+        public Boolean visit(StringConstantMapping mapping) {
+            return collectMapping(mapping, mapping.constant());
+        }
+
+        @Override
+        public <T> Boolean visit(ValueMapping<T> mapping) {
+            parameterValues.add(mapping.value());
+            return collectMapping(mapping, "value"); //$NON-NLS-1$
+        }
+
+        @Override
+        public <T> Boolean visit(ValueOrNullMapping<T> mapping) {
+            Optional<Object> value = mapping.value();
+            value.ifPresent(parameterValues::add);
+            return collectMapping(mapping, value.isPresent() ? "value" : "null"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        public <T> Boolean visit(ValueWhenPresentMapping<T> mapping) {
+            Optional<Object> value = mapping.value();
+            value.ifPresent(parameterValues::add);
+            return collectMapping(mapping, value.isPresent() ? "value" : SKIPPED); //$NON-NLS-1$
+        }
+
+        @Override
+        public Boolean visit(SelectMapping mapping) {
+            return false;
+        }
+
+        @Override
+        public Boolean visit(ColumnToColumnMapping mapping) {
+            if (mapping.rightColumn() instanceof SqlColumn<?> rightColumn) {
+                return collectMapping(mapping, columnShape(rightColumn));
+            }
+            return false;
+        }
+
+        private boolean collectMapping(AbstractColumnMapping mapping, Object mappingShape) {
+            elements.add(mapping.getClass());
+            elements.add(columnShape(mapping.column()));
+            elements.add(mappingShape);
+            return true;
+        }
+    }
+
+    private record ColumnShape(SqlTable table, String name, Optional<String> alias, String renderedName,
+                               boolean isDescending, Optional<JDBCType> jdbcType, Optional<String> typeHandler,
+                               Optional<? extends Class<?>> javaType, Optional<RenderingStrategy> renderingStrategy) {}
+}
@@ -42,6 +42,19 @@ public class ColumnSortSpecification implements SortSpecification {
         return new ColumnSortSpecification(tableAlias, column, " DESC"); //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isDescending() {
+        return !descendingPhrase.isEmpty();
+    }
+
+    String tableAlias() {
+        return tableAlias;
+    }
+
+    SqlColumn<?> column() {
+        return column;
+    }
+
     @Override
     public FragmentAndParameters renderForOrderBy(RenderingContext renderingContext) {
         return FragmentAndParameters.fromFragment(tableAlias + "." + column.name() + descendingPhrase); //$NON-NLS-1$
@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * The position of a page in a keyset (seek) paged query. A cursor holds the values of the order by columns for the
+ * last row of the previous page - in the same order as the order by columns.
+ *
+ * <p>The next page is selected with a predicate on the order by columns rather than an offset. See
+ * {@link KeysetPaging}.
+ */
+public final class KeysetCursor {
+    private final List<Object> values;
+
+    private KeysetCursor(List<@Nullable Object> values) {
+        Validator.assertNotEmpty(values, "ERROR.61"); //$NON-NLS-1$
+        Validator.assertFalse(values.stream().anyMatch(Objects::isNull), "ERROR.61"); //$NON-NLS-1$
+        //noinspection NullableProblems
+        this.values = Collections.unmodifiableList(values);
+    }
+
+    public List<Object> values() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return this == obj || obj instanceof KeysetCursor other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor" + values; //$NON-NLS-1$
+    }
+
+    public static KeysetCursor of(Object... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static KeysetCursor of(List<?> values) {
+        return new KeysetCursor(new ArrayList<>(values));
+    }
+
+    /**
+     * Calculate the cursor for the next page from the last row of the current page. This is typically used with rows
+     * mapped by a MyBatis result map or a Spring RowMapper.
+     *
+     * @param rows the rows of the current page
+     * @param keyExtractors functions that return the value of each order by column from a row, in order by order
+     * @param <T> the type of row
+     * @return the cursor for the next page, or an empty Optional if there are no rows
+     */
+    @SafeVarargs
+    public static <T> Optional<KeysetCursor> fromLastRow(List<T> rows, Function<? super T, ?>... keyExtractors) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        T lastRow = rows.get(rows.size() - 1);
+        return Optional.of(of(Arrays.stream(keyExtractors)
+                .<@Nullable Object>map(f -> f.apply(lastRow))
+                .toList()));
+    }
+
+    /**
+     * Calculate the cursor for the next page from the last row of the current page. This is used with rows returned
+     * as maps - for example from {@link org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper#selectManyMappedRows}
+     * or Spring's <code>queryForList</code>.
+     *
+     * @param rows the rows of the current page
+     * @param keys the map keys of the order by columns, in order by order
+     * @return the cursor for the next page, or an empty Optional if there are no rows
+     */
+    public static Optional<KeysetCursor> fromLastMappedRow(List<Map<String, Object>> rows, String... keys) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> lastRow = rows.get(rows.size() - 1);
+        return Optional.of(of(Arrays.stream(keys)
+                .<@Nullable Object>map(lastRow::get)
+                .toList()));
+    }
+}
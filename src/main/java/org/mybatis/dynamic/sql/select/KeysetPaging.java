@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThan;
+import org.mybatis.dynamic.sql.where.condition.IsLessThan;
+
+/**
+ * Support for keyset (seek) paging.
+ *
+ * <p>With keyset paging, the next page of a query is selected with a predicate on the order by columns - "rows after
+ * the last row of the previous page" - instead of an offset. The database can then seek directly to the start of the
+ * page with an index, rather than reading and discarding all the rows before it.
+ *
+ * <p>For a query ordered by columns a and b, the predicate is rendered as
+ * <code>(a &gt; ? or (a = ? and b &gt; ?))</code>. Descending columns use "&lt;" instead of "&gt;". The predicate is
+ * added to the where clause of the query. For correct results, the order by columns should uniquely identify a row,
+ * and they should not contain nulls.
+ *
+ * <p>Order by columns must be table columns (possibly descending, or qualified with a table alias).
+ */
+public final class KeysetPaging {
+    private KeysetPaging() {}
+
+    /**
+     * Return a new select model that will select rows after the cursor.
+     *
+     * @param selectModel a select model with an order by clause, and without unions
+     * @param cursor the values of the order by columns for the last row of the previous page
+     * @return a new select model with the seek predicate added to the where clause
+     */
+    public static SelectModel seekAfter(SelectModel selectModel, KeysetCursor cursor) {
+        OrderByModel orderByModel = selectModel.orderByModel().orElse(null);
+        Validator.assertTrue(orderByModel != null, "ERROR.57"); //$NON-NLS-1$
+        Validator.assertTrue(selectModel.queryExpressions().count() == 1, "ERROR.58"); //$NON-NLS-1$
+
+        return SelectModelCriteria.addCriterion(selectModel, seekCriterion(orderByModel, cursor));
+    }
+
+    /**
+     * Calculate a criterion that will select rows after the cursor.
+     *
+     * @param orderByModel the order by columns of the query
+     * @param cursor the values of the order by columns for the last row of the previous page
+     * @return the seek criterion
+     */
+    public static SqlCriterion seekCriterion(OrderByModel orderByModel, KeysetCursor cursor) {
+        List<SortSpecification> sortSpecifications = orderByModel.columns().toList();
+        Validator.assertTrue(sortSpecifications.size() == cursor.size(), "ERROR.59", //$NON-NLS-1$
+                String.valueOf(sortSpecifications.size()));
+
+        // build from the last column back to the first:
+        //   a > ? or (a = ? and (b > ? or (b = ? and c > ?)))
+        int last = sortSpecifications.size() - 1;
+        SqlCriterion criterion = seekCriterion(sortSpecifications.get(last), cursor.values().get(last), null);
+        for (int i = last - 1; i >= 0; i--) {
+            criterion = seekCriterion(sortSpecifications.get(i), cursor.values().get(i), criterion);
+        }
+        return criterion;
+    }
+
+    private static SqlCriterion seekCriterion(SortSpecification sortSpecification, Object value,
+                                              @Nullable SqlCriterion nextCriterion) {
+        BindableColumn<Object> column = toColumn(sortSpecification);
+        RenderableCondition<Object> condition = sortSpecification.isDescending() ? IsLessThan.of(value)
+                : IsGreaterThan.of(value);
+
+        ColumnAndConditionCriterion.Builder<Object> builder = ColumnAndConditionCriterion.withColumn(column)
+                .withCondition(condition);
+
+        if (nextCriterion != null) {
+            ColumnAndConditionCriterion<Object> tieBreaker = ColumnAndConditionCriterion.withColumn(column)
+                    .withCondition(IsEqualTo.of(value))
+                    .withSubCriteria(List.of(andOrGroup("and", nextCriterion))) //$NON-NLS-1$
+                    .build();
+            builder.withSubCriteria(List.of(andOrGroup("or", tieBreaker))); //$NON-NLS-1$
+        }
+
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BindableColumn<Object> toColumn(SortSpecification sortSpecification) {
+        if (sortSpecification instanceof SqlColumn<?> column) {
+            return (BindableColumn<Object>) column;
+        } else if (sortSpecification instanceof ColumnSortSpecification columnSortSpecification) {
+            return (BindableColumn<Object>) columnSortSpecification.column()
+                    .qualifiedWith(columnSortSpecification.tableAlias());
+        }
+
+        throw new InvalidSqlException(Messages.getString("ERROR.60")); //$NON-NLS-1$
+    }
+
+    private static AndOrCriteriaGroup andOrGroup(String connector, SqlCriterion criterion) {
+        return new AndOrCriteriaGroup.Builder()
+                .withConnector(connector)
+                .withInitialCriterion(criterion)
+                .build();
+    }
+}
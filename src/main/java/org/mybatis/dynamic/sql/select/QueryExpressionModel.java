@@ -92,6 +92,19 @@ public class QueryExpressionModel {
         return Optional.ofNullable(havingModel);
     }
 
+    Builder toBuilder() {
+        return new Builder()
+                .withConnector(connector)
+                .isDistinct(isDistinct)
+                .withSelectList(selectList)
+                .withTable(table)
+                .withTableAliases(tableAliases)
+                .withJoinModel(joinModel)
+                .withWhereModel(whereModel)
+                .withGroupByModel(groupByModel)
+                .withHavingModel(havingModel);
+    }
+
     public static Builder withSelectList(List<? extends BasicColumn> columnList) {
         return new Builder().withSelectList(columnList);
     }
@@ -56,6 +56,7 @@ public class SelectDSL<R> implements ForAndWaitOperations<SelectDSL<R>>,
     final StatementConfiguration statementConfiguration = new StatementConfiguration();
     private @Nullable String forClause;
     private @Nullable String waitClause;
+    private @Nullable KeysetCursor seekCursor;
 
     private SelectDSL(Function<SelectModel, R> adapterFunction) {
         this.adapterFunction = Objects.requireNonNull(adapterFunction);
@@ -116,6 +117,29 @@ public class SelectDSL<R> implements ForAndWaitOperations<SelectDSL<R>>,
         return this;
     }
 
+    /**
+     * Select the page of rows after the cursor - keyset (seek) paging. This requires an order by clause, and the
+     * cursor must contain one value for each order by column. See {@link KeysetPaging}.
+     *
+     * @param values the values of the order by columns for the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL<R> seekAfter(Object... values) {
+        return seekAfterWhenPresent(KeysetCursor.of(values));
+    }
+
+    /**
+     * Select the page of rows after the cursor - keyset (seek) paging. If the cursor is null (typically the first page)
+     * then the query is not changed.
+     *
+     * @param cursor the values of the order by columns for the last row of the previous page
+     * @return this DSL
+     */
+    public SelectDSL<R> seekAfterWhenPresent(@Nullable KeysetCursor cursor) {
+        this.seekCursor = cursor;
+        return this;
+    }
+
     @Override
     public LimitFinisher<SelectDSL<R>, R> limitWhenPresent(@Nullable Long limit) {
         return limitAndOffsetSupport.limitWhenPresent(limit);
@@ -160,6 +184,9 @@ public class SelectDSL<R> implements ForAndWaitOperations<SelectDSL<R>>,
                 .withForClause(forClause)
                 .withWaitClause(waitClause)
                 .build();
+        if (seekCursor != null) {
+            selectModel = KeysetPaging.seekAfter(selectModel, seekCursor);
+        }
         return adapterFunction.apply(selectModel);
     }
 
@@ -23,6 +23,8 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.common.ModelFreezer;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -32,6 +34,7 @@ public class SelectModel extends AbstractSelectModel {
     private final List<QueryExpressionModel> queryExpressions;
     private final @Nullable String forClause;
     private final @Nullable String waitClause;
+    private final boolean isFrozen;
 
     private SelectModel(Builder builder) {
         super(builder);
@@ -39,6 +42,7 @@ public class SelectModel extends AbstractSelectModel {
         Validator.assertNotEmpty(queryExpressions, "ERROR.14"); //$NON-NLS-1$
         forClause = builder.forClause;
         waitClause = builder.waitClause;
+        isFrozen = builder.isFrozen;
     }
 
     public Stream<QueryExpressionModel> queryExpressions() {
@@ -53,6 +57,16 @@ public class SelectModel extends AbstractSelectModel {
         return Optional.ofNullable(waitClause);
     }
 
+    /**
+     * Returns true if this model was returned by {@link #freeze()}. Models derived from a frozen model (for example,
+     * by adding criteria) are not frozen.
+     *
+     * @return true if this model is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
     public SelectStatementProvider render(RenderingStrategy renderingStrategy) {
         return SelectRenderer.withSelectModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -60,6 +74,44 @@ public class SelectModel extends AbstractSelectModel {
                 .render();
     }
 
+    /**
+     * Render this model once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the compiled statement
+     */
+    public CompiledStatement<SelectStatementProvider> compile(RenderingStrategy renderingStrategy) {
+        return SelectRenderer.withSelectModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .compile();
+    }
+
+    /**
+     * Returns a frozen copy of this model that can be cached and rendered concurrently. The statement configuration
+     * is frozen, and the model is checked for elements that are not known to be immutable.
+     *
+     * @return a frozen copy of this model, or this model if it is already frozen
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the model contains custom conditions
+     * @see ModelFreezer
+     */
+    public SelectModel freeze() {
+        if (isFrozen) {
+            return this;
+        }
+
+        return new Builder()
+                .withQueryExpressions(queryExpressions.stream().map(ModelFreezer::freeze).toList())
+                .withOrderByModel(orderByModel().map(ModelFreezer::freeze).orElse(null))
+                .withPagingModel(pagingModel().orElse(null))
+                .withForClause(forClause)
+                .withWaitClause(waitClause)
+                .withStatementConfiguration(statementConfiguration.freeze())
+                .frozen()
+                .build();
+    }
+
     public <R> R map(Function<SelectModel, R> mapper) {
         return mapper.apply(this);
     }
@@ -72,6 +124,7 @@ public class SelectModel extends AbstractSelectModel {
         private final List<QueryExpressionModel> queryExpressions = new ArrayList<>();
         private @Nullable String forClause;
         private @Nullable String waitClause;
+        private boolean isFrozen;
 
         public Builder withQueryExpression(QueryExpressionModel queryExpression) {
             this.queryExpressions.add(queryExpression);
@@ -98,6 +151,11 @@ public class SelectModel extends AbstractSelectModel {
             return this;
         }
 
+        private Builder frozen() {
+            isFrozen = true;
+            return this;
+        }
+
         public SelectModel build() {
             return new SelectModel(this);
         }
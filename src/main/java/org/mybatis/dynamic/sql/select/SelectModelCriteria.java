@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.util.Validator;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Utility methods for adding criteria to an existing select model. This is used by features that select a subset of
+ * the rows of a query written by a user - for example, keyset paging and range partitioning.
+ */
+public final class SelectModelCriteria {
+    private SelectModelCriteria() {}
+
+    /**
+     * Return a new select model with an additional criterion in the where clause. If the model already has a where
+     * clause, the existing criteria are grouped and the new criterion is added with "and". Everything else in the
+     * model is unchanged.
+     *
+     * @param selectModel a select model without unions
+     * @param criterion the criterion to add
+     * @return a new select model
+     */
+    public static SelectModel addCriterion(SelectModel selectModel, SqlCriterion criterion) {
+        List<QueryExpressionModel> queryExpressions = selectModel.queryExpressions().toList();
+        Validator.assertTrue(queryExpressions.size() == 1, "ERROR.64"); //$NON-NLS-1$
+
+        QueryExpressionModel queryExpression = queryExpressions.get(0);
+        WhereModel whereModel = addCriterion(queryExpression.whereModel().orElse(null), criterion);
+
+        return new SelectModel.Builder()
+                .withQueryExpression(queryExpression.toBuilder().withWhereModel(whereModel).build())
+                .withOrderByModel(selectModel.orderByModel().orElse(null))
+                .withPagingModel(selectModel.pagingModel().orElse(null))
+                .withStatementConfiguration(selectModel.statementConfiguration())
+                .withForClause(selectModel.forClause().orElse(null))
+                .withWaitClause(selectModel.waitClause().orElse(null))
+                .build();
+    }
+
+    private static WhereModel addCriterion(@Nullable WhereModel whereModel, SqlCriterion criterion) {
+        if (whereModel == null) {
+            return new WhereModel.Builder()
+                    .withInitialCriterion(criterion)
+                    .build();
+        }
+
+        CriteriaGroup existingCriteria = new CriteriaGroup.Builder()
+                .withInitialCriterion(whereModel.initialCriterion())
+                .withSubCriteria(whereModel.subCriteria())
+                .build();
+
+        return new WhereModel.Builder()
+                .withInitialCriterion(existingCriteria)
+                .withSubCriteria(List.of(new AndOrCriteriaGroup.Builder()
+                        .withConnector("and") //$NON-NLS-1$
+                        .withInitialCriterion(criterion)
+                        .build()))
+                .build();
+    }
+}
@@ -73,6 +73,11 @@ public class SearchedCaseModel implements BasicColumn, SortSpecification {
                 .build();
     }
 
+    @Override
+    public boolean isDescending() {
+        return !descendingPhrase.isEmpty();
+    }
+
     @Override
     public FragmentAndParameters renderForOrderBy(RenderingContext renderingContext) {
         return render(renderingContext).mapFragment(f -> f + descendingPhrase);
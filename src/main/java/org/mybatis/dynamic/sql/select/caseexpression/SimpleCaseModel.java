@@ -85,6 +85,11 @@ public class SimpleCaseModel<T> implements BasicColumn, SortSpecification {
                 .build();
     }
 
+    @Override
+    public boolean isDescending() {
+        return !descendingPhrase.isEmpty();
+    }
+
     @Override
     public FragmentAndParameters renderForOrderBy(RenderingContext renderingContext) {
         return render(renderingContext).mapFragment(f -> f + descendingPhrase);
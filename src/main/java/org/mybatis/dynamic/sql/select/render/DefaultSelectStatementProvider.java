@@ -15,20 +15,21 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
 
 public class DefaultSelectStatementProvider implements SelectStatementProvider {
     private final String selectStatement;
     private final Map<String, Object> parameters;
+    private final StatementHints statementHints;
 
     private DefaultSelectStatementProvider(Builder builder) {
         selectStatement = Objects.requireNonNull(builder.selectStatement);
-        parameters = Collections.unmodifiableMap(Objects.requireNonNull(builder.parameters));
+        parameters = builder.parameters.build();
+        statementHints = builder.statementHints;
     }
 
     @Override
@@ -41,13 +42,19 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
         return selectStatement;
     }
 
+    @Override
+    public StatementHints getStatementHints() {
+        return statementHints;
+    }
+
     public static Builder withSelectStatement(String selectStatement) {
         return new Builder().withSelectStatement(selectStatement);
     }
 
     public static class Builder {
         private @Nullable String selectStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
+        private StatementHints statementHints = StatementHints.empty();
 
         public Builder withSelectStatement(String selectStatement) {
             this.selectStatement = selectStatement;
@@ -59,6 +66,11 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
             return this;
         }
 
+        public Builder withStatementHints(StatementHints statementHints) {
+            this.statementHints = statementHints;
+            return this;
+        }
+
         public DefaultSelectStatementProvider build() {
             return new DefaultSelectStatementProvider(this);
         }
@@ -16,7 +16,6 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.exception.InvalidSqlException;
@@ -24,7 +23,7 @@ import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.select.join.JoinSpecification;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 import org.mybatis.dynamic.sql.util.Messages;
 
 public class JoinRenderer {
@@ -39,24 +38,37 @@ public class JoinRenderer {
     }
 
     public FragmentAndParameters render() {
-        return joinModel.joinSpecifications()
-                .map(this::renderJoinSpecification)
-                .collect(FragmentCollector.collect())
-                .toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
+        FragmentWriter writer = new FragmentWriter();
+        render(writer);
+        return writer.toFragmentAndParameters();
     }
 
-    private FragmentAndParameters renderJoinSpecification(JoinSpecification joinSpecification) {
-        FragmentCollector fc = new FragmentCollector();
-        fc.add(FragmentAndParameters.fromFragment(joinSpecification.joinType().type()));
-        fc.add(joinSpecification.table().accept(tableExpressionRenderer));
-        fc.add(JoinSpecificationRenderer
+    public void render(FragmentWriter writer) {
+        int start = writer.length();
+
+        joinModel.joinSpecifications().forEach(joinSpecification -> {
+            if (writer.length() > start) {
+                writer.append(' ');
+            }
+            renderJoinSpecification(joinSpecification, writer);
+        });
+    }
+
+    private void renderJoinSpecification(JoinSpecification joinSpecification, FragmentWriter writer) {
+        writer.append(joinSpecification.joinType().type())
+                .append(' ')
+                .append(joinSpecification.table().accept(tableExpressionRenderer))
+                .append(' ');
+
+        boolean rendered = JoinSpecificationRenderer
                 .withJoinSpecification(joinSpecification)
                 .withRenderingContext(renderingContext)
                 .build()
-                .render()
-                .orElseThrow(() -> new InvalidSqlException(Messages.getString("ERROR.46")))); //$NON-NLS-1$
+                .render(writer);
 
-        return fc.toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
+        if (!rendered) {
+            throw new InvalidSqlException(Messages.getString("ERROR.46")); //$NON-NLS-1$
+        }
     }
 
     public static Builder withJoinModel(JoinModel joinModel) {
@@ -15,13 +15,22 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.render.DeferredParameterKeys;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.MultiSelectModel;
@@ -33,50 +42,110 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class MultiSelectRenderer {
     private final MultiSelectModel multiSelectModel;
+    private final RenderingStrategy renderingStrategy;
+    private final AtomicInteger sequence = new AtomicInteger(1);
     private final RenderingContext renderingContext;
+    private final @Nullable RenderTracker renderTracker;
 
     private MultiSelectRenderer(Builder builder) {
         multiSelectModel = Objects.requireNonNull(builder.multiSelectModel);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderTracker = RenderTracker.start(multiSelectModel.statementConfiguration(),
+                RenderEvent.StatementType.MULTI_SELECT, () -> RenderTracker.tableName(
+                        multiSelectModel.initialSelect().queryExpressions().findFirst().orElseThrow().table()));
         renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence)
                 .withStatementConfiguration(multiSelectModel.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
     }
 
     public SelectStatementProvider render() {
-        FragmentAndParameters initialSelect = renderSelect(multiSelectModel.initialSelect());
-
-        FragmentCollector fragmentCollector = multiSelectModel
-                .unionQueries()
-                .map(this::renderSelect)
-                .collect(FragmentCollector.collect(initialSelect));
+        FragmentCollector fragmentCollector = multiSelectModel.statementConfiguration().getUnionRenderingExecutor()
+                .map(this::renderSelectsInParallel)
+                .orElseGet(this::renderSelects);
 
         renderOrderBy().ifPresent(fragmentCollector::add);
         renderPagingModel().ifPresent(fragmentCollector::add);
 
-        return toSelectStatementProvider(fragmentCollector);
+        SelectStatementProvider statementProvider = toSelectStatementProvider(fragmentCollector);
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getSelectStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
     }
 
     private SelectStatementProvider toSelectStatementProvider(FragmentCollector fragmentCollector) {
         return DefaultSelectStatementProvider
                 .withSelectStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
                 .withParameters(fragmentCollector.parameters())
+                .withStatementHints(multiSelectModel.statementConfiguration().getStatementHints())
                 .build();
     }
 
-    private FragmentAndParameters renderSelect(SelectModel selectModel) {
-        return SubQueryRenderer.withSelectModel(selectModel)
-                .withRenderingContext(renderingContext)
-                .withPrefix("(") //$NON-NLS-1$
-                .withSuffix(")") //$NON-NLS-1$
-                .build()
-                .render();
+    private FragmentCollector renderSelects() {
+        FragmentAndParameters initialSelect = renderSelect(multiSelectModel.initialSelect(), "(", //$NON-NLS-1$
+                renderingContext);
+
+        return multiSelectModel
+                .unionQueries()
+                .map(u -> renderSelect(u.selectModel(), unionPrefix(u), renderingContext))
+                .collect(FragmentCollector.collect(initialSelect));
     }
 
-    private FragmentAndParameters renderSelect(UnionQuery unionQuery) {
-        return SubQueryRenderer.withSelectModel(unionQuery.selectModel())
+    /**
+     * Render every select on the executor. Each select is rendered with its own parameter numbering. The selects are
+     * then renumbered in statement order, so the SQL and parameters are the same as if the selects were rendered one
+     * after another.
+     */
+    private FragmentCollector renderSelectsInParallel(Executor executor) {
+        List<CompletableFuture<DeferredSelect>> futures = new ArrayList<>();
+        futures.add(CompletableFuture.supplyAsync(
+                () -> renderDeferredSelect(multiSelectModel.initialSelect(), "("), executor)); //$NON-NLS-1$
+        multiSelectModel.unionQueries().forEach(u -> futures.add(CompletableFuture.supplyAsync(
+                () -> renderDeferredSelect(u.selectModel(), unionPrefix(u)), executor)));
+
+        FragmentCollector fragmentCollector = new FragmentCollector();
+        for (CompletableFuture<DeferredSelect> future : futures) {
+            DeferredSelect deferredSelect = join(future);
+            fragmentCollector.add(deferredSelect.deferredParameterKeys()
+                    .renumber(deferredSelect.select(), sequence));
+        }
+        return fragmentCollector;
+    }
+
+    private DeferredSelect renderDeferredSelect(SelectModel selectModel, String prefix) {
+        DeferredParameterKeys deferredParameterKeys = new DeferredParameterKeys(renderingStrategy);
+        RenderingContext selectContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withStatementConfiguration(multiSelectModel.statementConfiguration())
+                .withRenderTracker(renderTracker)
+                .withDeferredParameterKeys(deferredParameterKeys)
+                .build();
+
+        return new DeferredSelect(renderSelect(selectModel, prefix, selectContext), deferredParameterKeys);
+    }
+
+    private static DeferredSelect join(CompletableFuture<DeferredSelect> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static String unionPrefix(UnionQuery unionQuery) {
+        return unionQuery.connector() + " ("; //$NON-NLS-1$
+    }
+
+    private static FragmentAndParameters renderSelect(SelectModel selectModel, String prefix,
+                                                      RenderingContext renderingContext) {
+        return SubQueryRenderer.withSelectModel(selectModel)
                 .withRenderingContext(renderingContext)
-                .withPrefix(unionQuery.connector() + " (") //$NON-NLS-1$
+                .withPrefix(prefix)
                 .withSuffix(")") //$NON-NLS-1$
                 .build()
                 .render();
@@ -102,6 +171,8 @@ public class MultiSelectRenderer {
                 .render();
     }
 
+    private record DeferredSelect(FragmentAndParameters select, DeferredParameterKeys deferredParameterKeys) {}
+
     public static Builder withMultiSelectModel(MultiSelectModel multiSelectModel) {
         return new Builder().withMultiSelectModel(multiSelectModel);
     }
@@ -16,8 +16,8 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.BasicColumn;
@@ -26,14 +26,11 @@ import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
 import org.mybatis.dynamic.sql.render.GuaranteedTableAliasCalculator;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
-import org.mybatis.dynamic.sql.select.GroupByModel;
 import org.mybatis.dynamic.sql.select.HavingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
-import org.mybatis.dynamic.sql.util.StringUtilities;
-import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 
 public class QueryExpressionRenderer {
     private final QueryExpressionModel queryExpression;
@@ -102,98 +99,91 @@ public class QueryExpressionRenderer {
     }
 
     public FragmentAndParameters render() {
-        FragmentCollector fragmentCollector = new FragmentCollector();
-
-        fragmentCollector.add(calculateQueryExpressionStart());
-        calculateJoinClause().ifPresent(fragmentCollector::add);
-        calculateWhereClause().ifPresent(fragmentCollector::add);
-        calculateGroupByClause().ifPresent(fragmentCollector::add);
-        calculateHavingClause().ifPresent(fragmentCollector::add);
-
-        return fragmentCollector.toFragmentAndParameters(Collectors.joining(" ")); //$NON-NLS-1$
-    }
-
-    private FragmentAndParameters calculateQueryExpressionStart() {
-        FragmentAndParameters columnList = calculateColumnList();
-
-        String start = queryExpression.connector().map(StringUtilities::spaceAfter).orElse("") //$NON-NLS-1$
-                + "select " //$NON-NLS-1$
-                + (queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
-                + columnList.fragment()
-                + " from "; //$NON-NLS-1$
-
-        FragmentAndParameters renderedTable = renderTableExpression(queryExpression.table());
-        start += renderedTable.fragment();
-
-        return FragmentAndParameters.withFragment(start)
-                .withParameters(renderedTable.parameters())
-                .withParameters(columnList.parameters())
-                .build();
+        FragmentWriter writer = new FragmentWriter();
+        render(writer);
+        return writer.toFragmentAndParameters();
     }
 
-    private FragmentAndParameters calculateColumnList() {
-        return queryExpression.columns()
-                .map(this::renderColumnAndAlias)
-                .collect(FragmentCollector.collect())
-                .toFragmentAndParameters(Collectors.joining(", ")); //$NON-NLS-1$
+    public void render(FragmentWriter writer) {
+        writeQueryExpressionStart(writer);
+        writeJoinClause(writer);
+        writeWhereClause(writer);
+        writeGroupByClause(writer);
+        writeHavingClause(writer);
     }
 
-    private FragmentAndParameters renderColumnAndAlias(BasicColumn selectListItem) {
-        FragmentAndParameters renderedColumn = selectListItem.render(renderingContext);
-
-        return selectListItem.alias().map(a -> renderedColumn.mapFragment(f -> f + " as " + a)) //$NON-NLS-1$
-                .orElse(renderedColumn);
+    private void writeQueryExpressionStart(FragmentWriter writer) {
+        queryExpression.connector().ifPresent(c -> writer.append(c).append(' '));
+        writer.append("select "); //$NON-NLS-1$
+        if (queryExpression.isDistinct()) {
+            writer.append("distinct "); //$NON-NLS-1$
+        }
+        writeColumnList(writer);
+        writer.append(" from ") //$NON-NLS-1$
+                .append(renderTableExpression(queryExpression.table()));
     }
 
-    private FragmentAndParameters renderTableExpression(TableExpression table) {
-        return table.accept(tableExpressionRenderer);
+    private void writeColumnList(FragmentWriter writer) {
+        writeColumns(queryExpression.columns(), writer, this::writeColumnAndAlias);
     }
 
-    private Optional<FragmentAndParameters> calculateJoinClause() {
-        return queryExpression.joinModel().map(this::renderJoin);
+    private void writeColumnAndAlias(BasicColumn selectListItem, FragmentWriter writer) {
+        writer.append(selectListItem.render(renderingContext));
+        selectListItem.alias().ifPresent(a -> writer.append(" as ").append(a)); //$NON-NLS-1$
     }
 
-    private FragmentAndParameters renderJoin(JoinModel joinModel) {
-        return JoinRenderer.withJoinModel(joinModel)
-                .withTableExpressionRenderer(tableExpressionRenderer)
-                .withRenderingContext(renderingContext)
-                .build()
-                .render();
+    private void writeColumns(Stream<BasicColumn> columns, FragmentWriter writer,
+                              BiConsumer<BasicColumn, FragmentWriter> columnWriter) {
+        int start = writer.length();
+        columns.forEach(column -> {
+            if (writer.length() > start) {
+                writer.append(", "); //$NON-NLS-1$
+            }
+            columnWriter.accept(column, writer);
+        });
     }
 
-    private Optional<FragmentAndParameters> calculateWhereClause() {
-        return queryExpression.whereModel().flatMap(this::renderWhereClause);
+    private FragmentAndParameters renderTableExpression(TableExpression table) {
+        return table.accept(tableExpressionRenderer);
     }
 
-    private Optional<FragmentAndParameters> renderWhereClause(WhereModel whereModel) {
-        return whereModel.render(renderingContext);
+    private void writeJoinClause(FragmentWriter writer) {
+        queryExpression.joinModel().ifPresent(joinModel -> {
+            writer.append(' ');
+            JoinRenderer.withJoinModel(joinModel)
+                    .withTableExpressionRenderer(tableExpressionRenderer)
+                    .withRenderingContext(renderingContext)
+                    .build()
+                    .render(writer);
+        });
     }
 
-    private Optional<FragmentAndParameters> calculateGroupByClause() {
-        return queryExpression.groupByModel().map(this::renderGroupBy);
+    private void writeWhereClause(FragmentWriter writer) {
+        queryExpression.whereModel().ifPresent(whereModel ->
+                writer.appendOptional(" ", w -> whereModel.render(renderingContext, w))); //$NON-NLS-1$
     }
 
-    private FragmentAndParameters renderGroupBy(GroupByModel groupByModel) {
-        return groupByModel.columns()
-                .map(this::renderColumn)
-                .collect(FragmentCollector.collect())
-                .toFragmentAndParameters(
-                        Collectors.joining(", ", "group by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$)
+    private void writeGroupByClause(FragmentWriter writer) {
+        queryExpression.groupByModel().ifPresent(groupByModel -> {
+            writer.append(" group by "); //$NON-NLS-1$
+            writeColumns(groupByModel.columns(), writer, this::writeColumn);
+        });
     }
 
-    private FragmentAndParameters renderColumn(BasicColumn column) {
-        return column.render(renderingContext);
+    private void writeColumn(BasicColumn column, FragmentWriter writer) {
+        writer.append(column.render(renderingContext));
     }
 
-    private Optional<FragmentAndParameters> calculateHavingClause() {
-        return queryExpression.havingModel().flatMap(this::renderHavingClause);
+    private void writeHavingClause(FragmentWriter writer) {
+        queryExpression.havingModel().ifPresent(havingModel ->
+                writer.appendOptional(" ", w -> renderHavingClause(havingModel, w))); //$NON-NLS-1$
     }
 
-    private Optional<FragmentAndParameters> renderHavingClause(HavingModel havingModel) {
+    private boolean renderHavingClause(HavingModel havingModel, FragmentWriter writer) {
         return HavingRenderer.withHavingModel(havingModel)
                 .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render(writer);
     }
 
     public static Builder withQueryExpression(QueryExpressionModel model) {
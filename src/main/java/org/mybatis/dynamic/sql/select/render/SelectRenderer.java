@@ -18,32 +18,95 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
 import org.mybatis.dynamic.sql.select.SelectModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 
 public class SelectRenderer {
     private final SelectModel selectModel;
     private final RenderingStrategy renderingStrategy;
+    private final @Nullable RenderTracker renderTracker;
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        renderTracker = RenderTracker.start(selectModel.statementConfiguration(), RenderEvent.StatementType.SELECT,
+                () -> RenderTracker.tableName(selectModel.queryExpressions().findFirst().orElseThrow().table()));
     }
 
     public SelectStatementProvider render() {
+        SelectStatementProvider statementProvider;
+        if (selectModel.statementConfiguration().isRenderCacheEnabled()) {
+            statementProvider = withStatementHints(GlobalContext.getRenderCache().render(
+                    () -> StatementShape.of(selectModel, renderingStrategy), this::renderStatement,
+                    s -> toCompiledStatement(s, StatementHints.empty()), renderTracker));
+        } else {
+            statementProvider = withStatementHints(renderStatement());
+        }
+
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getSelectStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
+    }
+
+    /**
+     * Render the statement once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering. The render cache is not used.
+     *
+     * @return the compiled statement
+     */
+    public CompiledStatement<SelectStatementProvider> compile() {
+        return toCompiledStatement(renderStatement(), selectModel.statementConfiguration().getStatementHints());
+    }
+
+    private static CompiledStatement<SelectStatementProvider> toCompiledStatement(
+            SelectStatementProvider statementProvider, StatementHints statementHints) {
+        return CompiledStatement.<SelectStatementProvider>withStatement(statementProvider.getSelectStatement())
+                .withParameterKeys(statementProvider.getParameters().keySet())
+                .withStatementProviderFactory((s, p) -> DefaultSelectStatementProvider.withSelectStatement(s)
+                        .withParameters(p)
+                        .withStatementHints(statementHints)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Statement hints are not part of the statement shape, so they are attached after rendering (or after a
+     * statement is retrieved from the render cache).
+     */
+    private SelectStatementProvider withStatementHints(SelectStatementProvider statementProvider) {
+        StatementHints statementHints = selectModel.statementConfiguration().getStatementHints();
+        if (statementHints.isEmpty()) {
+            return statementProvider;
+        }
+
+        return DefaultSelectStatementProvider.withSelectStatement(statementProvider.getSelectStatement())
+                .withParameters(statementProvider.getParameters())
+                .withStatementHints(statementHints)
+                .build();
+    }
+
+    private SelectStatementProvider renderStatement() {
         RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
                 .withStatementConfiguration(selectModel.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
 
-        FragmentAndParameters fragmentAndParameters = SubQueryRenderer.withSelectModel(selectModel)
+        FragmentWriter writer = new FragmentWriter();
+        SubQueryRenderer.withSelectModel(selectModel)
                 .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render(writer);
 
-        return DefaultSelectStatementProvider.withSelectStatement(fragmentAndParameters.fragment())
-                .withParameters(fragmentAndParameters.parameters())
+        return DefaultSelectStatementProvider.withSelectStatement(writer.fragment())
+                .withParameters(writer.parameters())
                 .build();
     }
 
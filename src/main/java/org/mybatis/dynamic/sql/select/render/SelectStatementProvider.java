@@ -21,4 +21,13 @@ public interface SelectStatementProvider {
     Map<String, Object> getParameters();
 
     String getSelectStatement();
+
+    /**
+     * Returns JDBC hints that should be applied when the statement is executed.
+     *
+     * @return the statement hints. The hints will be empty if none were configured.
+     */
+    default StatementHints getStatementHints() {
+        return StatementHints.empty();
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * JDBC settings for a single statement. Hints are set in the statement configuration of a select statement
+ * and are carried with the rendered {@link SelectStatementProvider}. Execution support (for example, the Spring
+ * {@link org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions}) applies the hints to the JDBC
+ * statement before it is executed.
+ *
+ * <p>Hints that are not set are not applied, so the defaults of the driver or framework are used. The fetch size is
+ * not validated because some drivers give special meaning to negative values (for example, MySQL uses
+ * {@link Integer#MIN_VALUE} to stream rows).
+ *
+ * @see org.mybatis.dynamic.sql.configuration.StatementConfiguration#setStatementHints(StatementHints)
+ */
+public class StatementHints {
+    private static final StatementHints EMPTY = new Builder().build();
+
+    private final @Nullable Integer fetchSize;
+    private final @Nullable Integer maxRows;
+    private final @Nullable Integer timeoutSeconds;
+
+    private StatementHints(Builder builder) {
+        fetchSize = builder.fetchSize;
+        maxRows = builder.maxRows;
+        timeoutSeconds = builder.timeoutSeconds;
+    }
+
+    public Optional<Integer> fetchSize() {
+        return Optional.ofNullable(fetchSize);
+    }
+
+    public Optional<Integer> maxRows() {
+        return Optional.ofNullable(maxRows);
+    }
+
+    public Optional<Integer> timeoutSeconds() {
+        return Optional.ofNullable(timeoutSeconds);
+    }
+
+    public boolean isEmpty() {
+        return fetchSize == null && maxRows == null && timeoutSeconds == null;
+    }
+
+    /**
+     * Apply the hints to a JDBC statement.
+     *
+     * @param statement the statement
+     * @throws SQLException if the driver rejects a hint
+     */
+    public void applyTo(Statement statement) throws SQLException {
+        if (fetchSize != null) {
+            statement.setFetchSize(fetchSize);
+        }
+        if (maxRows != null) {
+            statement.setMaxRows(maxRows);
+        }
+        if (timeoutSeconds != null) {
+            statement.setQueryTimeout(timeoutSeconds);
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StatementHints other)) {
+            return false;
+        }
+        return Objects.equals(fetchSize, other.fetchSize)
+                && Objects.equals(maxRows, other.maxRows)
+                && Objects.equals(timeoutSeconds, other.timeoutSeconds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fetchSize, maxRows, timeoutSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementHints [fetchSize=" + fetchSize //$NON-NLS-1$
+                + ", maxRows=" + maxRows //$NON-NLS-1$
+                + ", timeoutSeconds=" + timeoutSeconds + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public static StatementHints empty() {
+        return EMPTY;
+    }
+
+    public static Builder withFetchSize(int fetchSize) {
+        return new Builder().withFetchSize(fetchSize);
+    }
+
+    public static Builder withMaxRows(int maxRows) {
+        return new Builder().withMaxRows(maxRows);
+    }
+
+    public static Builder withTimeoutSeconds(int timeoutSeconds) {
+        return new Builder().withTimeoutSeconds(timeoutSeconds);
+    }
+
+    public static class Builder {
+        private @Nullable Integer fetchSize;
+        private @Nullable Integer maxRows;
+        private @Nullable Integer timeoutSeconds;
+
+        public Builder withFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public Builder withMaxRows(int maxRows) {
+            Validator.assertFalse(maxRows < 0, "ERROR.62", "maxRows"); //$NON-NLS-1$ //$NON-NLS-2$
+            this.maxRows = maxRows;
+            return this;
+        }
+
+        public Builder withTimeoutSeconds(int timeoutSeconds) {
+            Validator.assertFalse(timeoutSeconds < 0, "ERROR.62", "timeoutSeconds"); //$NON-NLS-1$ //$NON-NLS-2$
+            this.timeoutSeconds = timeoutSeconds;
+            return this;
+        }
+
+        public StatementHints build() {
+            return new StatementHints(this);
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package org.mybatis.dynamic.sql.select.render;
 
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.common.OrderByModel;
@@ -26,7 +25,7 @@ import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 
 public class SubQueryRenderer {
     private final SelectModel selectModel;
@@ -42,35 +41,44 @@ public class SubQueryRenderer {
     }
 
     public FragmentAndParameters render() {
-        FragmentCollector fragmentCollector = selectModel
-                .queryExpressions()
-                .map(this::renderQueryExpression)
-                .collect(FragmentCollector.collect());
+        FragmentWriter writer = new FragmentWriter();
+        render(writer);
+        return writer.toFragmentAndParameters();
+    }
+
+    public void render(FragmentWriter writer) {
+        writer.append(prefix);
+        int start = writer.length();
+
+        selectModel.queryExpressions().forEach(queryExpressionModel -> {
+            if (writer.length() > start) {
+                writer.append(' ');
+            }
+            renderQueryExpression(queryExpressionModel, writer);
+        });
 
         selectModel.orderByModel()
                 .map(this::renderOrderBy)
-                .ifPresent(fragmentCollector::add);
+                .ifPresent(f -> writer.append(' ').append(f));
 
         selectModel.pagingModel()
                 .map(this::renderPagingModel)
-                .ifPresent(fragmentCollector::add);
+                .ifPresent(f -> writer.append(' ').append(f));
 
         selectModel.forClause()
-                .map(FragmentAndParameters::fromFragment)
-                .ifPresent(fragmentCollector::add);
+                .ifPresent(f -> writer.append(' ').append(f));
 
         selectModel.waitClause()
-                .map(FragmentAndParameters::fromFragment)
-                .ifPresent(fragmentCollector::add);
+                .ifPresent(f -> writer.append(' ').append(f));
 
-        return fragmentCollector.toFragmentAndParameters(Collectors.joining(" ", prefix, suffix)); //$NON-NLS-1$
+        writer.append(suffix);
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
-        return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
+    private void renderQueryExpression(QueryExpressionModel queryExpressionModel, FragmentWriter writer) {
+        QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
                 .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .render(writer);
     }
 
     private FragmentAndParameters renderOrderBy(OrderByModel orderByModel) {
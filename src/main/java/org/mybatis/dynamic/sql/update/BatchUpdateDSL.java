@@ -0,0 +1,194 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MappedColumnMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.RowMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for a batch update. Values in the set and where clauses are bound to properties of a row class, so the
+ * statement is rendered once and executed for every row.
+ *
+ * <p>Rows may be supplied by a {@link Collection}, an {@link Iterable}, or a {@link Stream}. Rows are never copied
+ * into a list - they are read one at a time when the batch is executed. A model built from a collection or an
+ * iterable reads the rows again every time it is rendered and executed. A stream can only be read once, so a model
+ * built from a stream can only be rendered and executed once.
+ *
+ * @param <T> the type of row
+ */
+public class BatchUpdateDSL<T> implements Buildable<BatchUpdateModel<T>> {
+
+    private final Supplier<Stream<T>> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private final List<PropertyMapping> whereMappings = new ArrayList<>();
+
+    private BatchUpdateDSL(Builder<T> builder) {
+        this.records = Objects.requireNonNull(builder.records);
+        this.table = Objects.requireNonNull(builder.table);
+    }
+
+    public <F> SetClauseFinisher<F> set(SqlColumn<F> column) {
+        return new SetClauseFinisher<>(column);
+    }
+
+    public <F> BatchUpdateDSL<T> withMappedColumn(SqlColumn<F> column) {
+        columnMappings.add(MappedColumnMapping.of(column));
+        return this;
+    }
+
+    public <F> WhereFinisher<F> where(SqlColumn<F> column) {
+        return new WhereFinisher<>(column);
+    }
+
+    @Override
+    public BatchUpdateModel<T> build() {
+        return BatchUpdateModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withWhereMappings(whereMappings)
+                .build();
+    }
+
+    public static <T> TableGatherer<T> update(Collection<T> records) {
+        return new TableGatherer<>(records::stream);
+    }
+
+    public static <T> TableGatherer<T> update(Iterable<T> records) {
+        return new TableGatherer<>(() -> StreamSupport.stream(records.spliterator(), false));
+    }
+
+    /**
+     * Update rows supplied by a stream. The stream can only be read once, so the model built from this DSL can only
+     * be rendered and executed once.
+     *
+     * @param records the rows to update
+     * @param <T> the type of row
+     * @return the next step in the DSL
+     */
+    public static <T> TableGatherer<T> update(Stream<T> records) {
+        return new TableGatherer<>(() -> records);
+    }
+
+    public static class TableGatherer<T> {
+        private final Supplier<Stream<T>> records;
+
+        private TableGatherer(Supplier<Stream<T>> records) {
+            this.records = records;
+        }
+
+        public BatchUpdateDSL<T> table(SqlTable table) {
+            return new Builder<T>().withRecords(records).withTable(table).build();
+        }
+    }
+
+    public class SetClauseFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetClauseFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toRow() {
+            columnMappings.add(RowMapping.of(column));
+            return BatchUpdateDSL.this;
+        }
+    }
+
+    public class WhereFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public WhereFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public WhereBuilder isEqualToProperty(String property) {
+            whereMappings.add(PropertyMapping.of(column, property));
+            return new WhereBuilder();
+        }
+    }
+
+    /**
+     * Where conditions of a batch update compare a column to a property of the row. Conditions are joined
+     * with "and".
+     */
+    public class WhereBuilder implements Buildable<BatchUpdateModel<T>> {
+        public <F> WhereFinisher<F> and(SqlColumn<F> column) {
+            return new WhereFinisher<>(column);
+        }
+
+        @Override
+        public BatchUpdateModel<T> build() {
+            return BatchUpdateDSL.this.build();
+        }
+    }
+
+    public static class Builder<T> {
+        private @Nullable Supplier<Stream<T>> records;
+        private @Nullable SqlTable table;
+
+        public Builder<T> withRecords(Supplier<Stream<T>> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public BatchUpdateDSL<T> build() {
+            return new BatchUpdateDSL<>(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.BatchUpdateRenderer;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * A batch update. The rows are supplied by a function that returns a new stream of rows every time it is called,
+ * unless the rows were supplied by a single stream - in that case the model can only be rendered and executed once.
+ *
+ * @param <T> the type of row
+ */
+public class BatchUpdateModel<T> {
+    private final SqlTable table;
+    private final Supplier<Stream<T>> records;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final List<PropertyMapping> whereMappings;
+
+    private BatchUpdateModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Objects.requireNonNull(builder.records);
+        columnMappings = builder.columnMappings;
+        whereMappings = builder.whereMappings;
+        Validator.assertNotEmpty(columnMappings, "ERROR.17"); //$NON-NLS-1$
+        Validator.assertNotEmpty(whereMappings, "ERROR.74"); //$NON-NLS-1$
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public Stream<T> records() {
+        return records.get();
+    }
+
+    public Stream<AbstractColumnMapping> columnMappings() {
+        return columnMappings.stream();
+    }
+
+    public Stream<PropertyMapping> whereMappings() {
+        return whereMappings.stream();
+    }
+
+    public BatchUpdate<T> render(RenderingStrategy renderingStrategy) {
+        return BatchUpdateRenderer.withBatchUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Supplier<Stream<T>> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SqlTable table;
+        private @Nullable Supplier<Stream<T>> records;
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private final List<PropertyMapping> whereMappings = new ArrayList<>();
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Supplier<Stream<T>> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<? extends AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withWhereMappings(List<PropertyMapping> whereMappings) {
+            this.whereMappings.addAll(whereMappings);
+            return this;
+        }
+
+        public BatchUpdateModel<T> build() {
+            return new BatchUpdateModel<>(this);
+        }
+    }
+}
@@ -25,8 +25,11 @@ import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.common.CommonBuilder;
+import org.mybatis.dynamic.sql.common.ModelFreezer;
 import org.mybatis.dynamic.sql.common.OrderByModel;
+import org.mybatis.dynamic.sql.common.ReturningModel;
 import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
@@ -41,7 +44,9 @@ public class UpdateModel {
     private final List<AbstractColumnMapping> columnMappings;
     private final @Nullable Long limit;
     private final @Nullable OrderByModel orderByModel;
+    private final @Nullable ReturningModel returningModel;
     private final StatementConfiguration statementConfiguration;
+    private final boolean isFrozen;
 
     private UpdateModel(Builder builder) {
         table = Objects.requireNonNull(builder.table());
@@ -50,8 +55,10 @@ public class UpdateModel {
         tableAlias = builder.tableAlias();
         limit = builder.limit();
         orderByModel = builder.orderByModel();
+        returningModel = builder.returningModel();
         Validator.assertNotEmpty(columnMappings, "ERROR.17"); //$NON-NLS-1$
         statementConfiguration = Objects.requireNonNull(builder.statementConfiguration());
+        isFrozen = builder.isFrozen;
     }
 
     public SqlTable table() {
@@ -78,10 +85,24 @@ public class UpdateModel {
         return Optional.ofNullable(orderByModel);
     }
 
+    public Optional<ReturningModel> returningModel() {
+        return Optional.ofNullable(returningModel);
+    }
+
     public StatementConfiguration statementConfiguration() {
         return statementConfiguration;
     }
 
+    /**
+     * Returns true if this model was returned by {@link #freeze()}. Models derived from a frozen model (for example,
+     * by adding criteria) are not frozen.
+     *
+     * @return true if this model is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
     public UpdateStatementProvider render(RenderingStrategy renderingStrategy) {
         return UpdateRenderer.withUpdateModel(this)
                 .withRenderingStrategy(renderingStrategy)
@@ -89,6 +110,47 @@ public class UpdateModel {
                 .render();
     }
 
+    /**
+     * Render this model once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the compiled statement
+     */
+    public CompiledStatement<UpdateStatementProvider> compile(RenderingStrategy renderingStrategy) {
+        return UpdateRenderer.withUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .compile();
+    }
+
+    /**
+     * Returns a frozen copy of this model that can be cached and rendered concurrently. The statement configuration
+     * is frozen, the current values of column mappings are captured, and the model is checked for elements that are
+     * not known to be immutable.
+     *
+     * @return a frozen copy of this model, or this model if it is already frozen
+     * @throws org.mybatis.dynamic.sql.exception.InvalidSqlException if the model contains custom conditions
+     * @see ModelFreezer
+     */
+    public UpdateModel freeze() {
+        if (isFrozen) {
+            return this;
+        }
+
+        return new Builder()
+                .withTable(table)
+                .withTableAlias(tableAlias)
+                .withColumnMappings(columnMappings.stream().map(ModelFreezer::freeze).toList())
+                .withWhereModel(whereModel().map(ModelFreezer::freeze).orElse(null))
+                .withLimit(limit)
+                .withOrderByModel(orderByModel().map(ModelFreezer::freeze).orElse(null))
+                .withReturningModel(returningModel().map(ModelFreezer::freeze).orElse(null))
+                .withStatementConfiguration(statementConfiguration.freeze())
+                .frozen()
+                .build();
+    }
+
     public <R> R map(Function<UpdateModel, R> mapper) {
         return mapper.apply(this);
     }
@@ -99,6 +161,7 @@ public class UpdateModel {
 
     public static class Builder extends CommonBuilder<Builder> {
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private boolean isFrozen;
 
         public Builder withColumnMappings(List<? extends AbstractColumnMapping> columnMappings) {
             this.columnMappings.addAll(columnMappings);
@@ -110,6 +173,11 @@ public class UpdateModel {
             return this;
         }
 
+        private Builder frozen() {
+            isFrozen = true;
+            return this;
+        }
+
         public UpdateModel build() {
             return new UpdateModel(this);
         }
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A rendered batch update. The SQL is rendered once, and rows are handed out lazily as the stream is consumed.
+ *
+ * <p>Every call to {@link #getRecords()} or {@link #updateStatements()} reads the rows again. If the rows were
+ * supplied by a single stream, only one of the methods may be called, and only once.
+ *
+ * @param <T> the type of row
+ */
+public class BatchUpdate<T> {
+    private final String updateStatement;
+    private final Supplier<Stream<T>> records;
+
+    BatchUpdate(String updateStatement, Supplier<Stream<T>> records) {
+        this.updateStatement = Objects.requireNonNull(updateStatement);
+        this.records = Objects.requireNonNull(records);
+    }
+
+    /**
+     * Returns a stream of update statements, one for each row. This is useful for MyBatis batch support.
+     *
+     * @return a stream of update statements
+     */
+    public Stream<RowUpdateStatementProvider<T>> updateStatements() {
+        return records.get().map(row -> new RowUpdateStatementProvider<>(updateStatement, row));
+    }
+
+    /**
+     * Returns the generated SQL for this batch. This is useful for Spring JDBC batch support.
+     *
+     * @return the generated UPDATE statement
+     */
+    public String getUpdateStatementSQL() {
+        return updateStatement;
+    }
+
+    public Stream<T> getRecords() {
+        return records.get();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.FieldAndValueAndParameters;
+import org.mybatis.dynamic.sql.insert.render.MultiRowValuePhraseVisitor;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class BatchUpdateRenderer<T> {
+    private static final String ROW_PREFIX = "row"; //$NON-NLS-1$
+
+    private final BatchUpdateModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+    private final MultiRowValuePhraseVisitor visitor;
+
+    private BatchUpdateRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        visitor = new MultiRowValuePhraseVisitor(renderingStrategy, ROW_PREFIX);
+    }
+
+    public BatchUpdate<T> render() {
+        String setClause = model.columnMappings()
+                .map(m -> m.accept(visitor))
+                .map(this::calculateSetPhrase)
+                .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        String whereClause = model.whereMappings()
+                .map(this::calculateWherePhrase)
+                .collect(Collectors.joining(" and ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        String updateStatement = "update " + model.table().tableName() //$NON-NLS-1$
+                + " " + setClause //$NON-NLS-1$
+                + " " + whereClause; //$NON-NLS-1$
+
+        return new BatchUpdate<>(updateStatement, model::records);
+    }
+
+    private String calculateSetPhrase(FieldAndValueAndParameters fieldAndValue) {
+        return fieldAndValue.fieldName() + " = " + fieldAndValue.valuePhrase(); //$NON-NLS-1$
+    }
+
+    private String calculateWherePhrase(PropertyMapping mapping) {
+        return mapping.columnName() + " = " + mapping.column().renderingStrategy() //$NON-NLS-1$
+                .orElse(renderingStrategy)
+                .getRecordBasedInsertBinding(mapping.column(), ROW_PREFIX, mapping.property());
+    }
+
+    public static <T> Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+        return new Builder<T>().withBatchUpdateModel(model);
+    }
+
+    public static class Builder<T> {
+        private @Nullable BatchUpdateModel<T> model;
+        private @Nullable RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchUpdateRenderer<T> build() {
+            return new BatchUpdateRenderer<>(this);
+        }
+    }
+}
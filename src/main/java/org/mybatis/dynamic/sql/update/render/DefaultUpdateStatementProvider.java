@@ -15,11 +15,12 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.util.CopyOnWriteParameterMap;
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
 
 public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     private final String updateStatement;
@@ -27,7 +28,7 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
 
     private DefaultUpdateStatementProvider(Builder builder) {
         updateStatement = Objects.requireNonNull(builder.updateStatement);
-        parameters = builder.parameters;
+        parameters = new CopyOnWriteParameterMap(builder.parameters.build());
     }
 
     @Override
@@ -46,7 +47,7 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
 
     public static class Builder {
         private @Nullable String updateStatement;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
 
         public Builder withUpdateStatement(String updateStatement) {
             this.updateStatement = updateStatement;
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.util.OrderedParameterMap;
+
+/**
+ * An update statement whose parameters are properties of a row. The placeholders in the statement are of the
+ * form <code>row.propertyName</code>, so the parameter map is empty.
+ *
+ * @param <T> the type of row
+ */
+public class RowUpdateStatementProvider<T> implements UpdateStatementProvider {
+    private final String updateStatement;
+    private final T row;
+
+    public RowUpdateStatementProvider(String updateStatement, T row) {
+        this.updateStatement = Objects.requireNonNull(updateStatement);
+        this.row = Objects.requireNonNull(row);
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        return OrderedParameterMap.empty();
+    }
+
+    @Override
+    public String getUpdateStatement() {
+        return updateStatement;
+    }
+
+    public T getRow() {
+        return row;
+    }
+}
@@ -17,102 +17,177 @@ package org.mybatis.dynamic.sql.update.render;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
-import org.mybatis.dynamic.sql.common.OrderByModel;
 import org.mybatis.dynamic.sql.common.OrderByRenderer;
+import org.mybatis.dynamic.sql.common.ReturningRenderer;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
 import org.mybatis.dynamic.sql.render.ExplicitTableAliasCalculator;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderTracker;
 import org.mybatis.dynamic.sql.render.RenderedParameterInfo;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.StatementShape;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.update.UpdateModel;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
 import org.mybatis.dynamic.sql.util.Validator;
-import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueOrNullMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
 
 public class UpdateRenderer {
     private final UpdateModel updateModel;
+    private final RenderingStrategy renderingStrategy;
     private final RenderingContext renderingContext;
+    private final @Nullable RenderTracker renderTracker;
     private final SetPhraseVisitor visitor;
 
     private UpdateRenderer(Builder builder) {
-        updateModel = Objects.requireNonNull(builder.updateModel);
+        updateModel = withValueSnapshots(Objects.requireNonNull(builder.updateModel));
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         TableAliasCalculator tableAliasCalculator = builder.updateModel.tableAlias()
                 .map(a -> ExplicitTableAliasCalculator.of(updateModel.table(), a))
                 .orElseGet(TableAliasCalculator::empty);
+        renderTracker = RenderTracker.start(updateModel.statementConfiguration(), RenderEvent.StatementType.UPDATE,
+                () -> updateModel.table().tableName());
         renderingContext = RenderingContext
-                .withRenderingStrategy(Objects.requireNonNull(builder.renderingStrategy))
+                .withRenderingStrategy(renderingStrategy)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withStatementConfiguration(updateModel.statementConfiguration())
+                .withRenderTracker(renderTracker)
                 .build();
         visitor = new SetPhraseVisitor(renderingContext);
     }
 
-    public UpdateStatementProvider render() {
-        FragmentCollector fragmentCollector = new FragmentCollector();
+    /**
+     * When the render cache is used, the statement shape and the rendered statement both need the values of the
+     * column mappings. Capture the values once so that value suppliers are called once per render, as they are when
+     * the cache is not used.
+     */
+    private static UpdateModel withValueSnapshots(UpdateModel updateModel) {
+        if (updateModel.isFrozen() || !updateModel.statementConfiguration().isRenderCacheEnabled()
+                || !GlobalContext.getRenderCache().isEnabled()) {
+            return updateModel;
+        }
+
+        return new UpdateModel.Builder()
+                .withTable(updateModel.table())
+                .withTableAlias(updateModel.tableAlias().orElse(null))
+                .withColumnMappings(updateModel.columnMappings().map(m -> m.accept(ValueSnapshotVisitor.INSTANCE))
+                        .toList())
+                .withWhereModel(updateModel.whereModel().orElse(null))
+                .withLimit(updateModel.limit().orElse(null))
+                .withOrderByModel(updateModel.orderByModel().orElse(null))
+                .withReturningModel(updateModel.returningModel().orElse(null))
+                .withStatementConfiguration(updateModel.statementConfiguration())
+                .build();
+    }
 
-        fragmentCollector.add(calculateUpdateStatementStart());
-        fragmentCollector.add(calculateSetPhrase());
-        calculateWhereClause().ifPresent(fragmentCollector::add);
-        calculateOrderByClause().ifPresent(fragmentCollector::add);
-        calculateLimitClause().ifPresent(fragmentCollector::add);
+    public UpdateStatementProvider render() {
+        UpdateStatementProvider statementProvider;
+        if (updateModel.statementConfiguration().isRenderCacheEnabled()) {
+            statementProvider = GlobalContext.getRenderCache().render(
+                    () -> StatementShape.of(updateModel, renderingStrategy), this::renderStatement,
+                    UpdateRenderer::toCompiledStatement, renderTracker);
+        } else {
+            statementProvider = renderStatement();
+        }
 
-        return toUpdateStatementProvider(fragmentCollector);
+        if (renderTracker != null) {
+            renderTracker.finish(statementProvider.getUpdateStatement(), statementProvider.getParameters().size());
+        }
+        return statementProvider;
     }
 
-    private UpdateStatementProvider toUpdateStatementProvider(FragmentCollector fragmentCollector) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(fragmentCollector.collectFragments(Collectors.joining(" "))) //$NON-NLS-1$
-                .withParameters(fragmentCollector.parameters())
-                .build();
+    /**
+     * Render the statement once and return a compiled statement that can be bound to new parameter values
+     * without re-rendering. The render cache is not used.
+     *
+     * @return the compiled statement
+     */
+    public CompiledStatement<UpdateStatementProvider> compile() {
+        return toCompiledStatement(renderStatement());
     }
 
-    private FragmentAndParameters calculateUpdateStatementStart() {
-        String aliasedTableName = renderingContext.aliasedTableName(updateModel.table());
-        return FragmentAndParameters.fromFragment("update " + aliasedTableName); //$NON-NLS-1$
+    private static CompiledStatement<UpdateStatementProvider> toCompiledStatement(
+            UpdateStatementProvider statementProvider) {
+        return CompiledStatement.<UpdateStatementProvider>withStatement(statementProvider.getUpdateStatement())
+                .withParameterKeys(statementProvider.getParameters().keySet())
+                .withStatementProviderFactory((s, p) -> DefaultUpdateStatementProvider.withUpdateStatement(s)
+                        .withParameters(p)
+                        .build())
+                .build();
     }
 
-    private FragmentAndParameters calculateSetPhrase() {
-        FragmentCollector fragmentCollector = updateModel.columnMappings()
-                .map(m -> m.accept(visitor))
-                .flatMap(Optional::stream)
-                .collect(FragmentCollector.collect());
+    private UpdateStatementProvider renderStatement() {
+        FragmentWriter writer = new FragmentWriter();
 
-        Validator.assertFalse(fragmentCollector.isEmpty(), "ERROR.18"); //$NON-NLS-1$
+        writeUpdateStatementStart(writer);
+        writeSetPhrase(writer);
+        writeWhereClause(writer);
+        writeOrderByClause(writer);
+        writeLimitClause(writer);
+        writeReturningClause(writer);
 
-        return fragmentCollector.toFragmentAndParameters(
-                        Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return DefaultUpdateStatementProvider.withUpdateStatement(writer.fragment())
+                .withParameters(writer.parameters())
+                .build();
     }
 
-    private Optional<FragmentAndParameters> calculateWhereClause() {
-        return updateModel.whereModel().flatMap(this::renderWhereClause);
+    private void writeUpdateStatementStart(FragmentWriter writer) {
+        writer.append("update ") //$NON-NLS-1$
+                .append(renderingContext.aliasedTableName(updateModel.table()));
     }
 
-    private Optional<FragmentAndParameters> renderWhereClause(WhereModel whereModel) {
-        return whereModel.render(renderingContext);
-    }
+    private void writeSetPhrase(FragmentWriter writer) {
+        writer.append(" set "); //$NON-NLS-1$
+        int start = writer.length();
 
-    private Optional<FragmentAndParameters> calculateLimitClause() {
-        return updateModel.limit().map(this::renderLimitClause);
+        updateModel.columnMappings()
+                .map(m -> m.accept(visitor))
+                .flatMap(Optional::stream)
+                .forEach(setPhrase -> {
+                    if (writer.length() > start) {
+                        writer.append(", "); //$NON-NLS-1$
+                    }
+                    writer.append(setPhrase);
+                });
+
+        Validator.assertFalse(writer.length() == start, "ERROR.18"); //$NON-NLS-1$
     }
 
-    private FragmentAndParameters renderLimitClause(Long limit) {
-        RenderedParameterInfo parameterInfo = renderingContext.calculateLimitParameterInfo();
+    private void writeWhereClause(FragmentWriter writer) {
+        updateModel.whereModel().ifPresent(whereModel ->
+                writer.appendOptional(" ", w -> whereModel.render(renderingContext, w))); //$NON-NLS-1$
+    }
 
-        return FragmentAndParameters.withFragment("limit " + parameterInfo.renderedPlaceHolder()) //$NON-NLS-1$
-                .withParameter(parameterInfo.parameterMapKey(), limit)
-                .build();
+    private void writeLimitClause(FragmentWriter writer) {
+        updateModel.limit().ifPresent(limit -> {
+            RenderedParameterInfo parameterInfo = renderingContext.calculateLimitParameterInfo();
+            writer.append(" limit ") //$NON-NLS-1$
+                    .append(parameterInfo.renderedPlaceHolder())
+                    .appendParameter(parameterInfo.parameterMapKey(), limit);
+        });
     }
 
-    private Optional<FragmentAndParameters> calculateOrderByClause() {
-        return updateModel.orderByModel().map(this::renderOrderByClause);
+    private void writeOrderByClause(FragmentWriter writer) {
+        updateModel.orderByModel().ifPresent(orderByModel ->
+                writer.append(' ').append(new OrderByRenderer(renderingContext).render(orderByModel)));
     }
 
-    private FragmentAndParameters renderOrderByClause(OrderByModel orderByModel) {
-        return new OrderByRenderer(renderingContext).render(orderByModel);
+    private void writeReturningClause(FragmentWriter writer) {
+        updateModel.returningModel().ifPresent(returningModel ->
+                new ReturningRenderer(renderingContext).write(returningModel, writer, false));
     }
 
     public static Builder withUpdateModel(UpdateModel updateModel) {
@@ -137,4 +212,48 @@ public class UpdateRenderer {
             return new UpdateRenderer(this);
         }
     }
+
+    private static class ValueSnapshotVisitor extends UpdateMappingVisitor<AbstractColumnMapping> {
+        private static final ValueSnapshotVisitor INSTANCE = new ValueSnapshotVisitor();
+
+        @Override
+        public AbstractColumnMapping visit(NullMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ConstantMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(StringConstantMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueOrNullMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public <T> AbstractColumnMapping visit(ValueWhenPresentMapping<T> mapping) {
+            return mapping.snapshot();
+        }
+
+        @Override
+        public AbstractColumnMapping visit(SelectMapping mapping) {
+            return mapping;
+        }
+
+        @Override
+        public AbstractColumnMapping visit(ColumnToColumnMapping mapping) {
+            return mapping;
+        }
+    }
 }
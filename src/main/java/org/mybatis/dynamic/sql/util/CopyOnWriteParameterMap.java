@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The parameter map of a rendered update or delete statement.
+ *
+ * <p>Parameters are read from an {@link OrderedParameterMap} until the map is changed. The first change copies the
+ * parameters into a {@link LinkedHashMap}, so the map can be changed like the mutable maps returned by earlier
+ * versions of the library, but parameters are only copied for statements that are actually changed.
+ *
+ * <p>While the map is unchanged, {@link OrderedParameterMap#copyOf(Map)} returns the ordered parameter map without
+ * copying it.
+ */
+public final class CopyOnWriteParameterMap extends AbstractMap<String, Object> {
+    private final OrderedParameterMap parameters;
+    private @Nullable Map<String, Object> changedParameters;
+
+    public CopyOnWriteParameterMap(OrderedParameterMap parameters) {
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
+    /**
+     * Returns the original parameters if the map has not been changed.
+     *
+     * @return the original parameters, or null if the map has been changed
+     */
+    public @Nullable OrderedParameterMap unchangedParameters() {
+        return changedParameters == null ? parameters : null;
+    }
+
+    @Override
+    public int size() {
+        return current().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return current().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return current().containsKey(key);
+    }
+
+    @Override
+    public @Nullable Object get(@Nullable Object key) {
+        return current().get(key);
+    }
+
+    @Override
+    public @Nullable Object put(String key, @Nullable Object value) {
+        return changeable().put(key, value);
+    }
+
+    @Override
+    public @Nullable Object remove(@Nullable Object key) {
+        return changeable().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        changeable().putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        changeable().clear();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        current().forEach(action);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return changedParameters == null ? new UnchangedEntrySet() : changedParameters.entrySet();
+    }
+
+    private Map<String, Object> current() {
+        return changedParameters == null ? parameters : changedParameters;
+    }
+
+    private Map<String, Object> changeable() {
+        if (changedParameters == null) {
+            changedParameters = new LinkedHashMap<>(parameters);
+        }
+        return changedParameters;
+    }
+
+    /**
+     * Entries of the unchanged map. Changes made through the entries, or the iterator, change the map.
+     */
+    private class UnchangedEntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Iterator<Entry<String, Object>> entries = parameters.entrySet().iterator();
+            return new Iterator<>() {
+                private @Nullable String lastKey;
+
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    Entry<String, Object> entry = entries.next();
+                    lastKey = entry.getKey();
+                    return new SimpleEntry<>(entry) {
+                        @Override
+                        public Object setValue(Object value) {
+                            put(getKey(), value);
+                            return super.setValue(value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    if (lastKey == null) {
+                        throw new IllegalStateException();
+                    }
+                    changeable().remove(lastKey);
+                    lastKey = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+    }
+}
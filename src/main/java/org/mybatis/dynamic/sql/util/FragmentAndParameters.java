@@ -15,8 +15,6 @@
  */
 package org.mybatis.dynamic.sql.util;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,7 +29,7 @@ public class FragmentAndParameters {
 
     private FragmentAndParameters(Builder builder) {
         fragment = Objects.requireNonNull(builder.fragment);
-        parameters = Collections.unmodifiableMap(builder.parameters);
+        parameters = builder.parameters.build();
     }
 
     public String fragment() {
@@ -64,7 +62,7 @@ public class FragmentAndParameters {
 
     public static class Builder {
         private @Nullable String fragment;
-        private final Map<String, Object> parameters = new HashMap<>();
+        private final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
 
         public Builder withFragment(String fragment) {
             this.fragment = fragment;
@@ -73,8 +71,6 @@ public class FragmentAndParameters {
 
         public Builder withParameter(String key, @Nullable Object value) {
             // the value can be null because a parameter type converter may return null
-
-            //noinspection DataFlowIssue
             parameters.put(key, value);
             return this;
         }
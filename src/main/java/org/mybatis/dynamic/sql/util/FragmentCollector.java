@@ -16,8 +16,6 @@
 package org.mybatis.dynamic.sql.util;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,7 +23,7 @@ import java.util.stream.Collector;
 
 public class FragmentCollector {
     final List<String> fragments = new ArrayList<>();
-    final Map<String, Object> parameters = new HashMap<>();
+    final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
 
     public FragmentCollector() {
         super();
@@ -42,7 +40,7 @@ public class FragmentCollector {
 
     public FragmentCollector merge(FragmentCollector other) {
         fragments.addAll(other.fragments);
-        parameters.putAll(other.parameters);
+        parameters.putAll(other.parameters());
         return this;
     }
 
@@ -61,7 +59,7 @@ public class FragmentCollector {
     }
 
     public Map<String, Object> parameters() {
-        return Collections.unmodifiableMap(parameters);
+        return parameters.build();
     }
 
     public boolean hasMultipleFragments() {
@@ -0,0 +1,112 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Accumulates the SQL and parameters of a statement in a single buffer and a single parameter map.
+ *
+ * <p>This is an alternative to {@link FragmentCollector} that avoids creating intermediate strings and maps for
+ * every clause of a statement. Renderers append fragments in statement order. Optional clauses are handled by
+ * remembering the current length of the buffer and truncating it if the clause does not render.
+ *
+ * @see FragmentAndParameters
+ */
+public class FragmentWriter {
+    private final StringBuilder buffer = new StringBuilder(128);
+    private final OrderedParameterMap.Builder parameters = new OrderedParameterMap.Builder();
+
+    public FragmentWriter append(String fragment) {
+        buffer.append(fragment);
+        return this;
+    }
+
+    public FragmentWriter append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    public FragmentWriter append(FragmentAndParameters fragmentAndParameters) {
+        buffer.append(fragmentAndParameters.fragment());
+        parameters.putAll(fragmentAndParameters.parameters());
+        return this;
+    }
+
+    public FragmentWriter appendParameter(String key, @Nullable Object value) {
+        // the value can be null because a parameter type converter may return null
+
+        //noinspection DataFlowIssue
+        parameters.put(key, value);
+        return this;
+    }
+
+    /**
+     * Append a separator, then call a function that may or may not write an additional fragment. If the function
+     * does not write anything, then the separator is removed.
+     *
+     * @param separator the separator to write before the fragment
+     * @param fragmentWriter a function that writes the fragment and returns true if anything was written
+     * @return true if the fragment was written
+     */
+    public boolean appendOptional(String separator, Predicate<FragmentWriter> fragmentWriter) {
+        int mark = buffer.length();
+        buffer.append(separator);
+        if (fragmentWriter.test(this)) {
+            return true;
+        } else {
+            buffer.setLength(mark);
+            return false;
+        }
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    public char charAt(int index) {
+        return buffer.charAt(index);
+    }
+
+    public void insert(int offset, String fragment) {
+        buffer.insert(offset, fragment);
+    }
+
+    public void deleteCharAt(int index) {
+        buffer.deleteCharAt(index);
+    }
+
+    public void setLength(int length) {
+        buffer.setLength(length);
+    }
+
+    public String fragment() {
+        return buffer.toString();
+    }
+
+    public Map<String, Object> parameters() {
+        return parameters.build();
+    }
+
+    public FragmentAndParameters toFragmentAndParameters() {
+        return FragmentAndParameters.withFragment(fragment())
+                .withParameters(parameters())
+                .build();
+    }
+}
@@ -37,6 +37,10 @@ public class Messages {
         return MessageFormat.format(getString(key), p1, p2, p3);
     }
 
+    public static String getString(String key, String p1, String p2, String p3, String p4) {
+        return MessageFormat.format(getString(key), p1, p2, p3, p4);
+    }
+
     public static String getInternalErrorString(InternalError internalError) {
         return MessageFormat.format(getString("INTERNAL.ERROR"), internalError.getNumber()); //$NON-NLS-1$
     }
@@ -0,0 +1,390 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable parameter map backed by arrays of keys and values.
+ *
+ * <p>Rendered statements typically have parameter keys that are generated from a sequence - "p1", "p2", "p3", etc.
+ * When keys follow that pattern, the index of a key is calculated from the key itself, so no hash table is created
+ * for the map. Other keys are indexed with a compact open addressing table.
+ *
+ * <p>Parameters are kept in the order they were added. For statements rendered by the library, this is the order in
+ * which the placeholders appear in the SQL - so the parameters can also be bound by position with {@link #value(int)}
+ * or {@link #toArray()}.
+ *
+ * <p>The map itself cannot be changed. Parameter values may be null.
+ */
+public final class OrderedParameterMap extends AbstractMap<String, Object> {
+    private static final OrderedParameterMap EMPTY = new OrderedParameterMap(KeyIndex.EMPTY, new Object[0]);
+
+    private final KeyIndex keyIndex;
+    private final @Nullable Object[] values;
+
+    private OrderedParameterMap(KeyIndex keyIndex, @Nullable Object[] values) {
+        this.keyIndex = keyIndex;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key instanceof String s && keyIndex.indexOf(s) >= 0;
+    }
+
+    @Override
+    public @Nullable Object get(@Nullable Object key) {
+        int index = key instanceof String s ? keyIndex.indexOf(s) : -1;
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Returns the position of a key in this map.
+     *
+     * @param key the key
+     * @return the position of the key, or -1 if the key is not in the map
+     */
+    public int indexOf(String key) {
+        return keyIndex.indexOf(key);
+    }
+
+    public String key(int index) {
+        return keyIndex.keys[index];
+    }
+
+    public @Nullable Object value(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the parameter values in order.
+     *
+     * @return a new array containing the parameter values
+     */
+    public @Nullable Object[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns a new map with the same keys as this map, and different values. The key index is shared with this map,
+     * so this is an inexpensive way to bind new values to a statement that has already been rendered.
+     *
+     * @param values the new values, in the same order as the keys of this map
+     * @return a new map
+     */
+    public OrderedParameterMap withValues(@Nullable Object... values) {
+        Validator.assertTrue(values.length == size(), "ERROR.73", String.valueOf(size())); //$NON-NLS-1$
+        return new OrderedParameterMap(keyIndex, values.clone());
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < values.length; i++) {
+            action.accept(keyIndex.keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Returns an ordered parameter map with the same entries as the supplied map. If the map is already an
+     * ordered parameter map, or an unchanged {@link CopyOnWriteParameterMap}, the ordered parameter map is returned
+     * without copying it.
+     *
+     * @param parameters the parameters
+     * @return an ordered parameter map
+     */
+    public static OrderedParameterMap copyOf(Map<String, Object> parameters) {
+        OrderedParameterMap orderedParameterMap = unwrap(parameters);
+        if (orderedParameterMap != null) {
+            return orderedParameterMap;
+        }
+
+        return new Builder().putAll(parameters).build();
+    }
+
+    private static @Nullable OrderedParameterMap unwrap(Map<String, Object> parameters) {
+        if (parameters instanceof OrderedParameterMap orderedParameterMap) {
+            return orderedParameterMap;
+        } else if (parameters instanceof CopyOnWriteParameterMap copyOnWriteParameterMap) {
+            return copyOnWriteParameterMap.unchangedParameters();
+        } else {
+            return null;
+        }
+    }
+
+    public static OrderedParameterMap empty() {
+        return EMPTY;
+    }
+
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < values.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (index >= values.length) {
+                throw new NoSuchElementException();
+            }
+
+            // the value can be null because a parameter type converter may return null
+
+            //noinspection DataFlowIssue
+            Entry<String, Object> entry = new SimpleImmutableEntry<>(keyIndex.keys[index], values[index]);
+            index++;
+            return entry;
+        }
+    }
+
+    /**
+     * Finds the position of a key. Keys made from a prefix and a consecutive sequence of numbers are located by
+     * parsing the number. Any other keys are located with a hash table of positions.
+     */
+    private static class KeyIndex {
+        private static final KeyIndex EMPTY = new KeyIndex(new String[0], "", 0, null); //$NON-NLS-1$
+
+        private final String[] keys;
+        private final String prefix;
+        private final int firstSequence;
+        private final int @Nullable [] table;
+
+        private KeyIndex(String[] keys, String prefix, int firstSequence, int @Nullable [] table) {
+            this.keys = keys;
+            this.prefix = prefix;
+            this.firstSequence = firstSequence;
+            this.table = table;
+        }
+
+        private int indexOf(String key) {
+            if (table == null) {
+                int index = key.startsWith(prefix) ? parseSequence(key, prefix.length()) - firstSequence : -1;
+                return index >= 0 && index < keys.length ? index : -1;
+            }
+
+            int mask = table.length - 1;
+            for (int slot = key.hashCode() & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                int index = table[slot] - 1;
+                if (keys[index].equals(key)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private static KeyIndex sequential(String[] keys, String prefix, int firstSequence) {
+            return new KeyIndex(keys, prefix, firstSequence, null);
+        }
+
+        private static KeyIndex hashed(String[] keys) {
+            // the table is at most half full, and slots hold the position of a key plus one
+            int[] table = new int[Integer.highestOneBit(Math.max(keys.length, 1) * 2) * 2];
+            int mask = table.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int slot = keys[i].hashCode() & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+            return new KeyIndex(keys, "", 0, table); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Parse the number at the end of a key. Only numbers in canonical form (no sign, no leading zeros) are accepted
+     * so that there is exactly one key for every sequence number.
+     *
+     * @return the number, or -1 if the end of the key is not a number in canonical form
+     */
+    private static int parseSequence(String key, int start) {
+        int length = key.length() - start;
+        if (length < 1 || length > 9 || (length > 1 && key.charAt(start) == '0')) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = start; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Accumulates parameters for an {@link OrderedParameterMap}. Like a map, adding a key that already exists
+     * replaces the value of the key, and the key keeps its original position.
+     */
+    public static class Builder {
+        private static final String DEFAULT_PREFIX = "p"; //$NON-NLS-1$
+
+        private String[] keys = new String[0];
+        private @Nullable Object[] values = new Object[0];
+        private int size;
+        private @Nullable String prefix;
+        private int firstSequence;
+        // positions of keys - only used when the keys do not follow a sequence
+        private @Nullable Map<String, Integer> positions;
+        // a complete map added to an empty builder is not copied unless more parameters are added
+        private @Nullable OrderedParameterMap source;
+
+        public Builder put(String key, @Nullable Object value) {
+            if (source != null) {
+                copySource();
+            }
+
+            if (size == 0) {
+                startSequence(key);
+            } else if (positions == null && !isNextInSequence(key)) {
+                positions = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    positions.put(keys[i], i);
+                }
+            }
+
+            if (positions != null) {
+                Integer existing = positions.putIfAbsent(key, size);
+                if (existing != null) {
+                    values[existing] = value;
+                    return this;
+                }
+            }
+
+            if (size == keys.length) {
+                int capacity = Math.max(size * 2, 4);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        public Builder putAll(Map<String, Object> parameters) {
+            OrderedParameterMap orderedParameterMap = unwrap(parameters);
+            if (orderedParameterMap != null) {
+                if (isEmpty()) {
+                    source = orderedParameterMap;
+                    return this;
+                }
+
+                for (int i = 0; i < orderedParameterMap.size(); i++) {
+                    put(orderedParameterMap.key(i), orderedParameterMap.value(i));
+                }
+            } else {
+                parameters.forEach(this::put);
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return size == 0 && source == null;
+        }
+
+        public OrderedParameterMap build() {
+            if (source != null) {
+                return source;
+            }
+
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            String[] builtKeys = Arrays.copyOf(keys, size);
+            KeyIndex keyIndex = positions == null && prefix != null
+                    ? KeyIndex.sequential(builtKeys, prefix, firstSequence)
+                    : KeyIndex.hashed(builtKeys);
+            return new OrderedParameterMap(keyIndex, Arrays.copyOf(values, size));
+        }
+
+        private void copySource() {
+            OrderedParameterMap parameters = Objects.requireNonNull(source);
+            source = null;
+            for (int i = 0; i < parameters.size(); i++) {
+                put(parameters.key(i), parameters.value(i));
+            }
+        }
+
+        private void startSequence(String key) {
+            int start = key.length();
+            while (start > 0 && key.charAt(start - 1) >= '0' && key.charAt(start - 1) <= '9') {
+                start--;
+            }
+
+            int sequence = parseSequence(key, start);
+            if (sequence < 0) {
+                positions = new HashMap<>();
+            } else {
+                prefix = start == 1 && key.startsWith(DEFAULT_PREFIX) ? DEFAULT_PREFIX : key.substring(0, start);
+                firstSequence = sequence;
+            }
+        }
+
+        private boolean isNextInSequence(String key) {
+            return prefix != null && key.startsWith(prefix)
+                    && parseSequence(key, prefix.length()) == firstSequence + size;
+        }
+    }
+}
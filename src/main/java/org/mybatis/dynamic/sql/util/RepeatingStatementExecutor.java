@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * Executes a delete or update statement with a limit repeatedly, until a round affects fewer rows than the limit.
+ * This is useful for deleting or updating a large number of rows in many small transactions (for example, with
+ * MySQL <code>delete ... limit n</code>) rather than one very large transaction.
+ *
+ * <p>The statement is rendered once and executed in every round. Each round should run in its own transaction - for
+ * example, with an auto commit session, or with a mapper method that commits. An update statement must change rows
+ * so that they no longer match the where clause, otherwise the same rows are updated in every round. A maximum
+ * number of rounds can be set as a safeguard.
+ *
+ * <p>The executor can pause between rounds to reduce load on the database and replication lag. The executor stops
+ * before the next round if the current thread is interrupted. The interrupt status of the thread is preserved.
+ *
+ * <p>Instances are immutable and thread safe.
+ */
+public class RepeatingStatementExecutor {
+    private final Duration pause;
+    private final long maxRounds;
+    private final @Nullable Consumer<Round> roundListener;
+
+    private RepeatingStatementExecutor(Builder builder) {
+        pause = Objects.requireNonNull(builder.pause);
+        Validator.assertFalse(pause.isNegative(), "ERROR.76"); //$NON-NLS-1$
+        Validator.assertTrue(builder.maxRounds > 0, "ERROR.77"); //$NON-NLS-1$
+        maxRounds = builder.maxRounds;
+        roundListener = builder.roundListener;
+    }
+
+    /**
+     * Render a delete statement once and execute it until a round deletes fewer rows than the limit of the
+     * statement.
+     *
+     * @param deleteModel the delete statement. The statement must have a limit
+     * @param renderingStrategy the rendering strategy
+     * @param executor a function that executes the statement and returns the number of rows deleted
+     * @return a summary of the execution
+     */
+    public Summary execute(DeleteModel deleteModel, RenderingStrategy renderingStrategy,
+                           ToIntFunction<DeleteStatementProvider> executor) {
+        long rowLimit = rowLimit(deleteModel.limit());
+        DeleteStatementProvider deleteStatement = deleteModel.render(renderingStrategy);
+        return execute(rowLimit, () -> executor.applyAsInt(deleteStatement));
+    }
+
+    /**
+     * Render an update statement once and execute it until a round updates fewer rows than the limit of the
+     * statement.
+     *
+     * @param updateModel the update statement. The statement must have a limit
+     * @param renderingStrategy the rendering strategy
+     * @param executor a function that executes the statement and returns the number of rows updated
+     * @return a summary of the execution
+     */
+    public Summary execute(UpdateModel updateModel, RenderingStrategy renderingStrategy,
+                           ToIntFunction<UpdateStatementProvider> executor) {
+        long rowLimit = rowLimit(updateModel.limit());
+        UpdateStatementProvider updateStatement = updateModel.render(renderingStrategy);
+        return execute(rowLimit, () -> executor.applyAsInt(updateStatement));
+    }
+
+    /**
+     * Execute a statement until a round affects fewer rows than the row limit.
+     *
+     * @param rowLimit the maximum number of rows affected by one round. The row limit must be greater than zero
+     * @param statement executes one round and returns the number of rows affected
+     * @return a summary of the execution
+     */
+    public Summary execute(long rowLimit, IntSupplier statement) {
+        Validator.assertTrue(rowLimit > 0, "ERROR.83"); //$NON-NLS-1$
+        long startNanos = System.nanoTime();
+        long rows = 0;
+
+        for (long round = 1; round <= maxRounds; round++) {
+            if ((round > 1 && !pause()) || Thread.currentThread().isInterrupted()) {
+                return new Summary(round - 1, rows, elapsed(startNanos), Outcome.INTERRUPTED);
+            }
+
+            long roundStartNanos = System.nanoTime();
+            int roundRows = statement.getAsInt();
+            rows += roundRows;
+            if (roundListener != null) {
+                roundListener.accept(new Round(round, roundRows, elapsed(roundStartNanos)));
+            }
+
+            if (roundRows < rowLimit) {
+                return new Summary(round, rows, elapsed(startNanos), Outcome.COMPLETED);
+            }
+        }
+
+        return new Summary(maxRounds, rows, elapsed(startNanos), Outcome.MAX_ROUNDS_REACHED);
+    }
+
+    private static long rowLimit(Optional<Long> limit) {
+        Validator.assertTrue(limit.isPresent(), "ERROR.78"); //$NON-NLS-1$
+        long rowLimit = limit.orElseThrow();
+        Validator.assertTrue(rowLimit > 0, "ERROR.83"); //$NON-NLS-1$
+        return rowLimit;
+    }
+
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(pause.toNanos());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration elapsed(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    public static RepeatingStatementExecutor defaultExecutor() {
+        return new Builder().build();
+    }
+
+    public static Builder withPause(Duration pause) {
+        return new Builder().withPause(pause);
+    }
+
+    public enum Outcome {
+        /** A round affected fewer rows than the limit. */
+        COMPLETED,
+        /** The thread was interrupted before a round. */
+        INTERRUPTED,
+        /** The maximum number of rounds was executed, and the last round affected as many rows as the limit. */
+        MAX_ROUNDS_REACHED
+    }
+
+    /**
+     * The result of a single round.
+     *
+     * @param number the round number, starting with 1
+     * @param rows the number of rows affected by the round
+     * @param elapsed the time taken to execute the round
+     */
+    public record Round(long number, int rows, Duration elapsed) {}
+
+    /**
+     * The result of an execution.
+     *
+     * @param rounds the number of rounds executed
+     * @param rows the total number of rows affected
+     * @param elapsed the total time taken, including pauses between rounds
+     * @param outcome the reason the execution stopped
+     */
+    public record Summary(long rounds, long rows, Duration elapsed, Outcome outcome) {}
+
+    public static class Builder {
+        private Duration pause = Duration.ZERO;
+        private long maxRounds = Long.MAX_VALUE;
+        private @Nullable Consumer<Round> roundListener;
+
+        public Builder withPause(Duration pause) {
+            this.pause = pause;
+            return this;
+        }
+
+        public Builder withMaxRounds(long maxRounds) {
+            this.maxRounds = maxRounds;
+            return this;
+        }
+
+        /**
+         * Set a listener that is called after every round. The listener is called on the executing thread.
+         *
+         * @param roundListener the listener
+         * @return this builder
+         */
+        public Builder withRoundListener(Consumer<Round> roundListener) {
+            this.roundListener = roundListener;
+            return this;
+        }
+
+        public RepeatingStatementExecutor build() {
+            return new RepeatingStatementExecutor(this);
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util;
 
+import java.sql.Statement;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -30,4 +31,24 @@ public interface Utilities {
         // this method helps IntelliJ understand intended nullability
         return values.stream().filter(Objects::nonNull);
     }
+
+    /**
+     * Calculate the total number of rows affected by a JDBC batch. Some drivers do not report the number of
+     * rows affected by each statement in a batch ({@link Statement#SUCCESS_NO_INFO}) - those statements
+     * are counted as affecting a single row.
+     *
+     * @param updateCounts update counts returned from a JDBC batch
+     * @return the total number of rows affected
+     */
+    static long sumUpdateCounts(int[] updateCounts) {
+        long rows = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount == Statement.SUCCESS_NO_INFO) {
+                rows++;
+            } else if (updateCount > 0) {
+                rows += updateCount;
+            }
+        }
+        return rows;
+    }
 }
@@ -37,6 +37,17 @@ public class ValueMapping<T> extends AbstractColumnMapping {
         return localColumn.convertParameterType(valueSupplier.get());
     }
 
+    /**
+     * Return a copy of this mapping with the current value of the supplier. The supplier is called once, and the copy
+     * always returns that value.
+     *
+     * @return a copy of this mapping with a fixed value
+     */
+    public ValueMapping<T> snapshot() {
+        T value = valueSupplier.get();
+        return of(localColumn, () -> value);
+    }
+
     @Override
     public <R> R accept(ColumnMappingVisitor<R> visitor) {
         return visitor.visit(this);
@@ -38,6 +38,17 @@ public class ValueOrNullMapping<T> extends AbstractColumnMapping {
         return Optional.ofNullable(localColumn.convertParameterType(valueSupplier.get()));
     }
 
+    /**
+     * Return a copy of this mapping with the current value of the supplier. The supplier is called once, and the copy
+     * always returns that value.
+     *
+     * @return a copy of this mapping with a fixed value
+     */
+    public ValueOrNullMapping<T> snapshot() {
+        @Nullable T value = valueSupplier.get();
+        return of(localColumn, () -> value);
+    }
+
     @Override
     public <R> R accept(ColumnMappingVisitor<R> visitor) {
         return visitor.visit(this);
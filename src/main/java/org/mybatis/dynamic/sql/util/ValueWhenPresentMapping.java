@@ -42,6 +42,17 @@ public class ValueWhenPresentMapping<T> extends AbstractColumnMapping {
         return Optional.ofNullable(localColumn.convertParameterType(value));
     }
 
+    /**
+     * Return a copy of this mapping with the current value of the supplier. The supplier is called once, and the copy
+     * always returns that value.
+     *
+     * @return a copy of this mapping with a fixed value
+     */
+    public ValueWhenPresentMapping<T> snapshot() {
+        @Nullable T value = valueSupplier.get();
+        return of(localColumn, () -> value);
+    }
+
     @Override
     public <R> R accept(ColumnMappingVisitor<R> visitor) {
         return visitor.visit(this);
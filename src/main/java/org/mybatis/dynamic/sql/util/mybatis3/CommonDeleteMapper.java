@@ -15,8 +15,17 @@
  */
 package org.mybatis.dynamic.sql.util.mybatis3;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.Flush;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.RepeatingStatementExecutor;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
 /**
@@ -37,4 +46,62 @@ public interface CommonDeleteMapper {
      */
     @DeleteProvider(type = SqlProviderAdapter.class, method = "delete")
     int delete(DeleteStatementProvider deleteStatement);
+
+    /**
+     * Execute a delete statement with a limit repeatedly, until a round deletes fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param deleteStatement
+     *            the delete statement. The statement must have a limit
+     * @param executor
+     *            the executor that will run the rounds
+     *
+     * @return a summary of the execution
+     */
+    default RepeatingStatementExecutor.Summary deleteRepeatedly(Buildable<DeleteModel> deleteStatement,
+                                                                RepeatingStatementExecutor executor) {
+        return MyBatis3Utils.deleteRepeatedly(this::delete, deleteStatement, executor);
+    }
+
+    /**
+     * Delete rows by key with statements that delete a chunk of keys at a time. Every full chunk uses the same SQL.
+     *
+     * @param deleteStatement
+     *            the batch delete
+     * @param chunkSize
+     *            the maximum number of keys in each statement
+     * @param <K>
+     *            the type of key
+     *
+     * @return the total number of rows deleted
+     */
+    default <K> long deleteChunked(Buildable<BatchDeleteModel<K>> deleteStatement, int chunkSize) {
+        return MyBatis3Utils.deleteChunked(this::delete, deleteStatement, chunkSize);
+    }
+
+    /**
+     * Execute a batch delete. This mapper must be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval keys.
+     *
+     * @param batchDelete
+     *            the batch delete
+     * @param flushInterval
+     *            the number of keys to add to the batch before flushing
+     * @param <K>
+     *            the type of key
+     *
+     * @return the total number of rows deleted as reported by the driver
+     */
+    default <K> long deleteBatch(BatchDelete<K> batchDelete, int flushInterval) {
+        return MyBatis3Utils.deleteBatch(this::delete, this::flush, batchDelete, flushInterval);
+    }
+
+    /**
+     * Flush batched statements and return details of the current batch. This is useful when there is no direct
+     * access to the {@link org.apache.ibatis.session.SqlSession}.
+     *
+     * @return details about the current batch including update counts, etc.
+     */
+    @Flush
+    List<BatchResult> flush();
 }
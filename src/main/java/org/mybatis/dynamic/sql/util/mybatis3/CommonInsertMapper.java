@@ -16,12 +16,16 @@
 package org.mybatis.dynamic.sql.util.mybatis3;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.dynamic.sql.insert.ChunkedMultiRowInsertModel;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
 /**
@@ -55,6 +59,45 @@ public interface CommonInsertMapper<T> extends CommonGeneralInsertMapper {
     @InsertProvider(type = SqlProviderAdapter.class, method = "insertMultiple")
     int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement);
 
+    /**
+     * Execute a chunked multi-row insert. Each chunk is executed as a separate insert statement.
+     *
+     * @param insertStatement
+     *            the chunked insert
+     *
+     * @return the total number of rows affected by all chunks
+     */
+    default int insertMultiple(ChunkedMultiRowInsertModel<T> insertStatement) {
+        return insertMultipleChunks(insertStatement.render(RenderingStrategies.MYBATIS3));
+    }
+
+    /**
+     * Execute a stream of multi-row insert statements, typically the chunks of a chunked multi-row insert.
+     *
+     * @param insertStatements
+     *            the insert statements
+     *
+     * @return the total number of rows affected by all statements
+     */
+    default int insertMultipleChunks(Stream<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.mapToInt(this::insertMultiple).sum();
+    }
+
+    /**
+     * Execute a streaming batch insert. This mapper must be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval rows.
+     *
+     * @param batchInsert
+     *            the batch insert
+     * @param flushInterval
+     *            the number of rows to add to the batch before flushing
+     *
+     * @return the total number of rows inserted as reported by the driver
+     */
+    default long insertBatch(StreamingBatchInsert<T> batchInsert, int flushInterval) {
+        return MyBatis3Utils.insertBatch(this::insert, this::flush, batchInsert, flushInterval);
+    }
+
     /**
      * Flush batched insert statements and return details of the current batch. This is useful when there is no direct
      * access to the @link({@link org.apache.ibatis.session.SqlSession}.
@@ -15,33 +15,54 @@
  */
 package org.mybatis.dynamic.sql.util.mybatis3;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.ResultType;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
 /**
  * This is a general purpose MyBatis mapper for select statements. It allows you to execute select statements without
  * having to write a custom {@link org.apache.ibatis.annotations.ResultMap} for each statement.
  *
- * <p>This mapper contains three types of methods:
+ * <p>This mapper contains four types of methods:
  * <ul>
  *   <li>The selectOneMappedRow and selectManyMappedRows methods allow you to use select statements with
  *     any number of columns. MyBatis will process the rows and return a Map of values, or a List of Maps.</li>
  *   <li>The selectOne and selectMany methods also allow you to use select statements with any number of columns.
  *   These methods also allow you to specify a function that will transform a Map of row values into a specific
  *   object.</li>
+ *   <li>The selectManyMappedRowsCursor, selectManyMappedRowsWithHandler, and streamMany methods process rows one
+ *   at a time and are suitable for very large result sets.</li>
  *   <li>The other methods are for result sets with a single column. There are functions for many
  *   data types (Integer, Long, String, etc.) There are also functions that return a single value, and Optional value,
  *   or a List of values.</li>
  * </ul>
  *
+ * <p>There are also methods for insert, update, and delete statements with a returning clause. Those statements are
+ * executed as queries so that the returned rows can be mapped. MyBatis only marks a session as dirty when an insert,
+ * update, or delete statement is executed, so when the session is not managed by a transaction manager, the session
+ * should be committed with {@link org.apache.ibatis.session.SqlSession#commit(boolean)} and a value of true.
+ *
  * <p>This mapper can be injected as-is into a MyBatis configuration, or it can be extended with existing mappers.
  *
  * @author Jeff Butler
@@ -114,6 +135,81 @@ public interface CommonSelectMapper {
                 .toList();
     }
 
+    /**
+     * Select any number of rows and return a MyBatis {@link Cursor} that will retrieve the rows one at a time as
+     * Maps of values. This is useful for large result sets because rows are not accumulated in memory. See
+     * {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about how MyBatis will
+     * construct the Map of values.
+     *
+     * <p>The cursor must be used, and should be closed, while the SqlSession is open. The number of rows retrieved
+     * from the database in each round trip is determined by the JDBC driver, or by the default fetch size in
+     * the MyBatis configuration ({@link org.apache.ibatis.session.Configuration#setDefaultFetchSize(Integer)}).
+     *
+     * @param selectStatement the select statement
+     * @return A Cursor of Maps containing the row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    Cursor<Map<String, Object>> selectManyMappedRowsCursor(SelectStatementProvider selectStatement);
+
+    /**
+     * Select any number of rows and pass each row to a MyBatis {@link ResultHandler} as a Map of values. MyBatis
+     * does not accumulate rows when a result handler is used, so this is useful for large result sets. See
+     * {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about how MyBatis will
+     * construct the Map of values.
+     *
+     * <p>The fetch size is determined in the same way as for
+     * {@link CommonSelectMapper#selectManyMappedRowsCursor(SelectStatementProvider)}.
+     *
+     * @param selectStatement the select statement
+     * @param resultHandler a handler that will be called for each row
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "select")
+    @ResultType(Map.class)
+    void selectManyMappedRowsWithHandler(SelectStatementProvider selectStatement,
+                                         ResultHandler<Map<String, Object>> resultHandler);
+
+    /**
+     * Select any number of rows, convert the values of each row to a custom type, and pass the converted object
+     * to a consumer. Rows are converted and released one at a time, so this is useful for large result sets.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param consumer a consumer that will be called with each converted object
+     * @param <R> the datatype of the converted object
+     */
+    default <R> void selectMany(SelectStatementProvider selectStatement,
+                                Function<Map<String, Object>, R> rowMapper, Consumer<? super R> consumer) {
+        selectManyMappedRowsWithHandler(selectStatement,
+                context -> consumer.accept(rowMapper.apply(context.getResultObject())));
+    }
+
+    /**
+     * Select any number of rows and return a Stream of objects converted by a row mapper. The Stream is backed
+     * by a MyBatis {@link Cursor} so rows are retrieved, converted, and released one at a time as the Stream is
+     * consumed.
+     *
+     * <p>The Stream must be consumed while the SqlSession is open, and it should be closed when it is no longer
+     * needed (for example, with a try-with-resources statement). Closing the Stream closes the underlying Cursor.
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return a Stream of converted objects
+     */
+    default <R> Stream<R> streamMany(SelectStatementProvider selectStatement,
+                                     Function<Map<String, Object>, R> rowMapper) {
+        Cursor<Map<String, Object>> cursor = selectManyMappedRowsCursor(selectStatement);
+        return StreamSupport.stream(cursor.spliterator(), false)
+                .map(rowMapper)
+                .onClose(() -> {
+                    try {
+                        cursor.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     /**
      * Retrieve a single {@link java.math.BigDecimal} from a result set. The result set must have
      * only one column and one or zero rows. The column must be retrievable from the result set
@@ -288,4 +384,132 @@ public interface CommonSelectMapper {
      */
     @SelectProvider(type = SqlProviderAdapter.class, method = "select")
     List<String> selectManyStrings(SelectStatementProvider selectStatement);
+
+    /**
+     * Execute a general insert statement with a returning clause and return the returned rows as Maps of values.
+     * See {@link CommonSelectMapper#selectManyMappedRows(SelectStatementProvider)} for details about how MyBatis will
+     * construct the Map of values.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @return A List of Maps containing the returned row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "generalInsert")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Map<String, Object>> generalInsertReturningMappedRows(GeneralInsertStatementProvider insertStatement);
+
+    /**
+     * Execute a general insert statement with a returning clause and convert the returned rows to a custom type.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return the List of converted objects
+     */
+    default <R> List<R> generalInsertReturning(GeneralInsertStatementProvider insertStatement,
+                                               Function<Map<String, Object>, R> rowMapper) {
+        return generalInsertReturningMappedRows(insertStatement).stream()
+                .map(rowMapper)
+                .toList();
+    }
+
+    /**
+     * Execute an insert statement with a returning clause and return the returned rows as Maps of values.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @return A List of Maps containing the returned row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "insert")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Map<String, Object>> insertReturningMappedRows(InsertStatementProvider<?> insertStatement);
+
+    /**
+     * Execute an insert statement with a returning clause and convert the returned rows to a custom type.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return the List of converted objects
+     */
+    default <R> List<R> insertReturning(InsertStatementProvider<?> insertStatement,
+                                        Function<Map<String, Object>, R> rowMapper) {
+        return insertReturningMappedRows(insertStatement).stream()
+                .map(rowMapper)
+                .toList();
+    }
+
+    /**
+     * Execute a multiple row insert statement with a returning clause and return the returned rows as Maps of
+     * values. This is an alternative to generated keys that works for any column, and for any number of rows.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @return A List of Maps containing the returned row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "insertMultiple")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Map<String, Object>> insertMultipleReturningMappedRows(MultiRowInsertStatementProvider<?> insertStatement);
+
+    /**
+     * Execute a multiple row insert statement with a returning clause and convert the returned rows to a custom type.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return the List of converted objects
+     */
+    default <R> List<R> insertMultipleReturning(MultiRowInsertStatementProvider<?> insertStatement,
+                                                Function<Map<String, Object>, R> rowMapper) {
+        return insertMultipleReturningMappedRows(insertStatement).stream()
+                .map(rowMapper)
+                .toList();
+    }
+
+    /**
+     * Execute an update statement with a returning clause and return the returned rows as Maps of values.
+     *
+     * @param updateStatement the update statement. The statement should have a returning clause
+     * @return A List of Maps containing the returned row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "update")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Map<String, Object>> updateReturningMappedRows(UpdateStatementProvider updateStatement);
+
+    /**
+     * Execute an update statement with a returning clause and convert the returned rows to a custom type.
+     *
+     * @param updateStatement the update statement. The statement should have a returning clause
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return the List of converted objects
+     */
+    default <R> List<R> updateReturning(UpdateStatementProvider updateStatement,
+                                        Function<Map<String, Object>, R> rowMapper) {
+        return updateReturningMappedRows(updateStatement).stream()
+                .map(rowMapper)
+                .toList();
+    }
+
+    /**
+     * Execute a delete statement with a returning clause and return the returned rows as Maps of values.
+     *
+     * @param deleteStatement the delete statement. The statement should have a returning clause
+     * @return A List of Maps containing the returned row values.
+     */
+    @SelectProvider(type = SqlProviderAdapter.class, method = "delete")
+    @Options(flushCache = Options.FlushCachePolicy.TRUE)
+    List<Map<String, Object>> deleteReturningMappedRows(DeleteStatementProvider deleteStatement);
+
+    /**
+     * Execute a delete statement with a returning clause and convert the returned rows to a custom type.
+     *
+     * @param deleteStatement the delete statement. The statement should have a returning clause
+     * @param rowMapper a function that will convert a Map of row values to the desired data type
+     * @param <R> the datatype of the converted object
+     * @return the List of converted objects
+     */
+    default <R> List<R> deleteReturning(DeleteStatementProvider deleteStatement,
+                                        Function<Map<String, Object>, R> rowMapper) {
+        return deleteReturningMappedRows(deleteStatement).stream()
+                .map(rowMapper)
+                .toList();
+    }
 }
@@ -15,8 +15,16 @@
  */
 package org.mybatis.dynamic.sql.util.mybatis3;
 
+import java.util.List;
+
+import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.UpdateProvider;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.RepeatingStatementExecutor;
 import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 
 /**
@@ -37,4 +45,46 @@ public interface CommonUpdateMapper {
      */
     @UpdateProvider(type = SqlProviderAdapter.class, method = "update")
     int update(UpdateStatementProvider updateStatement);
+
+    /**
+     * Execute an update statement with a limit repeatedly, until a round updates fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param updateStatement
+     *            the update statement. The statement must have a limit
+     * @param executor
+     *            the executor that will run the rounds
+     *
+     * @return a summary of the execution
+     */
+    default RepeatingStatementExecutor.Summary updateRepeatedly(Buildable<UpdateModel> updateStatement,
+                                                                RepeatingStatementExecutor executor) {
+        return MyBatis3Utils.updateRepeatedly(this::update, updateStatement, executor);
+    }
+
+    /**
+     * Execute a batch update. This mapper must be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval rows.
+     *
+     * @param batchUpdate
+     *            the batch update
+     * @param flushInterval
+     *            the number of rows to add to the batch before flushing
+     * @param <T>
+     *            the type of row
+     *
+     * @return the total number of rows updated as reported by the driver
+     */
+    default <T> long updateBatch(BatchUpdate<T> batchUpdate, int flushInterval) {
+        return MyBatis3Utils.updateBatch(this::update, this::flush, batchUpdate, flushInterval);
+    }
+
+    /**
+     * Flush batched statements and return details of the current batch. This is useful when there is no direct
+     * access to the {@link org.apache.ibatis.session.SqlSession}.
+     *
+     * @return details about the current batch including update counts, etc.
+     */
+    @Flush
+    List<BatchResult> flush();
 }
@@ -16,17 +16,26 @@
 package org.mybatis.dynamic.sql.util.mybatis3;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+import org.apache.ibatis.executor.BatchResult;
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.RowDeleteStatementProvider;
 import org.mybatis.dynamic.sql.dsl.CountDSL;
 import org.mybatis.dynamic.sql.dsl.CountDSLCompleter;
 import org.mybatis.dynamic.sql.dsl.DeleteDSL;
@@ -41,11 +50,19 @@ import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.RowUpdateStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.RepeatingStatementExecutor;
+import org.mybatis.dynamic.sql.util.Utilities;
+import org.mybatis.dynamic.sql.util.Validator;
 
 /**
  * Utility functions for building MyBatis3 mappers.
@@ -209,6 +226,169 @@ public class MyBatis3Utils {
         return mapper.applyAsInt(insertMultiple(records, table, completer));
     }
 
+    public static <R> Stream<MultiRowInsertStatementProvider<R>> insertMultipleChunked(
+            Collection<R> records,
+            SqlTable table,
+            int maxParameters,
+            UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .chunkedBy(maxParameters)
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    public static <R> int insertMultipleChunked(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
+                                                Collection<R> records,
+                                                SqlTable table,
+                                                int maxParameters,
+                                                UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        return insertMultipleChunked(records, table, maxParameters, completer)
+                .mapToInt(mapper)
+                .sum();
+    }
+
+    /**
+     * Execute a streaming batch insert. The mapper should be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval rows, so
+     * the session never holds more than flushInterval pending statements.
+     *
+     * @param insertMapper a mapper method that will add an insert statement to the batch
+     * @param flusher a mapper method that will flush the batch - typically {@link CommonInsertMapper#flush()}
+     * @param batchInsert the rendered batch insert
+     * @param flushInterval the number of rows to add to the batch before flushing
+     * @param <R> the type of record
+     * @return the total number of rows inserted as reported by the driver
+     */
+    public static <R> long insertBatch(Consumer<InsertStatementProvider<R>> insertMapper,
+                                       Supplier<List<BatchResult>> flusher,
+                                       StreamingBatchInsert<R> batchInsert,
+                                       int flushInterval) {
+        return executeBatch(insertMapper, flusher, batchInsert.insertStatements(), flushInterval);
+    }
+
+    /**
+     * Execute a batch update. The mapper should be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval rows, so
+     * the session never holds more than flushInterval pending statements.
+     *
+     * @param updateMapper a mapper method that will add an update statement to the batch
+     * @param flusher a mapper method that will flush the batch - typically {@link CommonUpdateMapper#flush()}
+     * @param batchUpdate the rendered batch update
+     * @param flushInterval the number of rows to add to the batch before flushing
+     * @param <R> the type of row
+     * @return the total number of rows updated as reported by the driver
+     */
+    public static <R> long updateBatch(Consumer<? super RowUpdateStatementProvider<R>> updateMapper,
+                                       Supplier<List<BatchResult>> flusher,
+                                       BatchUpdate<R> batchUpdate,
+                                       int flushInterval) {
+        return executeBatch(updateMapper, flusher, batchUpdate.updateStatements(), flushInterval);
+    }
+
+    /**
+     * Execute a batch delete. The mapper should be obtained from a session opened with
+     * {@link org.apache.ibatis.session.ExecutorType#BATCH}. Statements are flushed every flushInterval keys, so
+     * the session never holds more than flushInterval pending statements.
+     *
+     * @param deleteMapper a mapper method that will add a delete statement to the batch
+     * @param flusher a mapper method that will flush the batch - typically {@link CommonDeleteMapper#flush()}
+     * @param batchDelete the rendered batch delete
+     * @param flushInterval the number of keys to add to the batch before flushing
+     * @param <K> the type of key
+     * @return the total number of rows deleted as reported by the driver
+     */
+    public static <K> long deleteBatch(Consumer<? super RowDeleteStatementProvider<K>> deleteMapper,
+                                       Supplier<List<BatchResult>> flusher,
+                                       BatchDelete<K> batchDelete,
+                                       int flushInterval) {
+        return executeBatch(deleteMapper, flusher, batchDelete.deleteStatements(), flushInterval);
+    }
+
+    public static <K> Stream<DeleteStatementProvider> deleteChunked(Buildable<BatchDeleteModel<K>> deleteStatement,
+                                                                    int chunkSize) {
+        return deleteStatement.build().renderChunks(RenderingStrategies.MYBATIS3, chunkSize);
+    }
+
+    /**
+     * Delete rows by key with statements that delete chunkSize keys at a time.
+     *
+     * @param mapper a mapper method that will execute a delete statement - typically
+     *     {@link CommonDeleteMapper#delete(DeleteStatementProvider)}
+     * @param deleteStatement the batch delete
+     * @param chunkSize the maximum number of keys in each statement
+     * @param <K> the type of key
+     * @return the total number of rows deleted
+     */
+    public static <K> long deleteChunked(ToIntFunction<DeleteStatementProvider> mapper,
+                                         Buildable<BatchDeleteModel<K>> deleteStatement,
+                                         int chunkSize) {
+        try (Stream<DeleteStatementProvider> statements = deleteChunked(deleteStatement, chunkSize)) {
+            return statements.mapToLong(mapper::applyAsInt).sum();
+        }
+    }
+
+    /**
+     * Execute a delete statement with a limit repeatedly, until a round deletes fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param mapper a mapper method that will execute a delete statement - typically
+     *     {@link CommonDeleteMapper#delete(DeleteStatementProvider)}
+     * @param deleteStatement the delete statement. The statement must have a limit
+     * @param executor the executor that will run the rounds
+     * @return a summary of the execution
+     */
+    public static RepeatingStatementExecutor.Summary deleteRepeatedly(ToIntFunction<DeleteStatementProvider> mapper,
+                                                                      Buildable<DeleteModel> deleteStatement,
+                                                                      RepeatingStatementExecutor executor) {
+        return executor.execute(deleteStatement.build(), RenderingStrategies.MYBATIS3, mapper);
+    }
+
+    /**
+     * Execute an update statement with a limit repeatedly, until a round updates fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param mapper a mapper method that will execute an update statement - typically
+     *     {@link CommonUpdateMapper#update(UpdateStatementProvider)}
+     * @param updateStatement the update statement. The statement must have a limit
+     * @param executor the executor that will run the rounds
+     * @return a summary of the execution
+     */
+    public static RepeatingStatementExecutor.Summary updateRepeatedly(ToIntFunction<UpdateStatementProvider> mapper,
+                                                                      Buildable<UpdateModel> updateStatement,
+                                                                      RepeatingStatementExecutor executor) {
+        return executor.execute(updateStatement.build(), RenderingStrategies.MYBATIS3, mapper);
+    }
+
+    private static <S> long executeBatch(Consumer<? super S> mapper, Supplier<List<BatchResult>> flusher,
+                                         Stream<S> statements, int flushInterval) {
+        Validator.assertTrue(flushInterval > 0, "ERROR.54"); //$NON-NLS-1$
+
+        long rows = 0;
+        int pendingRows = 0;
+        try (statements) {
+            Iterator<S> iterator = statements.iterator();
+            while (iterator.hasNext()) {
+                mapper.accept(iterator.next());
+                if (++pendingRows == flushInterval) {
+                    rows += countRows(flusher.get());
+                    pendingRows = 0;
+                }
+            }
+        }
+
+        if (pendingRows > 0) {
+            rows += countRows(flusher.get());
+        }
+
+        return rows;
+    }
+
+    private static long countRows(List<BatchResult> batchResults) {
+        return batchResults.stream()
+                .map(BatchResult::getUpdateCounts)
+                .mapToLong(Utilities::sumUpdateCounts)
+                .sum();
+    }
+
     public static <R> int insertMultipleWithGeneratedKeys(ToIntBiFunction<String, List<R>> mapper,
                                                           Collection<R> records,
                                                           SqlTable table,
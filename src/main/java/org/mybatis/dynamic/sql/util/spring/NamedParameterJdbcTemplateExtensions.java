@@ -15,13 +15,19 @@
  */
 package org.mybatis.dynamic.sql.util.spring;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.ChunkedMultiRowInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
@@ -29,16 +35,21 @@ import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.RepeatingStatementExecutor;
 import org.mybatis.dynamic.sql.util.Utilities;
+import org.mybatis.dynamic.sql.util.Validator;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.KeyHolder;
@@ -69,6 +80,67 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
     }
 
+    public <T> List<T> deleteReturning(Buildable<DeleteModel> deleteStatement, RowMapper<T> rowMapper) {
+        return deleteReturning(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Execute a delete statement with a returning clause and map the returned rows.
+     *
+     * @param deleteStatement the delete statement. The statement should have a returning clause
+     * @param rowMapper a row mapper
+     * @param <T> the type of the mapped rows
+     * @return a List of mapped rows
+     */
+    public <T> List<T> deleteReturning(DeleteStatementProvider deleteStatement, RowMapper<T> rowMapper) {
+        return template.query(deleteStatement.getDeleteStatement(), deleteStatement.getParameters(), rowMapper);
+    }
+
+    /**
+     * Execute a delete statement with a limit repeatedly, until a round deletes fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param deleteStatement the delete statement. The statement must have a limit
+     * @param executor the executor that will run the rounds
+     * @return a summary of the execution
+     */
+    public RepeatingStatementExecutor.Summary deleteRepeatedly(Buildable<DeleteModel> deleteStatement,
+                                                               RepeatingStatementExecutor executor) {
+        return executor.execute(deleteStatement.build(), RenderingStrategies.SPRING_NAMED_PARAMETER, this::delete);
+    }
+
+    /**
+     * Delete rows by key with statements that delete chunkSize keys at a time. Every full chunk uses the same SQL.
+     *
+     * @param deleteStatement the batch delete
+     * @param chunkSize the maximum number of keys in each statement
+     * @param <K> the type of key
+     * @return the total number of rows deleted
+     */
+    public <K> long deleteChunked(Buildable<BatchDeleteModel<K>> deleteStatement, int chunkSize) {
+        try (Stream<DeleteStatementProvider> statements = deleteStatement.build()
+                .renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, chunkSize)) {
+            return statements.mapToLong(this::delete).sum();
+        }
+    }
+
+    public <K> long deleteBatch(Buildable<BatchDeleteModel<K>> deleteStatement, int batchSize) {
+        return deleteBatch(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), batchSize);
+    }
+
+    /**
+     * Execute a batch delete. Keys are read from the batch and sent to the database in JDBC batches of batchSize
+     * keys, so no more than batchSize keys are held in memory at one time.
+     *
+     * @param deleteStatement the batch delete
+     * @param batchSize the number of keys in each JDBC batch
+     * @param <K> the type of key
+     * @return the total number of rows deleted as reported by the driver
+     */
+    public <K> long deleteBatch(BatchDelete<K> deleteStatement, int batchSize) {
+        return executeBatches(deleteStatement.getDeleteStatementSQL(), deleteStatement.getKeys(), batchSize);
+    }
+
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
         return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -86,13 +158,31 @@ public class NamedParameterJdbcTemplateExtensions {
                 new MapSqlParameterSource(insertStatement.getParameters()), keyHolder);
     }
 
+    public <T> List<T> generalInsertReturning(Buildable<GeneralInsertModel> insertStatement, RowMapper<T> rowMapper) {
+        return generalInsertReturning(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowMapper);
+    }
+
+    /**
+     * Execute a general insert statement with a returning clause and map the returned rows.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a row mapper
+     * @param <T> the type of the mapped rows
+     * @return a List of mapped rows
+     */
+    public <T> List<T> generalInsertReturning(GeneralInsertStatementProvider insertStatement,
+                                              RowMapper<T> rowMapper) {
+        return template.query(insertStatement.getInsertStatement(), insertStatement.getParameters(), rowMapper);
+    }
+
     public <T> int insert(Buildable<InsertModel<T>> insertStatement) {
         return insert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
 
     public <T> int insert(InsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+                PropertyPathSqlParameterSource.forRow(insertStatement.getRow()));
     }
 
     public <T> int insert(Buildable<InsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -101,7 +191,25 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insert(InsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+                PropertyPathSqlParameterSource.forRow(insertStatement.getRow()), keyHolder);
+    }
+
+    public <T, R> List<R> insertReturning(Buildable<InsertModel<T>> insertStatement, RowMapper<R> rowMapper) {
+        return insertReturning(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Execute an insert statement with a returning clause and map the returned rows.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a row mapper
+     * @param <T> the type of the inserted row
+     * @param <R> the type of the mapped rows
+     * @return a List of mapped rows
+     */
+    public <T, R> List<R> insertReturning(InsertStatementProvider<T> insertStatement, RowMapper<R> rowMapper) {
+        return template.query(insertStatement.getInsertStatement(),
+                PropertyPathSqlParameterSource.forRow(insertStatement.getRow()), rowMapper);
     }
 
     public <T> int[] insertBatch(Buildable<BatchInsertModel<T>> insertStatement) {
@@ -113,13 +221,61 @@ public class NamedParameterJdbcTemplateExtensions {
                 BatchInsertUtility.createBatch(insertStatement.getRecords()));
     }
 
+    /**
+     * Execute a streaming batch insert. Records are read from the stream and sent to the database in JDBC batches
+     * of batchSize rows, so no more than batchSize records are held in memory at one time.
+     *
+     * @param insertStatement the batch insert
+     * @param batchSize the number of rows in each JDBC batch
+     * @param <T> the type of record
+     * @return the total number of rows inserted as reported by the driver
+     */
+    public <T> long insertBatch(StreamingBatchInsert<T> insertStatement, int batchSize) {
+        return executeBatches(insertStatement.getInsertStatementSQL(), insertStatement.getRecords(), batchSize);
+    }
+
+    private <T> long executeBatches(String statement, Stream<T> records, int batchSize) {
+        Validator.assertTrue(batchSize > 0, "ERROR.54"); //$NON-NLS-1$
+
+        long rows = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        try (records) {
+            Iterator<T> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    rows += executeBatch(statement, batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            rows += executeBatch(statement, batch);
+        }
+
+        return rows;
+    }
+
+    private <T> long executeBatch(String statement, List<T> batch) {
+        return Utilities.sumUpdateCounts(template.batchUpdate(statement, BatchInsertUtility.createBatch(batch)));
+    }
+
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
         return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement));
+                PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement));
+    }
+
+    public <T> int insertMultiple(ChunkedMultiRowInsertModel<T> insertStatement) {
+        return insertMultipleChunks(insertStatement.render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int insertMultipleChunks(Stream<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.mapToInt(this::insertMultiple).sum();
     }
 
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement, KeyHolder keyHolder) {
@@ -128,7 +284,28 @@ public class NamedParameterJdbcTemplateExtensions {
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement, KeyHolder keyHolder) {
         return template.update(insertStatement.getInsertStatement(),
-                new BeanPropertySqlParameterSource(insertStatement), keyHolder);
+                PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement), keyHolder);
+    }
+
+    public <T, R> List<R> insertMultipleReturning(Buildable<MultiRowInsertModel<T>> insertStatement,
+                                                  RowMapper<R> rowMapper) {
+        return insertMultipleReturning(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                rowMapper);
+    }
+
+    /**
+     * Execute a multiple row insert statement with a returning clause and map the returned rows.
+     *
+     * @param insertStatement the insert statement. The statement should have a returning clause
+     * @param rowMapper a row mapper
+     * @param <T> the type of the inserted rows
+     * @param <R> the type of the mapped rows
+     * @return a List of mapped rows
+     */
+    public <T, R> List<R> insertMultipleReturning(MultiRowInsertStatementProvider<T> insertStatement,
+                                                  RowMapper<R> rowMapper) {
+        return template.query(insertStatement.getInsertStatement(),
+                PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement), rowMapper);
     }
 
     public <T> List<T> selectList(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
@@ -136,7 +313,7 @@ public class NamedParameterJdbcTemplateExtensions {
     }
 
     public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
-        return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+        return StatementHintsUtility.query(template, selectStatement, rowMapper);
     }
 
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
@@ -146,8 +323,7 @@ public class NamedParameterJdbcTemplateExtensions {
     public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
         T result;
         try {
-            result = template.queryForObject(selectStatement.getSelectStatement(), selectStatement.getParameters(),
-                            rowMapper);
+            result = StatementHintsUtility.queryForObject(template, selectStatement, rowMapper);
         } catch (EmptyResultDataAccessException e) {
             result = null;
         }
@@ -155,6 +331,41 @@ public class NamedParameterJdbcTemplateExtensions {
         return Optional.ofNullable(result);
     }
 
+    public <T> Stream<T> selectStream(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
+        return selectStream(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Execute a select statement and return a Stream of mapped rows. Rows are read from the result set as
+     * the Stream is consumed, so large result sets can be processed in constant memory.
+     *
+     * <p>The Stream holds an open connection and result set, so it must be closed after use (for example,
+     * with a try-with-resources statement).
+     *
+     * @param selectStatement the select statement
+     * @param rowMapper a row mapper
+     * @param <T> the type of the mapped rows
+     * @return a Stream of mapped rows
+     */
+    public <T> Stream<T> selectStream(SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        return StatementHintsUtility.queryForStream(template, selectStatement, rowMapper);
+    }
+
+    public void select(Buildable<SelectModel> selectStatement, RowCallbackHandler rowCallbackHandler) {
+        select(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowCallbackHandler);
+    }
+
+    /**
+     * Execute a select statement and pass each row to a row callback handler. Rows are not accumulated, so large
+     * result sets can be processed in constant memory.
+     *
+     * @param selectStatement the select statement
+     * @param rowCallbackHandler a handler that will be called for each row
+     */
+    public void select(SelectStatementProvider selectStatement, RowCallbackHandler rowCallbackHandler) {
+        StatementHintsUtility.query(template, selectStatement, rowCallbackHandler);
+    }
+
     public int update(Buildable<UpdateModel> updateStatement) {
         return update(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -162,4 +373,50 @@ public class NamedParameterJdbcTemplateExtensions {
     public int update(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
+
+    public <T> List<T> updateReturning(Buildable<UpdateModel> updateStatement, RowMapper<T> rowMapper) {
+        return updateReturning(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
+    }
+
+    /**
+     * Execute an update statement with a returning clause and map the returned rows.
+     *
+     * @param updateStatement the update statement. The statement should have a returning clause
+     * @param rowMapper a row mapper
+     * @param <T> the type of the mapped rows
+     * @return a List of mapped rows
+     */
+    public <T> List<T> updateReturning(UpdateStatementProvider updateStatement, RowMapper<T> rowMapper) {
+        return template.query(updateStatement.getUpdateStatement(), updateStatement.getParameters(), rowMapper);
+    }
+
+    /**
+     * Execute an update statement with a limit repeatedly, until a round updates fewer rows than the limit. The
+     * statement is rendered once.
+     *
+     * @param updateStatement the update statement. The statement must have a limit
+     * @param executor the executor that will run the rounds
+     * @return a summary of the execution
+     */
+    public RepeatingStatementExecutor.Summary updateRepeatedly(Buildable<UpdateModel> updateStatement,
+                                                               RepeatingStatementExecutor executor) {
+        return executor.execute(updateStatement.build(), RenderingStrategies.SPRING_NAMED_PARAMETER, this::update);
+    }
+
+    public <T> long updateBatch(Buildable<BatchUpdateModel<T>> updateStatement, int batchSize) {
+        return updateBatch(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), batchSize);
+    }
+
+    /**
+     * Execute a batch update. Rows are read from the batch and sent to the database in JDBC batches of batchSize
+     * rows, so no more than batchSize rows are held in memory at one time.
+     *
+     * @param updateStatement the batch update
+     * @param batchSize the number of rows in each JDBC batch
+     * @param <T> the type of row
+     * @return the total number of rows updated as reported by the driver
+     */
+    public <T> long updateBatch(BatchUpdate<T> updateStatement, int batchSize) {
+        return executeBatches(updateStatement.getUpdateStatementSQL(), updateStatement.getRecords(), batchSize);
+    }
 }
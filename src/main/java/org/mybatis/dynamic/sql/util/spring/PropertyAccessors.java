@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.util.Messages;
+
+/**
+ * Resolves property getters as method handles. A getter is resolved once for each class and property name, so reading
+ * a property does not require bean introspection or reflection.
+ *
+ * <p>Properties are read with the same methods used by Spring bean introspection - <code>getX()</code>, or
+ * <code>isX()</code> for boolean properties - or with a record component accessor. Kotlin compiles properties to
+ * <code>getX()</code> and <code>isX()</code> methods, so Kotlin data classes are supported as well.
+ */
+final class PropertyAccessors {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, Optional<PropertyAccessor>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<PropertyAccessor>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private PropertyAccessors() {}
+
+    static Optional<PropertyAccessor> find(Class<?> type, String propertyName) {
+        return ACCESSORS.get(type).computeIfAbsent(propertyName, p -> resolve(type, p));
+    }
+
+    private static Optional<PropertyAccessor> resolve(Class<?> type, String propertyName) {
+        if (propertyName.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String suffix = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        return findGetter(type, "get" + suffix) //$NON-NLS-1$
+                .or(() -> findGetter(type, "is" + suffix) //$NON-NLS-1$
+                        .filter(m -> m.getReturnType() == boolean.class))
+                .or(() -> findRecordAccessor(type, propertyName))
+                .flatMap(PropertyAccessors::toAccessor);
+    }
+
+    private static Optional<Method> findGetter(Class<?> type, String methodName) {
+        try {
+            Method method = type.getMethod(methodName);
+            return method.getReturnType() == void.class ? Optional.empty() : Optional.of(method);
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Method> findRecordAccessor(Class<?> type, String propertyName) {
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        if (recordComponents == null) {
+            return Optional.empty();
+        }
+
+        for (RecordComponent recordComponent : recordComponents) {
+            if (recordComponent.getName().equals(propertyName)) {
+                return Optional.of(recordComponent.getAccessor());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<PropertyAccessor> toAccessor(Method method) {
+        try {
+            MethodHandle getter = method.trySetAccessible() ? MethodHandles.lookup().unreflect(method)
+                    : MethodHandles.publicLookup().unreflect(method);
+            return Optional.of(new PropertyAccessor(getter.asType(GETTER_TYPE), method.getReturnType()));
+        } catch (IllegalAccessException e) {
+            // not accessible - callers will fall back to bean introspection
+            return Optional.empty();
+        }
+    }
+
+    record PropertyAccessor(MethodHandle getter, Class<?> propertyType) {
+        @Nullable Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DynamicSqlException(Messages.getString("ERROR.55", //$NON-NLS-1$
+                        target.getClass().getName()), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * A SqlParameterSource for the bindings generated by insert statements - <code>:row.propertyName</code> for single
+ * row and batch inserts, and <code>:records[n].propertyName</code> for multi-row inserts.
+ *
+ * <p>This source reads properties with method handles that are resolved once for each class and property name
+ * (see {@link PropertyAccessors}). This avoids the bean introspection done by {@link BeanPropertySqlParameterSource}
+ * for every row of a batch. Parameter names that cannot be resolved this way (for example, map keys or properties
+ * without a public getter) are delegated to a BeanPropertySqlParameterSource, so the behavior is the same.
+ */
+public class PropertyPathSqlParameterSource extends AbstractSqlParameterSource {
+    private final String rootName;
+    private final Object root;
+    private final Supplier<SqlParameterSource> fallbackSupplier;
+    private @Nullable SqlParameterSource fallback;
+    private @Nullable String lastParameterName;
+    private Optional<PropertyValue> lastPropertyValue = Optional.empty();
+
+    private PropertyPathSqlParameterSource(String rootName, Object root,
+                                           Supplier<SqlParameterSource> fallbackSupplier) {
+        this.rootName = Objects.requireNonNull(rootName);
+        this.root = Objects.requireNonNull(root);
+        this.fallbackSupplier = Objects.requireNonNull(fallbackSupplier);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        return resolve(paramName).isPresent() || fallback().hasValue(paramName);
+    }
+
+    @Override
+    public @Nullable Object getValue(String paramName) {
+        Optional<PropertyValue> propertyValue = resolve(paramName);
+        if (propertyValue.isPresent()) {
+            return propertyValue.get().value();
+        }
+        return fallback().getValue(paramName);
+    }
+
+    @Override
+    public int getSqlType(String paramName) {
+        int sqlType = super.getSqlType(paramName);
+        if (sqlType != TYPE_UNKNOWN) {
+            return sqlType;
+        }
+
+        return resolve(paramName)
+                .map(pv -> StatementCreatorUtils.javaTypeToSqlParameterType(pv.type()))
+                .orElseGet(() -> fallback().getSqlType(paramName));
+    }
+
+    private SqlParameterSource fallback() {
+        if (fallback == null) {
+            fallback = fallbackSupplier.get();
+        }
+        return fallback;
+    }
+
+    private Optional<PropertyValue> resolve(String paramName) {
+        // Spring calls hasValue, getValue, and getSqlType for each parameter in turn
+        if (!paramName.equals(lastParameterName)) {
+            lastPropertyValue = calculatePropertyValue(paramName);
+            lastParameterName = paramName;
+        }
+        return lastPropertyValue;
+    }
+
+    private Optional<PropertyValue> calculatePropertyValue(String paramName) {
+        if (!paramName.startsWith(rootName)) {
+            return Optional.empty();
+        }
+
+        @Nullable Object value = root;
+        Class<?> type = root.getClass();
+        int position = rootName.length();
+        while (position < paramName.length()) {
+            if (value == null) {
+                return Optional.empty();
+            }
+
+            char c = paramName.charAt(position);
+            if (c == '.') {
+                int end = nextSeparator(paramName, position + 1);
+                Optional<PropertyAccessors.PropertyAccessor> accessor =
+                        PropertyAccessors.find(value.getClass(), paramName.substring(position + 1, end));
+                if (accessor.isEmpty()) {
+                    return Optional.empty();
+                }
+                value = accessor.get().get(value);
+                type = accessor.get().propertyType();
+                position = end;
+            } else if (c == '[' && value instanceof List<?> list) {
+                int end = paramName.indexOf(']', position);
+                int index = parseIndex(paramName, position + 1, end);
+                if (index < 0 || index >= list.size()) {
+                    return Optional.empty();
+                }
+                value = list.get(index);
+                type = Object.class;
+                position = end + 1;
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new PropertyValue(value, type));
+    }
+
+    private static int nextSeparator(String paramName, int start) {
+        for (int i = start; i < paramName.length(); i++) {
+            char c = paramName.charAt(i);
+            if (c == '.' || c == '[') {
+                return i;
+            }
+        }
+        return paramName.length();
+    }
+
+    private static int parseIndex(String paramName, int start, int end) {
+        if (end <= start) {
+            return -1;
+        }
+
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(paramName.charAt(i), 10);
+            if (digit < 0 || index > (Integer.MAX_VALUE - digit) / 10) {
+                return -1;
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
+
+    /**
+     * Create a parameter source for a single row. Parameters are of the form <code>:row.propertyName</code>.
+     *
+     * @param row the row
+     * @return a parameter source for the row
+     */
+    public static SqlParameterSource forRow(Object row) {
+        return new PropertyPathSqlParameterSource("row", row, //$NON-NLS-1$
+                () -> new BeanPropertySqlParameterSource(new BatchInsertUtility.RowHolder<>(row)));
+    }
+
+    /**
+     * Create a parameter source for a multi-row insert. Parameters are of the form
+     * <code>:records[n].propertyName</code>.
+     *
+     * @param insertStatement the rendered multi-row insert
+     * @return a parameter source for the records in the insert statement
+     */
+    public static SqlParameterSource forMultiRowInsert(MultiRowInsertStatementProvider<?> insertStatement) {
+        return new PropertyPathSqlParameterSource("records", insertStatement.getRecords(), //$NON-NLS-1$
+                () -> new BeanPropertySqlParameterSource(insertStatement));
+    }
+
+    private record PropertyValue(@Nullable Object value, Class<?> type) {}
+}
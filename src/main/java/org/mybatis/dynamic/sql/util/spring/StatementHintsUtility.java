@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.StatementHints;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Utility class for executing select statements with a {@link NamedParameterJdbcTemplate} while honoring
+ * the {@link StatementHints} carried by a {@link SelectStatementProvider}.
+ *
+ * <p>The template applies its own fetch size, max rows, and query timeout to every statement. When a statement has
+ * hints, the methods in this class execute the statement through the underlying JdbcTemplate with a
+ * PreparedStatementSetter that applies the hints after the template settings, so the hints take precedence for that
+ * statement only. Statements without hints are executed with the template as usual.
+ */
+public class StatementHintsUtility {
+    private StatementHintsUtility() {}
+
+    public static <T extends @Nullable Object> List<T> query(NamedParameterJdbcTemplate template,
+            SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        StatementHints statementHints = selectStatement.getStatementHints();
+        if (statementHints.isEmpty()) {
+            return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
+        }
+
+        return Objects.requireNonNull(template.getJdbcTemplate().query(
+                createPreparedStatementCreator(selectStatement), createPreparedStatementSetter(statementHints),
+                new RowMapperResultSetExtractor<>(rowMapper)));
+    }
+
+    public static void query(NamedParameterJdbcTemplate template, SelectStatementProvider selectStatement,
+                             RowCallbackHandler rowCallbackHandler) {
+        StatementHints statementHints = selectStatement.getStatementHints();
+        if (statementHints.isEmpty()) {
+            template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowCallbackHandler);
+            return;
+        }
+
+        template.getJdbcTemplate().query(createPreparedStatementCreator(selectStatement),
+                createPreparedStatementSetter(statementHints), rs -> {
+                    while (rs.next()) {
+                        rowCallbackHandler.processRow(rs);
+                    }
+                    return null;
+                });
+    }
+
+    public static <T extends @Nullable Object> Stream<T> queryForStream(NamedParameterJdbcTemplate template,
+            SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        StatementHints statementHints = selectStatement.getStatementHints();
+        if (statementHints.isEmpty()) {
+            return template.queryForStream(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                    rowMapper);
+        }
+
+        return template.getJdbcTemplate().queryForStream(createPreparedStatementCreator(selectStatement),
+                createPreparedStatementSetter(statementHints), rowMapper);
+    }
+
+    /**
+     * Execute a statement that is expected to return a single row. This has the same semantics as
+     * {@link NamedParameterJdbcTemplate#queryForObject(String, java.util.Map, RowMapper)}.
+     *
+     * @param template the template
+     * @param selectStatement the select statement
+     * @param rowMapper a row mapper
+     * @param <T> the type of the returned object
+     * @return the mapped object. May be null if the row mapper returns null.
+     * @throws org.springframework.dao.IncorrectResultSizeDataAccessException if the statement does not return
+     *     exactly one row
+     */
+    public static <T extends @Nullable Object> @Nullable T queryForObject(NamedParameterJdbcTemplate template,
+            SelectStatementProvider selectStatement, RowMapper<T> rowMapper) {
+        StatementHints statementHints = selectStatement.getStatementHints();
+        if (statementHints.isEmpty()) {
+            return template.queryForObject(selectStatement.getSelectStatement(), selectStatement.getParameters(),
+                    rowMapper);
+        }
+
+        List<T> results = Objects.requireNonNull(template.getJdbcTemplate().query(
+                createPreparedStatementCreator(selectStatement), createPreparedStatementSetter(statementHints),
+                new RowMapperResultSetExtractor<>(rowMapper, 1)));
+        return DataAccessUtils.nullableSingleResult(results);
+    }
+
+    /**
+     * Create a PreparedStatementCreator for a rendered statement. Named parameters are parsed and bound in the same
+     * way as {@link NamedParameterJdbcTemplate}.
+     *
+     * @param selectStatement the select statement
+     * @return a PreparedStatementCreator that prepares the statement and binds the parameter values
+     */
+    public static PreparedStatementCreator createPreparedStatementCreator(SelectStatementProvider selectStatement) {
+        SqlParameterSource parameterSource = new MapSqlParameterSource(selectStatement.getParameters());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(selectStatement.getSelectStatement());
+        String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+        return new PreparedStatementCreatorFactory(sql, declaredParameters).newPreparedStatementCreator(values);
+    }
+
+    public static PreparedStatementSetter createPreparedStatementSetter(StatementHints statementHints) {
+        return statementHints::applyTo;
+    }
+}
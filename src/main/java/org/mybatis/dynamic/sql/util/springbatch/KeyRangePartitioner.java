@@ -0,0 +1,298 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.SelectModelCriteria;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsLessThan;
+
+/**
+ * Splits a query into a number of queries that select non-overlapping ranges of a key column. This can be used with
+ * a Spring Batch partitioned step so that several workers read a large table in parallel.
+ *
+ * <p>Partitioning is done in two steps:
+ *
+ * <ol>
+ *     <li>Run the query returned from {@link #boundsModel()} to find the minimum and maximum key values of the rows
+ *         selected by the query. The query returns one row with the columns {@value #MIN_VALUE_ALIAS} and
+ *         {@value #MAX_VALUE_ALIAS}.</li>
+ *     <li>Call {@link #partition(Object, Object)} or {@link #partitionParameterValues(Object, Object)} with those
+ *         values. The range between the minimum and maximum is split into equal parts, and a condition for each part
+ *         is added to the where clause of the query.</li>
+ * </ol>
+ *
+ * <p>The first partition has no lower bound and the last partition has no upper bound, so every row with a non-null
+ * key is selected by exactly one partition - even if rows are added after the bounds query runs. Rows with a null key
+ * are not selected by any partition unless there is only one partition. When the range is too small for the requested
+ * number of partitions, fewer partitions are returned. The partitions are equal in key range, not in number of rows,
+ * so they are only balanced if the keys are reasonably evenly distributed.
+ *
+ * <p>Keys can be {@link Integer}, {@link Long}, {@link Short}, {@link BigInteger}, {@link LocalDate},
+ * {@link LocalDateTime}, or {@link Instant}. Date-time boundaries are calculated to the second.
+ *
+ * <p>The query should not contain a union. If the query contains a group by clause, then groups may be split across
+ * partitions unless the key column is one of the grouping columns.
+ *
+ * @param <T> the type of the key column
+ */
+public class KeyRangePartitioner<T> {
+    public static final String MIN_VALUE_ALIAS = "min_value"; //$NON-NLS-1$
+    public static final String MAX_VALUE_ALIAS = "max_value"; //$NON-NLS-1$
+    public static final String PARTITION_NAME_PREFIX = "partition"; //$NON-NLS-1$
+
+    private final SelectModel selectModel;
+    private final BindableColumn<T> keyColumn;
+    private final int partitionCount;
+    private final RenderingStrategy renderingStrategy;
+
+    private KeyRangePartitioner(Builder<T> builder) {
+        selectModel = Objects.requireNonNull(builder.selectModel);
+        keyColumn = Objects.requireNonNull(builder.keyColumn);
+        Validator.assertTrue(builder.partitionCount > 0, "ERROR.66"); //$NON-NLS-1$
+        Validator.assertTrue(selectModel.queryExpressions().count() == 1, "ERROR.64"); //$NON-NLS-1$
+        partitionCount = builder.partitionCount;
+        renderingStrategy = builder.renderingStrategy;
+    }
+
+    /**
+     * Returns a query that selects the minimum and maximum key values of the rows selected by the original query.
+     * The query has the same table, joins, and where clause as the original query.
+     *
+     * @return the bounds query. Render it with a strategy appropriate for the way it will be executed.
+     */
+    public SelectModel boundsModel() {
+        QueryExpressionModel queryExpression = selectModel.queryExpressions().toList().get(0);
+
+        QueryExpressionModel boundsExpression = QueryExpressionModel
+                .withSelectList(List.of(SqlBuilder.min(keyColumn).as(MIN_VALUE_ALIAS),
+                        SqlBuilder.max(keyColumn).as(MAX_VALUE_ALIAS)))
+                .withTable(queryExpression.table())
+                .withTableAliases(queryExpression.tableAliases())
+                .withJoinModel(queryExpression.joinModel().orElse(null))
+                .withWhereModel(queryExpression.whereModel().orElse(null))
+                .build();
+
+        return new SelectModel.Builder()
+                .withQueryExpression(boundsExpression)
+                .withStatementConfiguration(selectModel.statementConfiguration())
+                .build();
+    }
+
+    /**
+     * Calculate the partitioned queries.
+     *
+     * @param minimum the minimum key value returned from the bounds query. If null (typically because the query
+     *     selects no rows) then the original query is returned as a single partition.
+     * @param maximum the maximum key value returned from the bounds query. If null (typically because the query
+     *     selects no rows) then the original query is returned as a single partition.
+     * @return a select model for each partition, in key order
+     */
+    public List<SelectModel> partitionModels(@Nullable T minimum, @Nullable T maximum) {
+        if (minimum == null || maximum == null) {
+            return List.of(selectModel);
+        }
+
+        List<T> boundaries = calculateBoundaries(minimum, maximum);
+        List<SelectModel> partitions = new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            T lowerBound = i == 0 ? null : boundaries.get(i - 1);
+            T upperBound = i == boundaries.size() ? null : boundaries.get(i);
+            partitions.add(rangeCriterion(lowerBound, upperBound)
+                    .map(c -> SelectModelCriteria.addCriterion(selectModel, c))
+                    .orElse(selectModel));
+        }
+        return partitions;
+    }
+
+    /**
+     * Calculate and render the partitioned queries.
+     *
+     * @param minimum the minimum key value returned from the bounds query
+     * @param maximum the maximum key value returned from the bounds query
+     * @return a rendered statement for each partition, in key order
+     */
+    public List<SelectStatementProvider> partition(@Nullable T minimum, @Nullable T maximum) {
+        return partitionModels(minimum, maximum).stream()
+                .map(m -> m.render(renderingStrategy))
+                .toList();
+    }
+
+    /**
+     * Calculate and render the partitioned queries, and prepare parameter values for the MyBatis Spring Batch item
+     * readers (see {@link SpringBatchUtility#toParameterValues(SelectStatementProvider)}). The result has the
+     * same shape as the result of a Spring Batch Partitioner - the keys are partition names
+     * ({@value #PARTITION_NAME_PREFIX}0, {@value #PARTITION_NAME_PREFIX}1, etc.) and the values can be stored in
+     * the execution context of each partition.
+     *
+     * @param minimum the minimum key value returned from the bounds query
+     * @param maximum the maximum key value returned from the bounds query
+     * @return parameter values for each partition, keyed by partition name, in key order
+     */
+    public Map<String, Map<String, Object>> partitionParameterValues(@Nullable T minimum, @Nullable T maximum) {
+        List<SelectStatementProvider> partitions = partition(minimum, maximum);
+        Map<String, Map<String, Object>> parameterValues = new LinkedHashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            parameterValues.put(PARTITION_NAME_PREFIX + i, SpringBatchUtility.toParameterValues(partitions.get(i)));
+        }
+        return parameterValues;
+    }
+
+    private List<T> calculateBoundaries(T minimum, T maximum) {
+        BigInteger low = toOrdinal(minimum);
+        BigInteger span = toOrdinal(maximum).subtract(low);
+        BigInteger count = BigInteger.valueOf(partitionCount);
+
+        List<T> boundaries = new ArrayList<>();
+        BigInteger previous = low;
+        for (int i = 1; i < partitionCount; i++) {
+            BigInteger boundary = low.add(span.multiply(BigInteger.valueOf(i)).divide(count));
+            // small ranges produce duplicate boundaries - skip them so partitions do not overlap or come out empty
+            if (boundary.compareTo(previous) > 0) {
+                boundaries.add(fromOrdinal(boundary, minimum));
+                previous = boundary;
+            }
+        }
+        return boundaries;
+    }
+
+    private Optional<SqlCriterion> rangeCriterion(@Nullable T lowerBound, @Nullable T upperBound) {
+        List<SqlCriterion> criteria = new ArrayList<>();
+        if (lowerBound != null) {
+            criteria.add(keyCriterion(IsGreaterThanOrEqualTo.of(lowerBound)));
+        }
+        if (upperBound != null) {
+            criteria.add(keyCriterion(IsLessThan.of(upperBound)));
+        }
+
+        if (criteria.size() < 2) {
+            return criteria.stream().findFirst();
+        }
+
+        return Optional.of(new CriteriaGroup.Builder()
+                .withInitialCriterion(criteria.get(0))
+                .withSubCriteria(List.of(new AndOrCriteriaGroup.Builder()
+                        .withConnector("and") //$NON-NLS-1$
+                        .withInitialCriterion(criteria.get(1))
+                        .build()))
+                .build());
+    }
+
+    private SqlCriterion keyCriterion(RenderableCondition<T> condition) {
+        return ColumnAndConditionCriterion.withColumn(keyColumn)
+                .withCondition(condition)
+                .build();
+    }
+
+    private static BigInteger toOrdinal(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        } else if (value instanceof BigInteger bigInteger) {
+            return bigInteger;
+        } else if (value instanceof LocalDate localDate) {
+            return BigInteger.valueOf(localDate.toEpochDay());
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return BigInteger.valueOf(localDateTime.toEpochSecond(ZoneOffset.UTC));
+        } else if (value instanceof Instant instant) {
+            return BigInteger.valueOf(instant.getEpochSecond());
+        }
+
+        throw new InvalidSqlException(Messages.getString("ERROR.65", value.getClass().getName())); //$NON-NLS-1$
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T fromOrdinal(BigInteger ordinal, T sample) {
+        Object value;
+        if (sample instanceof Integer) {
+            value = ordinal.intValueExact();
+        } else if (sample instanceof Long) {
+            value = ordinal.longValueExact();
+        } else if (sample instanceof Short) {
+            value = ordinal.shortValueExact();
+        } else if (sample instanceof LocalDate) {
+            value = LocalDate.ofEpochDay(ordinal.longValueExact());
+        } else if (sample instanceof LocalDateTime) {
+            value = LocalDateTime.ofEpochSecond(ordinal.longValueExact(), 0, ZoneOffset.UTC);
+        } else if (sample instanceof Instant) {
+            value = Instant.ofEpochSecond(ordinal.longValueExact());
+        } else {
+            value = ordinal;
+        }
+        return (T) value;
+    }
+
+    public static <T> Builder<T> withKeyColumn(BindableColumn<T> keyColumn) {
+        return new Builder<T>().withKeyColumn(keyColumn);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SelectModel selectModel;
+        private @Nullable BindableColumn<T> keyColumn;
+        private int partitionCount = 1;
+        private RenderingStrategy renderingStrategy = RenderingStrategies.MYBATIS3;
+
+        public Builder<T> withSelectModel(SelectModel selectModel) {
+            this.selectModel = selectModel;
+            return this;
+        }
+
+        public Builder<T> withKeyColumn(BindableColumn<T> keyColumn) {
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
+        public Builder<T> withPartitionCount(int partitionCount) {
+            this.partitionCount = partitionCount;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public KeyRangePartitioner<T> build() {
+            return new KeyRangePartitioner<>(this);
+        }
+    }
+}
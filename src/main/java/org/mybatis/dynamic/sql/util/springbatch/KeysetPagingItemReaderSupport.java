@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.KeysetCursor;
+import org.mybatis.dynamic.sql.select.KeysetPaging;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.util.Messages;
+import org.mybatis.dynamic.sql.util.Validator;
+
+/**
+ * Support for keyset (seek) paging with the MyBatisPagingItemReader supplied by MyBatis Spring integration
+ * (<a href="https://mybatis.org/spring/batch.html">https://mybatis.org/spring/batch.html</a>).
+ *
+ * <p>The normal paging reader selects each page with an offset, so the database must read and discard all the rows
+ * before a page. Late pages of a large query get slower and slower. This class renders the query for each page with a
+ * seek predicate based on the last item read from the previous page instead (see {@link KeysetPaging}). The select
+ * model should have an order by clause that uniquely identifies a row, and a limit of
+ * {@link SpringBatchUtility#MYBATIS_SPRING_BATCH_PAGESIZE}. It should not have an offset.
+ *
+ * <p>The reader must use a mapper method backed by {@link SpringBatchProviderAdapter}, and must be configured
+ * with {@link #parameterValues()} as its parameter values supplier so the statement is rendered again for every
+ * page. This class must also be notified of every item read - typically from an ItemReadListener registered with the
+ * step. For example:
+ *
+ * <pre>
+ * KeysetPagingItemReaderSupport&lt;PersonRecord&gt; keysetSupport = KeysetPagingItemReaderSupport
+ *         .&lt;PersonRecord&gt;withSelectModel(select(id, firstName, lastName)
+ *                 .from(person)
+ *                 .orderBy(id)
+ *                 .limit(SpringBatchUtility.MYBATIS_SPRING_BATCH_PAGESIZE)
+ *                 .build())
+ *         .withKeyExtractors(PersonRecord::id)
+ *         .build();
+ *
+ * MyBatisPagingItemReader&lt;PersonRecord&gt; reader = new MyBatisPagingItemReader&lt;&gt;();
+ * reader.setQueryId(PersonMapper.class.getName() + ".selectMany");
+ * reader.setParameterValuesSupplier(keysetSupport::parameterValues);
+ *
+ * // in the step configuration: an ItemReadListener whose afterRead method calls keysetSupport.afterRead(item)
+ * </pre>
+ *
+ * <p>The position of the reader is not saved in the step execution context, so restarting a failed step will start
+ * from the first page. Instances of this class are not thread safe - use one instance per reader.
+ *
+ * @param <T> the type of items read
+ */
+public class KeysetPagingItemReaderSupport<T> {
+    private final SelectModel selectModel;
+    private final List<Function<? super T, ?>> keyExtractors;
+    private final RenderingStrategy renderingStrategy;
+    private @Nullable T lastItem;
+
+    private KeysetPagingItemReaderSupport(Builder<T> builder) {
+        selectModel = Objects.requireNonNull(builder.selectModel);
+        long orderByColumnCount = selectModel.orderByModel()
+                .map(m -> m.columns().count())
+                .orElseThrow(() -> new InvalidSqlException(Messages.getString("ERROR.57"))); //$NON-NLS-1$
+        Validator.assertTrue(builder.keyExtractors.size() == orderByColumnCount, "ERROR.63", //$NON-NLS-1$
+                String.valueOf(orderByColumnCount));
+        keyExtractors = List.copyOf(builder.keyExtractors);
+        renderingStrategy = builder.renderingStrategy;
+    }
+
+    /**
+     * Render the query for the next page. The first page is selected with the query as supplied. Subsequent pages
+     * are selected with a seek predicate based on the last item read.
+     *
+     * @return parameter values for the MyBatisPagingItemReader, including the rendered statement
+     */
+    public Map<String, Object> parameterValues() {
+        SelectModel pageModel = cursor()
+                .map(c -> KeysetPaging.seekAfter(selectModel, c))
+                .orElse(selectModel);
+
+        return SpringBatchUtility.toParameterValues(pageModel.render(renderingStrategy));
+    }
+
+    /**
+     * Record an item read by the reader. This method has the same signature as ItemReadListener.afterRead, so
+     * a listener can delegate to it directly.
+     *
+     * @param item the item read
+     */
+    public void afterRead(T item) {
+        lastItem = item;
+    }
+
+    /**
+     * Returns the cursor that will be used to select the next page.
+     *
+     * @return the cursor calculated from the last item read, or empty if no items have been read
+     */
+    public Optional<KeysetCursor> cursor() {
+        return Optional.ofNullable(lastItem).map(this::toCursor);
+    }
+
+    /**
+     * Forget the last item read so the next page will be the first page. Call this when the reader is reopened.
+     */
+    public void reset() {
+        lastItem = null;
+    }
+
+    private KeysetCursor toCursor(T item) {
+        return KeysetCursor.of(keyExtractors.stream()
+                .map(f -> f.apply(item))
+                .toList());
+    }
+
+    public static <T> Builder<T> withSelectModel(SelectModel selectModel) {
+        return new Builder<T>().withSelectModel(selectModel);
+    }
+
+    public static class Builder<T> {
+        private @Nullable SelectModel selectModel;
+        private final List<Function<? super T, ?>> keyExtractors = new ArrayList<>();
+        private RenderingStrategy renderingStrategy =
+                SpringBatchUtility.SPRING_BATCH_PAGING_ITEM_READER_RENDERING_STRATEGY;
+
+        public Builder<T> withSelectModel(SelectModel selectModel) {
+            this.selectModel = selectModel;
+            return this;
+        }
+
+        /**
+         * Set functions that retrieve the values of the order by columns from an item. There must be one function
+         * for each order by column, in the same order as the order by columns.
+         *
+         * @param keyExtractors the key extractors
+         * @return this builder
+         */
+        @SafeVarargs
+        public final Builder<T> withKeyExtractors(Function<? super T, ?>... keyExtractors) {
+            return withKeyExtractors(Arrays.asList(keyExtractors));
+        }
+
+        public Builder<T> withKeyExtractors(List<Function<? super T, ?>> keyExtractors) {
+            this.keyExtractors.addAll(keyExtractors);
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public KeysetPagingItemReaderSupport<T> build() {
+            return new KeysetPagingItemReaderSupport<>(this);
+        }
+    }
+}
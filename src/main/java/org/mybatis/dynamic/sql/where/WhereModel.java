@@ -20,6 +20,7 @@ import java.util.Optional;
 import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionModel;
 import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class WhereModel extends AbstractBooleanExpressionModel {
@@ -34,6 +35,13 @@ public class WhereModel extends AbstractBooleanExpressionModel {
                 .render();
     }
 
+    public boolean render(RenderingContext renderingContext, FragmentWriter writer) {
+        return WhereRenderer.withWhereModel(this)
+                .withRenderingContext(renderingContext)
+                .build()
+                .render(writer);
+    }
+
     public static class Builder extends AbstractBuilder<Builder> {
         public WhereModel build() {
             return new WhereModel(this);
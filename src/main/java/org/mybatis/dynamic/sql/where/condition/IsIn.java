@@ -22,7 +22,10 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.InListStrategy;
 import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class IsIn<T> extends AbstractListValueCondition<T>
@@ -39,6 +42,10 @@ public class IsIn<T> extends AbstractListValueCondition<T>
         super(values);
     }
 
+    protected IsIn(Collection<T> values, InListStrategy inListStrategy) {
+        super(values, inListStrategy);
+    }
+
     @Override
     public boolean shouldRender(RenderingContext renderingContext) {
         Validator.assertNotEmpty(values, "ERROR.44", "IsIn"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -50,14 +57,30 @@ public class IsIn<T> extends AbstractListValueCondition<T>
         return "in"; //$NON-NLS-1$
     }
 
+    @Override
+    public FragmentAndParameters renderLeftColumn(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
+        return inListStrategy.renderLeftColumn(this, super.renderLeftColumn(renderingContext, leftColumn));
+    }
+
+    /**
+     * Return a new condition with the same values that will be rendered with a different strategy.
+     *
+     * @param inListStrategy the strategy to use when rendering this condition
+     * @return a new condition
+     * @see org.mybatis.dynamic.sql.InListStrategies
+     */
+    public IsIn<T> withInListStrategy(InListStrategy inListStrategy) {
+        return new IsIn<>(values, inListStrategy);
+    }
+
     @Override
     public IsIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsIn::new, this, IsIn::empty);
+        return filterSupport(predicate, v -> new IsIn<>(v, inListStrategy), this, IsIn::empty);
     }
 
     @Override
     public <R> IsIn<R> map(Function<? super T, ? extends R> mapper) {
-        return mapSupport(mapper, IsIn::new, IsIn::empty);
+        return mapSupport(mapper, v -> new IsIn<>(v, inListStrategy), IsIn::empty);
     }
 
     @SafeVarargs
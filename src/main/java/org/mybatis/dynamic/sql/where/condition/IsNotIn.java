@@ -22,7 +22,10 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.InListStrategy;
 import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.util.Validator;
 
 public class IsNotIn<T> extends AbstractListValueCondition<T>
@@ -39,6 +42,10 @@ public class IsNotIn<T> extends AbstractListValueCondition<T>
         super(values);
     }
 
+    protected IsNotIn(Collection<T> values, InListStrategy inListStrategy) {
+        super(values, inListStrategy);
+    }
+
     @Override
     public boolean shouldRender(RenderingContext renderingContext) {
         Validator.assertNotEmpty(values, "ERROR.44", "IsNotIn"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -50,14 +57,35 @@ public class IsNotIn<T> extends AbstractListValueCondition<T>
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isNegated() {
+        return true;
+    }
+
+    @Override
+    public FragmentAndParameters renderLeftColumn(RenderingContext renderingContext, BindableColumn<T> leftColumn) {
+        return inListStrategy.renderLeftColumn(this, super.renderLeftColumn(renderingContext, leftColumn));
+    }
+
+    /**
+     * Return a new condition with the same values that will be rendered with a different strategy.
+     *
+     * @param inListStrategy the strategy to use when rendering this condition
+     * @return a new condition
+     * @see org.mybatis.dynamic.sql.InListStrategies
+     */
+    public IsNotIn<T> withInListStrategy(InListStrategy inListStrategy) {
+        return new IsNotIn<>(values, inListStrategy);
+    }
+
     @Override
     public IsNotIn<T> filter(Predicate<? super T> predicate) {
-        return filterSupport(predicate, IsNotIn::new, this, IsNotIn::empty);
+        return filterSupport(predicate, v -> new IsNotIn<>(v, inListStrategy), this, IsNotIn::empty);
     }
 
     @Override
     public <R> IsNotIn<R> map(Function<? super T, ? extends R> mapper) {
-        return mapSupport(mapper, IsNotIn::new, IsNotIn::empty);
+        return mapSupport(mapper, v -> new IsNotIn<>(v, inListStrategy), IsNotIn::empty);
     }
 
     @SafeVarargs
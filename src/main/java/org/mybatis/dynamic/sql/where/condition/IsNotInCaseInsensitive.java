@@ -52,6 +52,11 @@ public class IsNotInCaseInsensitive<T> extends AbstractListValueCondition<T>
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isNegated() {
+        return true;
+    }
+
     @Override
     public IsNotInCaseInsensitive<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotInCaseInsensitive::new, this, IsNotInCaseInsensitive::empty);
@@ -47,6 +47,11 @@ public class IsNotInCaseInsensitiveWhenPresent<T> extends AbstractListValueCondi
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isNegated() {
+        return true;
+    }
+
     @Override
     public IsNotInCaseInsensitiveWhenPresent<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotInCaseInsensitiveWhenPresent::new,
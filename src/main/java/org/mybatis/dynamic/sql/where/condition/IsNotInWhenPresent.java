@@ -44,6 +44,11 @@ public class IsNotInWhenPresent<T> extends AbstractListValueCondition<T>
         return "not in"; //$NON-NLS-1$
     }
 
+    @Override
+    public boolean isNegated() {
+        return true;
+    }
+
     @Override
     public IsNotInWhenPresent<T> filter(Predicate<? super T> predicate) {
         return filterSupport(predicate, IsNotInWhenPresent::new, this, IsNotInWhenPresent::empty);
@@ -112,6 +112,7 @@ public class CriterionRenderer implements SqlCriterionVisitor<Optional<RenderedC
             return Optional.of(renderCondition(criterion));
         } else {
             criterion.condition().renderingSkipped();
+            renderingContext.conditionSkipped();
             return Optional.empty();
         }
     }
@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import org.mybatis.dynamic.sql.AndOrCriteriaGroup;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.CriteriaGroup;
+import org.mybatis.dynamic.sql.ExistsCriterion;
+import org.mybatis.dynamic.sql.ExistsPredicate;
+import org.mybatis.dynamic.sql.NotCriterion;
+import org.mybatis.dynamic.sql.NullCriterion;
+import org.mybatis.dynamic.sql.RenderableCondition;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlCriterionVisitor;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.select.render.SubQueryRenderer;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+
+/**
+ * Writes a {@link SqlCriterion} directly to a {@link FragmentWriter}. This produces the same SQL as
+ * {@link CriterionRenderer}, but without creating intermediate fragments for every criterion and sub-criterion.
+ *
+ * <p>Criteria are written in order. When a criterion does not render, anything written for it (for example, a
+ * connector) is removed. When a group renders more than one fragment, the enclosing parentheses are inserted
+ * after the group has been written.
+ *
+ * <p>Each visit method returns true if anything was written.
+ */
+public class CriterionWriter implements SqlCriterionVisitor<Boolean> {
+    private final RenderingContext renderingContext;
+    private final FragmentWriter writer;
+    private int depth;
+
+    public CriterionWriter(RenderingContext renderingContext, FragmentWriter writer) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    @Override
+    public <T> Boolean visit(ColumnAndConditionCriterion<T> criterion) {
+        return writeGroup(() -> writeColumnAndCondition(criterion), criterion.subCriteria(), "(", ""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public Boolean visit(ExistsCriterion criterion) {
+        return writeGroup(() -> writeExists(criterion), criterion.subCriteria(), "(", ""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public Boolean visit(CriteriaGroup criterion) {
+        return writeGroup(() -> criterion.initialCriterion().accept(this), criterion.subCriteria(),
+                "(", ""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public Boolean visit(NotCriterion criterion) {
+        return writeGroup(() -> criterion.initialCriterion().accept(this), criterion.subCriteria(),
+                "not (", "not "); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public Boolean visit(NullCriterion criterion) {
+        return false;
+    }
+
+    /**
+     * Write an initial criterion and sub-criteria without any enclosing group.
+     *
+     * @param initialCriterion the initial criterion
+     * @param subCriteria the sub-criteria
+     * @return the number of fragments written at this level. Zero means nothing was written.
+     */
+    public int write(SqlCriterion initialCriterion, List<AndOrCriteriaGroup> subCriteria) {
+        return writeLevel(() -> initialCriterion.accept(this), subCriteria);
+    }
+
+    private int writeLevel(BooleanSupplier initialWriter, List<AndOrCriteriaGroup> subCriteria) {
+        renderingContext.criteriaDepth(++depth);
+        try {
+            return write(initialWriter, subCriteria);
+        } finally {
+            depth--;
+        }
+    }
+
+    private int write(BooleanSupplier initialWriter, List<AndOrCriteriaGroup> subCriteria) {
+        int fragmentCount = initialWriter.getAsBoolean() ? 1 : 0;
+
+        for (AndOrCriteriaGroup subCriterion : subCriteria) {
+            int mark = writer.length();
+            if (fragmentCount > 0) {
+                writer.append(' ').append(subCriterion.connector()).append(' ');
+            }
+
+            if (writeGroup(() -> subCriterion.initialCriterion().accept(this), subCriterion.subCriteria(),
+                    "(", "")) { //$NON-NLS-1$ //$NON-NLS-2$
+                fragmentCount++;
+            } else {
+                writer.setLength(mark);
+            }
+        }
+
+        return fragmentCount;
+    }
+
+    private boolean writeGroup(BooleanSupplier initialWriter, List<AndOrCriteriaGroup> subCriteria,
+                               String multipleFragmentPrefix, String singleFragmentPrefix) {
+        int start = writer.length();
+        int fragmentCount = subCriteria.isEmpty() ? write(initialWriter, subCriteria)
+                : writeLevel(initialWriter, subCriteria);
+
+        if (fragmentCount > 1) {
+            writer.insert(start, multipleFragmentPrefix);
+            writer.append(')');
+        } else if (fragmentCount == 1 && !singleFragmentPrefix.isEmpty()) {
+            writer.insert(start, singleFragmentPrefix);
+        }
+
+        return fragmentCount > 0;
+    }
+
+    private <T> boolean writeColumnAndCondition(ColumnAndConditionCriterion<T> criterion) {
+        RenderableCondition<T> condition = criterion.condition();
+        if (condition.shouldRender(renderingContext)) {
+            writer.append(condition.renderLeftColumn(renderingContext, criterion.column()))
+                    .append(' ')
+                    .append(condition.renderCondition(renderingContext, criterion.column()));
+            return true;
+        } else {
+            condition.renderingSkipped();
+            renderingContext.conditionSkipped();
+            return false;
+        }
+    }
+
+    private boolean writeExists(ExistsCriterion criterion) {
+        ExistsPredicate existsPredicate = criterion.existsPredicate();
+        writer.append(SubQueryRenderer.withSelectModel(existsPredicate.selectModelBuilder().build())
+                .withRenderingContext(renderingContext)
+                .withPrefix(existsPredicate.operator() + " (") //$NON-NLS-1$
+                .withSuffix(")") //$NON-NLS-1$
+                .build()
+                .render());
+        return true;
+    }
+}
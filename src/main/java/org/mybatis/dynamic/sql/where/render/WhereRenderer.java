@@ -15,12 +15,10 @@
  */
 package org.mybatis.dynamic.sql.where.render;
 
-import java.util.Optional;
-
 import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionModel;
 import org.mybatis.dynamic.sql.common.AbstractBooleanExpressionRenderer;
 import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
 
 public class WhereRenderer extends AbstractBooleanExpressionRenderer {
     private WhereRenderer(Builder builder) {
@@ -28,11 +26,11 @@ public class WhereRenderer extends AbstractBooleanExpressionRenderer {
     }
 
     @Override
-    public Optional<FragmentAndParameters> render() {
-        Optional<FragmentAndParameters> whereClause = super.render();
+    public boolean render(FragmentWriter writer) {
+        boolean rendered = super.render(writer);
 
-        if (whereClause.isPresent() || renderingContext.isNonRenderingClauseAllowed()) {
-            return whereClause;
+        if (rendered || renderingContext.isNonRenderingClauseAllowed()) {
+            return rendered;
         } else {
             throw new NonRenderingWhereClauseException();
         }
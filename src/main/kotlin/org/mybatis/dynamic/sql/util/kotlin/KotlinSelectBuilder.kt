@@ -19,6 +19,7 @@ import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SortSpecification
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.dsl.SelectDSL
+import org.mybatis.dynamic.sql.select.KeysetCursor
 import org.mybatis.dynamic.sql.select.SelectModel
 import org.mybatis.dynamic.sql.util.Buildable
 
@@ -60,6 +61,14 @@ class KotlinSelectBuilder(private val dsl: SelectDSL) :
         dsl.orderBy(columns.toList())
     }
 
+    fun seekAfter(vararg values: Any) {
+        dsl.seekAfter(*values)
+    }
+
+    fun seekAfterWhenPresent(cursor: KeysetCursor?) {
+        dsl.seekAfterWhenPresent(cursor)
+    }
+
     override fun limitWhenPresent(limit: Long?) {
         dsl.limitWhenPresent(limit)
     }
@@ -16,6 +16,8 @@
 @file:Suppress("TooManyFunctions")
 package org.mybatis.dynamic.sql.util.kotlin.mybatis3
 
+import org.apache.ibatis.cursor.Cursor
+import org.apache.ibatis.session.ResultHandler
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.SqlTable
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider
@@ -34,6 +36,7 @@ import org.mybatis.dynamic.sql.util.kotlin.KotlinInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.KotlinMultiRowInsertCompleter
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
+import java.util.stream.Stream
 
 fun count(
     mapper: (SelectStatementProvider) -> Long,
@@ -133,6 +136,21 @@ fun insertSelect(
         run(completer)
     }.run(mapper)
 
+/**
+ * This function returns a MyBatis [Cursor] so rows can be retrieved one at a time. The cursor must be consumed,
+ * and should be closed, while the SqlSession is open.
+ */
+fun <T> selectCursor(
+    mapper: (SelectStatementProvider) -> Cursor<T>,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+): Cursor<T> =
+    select(selectList) {
+        from(table)
+        run(completer)
+    }.run(mapper)
+
 fun <T> selectDistinct(
     mapper: (SelectStatementProvider) -> List<T>,
     selectList: List<BasicColumn>,
@@ -166,5 +184,39 @@ fun <T> selectOne(
         run(completer)
     }.run(mapper)
 
+/**
+ * This function returns a [Stream] of rows - typically one backed by a MyBatis [Cursor] such as the Stream returned
+ * from [org.mybatis.dynamic.sql.util.mybatis3.CommonSelectMapper.streamMany]. The Stream must be consumed,
+ * and should be closed, while the SqlSession is open.
+ */
+fun <T> selectStream(
+    mapper: (SelectStatementProvider) -> Stream<T>,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    completer: SelectCompleter
+): Stream<T> =
+    select(selectList) {
+        from(table)
+        run(completer)
+    }.run(mapper)
+
+/**
+ * This function passes each row to a MyBatis [ResultHandler]. MyBatis does not accumulate rows when a result
+ * handler is used.
+ */
+fun <T> selectWithHandler(
+    mapper: (SelectStatementProvider, ResultHandler<T>) -> Unit,
+    selectList: List<BasicColumn>,
+    table: SqlTable,
+    resultHandler: ResultHandler<T>,
+    completer: SelectCompleter
+) =
+    select(selectList) {
+        from(table)
+        run(completer)
+    }.run {
+        mapper(this, resultHandler)
+    }
+
 fun update(mapper: (UpdateStatementProvider) -> Int, table: SqlTable, completer: UpdateCompleter): Int =
     update(table, completer).run(mapper)
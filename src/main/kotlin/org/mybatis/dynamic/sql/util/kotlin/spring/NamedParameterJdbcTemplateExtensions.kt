@@ -37,13 +37,17 @@ import org.mybatis.dynamic.sql.util.kotlin.MyBatisDslMarker
 import org.mybatis.dynamic.sql.util.kotlin.SelectCompleter
 import org.mybatis.dynamic.sql.util.kotlin.UpdateCompleter
 import org.mybatis.dynamic.sql.util.spring.BatchInsertUtility
+import org.mybatis.dynamic.sql.util.spring.PropertyPathSqlParameterSource
+import org.mybatis.dynamic.sql.util.spring.StatementHintsUtility
 import org.springframework.dao.EmptyResultDataAccessException
+import org.springframework.jdbc.core.RowCallbackHandler
 import org.springframework.jdbc.core.RowMapper
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource
+import org.springframework.jdbc.core.SingleColumnRowMapper
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
 import org.springframework.jdbc.support.KeyHolder
 import java.sql.ResultSet
+import java.util.stream.Stream
 import kotlin.reflect.KClass
 
 fun NamedParameterJdbcTemplate.count(selectStatement: SelectStatementProvider): Long =
@@ -82,13 +86,13 @@ fun <T : Any> NamedParameterJdbcTemplate.insertBatch(
 
 // single row insert
 fun <T : Any> NamedParameterJdbcTemplate.insert(insertStatement: InsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, PropertyPathSqlParameterSource.forRow(insertStatement.row))
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(
     insertStatement: InsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(insertStatement.insertStatement, PropertyPathSqlParameterSource.forRow(insertStatement.row), keyHolder)
 
 fun <T : Any> NamedParameterJdbcTemplate.insert(row: T, completer: KotlinInsertCompleter<T>): Int =
     insert(org.mybatis.dynamic.sql.util.kotlin.spring.insert(row, completer))
@@ -120,13 +124,17 @@ fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(
     insertMultiple(org.mybatis.dynamic.sql.util.kotlin.spring.insertMultiple(records, completer))
 
 fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(insertStatement: MultiRowInsertStatementProvider<T>): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement))
+    update(insertStatement.insertStatement, PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement))
 
 fun <T : Any> NamedParameterJdbcTemplate.insertMultiple(
     insertStatement: MultiRowInsertStatementProvider<T>,
     keyHolder: KeyHolder
 ): Int =
-    update(insertStatement.insertStatement, BeanPropertySqlParameterSource(insertStatement), keyHolder)
+    update(
+        insertStatement.insertStatement,
+        PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement),
+        keyHolder
+    )
 
 fun NamedParameterJdbcTemplate.insertSelect(completer: InsertSelectCompleter): Int =
     insertSelect(org.mybatis.dynamic.sql.util.kotlin.spring.insertSelect(completer))
@@ -180,13 +188,13 @@ fun <T> NamedParameterJdbcTemplate.selectList(
     selectStatement: SelectStatementProvider,
     rowMapper: RowMapper<T>
 ): List<T> =
-    query(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    StatementHintsUtility.query(this, selectStatement, rowMapper)
 
 fun <T : Any> NamedParameterJdbcTemplate.selectList(
     selectStatement: SelectStatementProvider,
     type: KClass<T>
 ): List<T?> =
-    queryForList(selectStatement.selectStatement, selectStatement.parameters, type.java)
+    StatementHintsUtility.query(this, selectStatement, SingleColumnRowMapper.newInstance(type.java))
 
 fun NamedParameterJdbcTemplate.selectOne(
     vararg selectList: BasicColumn,
@@ -213,7 +221,7 @@ fun <T> NamedParameterJdbcTemplate.selectOne(
     selectStatement: SelectStatementProvider,
     rowMapper: RowMapper<T>
 ): T? = try {
-    queryForObject(selectStatement.selectStatement, selectStatement.parameters, rowMapper)
+    StatementHintsUtility.queryForObject(this, selectStatement, rowMapper)
 } catch (e: EmptyResultDataAccessException) {
     null
 }
@@ -223,11 +231,36 @@ fun <T : Any> NamedParameterJdbcTemplate.selectOne(
     selectStatement: SelectStatementProvider,
     type: KClass<T>
 ): T? = try {
-    queryForObject(selectStatement.selectStatement, selectStatement.parameters, type.java)
+    StatementHintsUtility.queryForObject(this, selectStatement, SingleColumnRowMapper.newInstance(type.java))
 } catch (e: EmptyResultDataAccessException) {
     null
 }
 
+/**
+ * Execute a select statement and return a [Stream] of mapped rows. Rows are read from the result set as the Stream
+ * is consumed. The Stream holds an open connection and must be closed after use.
+ */
+fun <T> NamedParameterJdbcTemplate.selectStream(
+    selectStatement: SelectStatementProvider,
+    rowMapper: (rs: ResultSet, rowNum: Int) -> T
+): Stream<T> = selectStream(selectStatement, RowMapper(rowMapper))
+
+fun <T> NamedParameterJdbcTemplate.selectStream(
+    selectStatement: SelectStatementProvider,
+    rowMapper: RowMapper<T>
+): Stream<T> =
+    StatementHintsUtility.queryForStream(this, selectStatement, rowMapper)
+
+/**
+ * Execute a select statement and pass each row to a [RowCallbackHandler]. Rows are not accumulated.
+ */
+fun NamedParameterJdbcTemplate.select(
+    selectStatement: SelectStatementProvider,
+    rowCallbackHandler: RowCallbackHandler
+) {
+    StatementHintsUtility.query(this, selectStatement, rowCallbackHandler)
+}
+
 fun NamedParameterJdbcTemplate.update(updateStatement: UpdateStatementProvider): Int =
     update(updateStatement.updateStatement, updateStatement.parameters)
 
@@ -24,11 +24,14 @@ import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
@@ -174,6 +177,76 @@ class CommonSelectMapperTest {
         }
     }
 
+    @Test
+    void testGeneralSelectManyCursor() throws Exception {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (Cursor<Map<String, Object>> cursor = mapper.selectManyMappedRowsCursor(selectStatement)) {
+                cursor.forEach(rows::add);
+            }
+
+            assertThat(rows).hasSize(2);
+
+            assertThat(rows.get(0)).containsEntry("ID", 1);
+            assertThat(rows.get(0)).containsEntry("ANIMAL_NAME", "Lesser short-tailed shrew");
+            assertThat(rows.get(1)).containsEntry("ID", 2);
+            assertThat(rows.get(1)).containsEntry("ANIMAL_NAME", "Little brown bat");
+        }
+    }
+
+    @Test
+    void testGeneralSelectManyWithRowMapperAndConsumer() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isIn(1, 2))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<AnimalData> rows = new ArrayList<>();
+            mapper.selectMany(selectStatement, rowMapper, rows::add);
+
+            assertThat(rows).hasSize(2);
+
+            assertThat(rows.get(0).id()).isEqualTo(1);
+            assertThat(rows.get(0).animalName()).isEqualTo("Lesser short-tailed shrew");
+            assertThat(rows.get(1).id()).isEqualTo(2);
+            assertThat(rows.get(1).animalName()).isEqualTo("Little brown bat");
+        }
+    }
+
+    @Test
+    void testGeneralStreamMany() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            CommonSelectMapper mapper = sqlSession.getMapper(CommonSelectMapper.class);
+            SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isLessThanOrEqualTo(10))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            List<Integer> ids;
+            try (Stream<AnimalData> rows = mapper.streamMany(selectStatement, rowMapper)) {
+                ids = rows.filter(a -> a.bodyWeight() > 1.0)
+                        .map(AnimalData::id)
+                        .toList();
+            }
+
+            assertThat(ids).containsExactly(7, 8, 9);
+        }
+    }
+
     @Test
     void testSelectOneBigDecimal() {
         try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
@@ -35,6 +36,7 @@ import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.InListStrategies;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
@@ -122,4 +124,35 @@ class ArrayTest {
             });
         }
     }
+
+    @Test
+    void testSelectWithArrayParameterInList() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            NamesTableMapper mapper = sqlSession.getMapper(NamesTableMapper.class);
+
+            for (int i = 1; i <= 4; i++) {
+                GeneralInsertStatementProvider insertStatement = insertInto(namesTable)
+                        .set(id).toValue(i)
+                        .set(names).toValue(new String[] {"Fred", "Wilma"})
+                        .build()
+                        .render(RenderingStrategies.MYBATIS3);
+                mapper.generalInsert(insertStatement);
+            }
+
+            SelectStatementProvider selectStatement = select(id, NamesTableDynamicSqlSupport.names)
+                    .from(namesTable)
+                    .where(id, isIn(1, 3, 4).withInListStrategy(InListStrategies.arrayParameter()))
+                    .and(id, isNotIn(4).withInListStrategy(InListStrategies.arrayParameter()))
+                    .orderBy(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, names from NamesTable "
+                    + "where id = any(#{parameters.p1,jdbcType=ARRAY}) and id <> all(#{parameters.p2,jdbcType=ARRAY}) "
+                    + "order by id");
+
+            List<NamesRecord> rows = mapper.selectMany(selectStatement);
+            assertThat(rows).extracting(NamesRecord::getId).containsExactly(1, 3);
+        }
+    }
 }
@@ -37,11 +37,14 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -49,15 +52,22 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.delete.DeleteDSLCompleter;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialects;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 
 class PersonMapperTest {
@@ -330,6 +340,28 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testDeleteBatchWithFlushInterval() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            BatchDelete<Integer> batchDelete = deleteBatch(List.of(1, 2, 3, 4, 5))
+                    .from(person)
+                    .where(id)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(batchDelete.getDeleteStatementSQL())
+                    .isEqualTo("delete from Person where id = #{row,jdbcType=INTEGER}");
+
+            long rows = mapper.deleteBatch(batchDelete, 2);
+            assertThat(rows).isEqualTo(5);
+
+            List<PersonRecord> remaining = mapper.select(SelectDSLCompleter.allRows());
+            assertThat(remaining).extracting(PersonRecord::id).containsExactly(6);
+        }
+    }
+
     @Test
     void testInsert() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -395,6 +427,129 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testInsertBatchWithFlushInterval() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            Stream<PersonRecord> records = IntStream.range(100, 105)
+                    .mapToObj(i -> new PersonRecord(i, "Joe", new LastName("Jones"), new Date(), true, "Developer", 1));
+
+            StreamingBatchInsert<PersonRecord> batchInsert = insertBatch(records)
+                    .into(person)
+                    .withMappedColumn(id)
+                    .withMappedColumn(firstName)
+                    .withMappedColumn(lastName)
+                    .withMappedColumn(birthDate)
+                    .withMappedColumn(employed)
+                    .withMappedColumn(occupation)
+                    .withMappedColumn(addressId)
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            long rows = mapper.insertBatch(batchInsert, 2);
+            assertThat(rows).isEqualTo(5);
+
+            long count = mapper.count(c -> c.where(id, isGreaterThanOrEqualTo(100)));
+            assertThat(count).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testUpsertWithMerge() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            PersonRecord row = new PersonRecord(1, "Fred", new LastName("Flintstone"), new Date(), true, "Developer", 1);
+
+            InsertStatementProvider<PersonRecord> upsertStatement = upsert(insert(row)
+                            .into(person)
+                            .withMappedColumn(id)
+                            .withMappedColumn(firstName)
+                            .withMappedColumn(lastName)
+                            .withMappedColumn(birthDate)
+                            .withMappedColumn(employed)
+                            .withMappedColumn(occupation)
+                            .withMappedColumn(addressId))
+                    .onConflict(id)
+                    .doUpdate(occupation)
+                    .build()
+                    .render(UpsertDialects.merge(PersonMapperTest::sqlType), RenderingStrategies.MYBATIS3);
+
+            int rows = mapper.insert(upsertStatement);
+            assertThat(rows).isEqualTo(1);
+
+            Optional<PersonRecord> updatedRow = mapper.selectByPrimaryKey(1);
+            assertThat(updatedRow).hasValueSatisfying(r -> assertThat(r.occupation()).isEqualTo("Developer"));
+            assertThat(mapper.count(CountDSLCompleter.allRows())).isEqualTo(6);
+        }
+    }
+
+    @Test
+    void testMultiRowUpsertWithMerge() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = List.of(
+                    new PersonRecord(1, "Fred", new LastName("Flintstone"), new Date(), true, "Developer", 1),
+                    new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Architect", 2)
+            );
+
+            MultiRowInsertStatementProvider<PersonRecord> upsertStatement = upsert(insertMultiple(records)
+                            .into(person)
+                            .withMappedColumn(id)
+                            .withMappedColumn(firstName)
+                            .withMappedColumn(lastName)
+                            .withMappedColumn(birthDate)
+                            .withMappedColumn(employed)
+                            .withMappedColumn(occupation)
+                            .withMappedColumn(addressId))
+                    .onConflict(id)
+                    .doUpdate(occupation)
+                    .build()
+                    .render(UpsertDialects.merge(PersonMapperTest::sqlType), RenderingStrategies.MYBATIS3);
+
+            int rows = mapper.insertMultiple(upsertStatement);
+            assertThat(rows).isEqualTo(2);
+
+            List<PersonRecord> upsertedRows = mapper.select(c -> c.where(id, isIn(1, 100)).orderBy(id));
+            assertThat(upsertedRows).extracting(PersonRecord::occupation).containsExactly("Developer", "Architect");
+            assertThat(mapper.count(CountDSLCompleter.allRows())).isEqualTo(7);
+        }
+    }
+
+    @Test
+    void testBatchUpsertWithMerge() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = List.of(
+                    new PersonRecord(1, "Fred", new LastName("Flintstone"), new Date(), true, "Developer", 1),
+                    new PersonRecord(100, "Joe", new LastName("Jones"), new Date(), true, "Architect", 2)
+            );
+
+            BatchInsert<PersonRecord> upsertStatement = upsert(insertBatch(records)
+                            .into(person)
+                            .withMappedColumn(id)
+                            .withMappedColumn(firstName)
+                            .withMappedColumn(lastName)
+                            .withMappedColumn(birthDate)
+                            .withMappedColumn(employed)
+                            .withMappedColumn(occupation)
+                            .withMappedColumn(addressId))
+                    .onConflict(id)
+                    .doUpdate(occupation)
+                    .build()
+                    .render(UpsertDialects.merge(PersonMapperTest::sqlType), RenderingStrategies.MYBATIS3);
+
+            upsertStatement.insertStatements().forEach(mapper::insert);
+            session.flushStatements();
+
+            List<PersonRecord> upsertedRows = mapper.select(c -> c.where(id, isIn(1, 100)).orderBy(id));
+            assertThat(upsertedRows).extracting(PersonRecord::occupation).containsExactly("Developer", "Architect");
+            assertThat(mapper.count(CountDSLCompleter.allRows())).isEqualTo(7);
+        }
+    }
+
     @Test
     void testInsertSelective() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -544,6 +699,34 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    void testUpdateBatchWithFlushInterval() {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            List<PersonRecord> records = mapper.select(SelectDSLCompleter.allRowsOrderedBy(id)).stream()
+                    .map(r -> r.withOccupation("Programmer"))
+                    .toList();
+
+            BatchUpdate<PersonRecord> batchUpdate = updateBatch(records)
+                    .table(person)
+                    .set(occupation).toProperty("occupation")
+                    .where(id).isEqualToProperty("id")
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(
+                    "update Person set occupation = #{row.occupation,jdbcType=VARCHAR} "
+                            + "where id = #{row.id,jdbcType=INTEGER}");
+
+            long rows = mapper.updateBatch(batchUpdate, 4);
+            assertThat(rows).isEqualTo(6);
+
+            long count = mapper.count(c -> c.where(occupation, isEqualTo("Programmer")));
+            assertThat(count).isEqualTo(6);
+        }
+    }
+
     @Test
     void testCount() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -1024,4 +1207,14 @@ class PersonMapperTest {
         assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected);
         assertThat(updateStatement.getParameters()).containsOnly(entry("p1", 4), entry("p2", 5));
     }
+
+    private static String sqlType(SqlColumn<?> column) {
+        if (column == id || column == addressId) {
+            return "integer";
+        } else if (column == birthDate) {
+            return "date";
+        } else {
+            return "varchar(30)";
+        }
+    }
 }
@@ -20,9 +20,11 @@ import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
@@ -33,6 +35,7 @@ import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.StatementHints;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
@@ -88,6 +91,48 @@ class PersonTemplateTest {
 
     }
 
+    @Test
+    void testSelectStream() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .orderBy(id);
+
+        List<Integer> ids;
+        try (Stream<PersonRecord> rows = template.selectStream(selectStatement, personRowMapper)) {
+            ids = rows.map(PersonRecord::id).filter(i -> i % 2 == 0).toList();
+        }
+
+        assertThat(ids).containsExactly(2, 4, 6);
+    }
+
+    @Test
+    void testSelectWithRowCallbackHandler() {
+        Buildable<SelectModel> selectStatement = select(id)
+                .from(person)
+                .where(id, isGreaterThan(3))
+                .orderBy(id);
+
+        List<Integer> ids = new ArrayList<>();
+        template.select(selectStatement, rs -> ids.add(rs.getInt(1)));
+
+        assertThat(ids).containsExactly(4, 5, 6);
+    }
+
+    @Test
+    void testSelectWithStatementHints() {
+        Buildable<SelectModel> selectStatement = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .orderBy(id)
+                .configureStatement(c -> c.setStatementHints(StatementHints.withMaxRows(2)
+                        .withFetchSize(1)
+                        .withTimeoutSeconds(10)
+                        .build()));
+
+        List<PersonRecord> rows = template.selectList(selectStatement, personRowMapper);
+
+        assertThat(rows).extracting(PersonRecord::id).containsExactly(1, 2);
+    }
+
     @Test
     void testSelectDistinct() {
         Buildable<SelectModel> selectStatement = selectDistinct(id, firstName, lastName, birthDate, employed, occupation, addressId)
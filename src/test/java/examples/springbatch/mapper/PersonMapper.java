@@ -18,10 +18,13 @@ package examples.springbatch.mapper;
 import java.util.List;
 import java.util.Map;
 
+import examples.springbatch.common.IdRange;
 import examples.springbatch.common.PersonRecord;
 import org.apache.ibatis.annotations.Arg;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.SqlProviderAdapter;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonCountMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonInsertMapper;
 import org.mybatis.dynamic.sql.util.mybatis3.CommonUpdateMapper;
@@ -35,4 +38,9 @@ public interface PersonMapper extends CommonCountMapper, CommonInsertMapper<Pers
     @Arg(column = "first_name", javaType = String.class)
     @Arg(column = "last_name", javaType = String.class)
     List<PersonRecord> selectMany(Map<String, Object> parameterValues);
+
+    @SelectProvider(type=SqlProviderAdapter.class, method="select")
+    @Arg(column = "min_value", javaType = Integer.class)
+    @Arg(column = "max_value", javaType = Integer.class)
+    IdRange selectIdRange(SelectStatementProvider selectStatement);
 }
@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.common.ReturningDialects;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class ReturningClauseTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testGeneralInsert() {
+        GeneralInsertStatementProvider insertStatement = insertInto(foo)
+                .set(description).toValue("Fred")
+                .returning(id, description.as("d"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                        "insert into foo (description) values (#{parameters.p1,jdbcType=VARCHAR}) "
+                                + "returning id, description as d"),
+                () -> assertThat(insertStatement.getParameters()).containsExactly(entry("p1", "Fred"))
+        );
+    }
+
+    @Test
+    void testInsert() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord(1, "Fred"))
+                .into(foo)
+                .map(description).toProperty("description")
+                .returning(id)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement())
+                .isEqualTo("insert into foo (description) values (:row.description) returning id");
+    }
+
+    @Test
+    void testMultiRowInsertWithDataChangeDeltaTable() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement =
+                insertMultiple(new TestRecord(1, "Fred"), new TestRecord(2, "Barney"))
+                        .into(foo)
+                        .map(description).toProperty("description")
+                        .returning(ReturningDialects.dataChangeDeltaTable(), id)
+                        .build()
+                        .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                "select id from final table (insert into foo (description) values "
+                        + "(#{records[0].description,jdbcType=VARCHAR}), "
+                        + "(#{records[1].description,jdbcType=VARCHAR}))");
+    }
+
+    @Test
+    void testUpdate() {
+        UpdateStatementProvider updateStatement = update(foo)
+                .set(description).equalTo("Fred")
+                .where(id, isEqualTo(3))
+                .returning(id, description)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                        "update foo set description = :p1 where id = :p2 returning id, description"),
+                () -> assertThat(updateStatement.getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 3))
+        );
+    }
+
+    @Test
+    void testDeleteWithDataChangeDeltaTable() {
+        DeleteStatementProvider deleteStatement = deleteFrom(foo, "f")
+                .where(id, isGreaterThan(3))
+                .limit(5)
+                .returning(ReturningDialects.dataChangeDeltaTable(), description)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo(
+                        "select f.description from old table (delete from foo f where f.id > :p1 limit :p2)"),
+                () -> assertThat(deleteStatement.getParameters()).containsExactly(entry("p1", 3), entry("p2", 5L))
+        );
+    }
+
+    @Test
+    void testFrozenModelKeepsReturningClause() {
+        DeleteStatementProvider deleteStatement = deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .returning(id)
+                .build()
+                .freeze()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(deleteStatement.getDeleteStatement())
+                .isEqualTo("delete from foo where id = #{parameters.p1,jdbcType=INTEGER} returning id");
+    }
+
+    @Test
+    void testNoColumns() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> deleteFrom(foo).returning(List.of()))
+                .withMessage("Returning clauses must have at least one column");
+    }
+
+    @Test
+    void testParameterInRecordInsert() {
+        InsertModel<TestRecord> insertModel = insert(new TestRecord(1, "Fred"))
+                .into(foo)
+                .map(description).toProperty("description")
+                .returning(id, value(3))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> insertModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage("Columns in the returning clause of an insert statement for records cannot have "
+                        + "parameters");
+    }
+
+    record TestRecord(Integer id, String description) { }
+}
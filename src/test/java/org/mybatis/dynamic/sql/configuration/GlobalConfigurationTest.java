@@ -23,6 +23,7 @@ import java.io.InputStream;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.exception.DynamicSqlException;
+import org.mybatis.dynamic.sql.render.RenderMetrics;
 import org.mybatis.dynamic.sql.util.Messages;
 
 class GlobalConfigurationTest {
@@ -35,6 +36,15 @@ class GlobalConfigurationTest {
         assertThat(configuration.isIsNonRenderingWhereClauseAllowed()).isTrue();
     }
 
+    @Test
+    void testRenderCacheSize() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "renderCache.properties");
+        GlobalConfiguration configuration = new GlobalConfiguration();
+        System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+
+        assertThat(configuration.getRenderCacheSize()).isEqualTo(100);
+    }
+
     @Test
     void testMissingPropertyUsesDefaults() {
         System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "empty.properties");
@@ -42,6 +52,30 @@ class GlobalConfigurationTest {
         System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
 
         assertThat(configuration.isIsNonRenderingWhereClauseAllowed()).isFalse();
+        assertThat(configuration.getRenderCacheSize()).isZero();
+        assertThat(configuration.getRenderListener()).isEmpty();
+    }
+
+    @Test
+    void testRenderListener() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "renderListener.properties");
+        GlobalConfiguration configuration = new GlobalConfiguration();
+        System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+
+        assertThat(configuration.getRenderListener()).containsInstanceOf(RenderMetrics.class);
+    }
+
+    @Test
+    void testBadRenderListener() {
+        System.setProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY, "badRenderListener.properties");
+        try {
+            assertThatExceptionOfType(DynamicSqlException.class)
+                    .isThrownBy(GlobalConfiguration::new)
+                    .withMessage(Messages.getString("ERROR.67", "org.mybatis.dynamic.sql.render.NotARenderListener"))
+                    .withCauseInstanceOf(ClassNotFoundException.class);
+        } finally {
+            System.clearProperty(GlobalConfiguration.CONFIGURATION_FILE_PROPERTY);
+        }
     }
 
     @Test
@@ -0,0 +1,211 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteBatch;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.RowDeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.mybatis3.SimulatedBatchSession;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+class BatchDeleteTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Boolean> active = foo.column("active", JDBCType.CHAR)
+            .withParameterTypeConverter((Boolean b) -> b ? "Y" : "N");
+
+    @Test
+    void testMyBatisChunks() {
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> keys = keys(7).peek(k -> consumed.incrementAndGet()).onClose(() -> closed.set(true));
+
+        List<DeleteStatementProvider> chunks = new ArrayList<>();
+        int consumedAfterFirstChunk;
+        try (Stream<DeleteStatementProvider> statements = deleteBatch(keys).from(foo).where(id).build()
+                .renderChunks(RenderingStrategies.MYBATIS3, 3)) {
+            Iterator<DeleteStatementProvider> iterator = statements.iterator();
+            chunks.add(iterator.next());
+            consumedAfterFirstChunk = consumed.get();
+            iterator.forEachRemaining(chunks::add);
+        }
+
+        String fullChunk = "delete from foo where id in "
+                + "(#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER},"
+                + "#{parameters.p3,jdbcType=INTEGER})";
+
+        assertAll(
+                () -> assertThat(consumedAfterFirstChunk).isEqualTo(3),
+                () -> assertThat(closed).isTrue(),
+                () -> assertThat(chunks).hasSize(3),
+                () -> assertThat(chunks.get(0).getDeleteStatement()).isEqualTo(fullChunk),
+                () -> assertThat(chunks.get(0).getParameters()).containsExactly(
+                        entry("p1", 0), entry("p2", 1), entry("p3", 2)),
+                () -> assertThat(chunks.get(1).getDeleteStatement()).isSameAs(chunks.get(0).getDeleteStatement()),
+                () -> assertThat(chunks.get(1).getParameters()).containsExactly(
+                        entry("p1", 3), entry("p2", 4), entry("p3", 5)),
+                () -> assertThat(chunks.get(2).getDeleteStatement())
+                        .isEqualTo("delete from foo where id in (#{parameters.p1,jdbcType=INTEGER})"),
+                () -> assertThat(chunks.get(2).getParameters()).containsExactly(entry("p1", 6))
+        );
+    }
+
+    @Test
+    void testSpringChunks() {
+        List<DeleteStatementProvider> chunks = deleteBatch(List.of(1, 2)).from(foo).where(id).build()
+                .renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, 5)
+                .toList();
+
+        assertAll(
+                () -> assertThat(chunks).hasSize(1),
+                () -> assertThat(chunks.get(0).getDeleteStatement())
+                        .isEqualTo("delete from foo where id in (:p1,:p2)"),
+                () -> assertThat(chunks.get(0).getParameters()).containsExactly(entry("p1", 1), entry("p2", 2))
+        );
+    }
+
+    @Test
+    void testChunksUseParameterTypeConverter() {
+        List<DeleteStatementProvider> chunks = deleteBatch(List.of(true, false, true, false, true))
+                .from(foo)
+                .where(active)
+                .build()
+                .renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER, 2)
+                .toList();
+
+        assertAll(
+                () -> assertThat(chunks).hasSize(3),
+                () -> assertThat(chunks.get(1).getDeleteStatement())
+                        .isEqualTo("delete from foo where active in (:p1,:p2)"),
+                () -> assertThat(chunks.get(0).getParameters()).containsExactly(entry("p1", "Y"), entry("p2", "N")),
+                () -> assertThat(chunks.get(1).getParameters()).containsExactly(entry("p1", "Y"), entry("p2", "N")),
+                () -> assertThat(chunks.get(2).getParameters()).containsExactly(entry("p1", "Y"))
+        );
+    }
+
+    @Test
+    void testMyBatisChunkedRowCount() {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        long rows = MyBatis3Utils.deleteChunked(ds -> {
+            chunkSizes.add(ds.getParameters().size());
+            return ds.getParameters().size();
+        }, deleteBatch(keys(10)).from(foo).where(id), 4);
+
+        assertAll(
+                () -> assertThat(chunkSizes).containsExactly(4, 4, 2),
+                () -> assertThat(rows).isEqualTo(10)
+        );
+    }
+
+    @Test
+    void testMyBatisBatch() {
+        BatchDelete<Integer> batchDelete = deleteBatch(keys(7)).from(foo).where(id).build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        SimulatedBatchSession<RowDeleteStatementProvider<Integer>> session =
+                new SimulatedBatchSession<>(batchDelete.getDeleteStatementSQL());
+
+        long rows = MyBatis3Utils.deleteBatch(session::add, session::flush, batchDelete, 3);
+
+        assertAll(
+                () -> assertThat(batchDelete.getDeleteStatementSQL())
+                        .isEqualTo("delete from foo where id = #{row,jdbcType=INTEGER}"),
+                () -> assertThat(session.flushedStatements()).extracting(RowDeleteStatementProvider::getRow)
+                        .containsExactly(0, 1, 2, 3, 4, 5, 6),
+                () -> assertThat(session.batchSizes()).containsExactly(3, 3, 1),
+                () -> assertThat(rows).isEqualTo(7)
+        );
+    }
+
+    @Test
+    void testSpringBatch() {
+        BatchDelete<Integer> batchDelete = deleteBatch(List.of(5)).from(foo).where(id).build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        List<RowDeleteStatementProvider<Integer>> deleteStatements = batchDelete.deleteStatements().toList();
+
+        assertAll(
+                () -> assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo("delete from foo where id = :row"),
+                () -> assertThat(deleteStatements).extracting(RowDeleteStatementProvider::getRow).containsExactly(5),
+                () -> assertThat(deleteStatements.get(0).getParameters()).isEmpty()
+        );
+    }
+
+    @Test
+    void testModelFromCollectionCanBeRenderedAgain() {
+        BatchDeleteModel<Integer> model = deleteBatch(List.of(1, 2, 3)).from(foo).where(id).build();
+
+        List<DeleteStatementProvider> firstChunks = model.renderChunks(RenderingStrategies.MYBATIS3, 2).toList();
+        List<DeleteStatementProvider> secondChunks = model.renderChunks(RenderingStrategies.MYBATIS3, 2).toList();
+        BatchDelete<Integer> batchDelete = model.render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(firstChunks).hasSize(2),
+                () -> assertThat(secondChunks).hasSize(2),
+                () -> assertThat(secondChunks.get(1).getParameters()).containsExactly(entry("p1", 3)),
+                () -> assertThat(batchDelete.getKeys()).containsExactly(1, 2, 3),
+                () -> assertThat(batchDelete.deleteStatements()).hasSize(3)
+        );
+    }
+
+    @Test
+    void testModelFromStreamIsSingleUse() {
+        BatchDeleteModel<Integer> model = deleteBatch(keys(3)).from(foo).where(id).build();
+
+        List<DeleteStatementProvider> chunks = model.renderChunks(RenderingStrategies.MYBATIS3, 2).toList();
+
+        assertAll(
+                () -> assertThat(chunks).hasSize(2),
+                () -> assertThatIllegalStateException()
+                        .isThrownBy(() -> model.renderChunks(RenderingStrategies.MYBATIS3, 2).toList())
+        );
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        BatchDeleteModel<Integer> model = deleteBatch(keys(1)).from(foo).where(id).build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.renderChunks(RenderingStrategies.MYBATIS3, 0))
+                .withMessage("The number of keys in each chunk of a batch delete must be greater than zero");
+    }
+
+    private static Stream<Integer> keys(int count) {
+        return IntStream.range(0, count).boxed();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class ChunkedMultiRowInsertTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testChunks() {
+        List<TestRecord> records = records(7);
+
+        ChunkedMultiRowInsertModel<TestRecord> model = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .map(version).toConstant("1")
+                .chunkedBy(5);
+
+        List<MultiRowInsertStatementProvider<TestRecord>> chunks =
+                model.render(RenderingStrategies.SPRING_NAMED_PARAMETER).toList();
+
+        String fullChunk = "insert into foo (id, description, version) values "
+                + "(:records[0].id, :records[0].description, 1), (:records[1].id, :records[1].description, 1)";
+
+        assertAll(
+                () -> assertThat(model.chunkSize()).isEqualTo(2),
+                () -> assertThat(model.chunkCount()).isEqualTo(4),
+                () -> assertThat(chunks).hasSize(4),
+                () -> assertThat(chunks.get(0).getInsertStatement()).isEqualTo(fullChunk),
+                () -> assertThat(chunks.get(0).getRecords()).containsExactly(records.get(0), records.get(1)),
+                () -> assertThat(chunks.get(2).getInsertStatement()).isSameAs(chunks.get(0).getInsertStatement()),
+                () -> assertThat(chunks.get(2).getRecords()).containsExactly(records.get(4), records.get(5)),
+                () -> assertThat(chunks.get(3).getInsertStatement()).isEqualTo(
+                        "insert into foo (id, description, version) values "
+                                + "(:records[0].id, :records[0].description, 1)"),
+                () -> assertThat(chunks.get(3).getRecords()).containsExactly(records.get(6))
+        );
+    }
+
+    @Test
+    void testNoParameters() {
+        ChunkedMultiRowInsertModel<TestRecord> model = insertMultiple(records(3))
+                .into(foo)
+                .map(version).toConstant("1")
+                .chunkedBy(2);
+
+        assertAll(
+                () -> assertThat(model.chunkSize()).isEqualTo(3),
+                () -> assertThat(model.render(RenderingStrategies.MYBATIS3)).hasSize(1)
+        );
+    }
+
+    @Test
+    void testRowLargerThanMaximum() {
+        MultiRowInsertDSL<TestRecord> dsl = insertMultiple(records(3))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description");
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> dsl.chunkedBy(1))
+                .withMessage("Each row of this insert requires 2 parameters, which is more than the maximum number "
+                        + "of parameters for a chunk");
+    }
+
+    @Test
+    void testInvalidMaximum() {
+        MultiRowInsertDSL<TestRecord> dsl = insertMultiple(records(3))
+                .into(foo)
+                .map(id).toProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> dsl.chunkedBy(0))
+                .withMessage("The maximum number of parameters for a chunked insert must be greater than zero");
+    }
+
+    private static List<TestRecord> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TestRecord(i, "Record " + i))
+                .toList();
+    }
+
+    record TestRecord(Integer id, String description) { }
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.mybatis3.SimulatedBatchSession;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+class StreamingBatchInsertTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testLazyInsertStatements() {
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<TestRecord> records = records(5).peek(r -> consumed.incrementAndGet());
+
+        StreamingBatchInsert<TestRecord> batchInsert = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        Stream<InsertStatementProvider<TestRecord>> insertStatements = batchInsert.insertStatements();
+        int consumedBeforeTerminalOperation = consumed.get();
+        List<InsertStatementProvider<TestRecord>> firstTwo = insertStatements.limit(2).toList();
+
+        assertAll(
+                () -> assertThat(consumedBeforeTerminalOperation).isZero(),
+                () -> assertThat(consumed.get()).isEqualTo(2),
+                () -> assertThat(batchInsert.getInsertStatementSQL()).isEqualTo(
+                        "insert into foo (id, description) values "
+                                + "(#{row.id,jdbcType=INTEGER}, #{row.description,jdbcType=VARCHAR})"),
+                () -> assertThat(firstTwo).extracting(InsertStatementProvider::getRow)
+                        .containsExactly(new TestRecord(0, "Record 0"), new TestRecord(1, "Record 1")),
+                () -> assertThat(firstTwo.get(1).getInsertStatement())
+                        .isSameAs(batchInsert.getInsertStatementSQL())
+        );
+    }
+
+    @Test
+    void testIterableSpring() {
+        StreamingBatchInsert<TestRecord> batchInsert = StreamingBatchInsertDSL.insert(records(3).toList())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("fred")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(batchInsert.getInsertStatementSQL())
+                        .isEqualTo("insert into foo (id, description) values (:row.id, 'fred')"),
+                () -> assertThat(batchInsert.getRecords()).hasSize(3)
+        );
+    }
+
+    @Test
+    void testMyBatisFlushInterval() {
+        StreamingBatchInsert<TestRecord> batchInsert = insertBatch(records(7))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        SimulatedBatchSession<InsertStatementProvider<TestRecord>> session =
+                new SimulatedBatchSession<>(batchInsert.getInsertStatementSQL());
+
+        long rows = MyBatis3Utils.insertBatch(session::add, session::flush, batchInsert, 3);
+
+        assertAll(
+                () -> assertThat(session.batchSizes()).containsExactly(3, 3, 1),
+                () -> assertThat(rows).isEqualTo(7)
+        );
+    }
+
+    @Test
+    void testInvalidFlushInterval() {
+        StreamingBatchInsert<TestRecord> batchInsert = insertBatch(records(1))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> MyBatis3Utils.insertBatch(r -> { }, List::of, batchInsert, 0))
+                .withMessage("The number of rows in each batch must be greater than zero");
+    }
+
+    private static Stream<TestRecord> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TestRecord(i, "Record " + i));
+    }
+
+    record TestRecord(Integer id, String description) { }
+}
@@ -0,0 +1,225 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+import static org.mybatis.dynamic.sql.SqlBuilder.upsert;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialects;
+import org.mybatis.dynamic.sql.insert.render.UpsertStatementParts;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+class UpsertTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    private static final TestRecord record = new TestRecord(1, "Record 1");
+
+    @Test
+    void testPostgreSql() {
+        InsertStatementProvider<TestRecord> updateAll = singleRowUpsert().onConflict(id).doUpdateAll().build()
+                .render(UpsertDialects.postgresql(), RenderingStrategies.MYBATIS3);
+
+        InsertStatementProvider<TestRecord> doNothing = singleRowUpsert().onConflict(id).doNothing().build()
+                .render(UpsertDialects.postgresql(), RenderingStrategies.MYBATIS3);
+
+        String insert = "insert into foo (id, description, version) "
+                + "values (#{row.id,jdbcType=INTEGER}, #{row.description,jdbcType=VARCHAR}, 1)";
+
+        assertAll(
+                () -> assertThat(updateAll.getInsertStatement()).isEqualTo(insert
+                        + " on conflict (id) do update set description = excluded.description, "
+                        + "version = excluded.version"),
+                () -> assertThat(updateAll.getRow()).isSameAs(record),
+                () -> assertThat(doNothing.getInsertStatement()).isEqualTo(insert + " on conflict (id) do nothing")
+        );
+    }
+
+    @Test
+    void testMySql() {
+        InsertStatementProvider<TestRecord> doUpdate = singleRowUpsert().onConflict(id).doUpdate(description).build()
+                .render(UpsertDialects.mysql(), RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        InsertStatementProvider<TestRecord> doNothing = singleRowUpsert().onConflict(id).doNothing().build()
+                .render(UpsertDialects.mysql(), RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String insert = "insert into foo (id, description, version) values (:row.id, :row.description, 1)";
+
+        assertAll(
+                () -> assertThat(doUpdate.getInsertStatement())
+                        .isEqualTo(insert + " on duplicate key update description = values(description)"),
+                () -> assertThat(doNothing.getInsertStatement())
+                        .isEqualTo(insert + " on duplicate key update id = id")
+        );
+    }
+
+    @Test
+    void testMerge() {
+        InsertStatementProvider<TestRecord> doUpdate = singleRowUpsert().onConflict(id).doUpdate(description).build()
+                .render(UpsertDialects.merge(), RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        InsertStatementProvider<TestRecord> doNothing = singleRowUpsert().onConflict(id).doNothing().build()
+                .render(UpsertDialects.merge(), RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(doUpdate.getInsertStatement()).isEqualTo(
+                        "merge into foo using (values (:row.id, :row.description, 1)) "
+                                + "as s (id, description, version) on foo.id = s.id "
+                                + "when matched then update set description = s.description "
+                                + "when not matched then insert (id, description, version) "
+                                + "values (s.id, s.description, s.version)"),
+                () -> assertThat(doNothing.getInsertStatement()).isEqualTo(
+                        "merge into foo using (values (:row.id, :row.description, 1)) "
+                                + "as s (id, description, version) on foo.id = s.id "
+                                + "when not matched then insert (id, description, version) "
+                                + "values (s.id, s.description, s.version)")
+        );
+    }
+
+    @Test
+    void testMergeWithCasts() {
+        InsertStatementProvider<TestRecord> doUpdate = singleRowUpsert().onConflict(id).doUpdate(description).build()
+                .render(UpsertDialects.merge(c -> c == description ? "varchar(30)" : "integer"),
+                        RenderingStrategies.MYBATIS3);
+
+        MultiRowInsertStatementProvider<TestRecord> multiRow = upsert(insertMultiple(record)
+                        .into(foo)
+                        .map(id).toProperty("id")
+                        .map(description).toProperty("description"))
+                .onConflict(id)
+                .doNothing()
+                .build()
+                .render(UpsertDialects.merge(c -> c == id ? "integer" : null), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(doUpdate.getInsertStatement()).isEqualTo(
+                        "merge into foo using (values (cast(#{row.id,jdbcType=INTEGER} as integer), "
+                                + "cast(#{row.description,jdbcType=VARCHAR} as varchar(30)), cast(1 as integer))) "
+                                + "as s (id, description, version) on foo.id = s.id "
+                                + "when matched then update set description = s.description "
+                                + "when not matched then insert (id, description, version) "
+                                + "values (s.id, s.description, s.version)"),
+                () -> assertThat(multiRow.getInsertStatement()).isEqualTo(
+                        "merge into foo using (values (cast(#{records[0].id,jdbcType=INTEGER} as integer), "
+                                + "#{records[0].description,jdbcType=VARCHAR})) "
+                                + "as s (id, description) on foo.id = s.id "
+                                + "when not matched then insert (id, description) values (s.id, s.description)")
+        );
+    }
+
+    @Test
+    void testMultiRow() {
+        List<TestRecord> records = List.of(record, new TestRecord(2, "Record 2"));
+
+        MultiRowInsertStatementProvider<TestRecord> upsertStatement = upsert(insertMultiple(records)
+                        .into(foo)
+                        .map(id).toProperty("id")
+                        .map(description).toProperty("description"))
+                .onConflict(id)
+                .doUpdateAll()
+                .build()
+                .render(UpsertDialects.postgresql(), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatement()).isEqualTo(
+                        "insert into foo (id, description) values "
+                                + "(#{records[0].id,jdbcType=INTEGER}, #{records[0].description,jdbcType=VARCHAR}), "
+                                + "(#{records[1].id,jdbcType=INTEGER}, #{records[1].description,jdbcType=VARCHAR}) "
+                                + "on conflict (id) do update set description = excluded.description"),
+                () -> assertThat(upsertStatement.getRecords()).containsExactlyElementsOf(records)
+        );
+    }
+
+    @Test
+    void testBatch() {
+        BatchInsert<TestRecord> upsertStatement = upsert(insertBatch(record)
+                        .into(foo)
+                        .map(id).toProperty("id")
+                        .map(description).toProperty("description"))
+                .onConflict(id)
+                .doUpdate(description)
+                .build()
+                .render(UpsertDialects.mysql(), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(upsertStatement.getInsertStatementSQL()).isEqualTo(
+                        "insert into foo (id, description) "
+                                + "values (#{row.id,jdbcType=INTEGER}, #{row.description,jdbcType=VARCHAR}) "
+                                + "on duplicate key update description = values(description)"),
+                () -> assertThat(upsertStatement.insertStatements()).hasSize(1)
+        );
+    }
+
+    @Test
+    void testCustomDialect() {
+        InsertStatementProvider<TestRecord> upsertStatement = singleRowUpsert().onConflict(id).doUpdateAll().build()
+                .render(UpsertStatementParts::toString, RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(upsertStatement.getInsertStatement()).isEqualTo(new UpsertStatementParts("foo",
+                List.of("id", "description", "version"), "values (:row.id, :row.description, 1)", List.of("id"),
+                List.of("description", "version")).toString());
+    }
+
+    @Test
+    void testNoConflictColumns() {
+        Buildable<UpsertModel<TestRecord>> upsertStatement = singleRowUpsert().onConflict(List.of()).doNothing();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(upsertStatement::build)
+                .withMessage("Upsert statements must have at least one conflict column");
+    }
+
+    @Test
+    void testUnmappedColumn() {
+        UpsertModel<TestRecord> model = upsert(insert(record).into(foo).map(id).toProperty("id"))
+                .onConflict(id)
+                .doUpdate(description)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> model.render(UpsertDialects.postgresql(), RenderingStrategies.MYBATIS3))
+                .withMessage("Column description is used in the conflict clause of an upsert statement, "
+                        + "but the insert statement has no value for the column");
+    }
+
+    private static UpsertDSL<UpsertModel<TestRecord>> singleRowUpsert() {
+        return upsert(insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .map(version).toConstant("1"));
+    }
+
+    record TestRecord(Integer id, String description) { }
+}
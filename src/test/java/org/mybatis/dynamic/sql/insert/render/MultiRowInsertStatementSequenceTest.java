@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class MultiRowInsertStatementSequenceTest {
+
+    @Test
+    void testValuesPhrase() {
+        FieldAndValueCollector collector = collector();
+
+        assertThat(collector.multiRowInsertValuesPhrase(2))
+                .isEqualTo("values (:records[0].id, '50%', null), (:records[1].id, '50%', null)");
+    }
+
+    @Test
+    void testLazyStatement() throws IOException {
+        FieldAndValueCollector collector = collector();
+
+        MultiRowInsertStatementSequence sequence = collector.multiRowInsertStatement("insert into foo values ", 12);
+
+        String expected = "insert into foo values (:records[0].id, '50%', null), (:records[1].id, '50%', null), "
+                + "(:records[2].id, '50%', null), (:records[3].id, '50%', null), (:records[4].id, '50%', null), "
+                + "(:records[5].id, '50%', null), (:records[6].id, '50%', null), (:records[7].id, '50%', null), "
+                + "(:records[8].id, '50%', null), (:records[9].id, '50%', null), (:records[10].id, '50%', null), "
+                + "(:records[11].id, '50%', null)";
+
+        StringBuilder fromCharAt = new StringBuilder();
+        for (int i = 0; i < sequence.length(); i++) {
+            fromCharAt.append(sequence.charAt(i));
+        }
+
+        String fromAppendable = sequence.appendTo(new StringWriter()).toString();
+
+        assertAll(
+                () -> assertThat(sequence.rowCount()).isEqualTo(12),
+                () -> assertThat(sequence).hasSize(expected.length()),
+                () -> assertThat(fromCharAt).hasToString(expected),
+                () -> assertThat(fromAppendable).isEqualTo(expected),
+                () -> assertThat(sequence.subSequence(23, 41)).hasToString("(:records[0].id, '"),
+                () -> assertThat(sequence).hasToString(expected)
+        );
+    }
+
+    @Test
+    void testRowIndexTokenInConstant() {
+        SqlTable foo = SqlTable.of("foo");
+        SqlColumn<Integer> id = foo.column("id");
+        SqlColumn<String> description = foo.column("description");
+
+        MultiRowInsertStatementProvider<Integer> insertStatement = insertMultiple(List.of(1, 2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toStringConstant("a%sb")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                "insert into foo (id, description) values (:records[0].id, 'a%sb'), (:records[1].id, 'a%sb')");
+    }
+
+    private FieldAndValueCollector collector() {
+        FieldAndValueCollector collector = new FieldAndValueCollector();
+        collector.add(FieldAndValueAndParameters.withFieldName("id").withValuePhrase(":records[%s].id")
+                .withRowBinding(true).build());
+        collector.add(FieldAndValueAndParameters.withFieldName("description").withValuePhrase("'50%'").build());
+        collector.add(FieldAndValueAndParameters.withFieldName("notes").withValuePhrase("null").build());
+        return collector;
+    }
+}
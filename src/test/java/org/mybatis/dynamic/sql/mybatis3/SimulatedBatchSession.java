@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.mybatis3;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+
+/**
+ * Simulates the statement batching of a MyBatis session opened with
+ * {@link org.apache.ibatis.session.ExecutorType#BATCH}. This is used to test the batch methods in
+ * {@link org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils} without a database.
+ *
+ * <p>Statements passed to {@link #add(Object)} are held until {@link #flush()} is called. A flush returns a single
+ * batch result with one update count for each pending statement. The first count in each batch is
+ * {@link Statement#SUCCESS_NO_INFO} (some JDBC drivers report this), the other counts are 1.
+ *
+ * @param <S> the type of statement provider added to the batch
+ */
+public class SimulatedBatchSession<S> {
+    private final String statement;
+    private final List<S> pendingStatements = new ArrayList<>();
+    private final List<S> flushedStatements = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    public SimulatedBatchSession(String statement) {
+        this.statement = statement;
+    }
+
+    public void add(S statementProvider) {
+        pendingStatements.add(statementProvider);
+    }
+
+    public List<BatchResult> flush() {
+        if (pendingStatements.isEmpty()) {
+            return List.of();
+        }
+
+        int[] updateCounts = new int[pendingStatements.size()];
+        Arrays.fill(updateCounts, 1);
+        updateCounts[0] = Statement.SUCCESS_NO_INFO;
+
+        BatchResult batchResult = new BatchResult(null, statement);
+        batchResult.setUpdateCounts(updateCounts);
+
+        batchSizes.add(pendingStatements.size());
+        flushedStatements.addAll(pendingStatements);
+        pendingStatements.clear();
+        return List.of(batchResult);
+    }
+
+    /**
+     * The number of statements in each flushed batch, in order.
+     *
+     * @return the batch sizes
+     */
+    public List<Integer> batchSizes() {
+        return batchSizes;
+    }
+
+    public List<S> flushedStatements() {
+        return flushedStatements;
+    }
+}
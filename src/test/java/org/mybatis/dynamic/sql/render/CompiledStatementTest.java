@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class CompiledStatementTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testSelect() {
+        CompiledStatement<SelectStatementProvider> compiledStatement = select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(0))
+                .and(firstName, isIn("a", "b"))
+                .limit(10)
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = compiledStatement.bind(22, "Fred", "Barney", 5L);
+
+        String expectedStatement = "select id, first_name from foo where id > #{parameters.p1,jdbcType=INTEGER} "
+                + "and first_name in (#{parameters.p2,jdbcType=VARCHAR},#{parameters.p3,jdbcType=VARCHAR}) "
+                + "limit #{parameters.p4}";
+
+        assertAll(
+                () -> assertThat(compiledStatement.parameterKeys()).containsExactly("p1", "p2", "p3", "p4"),
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expectedStatement),
+                () -> assertThat(selectStatement.getParameters()).hasSize(4),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 22),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p2", "Fred"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p3", "Barney"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p4", 5L)
+        );
+    }
+
+    @Test
+    void testSelectIsReusable() {
+        CompiledStatement<SelectStatementProvider> compiledStatement = select(id, firstName)
+                .from(foo)
+                .where(id, isEqualTo(0))
+                .build()
+                .compile(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        SelectStatementProvider selectStatement1 = compiledStatement.bind(1);
+        SelectStatementProvider selectStatement2 = compiledStatement.bind(2);
+
+        assertAll(
+                () -> assertThat(selectStatement1.getSelectStatement()).isEqualTo("select id, first_name from foo where id = :p1"),
+                () -> assertThat(selectStatement2.getSelectStatement()).isEqualTo(selectStatement1.getSelectStatement()),
+                () -> assertThat(selectStatement1.getParameters()).containsExactly(entry("p1", 1)),
+                () -> assertThat(selectStatement2.getParameters()).containsExactly(entry("p1", 2))
+        );
+    }
+
+    @Test
+    void testDroppedConditionsStayDropped() {
+        CompiledStatement<SelectStatementProvider> compiledStatement = select(id, firstName)
+                .from(foo)
+                .where(id, isEqualTo(0))
+                .and(firstName, isEqualToWhenPresent((String) null))
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(compiledStatement.statement())
+                        .isEqualTo("select id, first_name from foo where id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(compiledStatement.parameterCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testUpdate() {
+        CompiledStatement<UpdateStatementProvider> compiledStatement = update(foo)
+                .set(firstName).equalTo("x")
+                .where(id, isEqualTo(0))
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        UpdateStatementProvider updateStatement = compiledStatement.bind("Fred", 3);
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                        "update foo set first_name = #{parameters.p1,jdbcType=VARCHAR} where id = #{parameters.p2,jdbcType=INTEGER}"),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p1", "Fred"),
+                () -> assertThat(updateStatement.getParameters()).containsEntry("p2", 3)
+        );
+    }
+
+    @Test
+    void testDelete() {
+        CompiledStatement<DeleteStatementProvider> compiledStatement = deleteFrom(foo)
+                .where(id, isEqualTo(0))
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        DeleteStatementProvider deleteStatement = compiledStatement.bind(3);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement())
+                        .isEqualTo("delete from foo where id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(deleteStatement.getParameters()).containsExactly(entry("p1", 3))
+        );
+    }
+
+    @Test
+    void testGeneralInsert() {
+        CompiledStatement<GeneralInsertStatementProvider> compiledStatement = insertInto(foo)
+                .set(id).toValue(0)
+                .set(firstName).toValue("x")
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        GeneralInsertStatementProvider insertStatement = compiledStatement.bind(3, null);
+
+        assertAll(
+                () -> assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                        "insert into foo (id, first_name) values (#{parameters.p1,jdbcType=INTEGER}, #{parameters.p2,jdbcType=VARCHAR})"),
+                () -> assertThat(insertStatement.getParameters()).containsEntry("p1", 3),
+                () -> assertThat(insertStatement.getParameters()).containsEntry("p2", null)
+        );
+    }
+
+    @Test
+    void testWrongNumberOfValues() {
+        CompiledStatement<DeleteStatementProvider> compiledStatement = deleteFrom(foo)
+                .where(id, isEqualTo(0))
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> compiledStatement.bind(1, 2))
+                .withMessage("This compiled statement requires exactly 1 parameter value(s) in the order of its parameter keys");
+    }
+}
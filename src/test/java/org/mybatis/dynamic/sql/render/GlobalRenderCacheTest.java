@@ -0,0 +1,240 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.StatementHints;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * Tests for the global render cache used by the statement renderers.
+ *
+ * <p>The global render cache is configured once from the global configuration file, so these tests run in a separate
+ * surefire execution that sets the configuration file to "renderCache.properties" (see pom.xml).
+ *
+ * <p>The cache is shared by every test in this class. Tables are part of the statement shape by identity, so each
+ * test uses its own table (JUnit creates a new test instance for each test), and cache statistics are compared to
+ * the values before the test.
+ */
+class GlobalRenderCacheTest {
+    private final SqlTable foo = SqlTable.of("foo");
+    private final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    private final RenderCache renderCache = GlobalContext.getRenderCache();
+    private final long initialHitCount = renderCache.hitCount();
+    private final long initialMissCount = renderCache.missCount();
+
+    @Test
+    void testCacheIsConfigured() {
+        assertAll(
+                () -> assertThat(GlobalContext.getConfiguration().getRenderCacheSize()).isEqualTo(100),
+                () -> assertThat(renderCache.isEnabled()).isTrue()
+        );
+    }
+
+    @Test
+    void testHitAndMissCounts() {
+        selectModel(3, "Fred").render(RenderingStrategies.MYBATIS3);
+        selectModel(4, "Barney").render(RenderingStrategies.MYBATIS3);
+        selectModel(5, null).render(RenderingStrategies.MYBATIS3);
+        selectModel(6, "Wilma").render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        selectModel(7, "Betty", c -> c.setRenderCacheEnabled(false)).render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(1),
+                () -> assertThat(renderCache.missCount() - initialMissCount).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testSelectHitMatchesUncachedRender() {
+        selectModel(3, "Fred").render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider cached = selectModel(4, "Barney").render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider uncached = selectModel(4, "Barney", c -> c.setRenderCacheEnabled(false))
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(1),
+                () -> assertThat(cached.getSelectStatement()).isEqualTo(uncached.getSelectStatement()),
+                () -> assertThat(cached.getParameters()).containsExactlyEntriesOf(uncached.getParameters()),
+                () -> assertThat(cached.getParameters())
+                        .containsExactly(entry("p1", 4), entry("p2", "Barney"), entry("p3", 10L))
+        );
+    }
+
+    @Test
+    void testUpdateHitMatchesUncachedRender() {
+        updateModel("Fred", 1).render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        UpdateStatementProvider cached = updateModel("Barney", 2).render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        UpdateStatementProvider uncached = update(foo)
+                .set(firstName).equalTo("Barney")
+                .where(id, isEqualTo(2))
+                .configureStatement(c -> c.setRenderCacheEnabled(false))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(1),
+                () -> assertThat(cached.getUpdateStatement()).isEqualTo(uncached.getUpdateStatement()),
+                () -> assertThat(cached.getParameters()).containsExactlyEntriesOf(uncached.getParameters()),
+                () -> assertThat(cached.getParameters()).containsExactly(entry("p1", "Barney"), entry("p2", 2))
+        );
+    }
+
+    @Test
+    void testUpdateValueSuppliersAreCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> nameSupplier = () -> calls.incrementAndGet() == 1 ? "Fred" : "Barney";
+
+        UpdateStatementProvider miss = update(foo)
+                .set(firstName).equalTo(nameSupplier)
+                .where(id, isEqualTo(1))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        int missCalls = calls.getAndSet(0);
+
+        UpdateStatementProvider hit = update(foo)
+                .set(firstName).equalTo(nameSupplier)
+                .where(id, isEqualTo(2))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(renderCache.missCount() - initialMissCount).isEqualTo(1),
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(1),
+                () -> assertThat(missCalls).isEqualTo(1),
+                () -> assertThat(calls.get()).isEqualTo(1),
+                () -> assertThat(miss.getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 1)),
+                () -> assertThat(hit.getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 2))
+        );
+    }
+
+    @Test
+    void testDeleteHitMatchesUncachedRender() {
+        deleteModel(List.of(1, 2)).render(RenderingStrategies.MYBATIS3);
+        DeleteStatementProvider cached = deleteModel(List.of(3, 4)).render(RenderingStrategies.MYBATIS3);
+        DeleteStatementProvider uncached = deleteFrom(foo)
+                .where(id, isIn(3, 4))
+                .configureStatement(c -> c.setRenderCacheEnabled(false))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(1),
+                () -> assertThat(cached.getDeleteStatement()).isEqualTo(uncached.getDeleteStatement()),
+                () -> assertThat(cached.getParameters()).containsExactlyEntriesOf(uncached.getParameters()),
+                () -> assertThat(cached.getParameters()).containsExactly(entry("p1", 3), entry("p2", 4))
+        );
+    }
+
+    @Test
+    void testStatementHintsOnHit() {
+        StatementHints statementHints = StatementHints.withFetchSize(500).withTimeoutSeconds(30).build();
+
+        selectModel(3, "Fred").render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider withHints = selectModel(4, "Barney", c -> c.setStatementHints(statementHints))
+                .render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider withoutHints = selectModel(5, "Wilma").render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount() - initialHitCount).isEqualTo(2),
+                () -> assertThat(withHints.getStatementHints()).isEqualTo(statementHints),
+                () -> assertThat(withHints.getParameters())
+                        .containsExactly(entry("p1", 4), entry("p2", "Barney"), entry("p3", 10L)),
+                () -> assertThat(withoutHints.getStatementHints().isEmpty()).isTrue()
+        );
+    }
+
+    @Test
+    void testRenderTrackerCacheStatus() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        RenderListener renderListener = events::add;
+
+        selectModel(3, "Fred", c -> c.setRenderListener(renderListener)).render(RenderingStrategies.MYBATIS3);
+        selectModel(4, null, c -> c.setRenderListener(renderListener)).render(RenderingStrategies.MYBATIS3);
+        selectModel(5, null, c -> c.setRenderListener(renderListener)).render(RenderingStrategies.MYBATIS3);
+        selectModel(6, "Barney", c -> c.setRenderListener(renderListener).setRenderCacheEnabled(false))
+                .render(RenderingStrategies.MYBATIS3);
+        select(id).from(foo).where(id, isIn(select(id).from(foo)))
+                .configureStatement(c -> c.setRenderListener(renderListener))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(events).extracting(RenderEvent::cacheStatus).containsExactly(
+                        RenderEvent.CacheStatus.MISS,
+                        RenderEvent.CacheStatus.MISS,
+                        RenderEvent.CacheStatus.HIT,
+                        RenderEvent.CacheStatus.NOT_CACHED,
+                        RenderEvent.CacheStatus.NOT_CACHED),
+                () -> assertThat(events).extracting(RenderEvent::skippedConditionCount).containsExactly(0, 1, 1, 0, 0),
+                () -> assertThat(events).extracting(RenderEvent::parameterCount).containsExactly(3, 2, 2, 3, 0)
+        );
+    }
+
+    private SelectModel selectModel(int minimumId, @Nullable String name) {
+        return selectModel(minimumId, name, c -> { });
+    }
+
+    private SelectModel selectModel(int minimumId, @Nullable String name,
+                                    Consumer<StatementConfiguration> configuration) {
+        return select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isEqualToWhenPresent(name))
+                .configureStatement(configuration)
+                .orderBy(id.descending())
+                .limit(10)
+                .build();
+    }
+
+    private UpdateModel updateModel(String name, int key) {
+        return update(foo)
+                .set(firstName).equalTo(name)
+                .where(id, isEqualTo(key))
+                .build();
+    }
+
+    private DeleteModel deleteModel(List<Integer> ids) {
+        return deleteFrom(foo)
+                .where(id, isIn(ids))
+                .build();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.InListStrategies;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class RenderCacheTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = foo.column("active", JDBCType.CHAR)
+            .withParameterTypeConverter((Boolean b) -> b ? "Y" : "N");
+
+    @Test
+    void testSelectHit() {
+        RenderCache renderCache = new RenderCache(10);
+
+        SelectStatementProvider selectStatement1 = render(renderCache, selectModel(3, "Fred"));
+        SelectStatementProvider selectStatement2 = render(renderCache, selectModel(4, "Barney"));
+
+        String expectedStatement = "select id, first_name from foo where id > #{parameters.p1,jdbcType=INTEGER} "
+                + "and first_name = #{parameters.p2,jdbcType=VARCHAR} order by id DESC limit #{parameters.p3}";
+
+        assertAll(
+                () -> assertThat(selectStatement1.getSelectStatement()).isEqualTo(expectedStatement),
+                () -> assertThat(selectStatement2.getSelectStatement()).isEqualTo(expectedStatement),
+                () -> assertThat(selectStatement2.getParameters())
+                        .containsExactly(entry("p1", 4), entry("p2", "Barney"), entry("p3", 10L)),
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(renderCache.missCount()).isEqualTo(1),
+                () -> assertThat(renderCache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testSkippedConditionChangesShape() {
+        RenderCache renderCache = new RenderCache(10);
+
+        SelectStatementProvider selectStatement1 = render(renderCache, selectModel(3, "Fred"));
+        SelectStatementProvider selectStatement2 = render(renderCache, selectModel(3, null));
+
+        assertAll(
+                () -> assertThat(selectStatement1.getSelectStatement()).contains("first_name ="),
+                () -> assertThat(selectStatement2.getSelectStatement()).doesNotContain("first_name ="),
+                () -> assertThat(selectStatement2.getParameters()).containsExactly(entry("p1", 3), entry("p2", 10L)),
+                () -> assertThat(renderCache.hitCount()).isZero(),
+                () -> assertThat(renderCache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testDifferentListSizesAreDifferentShapes() {
+        RenderCache renderCache = new RenderCache(10);
+
+        DeleteModel deleteModel1 = deleteFrom(foo).where(id, isIn(1, 2)).build();
+        DeleteModel deleteModel2 = deleteFrom(foo).where(id, isIn(3, 4, 5)).build();
+        DeleteModel deleteModel3 = deleteFrom(foo).where(id, isIn(6, 7)).build();
+
+        render(renderCache, deleteModel1);
+        render(renderCache, deleteModel2);
+        DeleteStatementProvider deleteStatement = render(renderCache, deleteModel3);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo(
+                        "delete from foo where id in (#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER})"),
+                () -> assertThat(deleteStatement.getParameters()).containsExactly(entry("p1", 6), entry("p2", 7)),
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(renderCache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testHitParametersMatchUncachedRender() {
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, conditionsModel(1, List.of(1, 2, 3), "fred", true));
+        SelectModel selectModel = conditionsModel(5, List.of(7, 8, 9), "barney", false);
+        SelectStatementProvider selectStatement = render(renderCache, selectModel);
+        SelectStatementProvider expected = selectModel.render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected.getSelectStatement()),
+                () -> assertThat(selectStatement.getParameters()).containsExactlyEntriesOf(expected.getParameters()),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 5), entry("p2", 15),
+                        entry("p3", 7), entry("p4", 8), entry("p5", 9), entry("p6", 9), entry("p7", 7),
+                        entry("p8", 8), entry("p9", 9), entry("p10", "BARNEY"), entry("p11", "N"))
+        );
+    }
+
+    @Test
+    void testArrayParameterHit() {
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, deleteFrom(foo).where(id, isIn(1, 2).withInListStrategy(InListStrategies.arrayParameter()))
+                .build());
+        DeleteStatementProvider deleteStatement = render(renderCache, deleteFrom(foo)
+                .where(id, isIn(3, 4, 5).withInListStrategy(InListStrategies.arrayParameter()))
+                .build());
+
+        assertAll(
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(deleteStatement.getDeleteStatement())
+                        .isEqualTo("delete from foo where id = any(#{parameters.p1,jdbcType=ARRAY})"),
+                () -> assertThat(deleteStatement.getParameters().get("p1")).isEqualTo(new Integer[] {3, 4, 5})
+        );
+    }
+
+    @Test
+    void testUpdateHit() {
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, updateModel("Fred", 1));
+        UpdateStatementProvider updateStatement = render(renderCache, updateModel("Barney", 2));
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(
+                        "update foo set first_name = :p1 where id = :p2"),
+                () -> assertThat(updateStatement.getParameters()).containsExactly(entry("p1", "Barney"), entry("p2", 2)),
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testDerivedColumnsShareShape() {
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, select(id.as("x"), firstName.qualifiedWith("f")).from(foo, "f")
+                .where(id.qualifiedWith("f"), isEqualTo(1)).build());
+        SelectStatementProvider selectStatement = render(renderCache, select(id.as("x"), firstName.qualifiedWith("f"))
+                .from(foo, "f").where(id.qualifiedWith("f"), isEqualTo(2)).build());
+        render(renderCache, select(id.as("y"), firstName.qualifiedWith("f")).from(foo, "f")
+                .where(id.qualifiedWith("f"), isEqualTo(3)).build());
+        render(renderCache, select(id.as("x"), firstName.qualifiedWith("g")).from(foo, "f")
+                .where(id.qualifiedWith("f"), isEqualTo(4)).build());
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select f.id as x, f.first_name from foo f where f.id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 2)),
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(renderCache.missCount()).isEqualTo(3),
+                () -> assertThat(renderCache.size()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testReturningClauseChangesShape() {
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, deleteFrom(foo).where(id, isEqualTo(1)).build());
+        render(renderCache, deleteFrom(foo).where(id, isEqualTo(2)).returning(firstName).build());
+        DeleteStatementProvider deleteStatement =
+                render(renderCache, deleteFrom(foo).where(id, isEqualTo(3)).returning(firstName).build());
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo(
+                        "delete from foo where id = #{parameters.p1,jdbcType=INTEGER} returning first_name"),
+                () -> assertThat(deleteStatement.getParameters()).containsExactly(entry("p1", 3)),
+                () -> assertThat(renderCache.hitCount()).isEqualTo(1),
+                () -> assertThat(renderCache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        RenderCache renderCache = new RenderCache(1);
+
+        render(renderCache, selectModel(1, "Fred"));
+        render(renderCache, selectModel(1, null));
+        render(renderCache, selectModel(1, "Fred"));
+
+        assertAll(
+                () -> assertThat(renderCache.size()).isEqualTo(1),
+                () -> assertThat(renderCache.hitCount()).isZero(),
+                () -> assertThat(renderCache.missCount()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    void testUnsupportedModelIsNotCached() {
+        RenderCache renderCache = new RenderCache(10);
+
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(select(id).from(foo).where(firstName, isEqualTo("Fred"))))
+                .build();
+
+        SelectStatementProvider selectStatement = render(renderCache, selectModel);
+
+        assertAll(
+                () -> assertThat(StatementShape.of(selectModel, RenderingStrategies.MYBATIS3)).isEmpty(),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", "Fred")),
+                () -> assertThat(renderCache.size()).isZero(),
+                () -> assertThat(renderCache.missCount()).isZero()
+        );
+    }
+
+    @Test
+    void testDisabledCache() {
+        RenderCache renderCache = new RenderCache(0);
+
+        render(renderCache, selectModel(1, "Fred"));
+        render(renderCache, selectModel(1, "Fred"));
+
+        assertAll(
+                () -> assertThat(renderCache.isEnabled()).isFalse(),
+                () -> assertThat(renderCache.size()).isZero(),
+                () -> assertThat(renderCache.hitCount()).isZero(),
+                () -> assertThat(renderCache.missCount()).isZero()
+        );
+    }
+
+    private static SelectModel selectModel(int minimumId, @Nullable String name) {
+        return select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isEqualToWhenPresent(name))
+                .orderBy(id.descending())
+                .limit(10)
+                .build();
+    }
+
+    private static SelectModel conditionsModel(int minimumId, List<Integer> ids, String name, boolean isActive) {
+        return select(id, firstName)
+                .from(foo)
+                .where(id, isBetween(minimumId).and(minimumId + 10))
+                .and(id, isIn(ids).withInListStrategy(InListStrategies.padToPowerOfTwo()))
+                .and(id, isNotIn(ids).withInListStrategy(InListStrategies.chunked(2)))
+                .and(firstName, isLikeCaseInsensitive(name))
+                .and(active, isEqualTo(isActive))
+                .and(firstName, isNotNull())
+                .build();
+    }
+
+    private static UpdateModel updateModel(String name, int key) {
+        return update(foo)
+                .set(firstName).equalTo(name)
+                .where(id, isEqualTo(key))
+                .build();
+    }
+
+    private static SelectStatementProvider render(RenderCache renderCache, SelectModel selectModel) {
+        return renderCache.render(() -> StatementShape.of(selectModel, RenderingStrategies.MYBATIS3),
+                () -> selectModel.render(RenderingStrategies.MYBATIS3),
+                s -> selectModel.compile(RenderingStrategies.MYBATIS3));
+    }
+
+    private static UpdateStatementProvider render(RenderCache renderCache, UpdateModel updateModel) {
+        return renderCache.render(() -> StatementShape.of(updateModel, RenderingStrategies.SPRING_NAMED_PARAMETER),
+                () -> updateModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER),
+                s -> updateModel.compile(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    private static DeleteStatementProvider render(RenderCache renderCache, DeleteModel deleteModel) {
+        return renderCache.render(() -> StatementShape.of(deleteModel, RenderingStrategies.MYBATIS3),
+                () -> deleteModel.render(RenderingStrategies.MYBATIS3),
+                s -> deleteModel.compile(RenderingStrategies.MYBATIS3));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.exception.RenderLimitExceededException;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+
+class RenderLimitsTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testParameterCountThrowsEarly() {
+        List<Integer> values = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        RenderLimits renderLimits = RenderLimits.withMaxParameterCount(10, RenderLimits.Action.THROW).build();
+
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(values))
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build();
+
+        assertThatExceptionOfType(RenderLimitExceededException.class)
+                .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage("SELECT statement parameter count (11) exceeds the render limit of 10")
+                .satisfies(e -> assertAll(
+                        () -> assertThat(e.violation().limit()).isEqualTo(RenderLimits.Limit.PARAMETER_COUNT),
+                        () -> assertThat(e.violation().maximum()).isEqualTo(10),
+                        () -> assertThat(e.violation().actual()).isEqualTo(11),
+                        () -> assertThat(e.violation().tableName()).isEqualTo("foo")
+                ));
+    }
+
+    @Test
+    void testCriteriaDepth() {
+        List<RenderLimitViolation> violations = new ArrayList<>();
+        RenderLimits renderLimits = RenderLimits.withMaxCriteriaDepth(2, RenderLimits.Action.SAMPLE)
+                .withSampleHandler(violations::add)
+                .build();
+
+        select(id)
+                .from(foo)
+                .where(id, isEqualTo(1))
+                .and(firstName, isEqualTo("Fred"), or(firstName, isEqualTo("Barney")))
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(violations).isEmpty();
+
+        select(id)
+                .from(foo)
+                .where(id, isEqualTo(1), or(firstName, isEqualTo("Fred"), and(id, isEqualTo(3),
+                        or(id, isEqualTo(4)))))
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(violations).singleElement().satisfies(v -> assertAll(
+                () -> assertThat(v.limit()).isEqualTo(RenderLimits.Limit.CRITERIA_DEPTH),
+                () -> assertThat(v.actual()).isEqualTo(4)
+        ));
+    }
+
+    @Test
+    void testCriteriaDepthThrows() {
+        RenderLimits renderLimits = RenderLimits.withMaxCriteriaDepth(2, RenderLimits.Action.THROW).build();
+
+        UpdateModel updateModel = update(foo)
+                .set(firstName).equalTo("Fred")
+                .where(id, isEqualTo(1), or(firstName, isEqualTo("Fred"), and(id, isEqualTo(3))))
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build();
+
+        assertThatExceptionOfType(RenderLimitExceededException.class)
+                .isThrownBy(() -> updateModel.render(RenderingStrategies.MYBATIS3))
+                .withMessage("UPDATE statement criteria depth (3) exceeds the render limit of 2");
+    }
+
+    @Test
+    void testSqlLengthAndRenderTimeAreSampled() {
+        List<RenderLimitViolation> violations = new ArrayList<>();
+        RenderLimits renderLimits = RenderLimits.withMaxSqlLength(10, RenderLimits.Action.SAMPLE)
+                .withMaxRenderTime(Duration.ofNanos(1), RenderLimits.Action.SAMPLE)
+                .withSampleHandler(violations::add)
+                .build();
+
+        deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(violations).extracting(RenderLimitViolation::limit, RenderLimitViolation::statementType)
+                .containsExactly(tuple(RenderLimits.Limit.SQL_LENGTH, RenderEvent.StatementType.DELETE),
+                        tuple(RenderLimits.Limit.RENDER_TIME, RenderEvent.StatementType.DELETE));
+    }
+
+    @Test
+    void testSampleInterval() {
+        List<RenderLimitViolation> violations = new ArrayList<>();
+        RenderLimits renderLimits = RenderLimits.withMaxSqlLength(5, RenderLimits.Action.SAMPLE)
+                .withSampleHandler(violations::add)
+                .withSampleInterval(3)
+                .build();
+
+        for (int i = 0; i < 6; i++) {
+            select(id)
+                    .from(foo)
+                    .configureStatement(c -> c.setRenderLimits(renderLimits))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+        }
+
+        assertThat(violations).hasSize(2);
+    }
+
+    @Test
+    void testWarningDoesNotThrow() {
+        RenderLimits renderLimits = RenderLimits.withMaxSqlLength(5, RenderLimits.Action.WARN).build();
+
+        String sql = select(id)
+                .from(foo)
+                .configureStatement(c -> c.setRenderLimits(renderLimits))
+                .build()
+                .render(RenderingStrategies.MYBATIS3)
+                .getSelectStatement();
+
+        assertThat(sql).isEqualTo("select id from foo");
+    }
+
+    @Test
+    void testGlobalLimits() {
+        GlobalContext.setRenderLimits(RenderLimits.withMaxParameterCount(1, RenderLimits.Action.THROW).build());
+        try {
+            SelectModel selectModel = select(id)
+                    .from(foo)
+                    .limit(3)
+                    .offset(4)
+                    .build();
+
+            assertThatExceptionOfType(RenderLimitExceededException.class)
+                    .isThrownBy(() -> selectModel.render(RenderingStrategies.MYBATIS3));
+        } finally {
+            GlobalContext.setRenderLimits(null);
+        }
+    }
+
+    @Test
+    void testValidation() {
+        RenderLimits.Builder builder = RenderLimits.withMaxSqlLength(5, RenderLimits.Action.SAMPLE);
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(builder::build)
+                        .withMessage("A sample handler is required when a render limit uses the SAMPLE action"),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> RenderLimits.withMaxParameterCount(0, RenderLimits.Action.WARN))
+                        .withMessage("The render limit for parameter count must be greater than zero"),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> builder.withSampleInterval(0))
+                        .withMessage("The render limit for sample interval must be greater than zero")
+        );
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.GlobalContext;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class RenderListenerTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testSelect() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        SelectStatementProvider selectStatement = select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(3))
+                .and(firstName, isEqualToWhenPresent((String) null))
+                .and(id, isIn(select(id).from(foo).where(firstName, isLikeWhenPresent((String) null))))
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).hasSize(1);
+        RenderEvent event = events.get(0);
+        assertAll(
+                () -> assertThat(event.statementType()).isEqualTo(RenderEvent.StatementType.SELECT),
+                () -> assertThat(event.tableName()).isEqualTo("foo"),
+                () -> assertThat(event.parameterCount()).isEqualTo(1),
+                () -> assertThat(event.sqlLength()).isEqualTo(selectStatement.getSelectStatement().length()),
+                () -> assertThat(event.cacheStatus()).isEqualTo(RenderEvent.CacheStatus.NOT_CACHED),
+                () -> assertThat(event.skippedConditionCount()).isEqualTo(2),
+                () -> assertThat(event.renderNanos()).isPositive()
+        );
+    }
+
+    @Test
+    void testUpdateAndDelete() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        update(foo)
+                .set(firstName).equalTo("Fred")
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).extracting(RenderEvent::statementType, RenderEvent::tableName, RenderEvent::parameterCount)
+                .containsExactly(
+                        tuple(RenderEvent.StatementType.UPDATE, "foo", 2),
+                        tuple(RenderEvent.StatementType.DELETE, "foo", 1));
+    }
+
+    @Test
+    void testSubQueryTableName() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        select(id)
+                .from(select(id).from(foo), "a")
+                .configureStatement(c -> c.setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).singleElement().extracting(RenderEvent::tableName).isEqualTo("");
+    }
+
+    @Test
+    void testCacheHit() {
+        List<RenderEvent> events = new ArrayList<>();
+        RenderCache renderCache = new RenderCache(10);
+
+        render(renderCache, selectModel(3, null), events);
+        render(renderCache, selectModel(4, null), events);
+
+        assertAll(
+                () -> assertThat(events).extracting(RenderEvent::cacheStatus)
+                        .containsExactly(RenderEvent.CacheStatus.MISS, RenderEvent.CacheStatus.HIT),
+                () -> assertThat(events.get(1).skippedConditionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testGlobalListener() {
+        List<RenderEvent> events = new ArrayList<>();
+        GlobalContext.setRenderListener(events::add);
+        try {
+            selectModel(3, "Fred").render(RenderingStrategies.MYBATIS3);
+        } finally {
+            GlobalContext.setRenderListener(null);
+        }
+        selectModel(3, "Fred").render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void testAndThen() {
+        List<String> calls = new ArrayList<>();
+        RenderListener first = e -> calls.add("first");
+        RenderListener second = e -> calls.add("second");
+
+        selectModel(3, "Fred", first.andThen(second)).render(RenderingStrategies.MYBATIS3);
+
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    private static SelectModel selectModel(int minimumId, @Nullable String name) {
+        return select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isEqualToWhenPresent(name))
+                .build();
+    }
+
+    private static SelectModel selectModel(int minimumId, String name, RenderListener renderListener) {
+        return select(id, firstName)
+                .from(foo)
+                .where(id, isGreaterThan(minimumId))
+                .and(firstName, isEqualToWhenPresent(name))
+                .configureStatement(c -> c.setRenderListener(renderListener))
+                .build();
+    }
+
+    private static void render(RenderCache renderCache, SelectModel selectModel, List<RenderEvent> events) {
+        StatementConfiguration statementConfiguration = new StatementConfiguration().setRenderListener(events::add);
+        RenderTracker renderTracker = Objects.requireNonNull(
+                RenderTracker.start(statementConfiguration, RenderEvent.StatementType.SELECT, () -> "foo"));
+
+        SelectStatementProvider selectStatement = renderCache.render(
+                () -> StatementShape.of(selectModel, RenderingStrategies.MYBATIS3),
+                () -> selectModel.render(RenderingStrategies.MYBATIS3),
+                s -> selectModel.compile(RenderingStrategies.MYBATIS3), renderTracker);
+        renderTracker.finish(selectStatement.getSelectStatement(), selectStatement.getParameters().size());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class RenderMetricsTest {
+
+    @Test
+    void testStatistics() {
+        RenderMetrics renderMetrics = new RenderMetrics();
+
+        renderMetrics.statementRendered(event("foo", 500, RenderEvent.CacheStatus.MISS));
+        renderMetrics.statementRendered(event("foo", 3_000, RenderEvent.CacheStatus.HIT));
+        renderMetrics.statementRendered(event("foo", 3_500, RenderEvent.CacheStatus.HIT));
+        renderMetrics.statementRendered(event("bar", 1_000_000, RenderEvent.CacheStatus.NOT_CACHED));
+
+        RenderMetrics.Statistics statistics =
+                renderMetrics.statistics(RenderEvent.StatementType.SELECT, "foo").orElseThrow();
+
+        assertAll(
+                () -> assertThat(renderMetrics.statistics()).hasSize(2),
+                () -> assertThat(statistics.count()).isEqualTo(3),
+                () -> assertThat(statistics.cacheHitCount()).isEqualTo(2),
+                () -> assertThat(statistics.cacheMissCount()).isEqualTo(1),
+                () -> assertThat(statistics.totalRenderNanos()).isEqualTo(7_000),
+                () -> assertThat(statistics.averageRenderNanos()).isEqualTo(2_333),
+                () -> assertThat(statistics.maxRenderNanos()).isEqualTo(3_500),
+                () -> assertThat(statistics.totalParameterCount()).isEqualTo(6),
+                () -> assertThat(statistics.maxSqlLength()).isEqualTo(40),
+                () -> assertThat(statistics.skippedConditionCount()).isEqualTo(3),
+                () -> assertThat(statistics.renderNanosHistogram()[0]).isEqualTo(1),
+                () -> assertThat(statistics.renderNanosHistogram()[2]).isEqualTo(2),
+                () -> assertThat(statistics.approximateRenderNanosPercentile(0.5)).isEqualTo(4_096),
+                () -> assertThat(renderMetrics.statistics(RenderEvent.StatementType.UPDATE, "foo")).isEmpty()
+        );
+    }
+
+    @Test
+    void testBuckets() {
+        assertAll(
+                () -> assertThat(RenderMetrics.Statistics.bucket(0)).isZero(),
+                () -> assertThat(RenderMetrics.Statistics.bucket(1_023)).isZero(),
+                () -> assertThat(RenderMetrics.Statistics.bucket(1_024)).isEqualTo(1),
+                () -> assertThat(RenderMetrics.Statistics.bucket(2_048)).isEqualTo(2),
+                () -> assertThat(RenderMetrics.Statistics.bucket(Long.MAX_VALUE))
+                        .isEqualTo(RenderMetrics.Statistics.BUCKET_COUNT - 1),
+                () -> assertThat(RenderMetrics.Statistics.bucketUpperBoundNanos(0)).isEqualTo(1_024),
+                () -> assertThat(RenderMetrics.Statistics.bucketUpperBoundNanos(RenderMetrics.Statistics.BUCKET_COUNT - 1))
+                        .isEqualTo(Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void testReset() {
+        RenderMetrics renderMetrics = new RenderMetrics();
+        renderMetrics.statementRendered(event("foo", 500, RenderEvent.CacheStatus.MISS));
+
+        renderMetrics.reset();
+
+        assertAll(
+                () -> assertThat(renderMetrics.statistics()).isEmpty(),
+                () -> assertThat(new RenderMetrics.Statistics().approximateRenderNanosPercentile(0.99)).isZero()
+        );
+    }
+
+    private static RenderEvent event(String tableName, long renderNanos, RenderEvent.CacheStatus cacheStatus) {
+        return new RenderEvent(RenderEvent.StatementType.SELECT, tableName, renderNanos, 2, 40, cacheStatus, 1);
+    }
+}
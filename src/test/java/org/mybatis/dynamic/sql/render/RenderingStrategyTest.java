@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.JDBCType;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class RenderingStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+
+    @Test
+    void testParameterMapKeys() {
+        AtomicInteger sequence = new AtomicInteger(1022);
+        RenderingStrategy renderingStrategy = RenderingStrategies.MYBATIS3;
+
+        assertAll(
+                () -> assertThat(renderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1022"),
+                () -> assertThat(renderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1023"),
+                () -> assertThat(renderingStrategy.formatParameterMapKey(sequence)).isEqualTo("p1024"),
+                () -> assertThat(sequence.get()).isEqualTo(1025)
+        );
+    }
+
+    @Test
+    void testMyBatis3Placeholders() {
+        SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+        SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR, "foo.BarTypeHandler");
+        SqlColumn<Integer> amount = foo.column("amount").withJavaType(Integer.class);
+        SqlColumn<Integer> untyped = foo.column("untyped");
+        RenderingStrategy renderingStrategy = RenderingStrategies.MYBATIS3;
+
+        assertAll(
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(id, "parameters", "p1"))
+                        .isEqualTo("#{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(name, "parameters", "p2"))
+                        .isEqualTo("#{parameters.p2,jdbcType=VARCHAR,typeHandler=foo.BarTypeHandler}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(name, "parameters", "p3"))
+                        .isEqualTo("#{parameters.p3,jdbcType=VARCHAR,typeHandler=foo.BarTypeHandler}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(amount, "parameters", "p4"))
+                        .isEqualTo("#{parameters.p4,javaType=java.lang.Integer}"),
+                () -> assertThat(renderingStrategy.getFormattedJdbcPlaceholder(untyped, "parameters", "p5"))
+                        .isEqualTo("#{parameters.p5}"),
+                () -> assertThat(renderingStrategy.getRecordBasedInsertBinding(name, "row.name"))
+                        .isEqualTo("#{row.name,jdbcType=VARCHAR,typeHandler=foo.BarTypeHandler}")
+        );
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.ColumnAndConditionCriterion;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+
+class FrozenModelTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testFrozenSelectRendersTheSame() {
+        SelectModel selectModel = select(id, firstName)
+                .from(foo)
+                .where(id, isIn(1, 2, 3))
+                .and(firstName, isLike("F%"))
+                .or(exists(select(id).from(foo).where(id, isGreaterThan(3))))
+                .orderBy(id)
+                .limit(10)
+                .build();
+
+        SelectModel frozen = selectModel.freeze();
+
+        SelectStatementProvider expected = selectModel.render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider actual = frozen.render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectModel.statementConfiguration().isFrozen()).isFalse(),
+                () -> assertThat(frozen.statementConfiguration().isFrozen()).isTrue(),
+                () -> assertThat(frozen.freeze()).isSameAs(frozen),
+                () -> assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement()),
+                () -> assertThat(actual.getParameters()).containsExactlyEntriesOf(expected.getParameters())
+        );
+    }
+
+    @Test
+    void testListValuesAreCopied() {
+        List<Integer> values = new ArrayList<>(List.of(1, 2, 3));
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(values))
+                .build()
+                .freeze();
+
+        values.add(4);
+
+        SelectStatementProvider selectStatement = selectModel.render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                "select id from foo where id in (#{parameters.p1,jdbcType=INTEGER},"
+                        + "#{parameters.p2,jdbcType=INTEGER},#{parameters.p3,jdbcType=INTEGER})");
+    }
+
+    @Test
+    void testListValuesAreCopiedOnlyWhenFrozen() {
+        SqlTable bar = SqlTable.of("bar");
+        SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+        List<Integer> values = new ArrayList<>(List.of(1));
+        List<String> names = new ArrayList<>(List.of("Fred"));
+
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .join(bar).on(barId, isEqualTo(id)).and(barId, isIn(values))
+                .where(id, isIn(values), or(not(firstName, isNotIn(names))))
+                .groupBy(firstName)
+                .having(firstName, isInCaseInsensitive(names))
+                .build();
+
+        SelectModel frozen = selectModel.freeze();
+
+        values.add(2);
+        names.add("Barney");
+
+        SelectStatementProvider unfrozenStatement = selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider frozenStatement = frozen.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(unfrozenStatement.getSelectStatement()).isEqualTo(
+                        "select foo.id from foo join bar on bar.id = foo.id and bar.id in (:p1,:p2)"
+                                + " where foo.id in (:p3,:p4) or not foo.first_name not in (:p5,:p6)"
+                                + " group by foo.first_name having upper(foo.first_name) in (:p7)"),
+                () -> assertThat(frozenStatement.getSelectStatement()).isEqualTo(
+                        "select foo.id from foo join bar on bar.id = foo.id and bar.id in (:p1)"
+                                + " where foo.id in (:p2) or not foo.first_name not in (:p3)"
+                                + " group by foo.first_name having upper(foo.first_name) in (:p4)"),
+                () -> assertThat(frozenStatement.getParameters()).containsExactly(
+                        entry("p1", 1), entry("p2", 1), entry("p3", "Fred"), entry("p4", "FRED"))
+        );
+    }
+
+    @Test
+    void testSubQueryListValuesAreCopied() {
+        SqlTable bar = SqlTable.of("bar");
+        SqlColumn<Integer> barId = bar.column("id", JDBCType.INTEGER);
+        List<Integer> values = new ArrayList<>(List.of(1));
+
+        SelectModel selectModel = select(id, subQuery(select(barId).from(bar).where(barId, isIn(values))).as("b"))
+                .from(select(id, firstName).from(foo).where(id, isIn(values)), "f")
+                .where(id, isIn(select(barId).from(bar).where(barId, isIn(values))))
+                .and(exists(select(barId).from(bar).where(barId, isIn(values))))
+                .build();
+
+        SelectModel frozen = selectModel.freeze();
+
+        values.add(2);
+
+        SelectStatementProvider frozenStatement = frozen.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(frozenStatement.getSelectStatement()).isEqualTo(
+                        "select id, (select id from bar where id in (:p1)) as b"
+                                + " from (select id, first_name from foo where id in (:p2)) f"
+                                + " where id in (select id from bar where id in (:p3))"
+                                + " and exists (select id from bar where id in (:p4))"),
+                () -> assertThat(selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER).getParameters())
+                        .hasSize(8)
+        );
+    }
+
+    @Test
+    void testExistsSubQueryIsBuiltOnce() {
+        AtomicInteger builds = new AtomicInteger();
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(exists(() -> {
+                    builds.incrementAndGet();
+                    return select(id).from(foo).where(id, isEqualTo(3)).build();
+                }))
+                .build()
+                .freeze();
+
+        int buildsWhenFrozen = builds.get();
+        SelectStatementProvider first = selectModel.render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider second = selectModel.render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(buildsWhenFrozen).isEqualTo(1),
+                () -> assertThat(builds.get()).isEqualTo(1),
+                () -> assertThat(second.getSelectStatement()).isEqualTo(first.getSelectStatement())
+        );
+    }
+
+    @Test
+    void testCaseExpressionValuesAreCopied() {
+        List<Integer> values = new ArrayList<>(List.of(1));
+
+        SelectModel selectModel = select(case_().when(id, isIn(values)).then("low").else_("high").end().as("band"),
+                case_(firstName).when("Fred", "Barney").then(1).else_(2).end().as("fred"))
+                .from(foo)
+                .orderBy(case_(id).when(isIn(values)).then(1).else_(2).end().descending())
+                .build();
+
+        SelectModel frozen = selectModel.freeze();
+
+        values.add(2);
+
+        assertThat(frozen.render(RenderingStrategies.SPRING_NAMED_PARAMETER).getSelectStatement()).isEqualTo(
+                "select case when id in (:p1) then 'low' else 'high' end as band,"
+                        + " case first_name when :p2, :p3 then 1 else 2 end as fred"
+                        + " from foo order by case id when in (:p4) then 1 else 2 end DESC");
+    }
+
+    @Test
+    void testCustomConditionInCaseExpressionIsRejected() {
+        SelectModel selectModel = select(case_()
+                .when(firstName, (renderingContext, leftColumn) -> FragmentAndParameters.fromFragment("= 'Fred'"))
+                .then(1)
+                .else_(2)
+                .end())
+                .from(foo)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(selectModel::freeze)
+                .withMessageContaining("cannot be used in a frozen model");
+    }
+
+    @Test
+    void testDerivedModelsAreNotFrozen() {
+        List<Integer> values = new ArrayList<>(List.of(1));
+        SelectModel frozen = select(id).from(foo).where(firstName, isEqualTo("Fred")).build().freeze();
+
+        SelectModel derived = SelectModelCriteria.addCriterion(frozen, ColumnAndConditionCriterion.withColumn(id)
+                .withCondition(isIn(values))
+                .build());
+        SelectModel frozenDerived = derived.freeze();
+
+        values.add(2);
+
+        assertAll(
+                () -> assertThat(frozen.isFrozen()).isTrue(),
+                () -> assertThat(derived.statementConfiguration().isFrozen()).isTrue(),
+                () -> assertThat(derived.isFrozen()).isFalse(),
+                () -> assertThat(frozenDerived).isNotSameAs(derived),
+                () -> assertThat(frozenDerived.isFrozen()).isTrue(),
+                () -> assertThat(frozenDerived.render(RenderingStrategies.SPRING_NAMED_PARAMETER).getSelectStatement())
+                        .isEqualTo("select id from foo where first_name = :p1 and id in (:p2)")
+        );
+    }
+
+    @Test
+    void testConcurrentRendering() throws Exception {
+        SelectModel selectModel = select(id, firstName)
+                .from(foo)
+                .where(id, isIn(1, 2, 3))
+                .and(firstName, isEqualTo("Fred"))
+                .build()
+                .freeze();
+
+        SelectStatementProvider expected = selectModel.render(RenderingStrategies.MYBATIS3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SelectStatementProvider>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> selectModel.render(RenderingStrategies.MYBATIS3)));
+            }
+
+            for (Future<SelectStatementProvider> future : futures) {
+                SelectStatementProvider actual = future.get();
+                assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement());
+                assertThat(actual.getParameters()).containsExactlyEntriesOf(expected.getParameters());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFrozenConfigurationCannotBeChanged() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .freeze();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> selectModel.statementConfiguration().setNonRenderingWhereClauseAllowed(true))
+                .withMessage("The statement configuration is frozen and cannot be changed");
+    }
+
+    @Test
+    void testCustomConditionIsRejected() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(firstName, (renderingContext, leftColumn) -> FragmentAndParameters.fromFragment("= 'Fred'"))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(selectModel::freeze)
+                .withMessageContaining("cannot be used in a frozen model");
+    }
+
+    @Test
+    void testCustomConditionInSubQueryIsRejected() {
+        SelectModel selectModel = select(id)
+                .from(foo)
+                .where(id, isIn(select(id)
+                        .from(foo)
+                        .where(firstName, (renderingContext, leftColumn) ->
+                                FragmentAndParameters.fromFragment("= 'Fred'"))))
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(selectModel::freeze)
+                .withMessageContaining("cannot be used in a frozen model");
+    }
+
+    @Test
+    void testUpdateValuesAreCaptured() {
+        AtomicInteger counter = new AtomicInteger(1);
+        UpdateModel updateModel = update(foo)
+                .set(id).equalTo(counter::getAndIncrement)
+                .where(firstName, isEqualTo("Fred"))
+                .build()
+                .freeze();
+
+        UpdateStatementProvider first = updateModel.render(RenderingStrategies.MYBATIS3);
+        UpdateStatementProvider second = updateModel.render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(first.getParameters()).containsEntry("p1", 1),
+                () -> assertThat(second.getParameters()).containsEntry("p1", 1),
+                () -> assertThat(counter.get()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testDeleteAndInsert() {
+        DeleteModel deleteModel = deleteFrom(foo).where(id, isEqualTo(3)).build();
+        GeneralInsertModel insertModel = insertInto(foo).set(id).toValue(3).build();
+
+        DeleteModel frozenDelete = deleteModel.freeze();
+        GeneralInsertModel frozenInsert = insertModel.freeze();
+
+        assertAll(
+                () -> assertThat(frozenDelete.statementConfiguration().isFrozen()).isTrue(),
+                () -> assertThat(frozenDelete.render(RenderingStrategies.MYBATIS3).getDeleteStatement())
+                        .isEqualTo(deleteModel.render(RenderingStrategies.MYBATIS3).getDeleteStatement()),
+                () -> assertThat(frozenInsert.statementConfiguration().isFrozen()).isTrue(),
+                () -> assertThat(frozenInsert.render(RenderingStrategies.MYBATIS3).getInsertStatement())
+                        .isEqualTo(insertModel.render(RenderingStrategies.MYBATIS3).getInsertStatement())
+        );
+    }
+}
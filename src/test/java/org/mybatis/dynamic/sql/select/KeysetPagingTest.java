@@ -0,0 +1,168 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlBuilder.sortColumn;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class KeysetPagingTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> category = foo.column("category", JDBCType.INTEGER);
+
+    @Test
+    void testTwoColumns() {
+        SelectStatementProvider selectStatement = select(id, name)
+                .from(foo)
+                .orderBy(name, id)
+                .seekAfter("Fred", 22)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, name from foo "
+                        + "where name > :p1 or (name = :p2 and id > :p3) order by name, id limit :p4"),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", "Fred"),
+                        entry("p2", "Fred"), entry("p3", 22), entry("p4", 10L))
+        );
+    }
+
+    @Test
+    void testDescendingColumnsWithExistingWhereClause() {
+        SelectStatementProvider selectStatement = select(id, name)
+                .from(foo)
+                .where(category, isEqualTo(1))
+                .or(category, isEqualTo(2))
+                .orderBy(category.descending(), name, id.descending())
+                .seekAfter(2, "Fred", 22)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, name from foo "
+                + "where (category = :p1 or category = :p2) "
+                + "and (category < :p3 or (category = :p4 and (name > :p5 or (name = :p6 and id < :p7)))) "
+                + "order by category DESC, name, id DESC limit :p8");
+    }
+
+    @Test
+    void testTableAlias() {
+        SelectStatementProvider selectStatement = select(id, name)
+                .from(foo, "f")
+                .orderBy(id)
+                .seekAfter(22)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select f.id, f.name from foo f "
+                + "where f.id > #{parameters.p1,jdbcType=INTEGER} order by id limit #{parameters.p2}");
+    }
+
+    @Test
+    void testFirstPage() {
+        SelectStatementProvider selectStatement = select(id, name)
+                .from(foo)
+                .orderBy(id)
+                .seekAfterWhenPresent(null)
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, name from foo order by id limit :p1");
+    }
+
+    @Test
+    void testPagesHaveTheSameShape() {
+        SelectModel page1 = select(id, name).from(foo).orderBy(name, id).seekAfter("Fred", 22).limit(10).build();
+        SelectModel page2 = select(id, name).from(foo).orderBy(name, id).seekAfter("Wilma", 3).limit(10).build();
+
+        assertThat(StatementShape.of(page1, RenderingStrategies.MYBATIS3))
+                .isEqualTo(StatementShape.of(page2, RenderingStrategies.MYBATIS3));
+    }
+
+    @Test
+    void testCursorFromLastRow() {
+        List<TestRecord> rows = List.of(new TestRecord(1, "Fred"), new TestRecord(2, "Wilma"));
+        List<Map<String, Object>> mappedRows = List.of(Map.of("ID", 1, "NAME", "Fred"));
+
+        assertAll(
+                () -> assertThat(KeysetCursor.fromLastRow(rows, TestRecord::name, TestRecord::id))
+                        .hasValue(KeysetCursor.of("Wilma", 2)),
+                () -> assertThat(KeysetCursor.fromLastRow(List.<TestRecord>of(), TestRecord::id)).isEmpty(),
+                () -> assertThat(KeysetCursor.fromLastMappedRow(mappedRows, "NAME", "ID"))
+                        .hasValue(KeysetCursor.of("Fred", 1))
+        );
+    }
+
+    @Test
+    void testWrongNumberOfValues() {
+        SelectModel selectModel = select(id).from(foo).orderBy(id).build();
+        KeysetCursor cursor = KeysetCursor.of(1, 2);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> KeysetPaging.seekAfter(selectModel, cursor))
+                .withMessage("A keyset cursor must have one value for each order by column. "
+                        + "This query has 1 order by columns");
+    }
+
+    @Test
+    void testNoOrderBy() {
+        SelectModel selectModel = select(id).from(foo).build();
+        KeysetCursor cursor = KeysetCursor.of(1);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> KeysetPaging.seekAfter(selectModel, cursor))
+                .withMessage("Keyset paging requires an order by clause");
+    }
+
+    @Test
+    void testUnsupportedSortSpecification() {
+        SelectDSL<SelectModel> selectDSL = select(id).from(foo).orderBy(sortColumn("id")).seekAfter(1);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(selectDSL::build)
+                .withMessage("Keyset paging is only supported for order by columns that are table columns");
+    }
+
+    @Test
+    void testNullCursorValue() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> KeysetCursor.of(1, null))
+                .withMessage("A keyset cursor must have at least one value, and the values cannot be null");
+    }
+
+    record TestRecord(Integer id, String name) { }
+}
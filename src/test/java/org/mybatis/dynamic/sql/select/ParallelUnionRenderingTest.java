@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.NonRenderingWhereClauseException;
+import org.mybatis.dynamic.sql.render.RenderEvent;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+
+class ParallelUnionRenderingTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testSameAsSerialRendering() {
+        List<RenderingStrategy> renderingStrategies = List.of(RenderingStrategies.MYBATIS3,
+                RenderingStrategies.SPRING_NAMED_PARAMETER,
+                SpringBatchUtility.SPRING_BATCH_PAGING_ITEM_READER_RENDERING_STRATEGY);
+
+        for (RenderingStrategy renderingStrategy : renderingStrategies) {
+            SelectStatementProvider serial = multiSelectModel(null, 12, 100).render(renderingStrategy);
+            SelectStatementProvider parallel = multiSelectModel(executor, 12, 100).render(renderingStrategy);
+
+            assertAll(
+                    () -> assertThat(parallel.getSelectStatement()).isEqualTo(serial.getSelectStatement()),
+                    () -> assertThat(parallel.getParameters()).containsExactlyEntriesOf(serial.getParameters())
+            );
+        }
+    }
+
+    @Test
+    void testParameterNumbering() {
+        SelectStatementProvider selectStatement = multiSelectModel(executor, 1, 2)
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "(select a.id, a.first_name from foo a where a.id in "
+                + "(#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER}) "
+                + "order by id limit #{parameters.p3}) "
+                + "union (select id, first_name from foo where id in "
+                + "(#{parameters.p4,jdbcType=INTEGER},#{parameters.p5,jdbcType=INTEGER}) "
+                + "and id in (select id from foo where first_name = #{parameters.p6,jdbcType=VARCHAR}) "
+                + "fetch first #{parameters.p7} rows only) "
+                + "order by id limit #{parameters.p8} offset #{parameters.p9}";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).hasSize(9)
+                        .containsEntry("p6", "Fred0")
+                        .containsEntry("p9", 5L)
+        );
+    }
+
+    @Test
+    void testExceptionInSelect() {
+        MultiSelectModel multiSelectModel = multiSelect(select(id).from(foo).where(id, isEqualTo(1)))
+                .union(select(id).from(foo).where(id, isInWhenPresent(List.of())))
+                .configureStatement(c -> c.setUnionRenderingExecutor(executor))
+                .build();
+
+        assertThatExceptionOfType(NonRenderingWhereClauseException.class)
+                .isThrownBy(() -> multiSelectModel.render(RenderingStrategies.MYBATIS3));
+    }
+
+    @Test
+    void testRenderListener() {
+        List<RenderEvent> events = new ArrayList<>();
+
+        multiSelect(select(id).from(foo).where(firstName, isEqualToWhenPresent((String) null)).and(id, isEqualTo(1)))
+                .union(select(id).from(foo).where(firstName, isEqualToWhenPresent((String) null)).and(id, isEqualTo(2)))
+                .configureStatement(c -> c.setUnionRenderingExecutor(executor).setRenderListener(events::add))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(events).singleElement().satisfies(e -> assertAll(
+                () -> assertThat(e.parameterCount()).isEqualTo(2),
+                () -> assertThat(e.skippedConditionCount()).isEqualTo(2)
+        ));
+    }
+
+    private static MultiSelectModel multiSelectModel(@Nullable ExecutorService executorService, int unionCount,
+                                                     int valueCount) {
+        List<Integer> values = IntStream.range(0, valueCount).boxed().collect(Collectors.toList());
+
+        MultiSelectDSL dsl = multiSelect(select(id, firstName)
+                .from(foo, "a")
+                .where(id, isIn(values))
+                .orderBy(id)
+                .limit(3));
+
+        for (int i = 0; i < unionCount; i++) {
+            if (i % 2 == 0) {
+                dsl = dsl.union(select(id, firstName)
+                        .from(foo)
+                        .where(id, isIn(values))
+                        .and(id, isIn(select(id).from(foo).where(firstName, isEqualTo("Fred" + i))))
+                        .fetchFirst(5).rowsOnly());
+            } else {
+                dsl = dsl.unionAll(select(id, firstName)
+                        .from(foo)
+                        .where(firstName, isEqualTo("Barney" + i))
+                        .or(id, isBetween(i).and(i + 10)));
+            }
+        }
+
+        return dsl.orderBy(id)
+                .limit(100)
+                .offset(5)
+                .configureStatement(c -> c.setUnionRenderingExecutor(executorService))
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.CompiledStatement;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.StatementHints;
+import org.mybatis.dynamic.sql.util.Messages;
+
+class StatementHintsTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testNoHints() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getStatementHints().isEmpty()).isTrue(),
+                () -> assertThat(selectStatement.getStatementHints()).isSameAs(StatementHints.empty())
+        );
+    }
+
+    @Test
+    void testHintsAreCarriedWithStatement() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setStatementHints(StatementHints.withFetchSize(500)
+                        .withMaxRows(1000)
+                        .withTimeoutSeconds(30)
+                        .build()))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        StatementHints statementHints = selectStatement.getStatementHints();
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id = :p1"),
+                () -> assertThat(statementHints.fetchSize()).hasValue(500),
+                () -> assertThat(statementHints.maxRows()).hasValue(1000),
+                () -> assertThat(statementHints.timeoutSeconds()).hasValue(30)
+        );
+    }
+
+    @Test
+    void testHintsAreNotPartOfCompiledStatementShape() {
+        StatementHints statementHints = StatementHints.withFetchSize(100).build();
+
+        CompiledStatement<SelectStatementProvider> compiledStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(3))
+                .configureStatement(c -> c.setStatementHints(statementHints))
+                .build()
+                .compile(RenderingStrategies.MYBATIS3);
+
+        SelectStatementProvider selectStatement = compiledStatement.bind(7);
+
+        assertAll(
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 7),
+                () -> assertThat(selectStatement.getStatementHints()).isEqualTo(statementHints)
+        );
+    }
+
+    @Test
+    void testHintsWithUnion() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .union()
+                .select(id)
+                .from(foo)
+                .configureStatement(c -> c.setStatementHints(StatementHints.withMaxRows(5).build()))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getStatementHints().maxRows()).hasValue(5);
+    }
+
+    @Test
+    void testNegativeMaxRows() {
+        StatementHints.Builder builder = StatementHints.withFetchSize(10);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> builder.withMaxRows(-1))
+                .withMessage(Messages.getString("ERROR.62", "maxRows"));
+    }
+
+    @Test
+    void testNegativeTimeout() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> StatementHints.withTimeoutSeconds(-1))
+                .withMessage(Messages.getString("ERROR.62", "timeoutSeconds"));
+    }
+
+    @Test
+    void testNegativeFetchSizeIsAllowed() {
+        StatementHints statementHints = StatementHints.withFetchSize(Integer.MIN_VALUE).build();
+
+        assertThat(statementHints.fetchSize()).hasValue(Integer.MIN_VALUE);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateBatch;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.mybatis3.SimulatedBatchSession;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.RowUpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+class BatchUpdateTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = foo.column("status", JDBCType.VARCHAR);
+
+    @Test
+    void testMyBatis() {
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<TestRecord> records = records(5).peek(r -> consumed.incrementAndGet());
+
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(records)
+                .table(foo)
+                .set(description).toProperty("description")
+                .set(status).toStringConstant("updated")
+                .where(id).isEqualToProperty("id")
+                .and(version).isEqualToProperty("version")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        Stream<RowUpdateStatementProvider<TestRecord>> updateStatements = batchUpdate.updateStatements();
+        int consumedBeforeTerminalOperation = consumed.get();
+        List<RowUpdateStatementProvider<TestRecord>> firstTwo = updateStatements.limit(2).toList();
+
+        assertAll(
+                () -> assertThat(consumedBeforeTerminalOperation).isZero(),
+                () -> assertThat(consumed.get()).isEqualTo(2),
+                () -> assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(
+                        "update foo set description = #{row.description,jdbcType=VARCHAR}, status = 'updated' "
+                                + "where id = #{row.id,jdbcType=INTEGER} "
+                                + "and version = #{row.version,jdbcType=INTEGER}"),
+                () -> assertThat(firstTwo).extracting(RowUpdateStatementProvider::getRow)
+                        .containsExactly(new TestRecord(0, "Record 0", 1), new TestRecord(1, "Record 1", 1)),
+                () -> assertThat(firstTwo.get(1).getUpdateStatement())
+                        .isSameAs(batchUpdate.getUpdateStatementSQL()),
+                () -> assertThat(firstTwo.get(1).getParameters()).isEmpty()
+        );
+    }
+
+    @Test
+    void testSpring() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(records(3).toList())
+                .table(foo)
+                .set(description).toProperty("description")
+                .set(version).toConstant("version + 1")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(
+                        "update foo set description = :row.description, version = version + 1 where id = :row.id"),
+                () -> assertThat(batchUpdate.getRecords()).hasSize(3)
+        );
+    }
+
+    @Test
+    void testMyBatisFlushInterval() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(records(7))
+                .table(foo)
+                .set(description).toProperty("description")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        SimulatedBatchSession<RowUpdateStatementProvider<TestRecord>> session =
+                new SimulatedBatchSession<>(batchUpdate.getUpdateStatementSQL());
+
+        long rows = MyBatis3Utils.updateBatch(session::add, session::flush, batchUpdate, 3);
+
+        assertAll(
+                () -> assertThat(session.batchSizes()).containsExactly(3, 3, 1),
+                () -> assertThat(rows).isEqualTo(7)
+        );
+    }
+
+    @Test
+    void testModelFromCollectionCanBeRenderedAgain() {
+        BatchUpdateModel<TestRecord> model = updateBatch(records(3).toList())
+                .table(foo)
+                .set(description).toProperty("description")
+                .where(id).isEqualToProperty("id")
+                .build();
+
+        BatchUpdate<TestRecord> first = model.render(RenderingStrategies.MYBATIS3);
+        List<RowUpdateStatementProvider<TestRecord>> firstStatements = first.updateStatements().toList();
+        List<RowUpdateStatementProvider<TestRecord>> secondStatements = first.updateStatements().toList();
+        BatchUpdate<TestRecord> second = model.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(firstStatements).hasSize(3),
+                () -> assertThat(secondStatements).extracting(RowUpdateStatementProvider::getRow)
+                        .containsExactlyElementsOf(firstStatements.stream().map(RowUpdateStatementProvider::getRow)
+                                .toList()),
+                () -> assertThat(second.getRecords()).hasSize(3)
+        );
+    }
+
+    @Test
+    void testModelFromStreamIsSingleUse() {
+        BatchUpdate<TestRecord> batchUpdate = updateBatch(records(3))
+                .table(foo)
+                .set(description).toProperty("description")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        List<RowUpdateStatementProvider<TestRecord>> updateStatements = batchUpdate.updateStatements().toList();
+
+        assertAll(
+                () -> assertThat(updateStatements).hasSize(3),
+                () -> assertThatIllegalStateException().isThrownBy(() -> batchUpdate.updateStatements().toList())
+        );
+    }
+
+    @Test
+    void testNoSetPhrase() {
+        BatchUpdateDSL<TestRecord>.WhereBuilder dsl = updateBatch(records(1))
+                .table(foo)
+                .where(id).isEqualToProperty("id");
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(dsl::build)
+                .withMessage("Update statements must have at least one set phrase");
+    }
+
+    @Test
+    void testNoWhereClause() {
+        BatchUpdateDSL<TestRecord> dsl = updateBatch(records(1))
+                .table(foo)
+                .set(description).toProperty("description");
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(dsl::build)
+                .withMessage("Batch update statements must have at least one where condition");
+    }
+
+    private static Stream<TestRecord> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TestRecord(i, "Record " + i, 1));
+    }
+
+    record TestRecord(Integer id, String description, Integer version) { }
+}
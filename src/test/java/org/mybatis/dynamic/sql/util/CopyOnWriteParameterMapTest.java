@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+
+import java.sql.JDBCType;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class CopyOnWriteParameterMapTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testStatementParametersCanBeChanged() {
+        UpdateModel updateModel = update(foo).set(description).equalTo("Fred")
+                .where(id, isEqualTo(3))
+                .build();
+        UpdateStatementProvider updateStatement = updateModel.render(RenderingStrategies.MYBATIS3);
+        DeleteStatementProvider deleteStatement = deleteFrom(foo).where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        updateStatement.getParameters().put("p1", "Barney");
+        updateStatement.getParameters().put("extra", "value");
+        deleteStatement.getParameters().remove("p1");
+
+        assertAll(
+                () -> assertThat(updateStatement.getParameters())
+                        .containsExactly(entry("p1", "Barney"), entry("p2", 3), entry("extra", "value")),
+                () -> assertThat(deleteStatement.getParameters()).isEmpty(),
+                () -> assertThat(updateModel.render(RenderingStrategies.MYBATIS3).getParameters())
+                        .containsExactly(entry("p1", "Fred"), entry("p2", 3))
+        );
+    }
+
+    @Test
+    void testSelectStatementParametersAreReadOnly() {
+        SelectStatementProvider selectStatement = select(id).from(foo).where(id, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+        Map<String, Object> parameters = selectStatement.getParameters();
+
+        assertAll(
+                () -> assertThat(parameters).isInstanceOf(OrderedParameterMap.class),
+                () -> assertThatExceptionOfType(UnsupportedOperationException.class)
+                        .isThrownBy(() -> parameters.put("extra", "value")),
+                () -> assertThat(parameters).containsExactly(entry("p1", 3))
+        );
+    }
+
+    @Test
+    void testUnchangedParametersAreNotCopied() {
+        OrderedParameterMap orderedParameters = new OrderedParameterMap.Builder().put("p1", 1).put("p2", 2).build();
+        CopyOnWriteParameterMap parameters = new CopyOnWriteParameterMap(orderedParameters);
+
+        assertAll(
+                () -> assertThat(parameters).containsExactly(entry("p1", 1), entry("p2", 2)),
+                () -> assertThat(parameters.get("p2")).isEqualTo(2),
+                () -> assertThat(parameters.unchangedParameters()).isSameAs(orderedParameters),
+                () -> assertThat(OrderedParameterMap.copyOf(parameters)).isSameAs(orderedParameters),
+                () -> assertThat(new OrderedParameterMap.Builder().putAll(parameters).build())
+                        .isSameAs(orderedParameters)
+        );
+    }
+
+    @Test
+    void testChangedParametersAreCopied() {
+        OrderedParameterMap orderedParameters = new OrderedParameterMap.Builder().put("p1", 1).put("p2", 2).build();
+        CopyOnWriteParameterMap parameters = new CopyOnWriteParameterMap(orderedParameters);
+
+        parameters.put("p3", 3);
+
+        assertAll(
+                () -> assertThat(parameters).containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3)),
+                () -> assertThat(parameters.unchangedParameters()).isNull(),
+                () -> assertThat(orderedParameters).containsExactly(entry("p1", 1), entry("p2", 2)),
+                () -> assertThat(OrderedParameterMap.copyOf(parameters))
+                        .containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3))
+        );
+    }
+
+    @Test
+    void testChangesThroughEntries() {
+        OrderedParameterMap orderedParameters = new OrderedParameterMap.Builder()
+                .put("p1", 1).put("p2", 2).put("p3", 3)
+                .build();
+        CopyOnWriteParameterMap parameters = new CopyOnWriteParameterMap(orderedParameters);
+
+        Iterator<Map.Entry<String, Object>> entries = parameters.entrySet().iterator();
+        entries.next().setValue(10);
+        entries.next();
+        entries.remove();
+
+        assertAll(
+                () -> assertThat(entries.next().getKey()).isEqualTo("p3"),
+                () -> assertThat(entries.hasNext()).isFalse(),
+                () -> assertThat(parameters).containsExactly(entry("p1", 10), entry("p3", 3)),
+                () -> assertThat(orderedParameters).containsExactly(entry("p1", 1), entry("p2", 2), entry("p3", 3))
+        );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.Test;
+
+class FragmentWriterTest {
+
+    @Test
+    void testAppend() {
+        FragmentWriter writer = new FragmentWriter();
+        writer.append("select ")
+                .append(FragmentAndParameters.withFragment(":p1").withParameter("p1", 1).build())
+                .append(',')
+                .append(":p2")
+                .appendParameter("p2", 2);
+
+        FragmentAndParameters fp = writer.toFragmentAndParameters();
+
+        assertAll(
+                () -> assertThat(fp.fragment()).isEqualTo("select :p1,:p2"),
+                () -> assertThat(fp.parameters()).containsExactly(entry("p1", 1), entry("p2", 2))
+        );
+    }
+
+    @Test
+    void testAppendOptionalWritten() {
+        FragmentWriter writer = new FragmentWriter();
+        writer.append("delete from foo");
+
+        boolean written = writer.appendOptional(" ", w -> {
+            w.append("where id = :p1").appendParameter("p1", 3);
+            return true;
+        });
+
+        assertAll(
+                () -> assertThat(written).isTrue(),
+                () -> assertThat(writer.fragment()).isEqualTo("delete from foo where id = :p1"),
+                () -> assertThat(writer.parameters()).containsExactly(entry("p1", 3))
+        );
+    }
+
+    @Test
+    void testAppendOptionalNotWritten() {
+        FragmentWriter writer = new FragmentWriter();
+        writer.append("delete from foo");
+
+        boolean written = writer.appendOptional(" where ", w -> false);
+
+        assertAll(
+                () -> assertThat(written).isFalse(),
+                () -> assertThat(writer.fragment()).isEqualTo("delete from foo"),
+                () -> assertThat(writer.parameters()).isEmpty()
+        );
+    }
+}
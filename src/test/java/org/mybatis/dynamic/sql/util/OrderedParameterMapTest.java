@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+
+class OrderedParameterMapTest {
+
+    @Test
+    void testSequentialKeys() {
+        OrderedParameterMap parameters = new OrderedParameterMap.Builder()
+                .put("p1", "Fred")
+                .put("p2", null)
+                .put("p3", 3)
+                .build();
+
+        assertAll(
+                () -> assertThat(parameters).containsExactly(entry("p1", "Fred"), entry("p2", null), entry("p3", 3)),
+                () -> assertThat(parameters.get("p1")).isEqualTo("Fred"),
+                () -> assertThat(parameters.get("p2")).isNull(),
+                () -> assertThat(parameters.containsKey("p2")).isTrue(),
+                () -> assertThat(parameters.containsKey("p0")).isFalse(),
+                () -> assertThat(parameters.containsKey("p4")).isFalse(),
+                () -> assertThat(parameters.containsKey("p01")).isFalse(),
+                () -> assertThat(parameters.indexOf("p3")).isEqualTo(2),
+                () -> assertThat(parameters.key(1)).isEqualTo("p2"),
+                () -> assertThat(parameters.value(2)).isEqualTo(3),
+                () -> assertThat(parameters.toArray()).containsExactly("Fred", null, 3)
+        );
+    }
+
+    @Test
+    void testOtherKeys() {
+        OrderedParameterMap parameters = new OrderedParameterMap.Builder()
+                .put("p5", 1)
+                .put("p6", 2)
+                .put("name", "Fred")
+                .put("p5", 3)
+                .build();
+
+        assertAll(
+                () -> assertThat(parameters).containsExactly(entry("p5", 3), entry("p6", 2), entry("name", "Fred")),
+                () -> assertThat(parameters.indexOf("name")).isEqualTo(2),
+                () -> assertThat(parameters.indexOf("p7")).isEqualTo(-1)
+        );
+    }
+
+    @Test
+    void testManyParameters() {
+        OrderedParameterMap.Builder builder = new OrderedParameterMap.Builder();
+        for (int i = 1; i <= 5000; i++) {
+            builder.put("p" + i, i);
+        }
+        OrderedParameterMap parameters = builder.build();
+
+        assertAll(
+                () -> assertThat(parameters).hasSize(5000),
+                () -> assertThat(parameters.get("p1")).isEqualTo(1),
+                () -> assertThat(parameters.get("p4321")).isEqualTo(4321),
+                () -> assertThat(parameters.get("p5001")).isNull()
+        );
+    }
+
+    @Test
+    void testEqualToOtherMaps() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("p1", "Fred");
+        expected.put("p2", 2);
+
+        OrderedParameterMap parameters = OrderedParameterMap.copyOf(expected);
+
+        assertAll(
+                () -> assertThat(parameters).isEqualTo(expected),
+                () -> assertThat(parameters).hasSameHashCodeAs(expected),
+                () -> assertThat(parameters).hasToString(expected.toString()),
+                () -> assertThat(OrderedParameterMap.copyOf(parameters)).isSameAs(parameters)
+        );
+    }
+
+    @Test
+    void testUnmodifiable() {
+        OrderedParameterMap parameters = new OrderedParameterMap.Builder().put("p1", 1).build();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> parameters.put("p2", 2));
+    }
+
+    @Test
+    void testWithValues() {
+        OrderedParameterMap parameters = new OrderedParameterMap.Builder().put("p1", 1).put("p2", 2).build();
+
+        OrderedParameterMap newParameters = parameters.withValues("a", "b");
+
+        assertAll(
+                () -> assertThat(newParameters).containsExactly(entry("p1", "a"), entry("p2", "b")),
+                () -> assertThat(parameters).containsExactly(entry("p1", 1), entry("p2", 2)),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> parameters.withValues("a"))
+                        .withMessage("Exactly 2 parameter value(s) are required, one for each key of the parameter map")
+        );
+    }
+
+    @Test
+    void testBuilderReusesCompleteMap() {
+        OrderedParameterMap parameters = new OrderedParameterMap.Builder().put("p1", 1).build();
+
+        OrderedParameterMap.Builder builder = new OrderedParameterMap.Builder().putAll(parameters);
+        OrderedParameterMap same = builder.build();
+        OrderedParameterMap larger = builder.put("p2", 2).build();
+
+        assertAll(
+                () -> assertThat(same).isSameAs(parameters),
+                () -> assertThat(larger).containsExactly(entry("p1", 1), entry("p2", 2)),
+                () -> assertThat(parameters).containsExactly(entry("p1", 1))
+        );
+    }
+}
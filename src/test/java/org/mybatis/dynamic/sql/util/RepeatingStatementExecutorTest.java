@@ -0,0 +1,200 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
+import static org.mybatis.dynamic.sql.SqlBuilder.isLessThan;
+import static org.mybatis.dynamic.sql.SqlBuilder.update;
+
+import java.sql.JDBCType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+class RepeatingStatementExecutorTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> status = foo.column("status", JDBCType.VARCHAR);
+
+    @Test
+    void testDeleteUntilFewerRowsThanLimit() {
+        AtomicInteger remaining = new AtomicInteger(25);
+        Set<DeleteStatementProvider> renderedStatements = new HashSet<>();
+        List<RepeatingStatementExecutor.Round> rounds = new ArrayList<>();
+
+        RepeatingStatementExecutor executor = RepeatingStatementExecutor.withPause(Duration.ofMillis(1))
+                .withRoundListener(rounds::add)
+                .build();
+
+        RepeatingStatementExecutor.Summary summary = MyBatis3Utils.deleteRepeatedly(ds -> {
+            renderedStatements.add(ds);
+            return deleteRows(remaining, 10);
+        }, deleteFrom(foo).where(id, isLessThan(100)).limit(10), executor);
+
+        assertAll(
+                () -> assertThat(renderedStatements).hasSize(1),
+                () -> assertThat(renderedStatements.iterator().next().getDeleteStatement()).isEqualTo(
+                        "delete from foo where id < #{parameters.p1,jdbcType=INTEGER} limit #{parameters.p2}"),
+                () -> assertThat(rounds).extracting(RepeatingStatementExecutor.Round::rows)
+                        .containsExactly(10, 10, 5),
+                () -> assertThat(rounds).extracting(RepeatingStatementExecutor.Round::number)
+                        .containsExactly(1L, 2L, 3L),
+                () -> assertThat(summary.rounds()).isEqualTo(3),
+                () -> assertThat(summary.rows()).isEqualTo(25),
+                () -> assertThat(summary.outcome()).isEqualTo(RepeatingStatementExecutor.Outcome.COMPLETED)
+        );
+    }
+
+    @Test
+    void testUpdate() {
+        List<String> statements = new ArrayList<>();
+
+        RepeatingStatementExecutor.Summary summary = MyBatis3Utils.updateRepeatedly(us -> {
+            statements.add(us.getUpdateStatement());
+            return 3;
+        }, update(foo).set(status).equalTo("archived").limit(5), RepeatingStatementExecutor.defaultExecutor());
+
+        assertAll(
+                () -> assertThat(statements).containsExactly(
+                        "update foo set status = #{parameters.p1,jdbcType=VARCHAR} limit #{parameters.p2}"),
+                () -> assertThat(summary.rows()).isEqualTo(3),
+                () -> assertThat(summary.outcome()).isEqualTo(RepeatingStatementExecutor.Outcome.COMPLETED)
+        );
+    }
+
+    @Test
+    void testMaxRounds() {
+        AtomicInteger remaining = new AtomicInteger(100);
+        RepeatingStatementExecutor executor = RepeatingStatementExecutor.withPause(Duration.ZERO)
+                .withMaxRounds(3)
+                .build();
+
+        RepeatingStatementExecutor.Summary summary = executor.execute(10, () -> deleteRows(remaining, 10));
+
+        assertAll(
+                () -> assertThat(summary.rounds()).isEqualTo(3),
+                () -> assertThat(summary.rows()).isEqualTo(30),
+                () -> assertThat(summary.outcome())
+                        .isEqualTo(RepeatingStatementExecutor.Outcome.MAX_ROUNDS_REACHED),
+                () -> assertThat(remaining).hasValue(70)
+        );
+    }
+
+    @Test
+    void testInterrupted() {
+        AtomicInteger executions = new AtomicInteger();
+
+        RepeatingStatementExecutor.Summary summary = RepeatingStatementExecutor.defaultExecutor().execute(10, () -> {
+            if (executions.incrementAndGet() == 2) {
+                Thread.currentThread().interrupt();
+            }
+            return 10;
+        });
+        boolean interrupted = Thread.interrupted();
+
+        assertAll(
+                () -> assertThat(interrupted).isTrue(),
+                () -> assertThat(executions).hasValue(2),
+                () -> assertThat(summary.rounds()).isEqualTo(2),
+                () -> assertThat(summary.rows()).isEqualTo(20),
+                () -> assertThat(summary.outcome()).isEqualTo(RepeatingStatementExecutor.Outcome.INTERRUPTED)
+        );
+    }
+
+    @Test
+    void testInterruptedDuringPause() {
+        AtomicInteger executions = new AtomicInteger();
+        RepeatingStatementExecutor executor = RepeatingStatementExecutor.withPause(Duration.ofMinutes(1)).build();
+
+        RepeatingStatementExecutor.Summary summary = executor.execute(10, () -> {
+            executions.incrementAndGet();
+            Thread.currentThread().interrupt();
+            return 10;
+        });
+        boolean interrupted = Thread.interrupted();
+
+        assertAll(
+                () -> assertThat(interrupted).isTrue(),
+                () -> assertThat(executions).hasValue(1),
+                () -> assertThat(summary.outcome()).isEqualTo(RepeatingStatementExecutor.Outcome.INTERRUPTED)
+        );
+    }
+
+    @Test
+    void testStatementWithoutLimit() {
+        RepeatingStatementExecutor executor = RepeatingStatementExecutor.defaultExecutor();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> MyBatis3Utils.deleteRepeatedly(ds -> 0, deleteFrom(foo), executor))
+                .withMessage("Repeating delete and update statements must have a limit");
+    }
+
+    @Test
+    void testInvalidRowLimit() {
+        AtomicInteger executions = new AtomicInteger();
+        RepeatingStatementExecutor executor = RepeatingStatementExecutor.defaultExecutor();
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> executor.execute(0, executions::incrementAndGet))
+                        .withMessage("The row limit of a repeating statement must be greater than zero"),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> MyBatis3Utils.deleteRepeatedly(ds -> executions.incrementAndGet(),
+                                deleteFrom(foo).where(id, isLessThan(100)).limit(0), executor))
+                        .withMessage("The row limit of a repeating statement must be greater than zero"),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(() -> MyBatis3Utils.updateRepeatedly(us -> executions.incrementAndGet(),
+                                update(foo).set(status).equalTo("done").limit(0), executor))
+                        .withMessage("The row limit of a repeating statement must be greater than zero"),
+                () -> assertThat(executions).hasValue(0)
+        );
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        RepeatingStatementExecutor.Builder negativePause = RepeatingStatementExecutor.withPause(Duration.ofMillis(-1));
+        RepeatingStatementExecutor.Builder noRounds = RepeatingStatementExecutor.withPause(Duration.ZERO)
+                .withMaxRounds(0);
+
+        assertAll(
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(negativePause::build)
+                        .withMessage("The pause between rounds of a repeating statement must not be negative"),
+                () -> assertThatExceptionOfType(InvalidSqlException.class)
+                        .isThrownBy(noRounds::build)
+                        .withMessage("The maximum number of rounds of a repeating statement must be greater than zero")
+        );
+    }
+
+    private static int deleteRows(AtomicInteger remaining, int limit) {
+        int rows = Math.min(limit, remaining.get());
+        remaining.addAndGet(-rows);
+        return rows;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.insert.render.DefaultMultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.springframework.beans.InvalidPropertyException;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+class PropertyPathSqlParameterSourceTest {
+
+    @Test
+    void testRecord() {
+        SqlParameterSource parameterSource = PropertyPathSqlParameterSource.forRow(new TestRecord(22, "Fred"));
+
+        assertAll(
+                () -> assertThat(parameterSource.hasValue("row.id")).isTrue(),
+                () -> assertThat(parameterSource.getValue("row.id")).isEqualTo(22),
+                () -> assertThat(parameterSource.getSqlType("row.id")).isEqualTo(Types.INTEGER),
+                () -> assertThat(parameterSource.getValue("row.name")).isEqualTo("Fred"),
+                () -> assertThat(parameterSource.getSqlType("row.name")).isEqualTo(Types.VARCHAR)
+        );
+    }
+
+    @Test
+    void testBean() {
+        SqlParameterSource parameterSource = PropertyPathSqlParameterSource.forRow(new TestBean());
+
+        assertAll(
+                () -> assertThat(parameterSource.getValue("row.id")).isEqualTo(3),
+                () -> assertThat(parameterSource.getValue("row.active")).isEqualTo(true),
+                () -> assertThat(parameterSource.getSqlType("row.active")).isEqualTo(Types.BOOLEAN),
+                () -> assertThat(parameterSource.getValue("row.address.street")).isEqualTo("Main Street"),
+                () -> assertThat(parameterSource.getValue("row.attributes[color]")).isEqualTo("blue"),
+                () -> assertThat(parameterSource.hasValue("row.missing")).isFalse()
+        );
+    }
+
+    @Test
+    void testMultiRowInsert() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement =
+                new DefaultMultiRowInsertStatementProvider.Builder<TestRecord>()
+                        .withInsertStatement("insert into foo (id, name) values (:records[0].id, :records[0].name), "
+                                + "(:records[1].id, :records[1].name)")
+                        .withRecords(List.of(new TestRecord(1, "Fred"), new TestRecord(2, "Wilma")))
+                        .build();
+
+        SqlParameterSource parameterSource = PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement);
+
+        assertAll(
+                () -> assertThat(parameterSource.getValue("records[0].id")).isEqualTo(1),
+                () -> assertThat(parameterSource.getValue("records[1].name")).isEqualTo("Wilma"),
+                () -> assertThat(parameterSource.getSqlType("records[1].id")).isEqualTo(Types.INTEGER)
+        );
+    }
+
+    @Test
+    void testMultiRowInsertIndexOutOfRange() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement =
+                new DefaultMultiRowInsertStatementProvider.Builder<TestRecord>()
+                        .withInsertStatement("insert into foo (id) values (:records[0].id)")
+                        .withRecords(List.of(new TestRecord(1, "Fred")))
+                        .build();
+
+        SqlParameterSource parameterSource = PropertyPathSqlParameterSource.forMultiRowInsert(insertStatement);
+
+        assertThatExceptionOfType(InvalidPropertyException.class)
+                .isThrownBy(() -> parameterSource.getValue("records[1].id"));
+    }
+
+    @Test
+    void testBatch() {
+        SqlParameterSource[] batch = BatchInsertUtility.createBatch(
+                List.of(new TestRecord(1, "Fred"), new TestRecord(2, "Wilma")));
+
+        assertAll(
+                () -> assertThat(batch).hasSize(2),
+                () -> assertThat(batch[0].getValue("row.name")).isEqualTo("Fred"),
+                () -> assertThat(batch[1].getValue("row.name")).isEqualTo("Wilma")
+        );
+    }
+
+    record TestRecord(Integer id, String name) { }
+
+    public static class TestBean {
+        public Integer getId() {
+            return 3;
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public TestAddress getAddress() {
+            return new TestAddress();
+        }
+
+        public Map<String, String> getAttributes() {
+            return Map.of("color", "blue");
+        }
+    }
+
+    public static class TestAddress {
+        public String getStreet() {
+            return "Main Street";
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import java.sql.JDBCType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class KeyRangePartitionerTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+    private static final SqlColumn<LocalDate> created = foo.column("created", JDBCType.DATE);
+
+    private static final SelectModel selectModel = select(id, name)
+            .from(foo)
+            .where(name, isEqualTo("Fred"))
+            .orderBy(id)
+            .build();
+
+    @Test
+    void testBoundsQuery() {
+        KeyRangePartitioner<Integer> partitioner = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(4)
+                .build();
+
+        SelectStatementProvider selectStatement = partitioner.boundsModel().render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select min(id) as min_value, max(id) as max_value from foo "
+                                + "where name = #{parameters.p1,jdbcType=VARCHAR}"),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", "Fred"))
+        );
+    }
+
+    @Test
+    void testIntegerPartitions() {
+        KeyRangePartitioner<Integer> partitioner = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(4)
+                .build();
+
+        List<SelectStatementProvider> partitions = partitioner.partition(4, 96);
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(4),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where name = #{parameters.p1,jdbcType=VARCHAR} "
+                                + "and id < #{parameters.p2,jdbcType=INTEGER} order by id"),
+                () -> assertThat(partitions.get(0).getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 27)),
+                () -> assertThat(partitions.get(1).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where name = #{parameters.p1,jdbcType=VARCHAR} "
+                                + "and (id >= #{parameters.p2,jdbcType=INTEGER} and id < #{parameters.p3,jdbcType=INTEGER}) "
+                                + "order by id"),
+                () -> assertThat(partitions.get(1).getParameters())
+                        .containsExactly(entry("p1", "Fred"), entry("p2", 27), entry("p3", 50)),
+                () -> assertThat(partitions.get(2).getParameters())
+                        .containsExactly(entry("p1", "Fred"), entry("p2", 50), entry("p3", 73)),
+                () -> assertThat(partitions.get(3).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where name = #{parameters.p1,jdbcType=VARCHAR} "
+                                + "and id >= #{parameters.p2,jdbcType=INTEGER} order by id"),
+                () -> assertThat(partitions.get(3).getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 73))
+        );
+    }
+
+    @Test
+    void testSmallRangeHasFewerPartitions() {
+        KeyRangePartitioner<Integer> partitioner = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(4)
+                .build();
+
+        List<SelectStatementProvider> partitions = partitioner.partition(1, 3);
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(2),
+                () -> assertThat(partitions.get(0).getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 2)),
+                () -> assertThat(partitions.get(1).getParameters()).containsExactly(entry("p1", "Fred"), entry("p2", 2))
+        );
+    }
+
+    @Test
+    void testNoRows() {
+        KeyRangePartitioner<Integer> partitioner = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(4)
+                .build();
+
+        List<SelectStatementProvider> partitions = partitioner.partition(null, null);
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(1),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo(
+                        "select id, name from foo where name = #{parameters.p1,jdbcType=VARCHAR} order by id")
+        );
+    }
+
+    @Test
+    void testDatePartitions() {
+        KeyRangePartitioner<LocalDate> partitioner = KeyRangePartitioner.withKeyColumn(created)
+                .withSelectModel(select(id).from(foo).build())
+                .withPartitionCount(3)
+                .withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .build();
+
+        List<SelectStatementProvider> partitions = partitioner.partition(LocalDate.of(2020, 1, 1),
+                LocalDate.of(2020, 12, 31));
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(3),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo(
+                        "select id from foo where created < :p1"),
+                () -> assertThat(partitions.get(0).getParameters()).containsExactly(entry("p1", LocalDate.of(2020, 5, 1))),
+                () -> assertThat(partitions.get(1).getParameters())
+                        .containsExactly(entry("p1", LocalDate.of(2020, 5, 1)), entry("p2", LocalDate.of(2020, 8, 31))),
+                () -> assertThat(partitions.get(2).getParameters()).containsExactly(entry("p1", LocalDate.of(2020, 8, 31)))
+        );
+    }
+
+    @Test
+    void testPartitionParameterValues() {
+        KeyRangePartitioner<Integer> partitioner = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(2)
+                .build();
+
+        Map<String, Map<String, Object>> parameterValues = partitioner.partitionParameterValues(1, 100);
+
+        assertAll(
+                () -> assertThat(parameterValues).containsOnlyKeys("partition0", "partition1"),
+                () -> assertThat(parameterValues.get("partition1")).containsEntry(SpringBatchUtility.PARAMETER_KEY,
+                        "select id, name from foo where name = #{parameters.p1,jdbcType=VARCHAR} "
+                                + "and id >= #{parameters.p2,jdbcType=INTEGER} order by id")
+        );
+    }
+
+    @Test
+    void testUnsupportedKeyType() {
+        KeyRangePartitioner<String> partitioner = KeyRangePartitioner.withKeyColumn(name)
+                .withSelectModel(selectModel)
+                .withPartitionCount(2)
+                .build();
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> partitioner.partition("a", "z"))
+                .withMessage("Key range partitioning is not supported for keys of type java.lang.String");
+    }
+
+    @Test
+    void testInvalidPartitionCount() {
+        KeyRangePartitioner.Builder<Integer> builder = KeyRangePartitioner.withKeyColumn(id)
+                .withSelectModel(selectModel)
+                .withPartitionCount(0);
+
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(builder::build)
+                .withMessage("The number of partitions must be greater than zero");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.isIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isInCaseInsensitive;
+import static org.mybatis.dynamic.sql.SqlBuilder.isInCaseInsensitiveWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.isInWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotIn;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotInCaseInsensitive;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotInCaseInsensitiveWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.isNotInWhenPresent;
+import static org.mybatis.dynamic.sql.SqlBuilder.select;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.InListStrategies;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.exception.InvalidSqlException;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.StatementShape;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class InListStrategyTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+
+    @Test
+    void testPadToPowerOfTwo() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4, 5).withInListStrategy(InListStrategies.padToPowerOfTwo()))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id in (:p1,:p2,:p3,:p4,:p5,:p6,:p7,:p8)"),
+                () -> assertThat(selectStatement.getParameters()).containsExactly(entry("p1", 1), entry("p2", 2),
+                        entry("p3", 3), entry("p4", 4), entry("p5", 5), entry("p6", 5), entry("p7", 5),
+                        entry("p8", 5))
+        );
+    }
+
+    @Test
+    void testPaddedListsHaveTheSameShape() {
+        SelectModel selectModel1 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3).withInListStrategy(InListStrategies.padToPowerOfTwo()))
+                .build();
+
+        SelectModel selectModel2 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4).withInListStrategy(InListStrategies.padToPowerOfTwo()))
+                .build();
+
+        SelectModel selectModel3 = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4))
+                .build();
+
+        assertAll(
+                () -> assertThat(StatementShape.of(selectModel1, RenderingStrategies.MYBATIS3))
+                        .isEqualTo(StatementShape.of(selectModel2, RenderingStrategies.MYBATIS3)),
+                () -> assertThat(StatementShape.of(selectModel2, RenderingStrategies.MYBATIS3))
+                        .isNotEqualTo(StatementShape.of(selectModel3, RenderingStrategies.MYBATIS3))
+        );
+    }
+
+    @Test
+    void testArrayParameter() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3).withInListStrategy(InListStrategies.arrayParameter()))
+                .and(name, isNotIn("Fred", "Wilma").withInListStrategy(InListStrategies.arrayParameter()))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id from foo where id = any(#{parameters.p1,jdbcType=ARRAY}) "
+                        + "and name <> all(#{parameters.p2,jdbcType=ARRAY})"),
+                () -> assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3}),
+                () -> assertThat(selectStatement.getParameters().get("p2")).isEqualTo(new String[] {"Fred", "Wilma"})
+        );
+    }
+
+    @Test
+    void testArrayParameterWithoutJdbcType() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isNotIn(1, 2, 3).withInListStrategy(InListStrategies.arrayParameter()))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id from foo where id <> all(:p1)"),
+                () -> assertThat(selectStatement.getParameters().get("p1")).isEqualTo(new Integer[] {1, 2, 3})
+        );
+    }
+
+    @Test
+    void testNegatedConditions() {
+        assertAll(
+                () -> assertThat(isIn(1, 2).isNegated()).isFalse(),
+                () -> assertThat(isInWhenPresent(1, 2).isNegated()).isFalse(),
+                () -> assertThat(isInCaseInsensitive("Fred").isNegated()).isFalse(),
+                () -> assertThat(isInCaseInsensitiveWhenPresent("Fred").isNegated()).isFalse(),
+                () -> assertThat(isNotIn(1, 2).isNegated()).isTrue(),
+                () -> assertThat(isNotInWhenPresent(1, 2).isNegated()).isTrue(),
+                () -> assertThat(isNotInCaseInsensitive("Fred").isNegated()).isTrue(),
+                () -> assertThat(isNotInCaseInsensitiveWhenPresent("Fred").isNegated()).isTrue()
+        );
+    }
+
+    @Test
+    void testChunked() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2, 3, 4, 5).withInListStrategy(InListStrategies.chunked(2)))
+                .and(name, isNotIn("Fred", "Wilma", "Barney").withInListStrategy(InListStrategies.chunked(2)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where "
+                        + "(id in (:p1,:p2) or id in (:p3,:p4) or id in (:p5)) "
+                        + "and (name not in (:p6,:p7) and name not in (:p8))"),
+                () -> assertThat(selectStatement.getParameters()).hasSize(8)
+        );
+    }
+
+    @Test
+    void testChunkedSingleChunk() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(foo)
+                .where(id, isIn(1, 2).withInListStrategy(InListStrategies.chunked(2)))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id in (:p1,:p2)");
+    }
+
+    @Test
+    void testFilterAndMapKeepStrategy() {
+        IsIn<String> condition = isIn(List.of(1, 2, 3))
+                .withInListStrategy(InListStrategies.chunked(2))
+                .filter(i -> i > 1)
+                .map(String::valueOf);
+
+        assertAll(
+                () -> assertThat(condition.inListStrategy()).isEqualTo(InListStrategies.chunked(2)),
+                () -> assertThat(condition.values()).containsExactly("2", "3")
+        );
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        assertThatExceptionOfType(InvalidSqlException.class)
+                .isThrownBy(() -> InListStrategies.chunked(0))
+                .withMessage("The maximum number of values in each chunk of a list condition must be greater "
+                        + "than zero");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2016-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.configuration.StatementConfiguration;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.FragmentWriter;
+
+class CriterionWriterTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testGroupWithMultipleFragments() {
+        SqlCriterion criterion = group(id, isEqualTo(3), or(firstName, isEqualTo("Fred")));
+
+        FragmentWriter writer = new FragmentWriter();
+        int count = new CriterionWriter(renderingContext(), writer).write(criterion, List.of());
+
+        assertAll(
+                () -> assertThat(count).isEqualTo(1),
+                () -> assertThat(writer.fragment()).isEqualTo("(id = :p1 or first_name = :p2)"),
+                () -> assertThat(writer.parameters()).containsExactly(entry("p1", 3), entry("p2", "Fred"))
+        );
+    }
+
+    @Test
+    void testSkippedConditionsAreRemoved() {
+        SqlCriterion criterion = not(id, isEqualToWhenPresent((Integer) null),
+                and(firstName, isEqualTo("Fred")),
+                or(id, isGreaterThanWhenPresent((Integer) null)));
+
+        FragmentWriter writer = new FragmentWriter();
+        int count = new CriterionWriter(renderingContext(), writer).write(criterion, List.of());
+
+        assertAll(
+                () -> assertThat(count).isEqualTo(1),
+                () -> assertThat(writer.fragment()).isEqualTo("not first_name = :p1"),
+                () -> assertThat(writer.parameters()).containsExactly(entry("p1", "Fred"))
+        );
+    }
+
+    @Test
+    void testNothingRendered() {
+        SqlCriterion criterion = group(id, isEqualToWhenPresent((Integer) null),
+                and(firstName, isEqualToWhenPresent((String) null)));
+
+        FragmentWriter writer = new FragmentWriter();
+        int count = new CriterionWriter(renderingContext(), writer).write(criterion, List.of());
+
+        assertAll(
+                () -> assertThat(count).isZero(),
+                () -> assertThat(writer.fragment()).isEmpty(),
+                () -> assertThat(writer.parameters()).isEmpty()
+        );
+    }
+
+    private static RenderingContext renderingContext() {
+        return RenderingContext
+                .withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .withStatementConfiguration(new StatementConfiguration())
+                .build();
+    }
+}
@@ -23,6 +23,7 @@ import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.id
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.lastName
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.occupation
 import examples.kotlin.mybatis3.canonical.PersonDynamicSqlSupport.person
+import org.apache.ibatis.session.ResultHandler
 import org.mybatis.dynamic.sql.BasicColumn
 import org.mybatis.dynamic.sql.util.kotlin.CountCompleter
 import org.mybatis.dynamic.sql.util.kotlin.DeleteCompleter
@@ -41,9 +42,11 @@ import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertBatch
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertInto
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertMultiple
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.insertSelect
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectCursor
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectDistinct
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectList
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.mybatis3.selectWithHandler
 import org.mybatis.dynamic.sql.util.kotlin.mybatis3.update
 
 fun PersonMapper.count(column: BasicColumn, completer: CountCompleter) =
@@ -130,6 +133,12 @@ fun PersonMapper.select(completer: SelectCompleter) =
 fun PersonMapper.selectDistinct(completer: SelectCompleter) =
     selectDistinct(this::selectMany, columnList, person, completer)
 
+fun PersonMapper.selectCursor(completer: SelectCompleter) =
+    selectCursor(this::selectManyCursor, columnList, person, completer)
+
+fun PersonMapper.select(resultHandler: ResultHandler<PersonRecord>, completer: SelectCompleter) =
+    selectWithHandler(this::selectManyWithHandler, columnList, person, resultHandler, completer)
+
 fun PersonMapper.selectByPrimaryKey(id_: Int) =
     selectOne {
         where { id isEqualTo id_ }
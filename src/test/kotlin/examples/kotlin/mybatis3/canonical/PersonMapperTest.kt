@@ -110,6 +110,35 @@ class PersonMapperTest {
         }
     }
 
+    @Test
+    fun testSelectCursor() {
+        sqlSessionFactory.openSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+
+            val ids = mapper.selectCursor {
+                where { id isGreaterThan 3 }
+                orderBy(id)
+            }.use { cursor -> cursor.map { it.id } }
+
+            assertThat(ids).containsExactly(4, 5, 6)
+        }
+    }
+
+    @Test
+    fun testSelectWithResultHandler() {
+        sqlSessionFactory.openSession().use { session ->
+            val mapper = session.getMapper(PersonMapper::class.java)
+            val ids = mutableListOf<Int?>()
+
+            mapper.select({ ids.add(it.resultObject.id) }) {
+                where { id isLessThan 3 }
+                orderBy(id)
+            }
+
+            assertThat(ids).containsExactly(1, 2)
+        }
+    }
+
     @Test
     fun testSelectDistinct() {
         sqlSessionFactory.openSession().use { session ->
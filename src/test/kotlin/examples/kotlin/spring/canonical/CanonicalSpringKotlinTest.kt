@@ -29,6 +29,7 @@ import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatExceptionOfType
 import org.junit.jupiter.api.Test
 import org.mybatis.dynamic.sql.exception.InvalidSqlException
+import org.mybatis.dynamic.sql.select.render.StatementHints
 import org.mybatis.dynamic.sql.util.Messages
 import org.mybatis.dynamic.sql.util.kotlin.KInvalidSQLException
 import org.mybatis.dynamic.sql.util.kotlin.elements.`as`
@@ -54,6 +55,7 @@ import org.mybatis.dynamic.sql.util.kotlin.spring.select
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectDistinct
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectList
 import org.mybatis.dynamic.sql.util.kotlin.spring.selectOne
+import org.mybatis.dynamic.sql.util.kotlin.spring.selectStream
 import org.mybatis.dynamic.sql.util.kotlin.spring.update
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate
@@ -676,6 +678,47 @@ open class CanonicalSpringKotlinTest {
         assertThat(rows[1]).isEqualTo("Rubble")
     }
 
+    @Test
+    fun testRawSelectStream() {
+        val selectStatement = select(id) {
+            from(person)
+            where { id isGreaterThan 3 }
+            orderBy(id)
+        }
+
+        val rows = template.selectStream(selectStatement) { rs, _ -> rs.getInt(1) }.use { it.toList() }
+
+        assertThat(rows).containsExactly(4, 5, 6)
+    }
+
+    @Test
+    fun testRawSelectWithRowCallbackHandler() {
+        val selectStatement = select(id) {
+            from(person)
+            where { id isLessThan 3 }
+            orderBy(id)
+        }
+
+        val rows = mutableListOf<Int>()
+        template.select(selectStatement) { rs -> rows.add(rs.getInt(1)) }
+
+        assertThat(rows).containsExactly(1, 2)
+    }
+
+    @Test
+    fun testRawSelectWithStatementHints() {
+        val selectStatement = select(id) {
+            from(person)
+            orderBy(id)
+            configureStatement { statementHints = StatementHints.withMaxRows(2).withFetchSize(1).build() }
+        }
+
+        val rows = template.selectList(selectStatement) { rs, _ -> rs.getInt(1) }
+
+        assertThat(selectStatement.statementHints.maxRows()).hasValue(2)
+        assertThat(rows).containsExactly(1, 2)
+    }
+
     @Test
     fun testRawSelectWithMissingRecord() {
         val selectStatement = select(